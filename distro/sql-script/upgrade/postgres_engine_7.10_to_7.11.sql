@@ -0,0 +1,60 @@
+--
+-- Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+--
+-- Licensed under the Apache License, Version 2.0 (the "License");
+-- you may not use this file except in compliance with the License.
+-- You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+-- activity statistics summary
+create table ACT_RU_ACT_STATS (
+  ID_ varchar(64) not null,
+  PROC_DEF_ID_ varchar(64) not null,
+  ACT_ID_ varchar(255),
+  COUNTER_ varchar(255) not null,
+  INCIDENT_TYPE_ varchar(255),
+  COUNT_ bigint not null,
+  primary key (ID_)
+);
+
+create unique index ACT_UNIQ_ACT_STATS on ACT_RU_ACT_STATS(PROC_DEF_ID_, ACT_ID_, COUNTER_);
+
+-- queryable variables lookup
+create table ACT_RU_VAR_LOOKUP (
+  ID_ varchar(64) not null,
+  NAME_ varchar(255) not null,
+  TYPE_ varchar(255) not null,
+  EXECUTION_ID_ varchar(64),
+  PROC_INST_ID_ varchar(64),
+  CASE_EXECUTION_ID_ varchar(64),
+  CASE_INST_ID_ varchar(64),
+  TASK_ID_ varchar(64),
+  TEXT_ varchar(255),
+  LONG_ bigint,
+  DOUBLE_ double precision,
+  primary key (ID_)
+);
+
+create index ACT_IDX_VAR_LOOKUP_TEXT on ACT_RU_VAR_LOOKUP(NAME_, TEXT_);
+create index ACT_IDX_VAR_LOOKUP_LONG on ACT_RU_VAR_LOOKUP(NAME_, LONG_);
+create index ACT_IDX_VAR_LOOKUP_DOUBLE on ACT_RU_VAR_LOOKUP(NAME_, DOUBLE_);
+create index ACT_IDX_VAR_LOOKUP_PROC_INST on ACT_RU_VAR_LOOKUP(PROC_INST_ID_);
+
+create index ACT_IDX_VARIABLE_NAME on ACT_RU_VARIABLE(NAME_);
+
+-- content-addressed byte arrays
+ALTER TABLE ACT_GE_BYTEARRAY
+  ADD HASH_ varchar(255);
+
+ALTER TABLE ACT_GE_BYTEARRAY
+  ADD REF_COUNT_ integer;
+
+create index ACT_IDX_BYTEARRAY_HASH on ACT_GE_BYTEARRAY(HASH_);
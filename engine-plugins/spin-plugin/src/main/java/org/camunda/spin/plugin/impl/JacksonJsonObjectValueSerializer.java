@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.spin.plugin.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.camunda.spin.impl.json.jackson.format.JacksonJsonDataFormat;
+import org.camunda.spin.spi.DataFormat;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * {@link SpinObjectValueSerializer} for the Jackson based JSON data format. Objects are
+ * written and read by Jackson's streaming {@link ObjectWriter} and {@link ObjectReader}
+ * directly, without building an intermediate JSON tree.
+ *
+ * <p>Readers and writers are cached per type, the least recently used ones are evicted
+ * once the cache capacity is reached. As they reference the classes of process
+ * applications, entries of a process application are removed when it is undeployed,
+ * see {@link #releaseClassLoader(ClassLoader)}.</p>
+ */
+public class JacksonJsonObjectValueSerializer extends SpinObjectValueSerializer {
+
+  public static final String JACKSON_JSON_DATA_FORMAT_CLASS_NAME = "org.camunda.spin.impl.json.jackson.format.JacksonJsonDataFormat";
+
+  public static final int DEFAULT_CACHE_CAPACITY = 1000;
+
+  protected JacksonJsonDataFormat jacksonDataFormat;
+  protected volatile ObjectMapper objectMapper;
+
+  protected int cacheCapacity = DEFAULT_CACHE_CAPACITY;
+  protected Map<JavaType, ObjectReader> readers = createCache();
+  protected Map<Class<?>, ObjectWriter> writers = createCache();
+
+  public JacksonJsonObjectValueSerializer(String name, DataFormat<?> dataFormat) {
+    super(name, dataFormat);
+    this.jacksonDataFormat = (JacksonJsonDataFormat) dataFormat;
+    this.objectMapper = jacksonDataFormat.getObjectMapper();
+  }
+
+  protected byte[] serializeToByteArray(Object deserializedObject) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    OutputStreamWriter outWriter = new OutputStreamWriter(out, getCharset());
+
+    try {
+      getWriter(deserializedObject.getClass()).writeValue(outWriter, deserializedObject);
+      return out.toByteArray();
+    }
+    finally {
+      IoUtil.closeSilently(out);
+      IoUtil.closeSilently(outWriter);
+    }
+  }
+
+  protected Object deserializeFromByteArray(byte[] bytes, String objectTypeName) throws Exception {
+    JavaType type = jacksonDataFormat.constructJavaTypeFromCanonicalString(objectTypeName);
+
+    ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
+    InputStreamReader inReader = new InputStreamReader(bais, getCharset());
+
+    try {
+      return getReader(type).readValue(inReader);
+    }
+    finally {
+      IoUtil.closeSilently(bais);
+      IoUtil.closeSilently(inReader);
+    }
+  }
+
+  protected ObjectReader getReader(JavaType type) {
+    ObjectReader reader = readers.get(type);
+    if (reader == null) {
+      reader = getObjectMapper().readerFor(type);
+      readers.put(type, reader);
+    }
+    return reader;
+  }
+
+  protected ObjectWriter getWriter(Class<?> type) {
+    ObjectWriter writer = writers.get(type);
+    if (writer == null) {
+      writer = getObjectMapper().writerFor(type);
+      writers.put(type, writer);
+    }
+    return writer;
+  }
+
+  @SuppressWarnings("serial")
+  protected <K, V> Map<K, V> createCache() {
+    return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Entry<K, V> eldest) {
+        return size() > cacheCapacity;
+      }
+    });
+  }
+
+  @Override
+  public void releaseClassLoader(ClassLoader classLoader) {
+    synchronized (readers) {
+      Iterator<JavaType> types = readers.keySet().iterator();
+      while (types.hasNext()) {
+        if (isLoadedBy(types.next(), classLoader)) {
+          types.remove();
+        }
+      }
+    }
+
+    synchronized (writers) {
+      Iterator<Class<?>> types = writers.keySet().iterator();
+      while (types.hasNext()) {
+        if (isLoadedBy(types.next(), classLoader)) {
+          types.remove();
+        }
+      }
+    }
+  }
+
+  protected boolean isLoadedBy(JavaType type, ClassLoader classLoader) {
+    if (isLoadedBy(type.getRawClass(), classLoader)) {
+      return true;
+    }
+
+    JavaType contentType = type.getContentType();
+    if (contentType != null && isLoadedBy(contentType, classLoader)) {
+      return true;
+    }
+
+    for (int i = 0; i < type.containedTypeCount(); i++) {
+      if (isLoadedBy(type.containedType(i), classLoader)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected boolean isLoadedBy(Class<?> type, ClassLoader classLoader) {
+    // classes of a process application may be loaded by a child of its class loader
+    ClassLoader typeClassLoader = type.getClassLoader();
+    while (typeClassLoader != null) {
+      if (typeClassLoader == classLoader) {
+        return true;
+      }
+      typeClassLoader = typeClassLoader.getParent();
+    }
+    return false;
+  }
+
+  /**
+   * The data format's object mapper may be replaced after the serializer is created;
+   * readers and writers of the previous mapper are discarded then.
+   */
+  protected ObjectMapper getObjectMapper() {
+    ObjectMapper currentObjectMapper = jacksonDataFormat.getObjectMapper();
+    if (currentObjectMapper != objectMapper) {
+      objectMapper = currentObjectMapper;
+      readers.clear();
+      writers.clear();
+    }
+    return currentObjectMapper;
+  }
+
+  protected Charset getCharset() {
+    return Context.getProcessEngineConfiguration().getDefaultCharset();
+  }
+
+  public void setCacheCapacity(int cacheCapacity) {
+    this.cacheCapacity = cacheCapacity;
+  }
+
+  public int getCacheCapacity() {
+    return cacheCapacity;
+  }
+
+}
@@ -37,4 +37,9 @@ public class SpinPluginLogger extends BaseLogger {
     return new ProcessEngineException(exceptionMessage(
         "002", "Fallback serializer cannot handle deserialized objects"));
   }
+
+  public void logJacksonJsonSerializerNotAvailable(String dataFormatName, Throwable cause) {
+    logDebug(
+        "003", "Cannot use Jackson streaming serializer for data format '{}', using data format mapper instead: {}", dataFormatName, cause.getMessage(), cause);
+  }
 }
@@ -31,17 +31,36 @@ import org.camunda.spin.xml.SpinXmlElement;
  */
 public class SpinVariableSerializers {
 
+  protected static final SpinPluginLogger LOG = SpinPluginLogger.LOGGER;
+
   public static List<TypedValueSerializer<?>> createObjectValueSerializers(DataFormats dataFormats) {
     List<TypedValueSerializer<?>> serializers = new ArrayList<TypedValueSerializer<?>>();
 
     Set<DataFormat<?>> availableDataFormats = dataFormats.getAllAvailableDataFormats();
     for (DataFormat<?> dataFormat : availableDataFormats) {
-      serializers.add(new SpinObjectValueSerializer("spin://"+dataFormat.getName(), dataFormat));
+      serializers.add(createObjectValueSerializer("spin://"+dataFormat.getName(), dataFormat));
     }
 
     return serializers;
   }
 
+  protected static SpinObjectValueSerializer createObjectValueSerializer(String name, DataFormat<?> dataFormat) {
+    if (JacksonJsonObjectValueSerializer.JACKSON_JSON_DATA_FORMAT_CLASS_NAME.equals(dataFormat.getClass().getName())) {
+      try {
+        return new JacksonJsonObjectValueSerializer(name, dataFormat);
+      }
+      catch (LinkageError e) {
+        // jackson is not visible to the plugin's class loader
+        LOG.logJacksonJsonSerializerNotAvailable(dataFormat.getName(), e);
+      }
+      catch (ClassCastException e) {
+        // the data format was loaded by a class loader other than the plugin's
+        LOG.logJacksonJsonSerializerNotAvailable(dataFormat.getName(), e);
+      }
+    }
+    return new SpinObjectValueSerializer(name, dataFormat);
+  }
+
   public static List<TypedValueSerializer<?>> createSpinValueSerializers(DataFormats dataFormats) {
     List<TypedValueSerializer<?>> serializers = new ArrayList<TypedValueSerializer<?>>();
 
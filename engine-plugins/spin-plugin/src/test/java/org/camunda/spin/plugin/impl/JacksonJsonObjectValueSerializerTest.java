@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.spin.plugin.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.spin.DataFormats;
+import org.camunda.spin.impl.json.jackson.format.JacksonJsonDataFormat;
+import org.camunda.spin.plugin.variables.JsonSerializable;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+public class JacksonJsonObjectValueSerializerTest {
+
+  protected JacksonJsonDataFormat dataFormat;
+  protected JacksonJsonObjectValueSerializer serializer;
+
+  @Before
+  public void setUp() {
+    dataFormat = new JacksonJsonDataFormat(DataFormats.JSON_DATAFORMAT_NAME);
+    serializer = new JacksonJsonObjectValueSerializer("spin://" + DataFormats.JSON_DATAFORMAT_NAME, dataFormat);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWriters() {
+    // given
+    serializer.setCacheCapacity(2);
+    serializer.getWriter(String.class);
+    serializer.getWriter(Date.class);
+
+    // when
+    serializer.getWriter(String.class);
+    serializer.getWriter(JsonSerializable.class);
+
+    // then
+    assertEquals(2, serializer.writers.size());
+    assertTrue(serializer.writers.containsKey(String.class));
+    assertTrue(serializer.writers.containsKey(JsonSerializable.class));
+  }
+
+  @Test
+  public void shouldKeepCachingNewTypesWhenCapacityIsReached() {
+    // given
+    serializer.setCacheCapacity(1);
+    serializer.getReader(constructType(String.class.getName()));
+
+    // when
+    JavaType type = constructType(JsonSerializable.class.getName());
+    serializer.getReader(type);
+
+    // then
+    assertEquals(1, serializer.readers.size());
+    assertTrue(serializer.readers.containsKey(type));
+  }
+
+  @Test
+  public void shouldReleaseTypesOfClassLoader() {
+    // given
+    ClassLoader classLoader = JsonSerializable.class.getClassLoader();
+    JavaType listType = constructType(ArrayList.class.getName() + "<" + JsonSerializable.class.getName() + ">");
+    JavaType stringListType = constructType(List.class.getName() + "<" + String.class.getName() + ">");
+
+    serializer.getReader(listType);
+    serializer.getReader(stringListType);
+    serializer.getWriter(JsonSerializable.class);
+    serializer.getWriter(String.class);
+
+    // when
+    serializer.releaseClassLoader(classLoader);
+
+    // then
+    assertFalse(serializer.readers.containsKey(listType));
+    assertTrue(serializer.readers.containsKey(stringListType));
+    assertFalse(serializer.writers.containsKey(JsonSerializable.class));
+    assertTrue(serializer.writers.containsKey(String.class));
+  }
+
+  protected JavaType constructType(String canonicalName) {
+    return dataFormat.constructJavaTypeFromCanonicalString(canonicalName);
+  }
+
+}
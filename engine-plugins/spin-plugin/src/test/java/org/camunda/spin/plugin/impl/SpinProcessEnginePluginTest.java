@@ -22,6 +22,7 @@ import java.util.Collections;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.impl.variable.serializer.DefaultVariableSerializers;
+import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.camunda.spin.DataFormats;
 import org.camunda.spin.plugin.variable.type.JsonValueType;
 import org.camunda.spin.plugin.variable.type.XmlValueType;
@@ -55,6 +56,7 @@ public class SpinProcessEnginePluginTest extends PluggableProcessEngineTestCase
     new SpinProcessEnginePlugin().registerSerializers(mockConfig);
 
     assertTrue(serializers.getSerializerByName(JsonValueType.TYPE_NAME) == null);
+    assertTrue(serializers.getSerializerByName("spin://" + DataFormats.JSON_DATAFORMAT_NAME) == null);
   }
 
   public void testPluginRegistersXmlSerializerIfPresentInClasspath(){
@@ -74,4 +76,15 @@ public class SpinProcessEnginePluginTest extends PluggableProcessEngineTestCase
 
     assertTrue(processEngineConfiguration.getVariableSerializers().getSerializerByName(JsonValueType.TYPE_NAME) instanceof JsonValueSerializer);
   }
+
+  public void testPluginRegistersJacksonJsonObjectSerializerIfPresentInClasspath(){
+    DataFormats.loadDataFormats(null);
+    ProcessEngineConfigurationImpl mockConfig = Mockito.mock(ProcessEngineConfigurationImpl.class);
+    VariableSerializers serializers = new DefaultVariableSerializers();
+    Mockito.when(mockConfig.getVariableSerializers()).thenReturn(serializers);
+    new SpinProcessEnginePlugin().registerSerializers(mockConfig);
+
+    assertTrue(serializers.getSerializerByName("spin://" + DataFormats.JSON_DATAFORMAT_NAME) instanceof JacksonJsonObjectValueSerializer);
+    assertFalse(serializers.getSerializerByName("spin://" + DataFormats.XML_DATAFORMAT_NAME) instanceof JacksonJsonObjectValueSerializer);
+  }
 }
@@ -40,7 +40,8 @@ public interface TaskRestService {
   @GET
   @Produces({MediaType.APPLICATION_JSON, Hal.APPLICATION_HAL_JSON})
   Object getTasks(@Context Request request, @Context UriInfo uriInfo,
-                  @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
+                  @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults,
+                  @QueryParam("afterId") String afterId);
 
   /**
    * Expects the same parameters as {@link TaskRestService#getTasks(UriInfo, Integer, Integer)} (as
@@ -48,13 +49,15 @@ public interface TaskRestService {
    * @param query
    * @param firstResult
    * @param maxResults
+   * @param afterId the id of the last task of the previous page, used instead of firstResult
    * @return
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
   @Produces(MediaType.APPLICATION_JSON)
   List<TaskDto> queryTasks(TaskQueryDto query,
-      @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
+      @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults,
+      @QueryParam("afterId") String afterId);
 
   @GET
   @Path("/count")
@@ -78,18 +78,20 @@ import java.util.List;
   }
 
   @Override
-  public List<HistoricProcessInstanceDto> getHistoricProcessInstances(UriInfo uriInfo, Integer firstResult, Integer maxResults) {
+  public List<HistoricProcessInstanceDto> getHistoricProcessInstances(UriInfo uriInfo, Integer firstResult, Integer maxResults, String afterId) {
     HistoricProcessInstanceQueryDto queryHistoriProcessInstanceDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
-    return queryHistoricProcessInstances(queryHistoriProcessInstanceDto, firstResult, maxResults);
+    return queryHistoricProcessInstances(queryHistoriProcessInstanceDto, firstResult, maxResults, afterId);
   }
 
   @Override
-  public List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto queryDto, Integer firstResult, Integer maxResults) {
+  public List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto queryDto, Integer firstResult, Integer maxResults, String afterId) {
     queryDto.setObjectMapper(objectMapper);
     HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
 
     List<HistoricProcessInstance> matchingHistoricProcessInstances;
-    if (firstResult != null || maxResults != null) {
+    if (afterId != null) {
+      matchingHistoricProcessInstances = executeKeysetPaginatedQuery(query, afterId, maxResults);
+    } else if (firstResult != null || maxResults != null) {
       matchingHistoricProcessInstances = executePaginatedQuery(query, firstResult, maxResults);
     } else {
       matchingHistoricProcessInstances = query.list();
@@ -103,7 +105,7 @@ import java.util.List;
     return historicProcessInstanceDtoResults;
   }
 
-  private List<HistoricProcessInstance> executePaginatedQuery(HistoricProcessInstanceQuery query, Integer firstResult, Integer maxResults) {
+  protected List<HistoricProcessInstance> executePaginatedQuery(HistoricProcessInstanceQuery query, Integer firstResult, Integer maxResults) {
     if (firstResult == null) {
       firstResult = 0;
     }
@@ -113,6 +115,13 @@ import java.util.List;
     return query.listPage(firstResult, maxResults);
   }
 
+  protected List<HistoricProcessInstance> executeKeysetPaginatedQuery(HistoricProcessInstanceQuery query, String afterId, Integer maxResults) {
+    if (maxResults == null) {
+      maxResults = Integer.MAX_VALUE;
+    }
+    return query.listAfter(afterId, maxResults);
+  }
+
   @Override
   public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo) {
     HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
@@ -21,6 +21,8 @@ import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.sub.impl.VariableResponseProvider;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
+import java.io.InputStream;
+
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -62,7 +64,8 @@ public abstract class AbstractResourceProvider<T extends Query<?, U>, U, DTO> {
     U queryResult = baseQueryForBinaryVariable().singleResult();
     if (queryResult != null) {
       TypedValue variableInstance = transformQueryResultIntoTypedValue(queryResult);
-      return new VariableResponseProvider().getResponseForTypedVariable(variableInstance, id);
+      InputStream content = getResourceBinaryContent(variableInstance);
+      return new VariableResponseProvider().getResponseForTypedVariable(variableInstance, id, content);
     } else {
       throw new InvalidRequestException(Status.NOT_FOUND, getResourceNameForErrorMessage() + " with Id '" + id + "' does not exist.");
     }
@@ -96,6 +99,15 @@ public abstract class AbstractResourceProvider<T extends Query<?, U>, U, DTO> {
 
   protected abstract TypedValue transformQueryResultIntoTypedValue(U queryResult);
 
+  /**
+   * Opens the content of a binary variable whose bytes were not fetched by
+   * {@link #baseQueryForBinaryVariable()}. Returns null if the response should
+   * be built from the typed value itself.
+   */
+  protected InputStream getResourceBinaryContent(TypedValue typedValue) {
+    return null;
+  }
+
   protected abstract DTO transformToDto(U queryResult);
 
   protected abstract String getResourceNameForErrorMessage();
@@ -15,6 +15,8 @@
  */
 package org.camunda.bpm.engine.rest.sub.history.impl;
 
+import java.io.InputStream;
+
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.history.HistoricVariableInstance;
 import org.camunda.bpm.engine.history.HistoricVariableInstanceQuery;
@@ -22,6 +24,7 @@ import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.rest.dto.history.HistoricVariableInstanceDto;
 import org.camunda.bpm.engine.rest.sub.AbstractResourceProvider;
 import org.camunda.bpm.engine.rest.sub.history.HistoricVariableInstanceResource;
+import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
 /**
@@ -42,7 +45,12 @@ public class HistoricVariableInstanceResourceImpl extends
 
   @Override
   protected Query<HistoricVariableInstanceQuery, HistoricVariableInstance> baseQueryForBinaryVariable() {
-    return baseQuery().disableCustomObjectDeserialization();
+    HistoricVariableInstanceQuery query = baseQuery();
+
+    // the content of binary variables is streamed separately
+    query.disableBinaryFetching();
+    query.disableCustomObjectDeserialization();
+    return query;
   }
 
   @Override
@@ -60,6 +68,15 @@ public class HistoricVariableInstanceResourceImpl extends
     return queryResult.getTypedValue();
   }
 
+  @Override
+  protected InputStream getResourceBinaryContent(TypedValue typedValue) {
+    if (ValueType.BYTES.equals(typedValue.getType()) || ValueType.FILE.equals(typedValue.getType())) {
+      return getEngine().getHistoryService().getHistoricVariableInstanceContent(getId());
+    } else {
+      return null;
+    }
+  }
+
   @Override
   protected HistoricVariableInstanceDto transformToDto(HistoricVariableInstance queryResult) {
     return HistoricVariableInstanceDto.fromHistoricVariableInstance(queryResult);
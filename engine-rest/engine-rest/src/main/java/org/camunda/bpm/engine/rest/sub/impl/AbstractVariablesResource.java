@@ -29,13 +29,16 @@ import org.camunda.bpm.engine.rest.exception.RestException;
 import org.camunda.bpm.engine.rest.mapper.MultipartFormData;
 import org.camunda.bpm.engine.rest.mapper.MultipartFormData.FormPart;
 import org.camunda.bpm.engine.rest.sub.VariableResource;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.List;
@@ -96,8 +99,49 @@ public abstract class AbstractVariablesResource implements VariableResource {
   }
 
   public Response getVariableBinary(String variableName) {
-    TypedValue typedValue = getTypedValueForVariable(variableName, false);
-    return new VariableResponseProvider().getResponseForTypedVariable(typedValue, resourceId);
+    if (!isVariableContentStreamed()) {
+      TypedValue typedValue = getTypedValueForVariable(variableName, false);
+      return new VariableResponseProvider().getResponseForTypedVariable(typedValue, resourceId);
+    }
+
+    // the variable instance does not hold the content of binary variables, it is streamed separately
+    TypedValue typedValue = getVariableInstanceForBinary(variableName).getTypedValue();
+
+    InputStream content = null;
+    if (ValueType.BYTES.equals(typedValue.getType()) || ValueType.FILE.equals(typedValue.getType())) {
+      content = getContentForBinaryVariable(variableName);
+    }
+
+    return new VariableResponseProvider().getResponseForTypedVariable(typedValue, resourceId, content);
+  }
+
+  protected VariableInstance getVariableInstanceForBinary(String variableName) {
+    VariableInstance variableInstance = null;
+    try {
+      variableInstance = getVariableInstanceEntity(variableName);
+    } catch (AuthorizationException e) {
+      throw e;
+    } catch (ProcessEngineException e) {
+      String errorMessage = String.format("Cannot get %s variable %s: %s", getResourceTypeName(), variableName, e.getMessage());
+      throw new RestException(Status.INTERNAL_SERVER_ERROR, e, errorMessage);
+    }
+
+    if (variableInstance == null) {
+      String errorMessage = String.format("%s variable with name %s does not exist", getResourceTypeName(), variableName);
+      throw new InvalidRequestException(Status.NOT_FOUND, errorMessage);
+    }
+    return variableInstance;
+  }
+
+  protected InputStream getContentForBinaryVariable(String variableName) {
+    try {
+      return getVariableEntityContent(variableName);
+    } catch (AuthorizationException e) {
+      throw e;
+    } catch (ProcessEngineException e) {
+      String errorMessage = String.format("Cannot get %s variable %s: %s", getResourceTypeName(), variableName, e.getMessage());
+      throw new RestException(Status.INTERNAL_SERVER_ERROR, e, errorMessage);
+    }
   }
 
   @Override
@@ -224,6 +268,23 @@ public abstract class AbstractVariablesResource implements VariableResource {
 
   protected abstract TypedValue getVariableEntity(String variableKey, boolean deserializeValue);
 
+  /**
+   * Returns true if the resource streams the content of binary variables with
+   * {@link #getVariableInstanceEntity(String)} and {@link #getVariableEntityContent(String)}
+   * instead of loading it with {@link #getVariableEntity(String, boolean)}.
+   */
+  protected boolean isVariableContentStreamed() {
+    return false;
+  }
+
+  protected VariableInstance getVariableInstanceEntity(String variableKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  protected InputStream getVariableEntityContent(String variableKey) {
+    throw new UnsupportedOperationException();
+  }
+
   protected abstract void setVariableEntity(String variableKey, TypedValue variableValue);
 
   protected abstract void removeVariableEntity(String variableKey);
@@ -24,6 +24,7 @@ import org.camunda.bpm.engine.variable.value.TypedValue;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 
 /**
  * @author Christopher Zell <christopher.zell@camunda.com>
@@ -31,10 +32,18 @@ import java.io.ByteArrayInputStream;
 public class VariableResponseProvider {
 
   public Response getResponseForTypedVariable(TypedValue typedVariableValue, String id) {
+    return getResponseForTypedVariable(typedVariableValue, id, null);
+  }
+
+  /**
+   * Creates a response for a binary variable, streaming the given content if it is not null
+   * instead of the value held by the typed value.
+   */
+  public Response getResponseForTypedVariable(TypedValue typedVariableValue, String id, InputStream content) {
     if (typedVariableValue instanceof BytesValue || ValueType.BYTES.equals(typedVariableValue.getType())) {
-      return responseForByteVariable(typedVariableValue);
+      return content != null ? responseForByteVariable(content) : responseForByteVariable(typedVariableValue);
     } else if (ValueType.FILE.equals(typedVariableValue.getType())) {
-      return responseForFileVariable((FileValue) typedVariableValue);
+      return responseForFileVariable((FileValue) typedVariableValue, content);
     } else {
       throw new InvalidRequestException(Response.Status.BAD_REQUEST, String.format("Value of variable with id %s is not a binary value.", id));
     }
@@ -45,11 +54,24 @@ public class VariableResponseProvider {
    * Creates a response for a variable of type {@link ValueType#FILE}.
    */
   protected Response responseForFileVariable(FileValue fileValue) {
+    return responseForFileVariable(fileValue, null);
+  }
+
+  /**
+   * Creates a response for a variable of type {@link ValueType#FILE}, streaming the given
+   * content if it is not null.
+   */
+  protected Response responseForFileVariable(FileValue fileValue, InputStream content) {
     String type = fileValue.getMimeType() != null ? fileValue.getMimeType() : MediaType.APPLICATION_OCTET_STREAM;
     if (fileValue.getEncoding() != null) {
       type += "; charset=" + fileValue.getEncoding();
     }
-    Object value = fileValue.getValue() == null ? "" : fileValue.getValue();
+    Object value;
+    if (content != null) {
+      value = content;
+    } else {
+      value = fileValue.getValue() == null ? "" : fileValue.getValue();
+    }
     return Response.ok(value, type).header("Content-Disposition", "attachment; filename=" + fileValue.getFilename()).build();
   }
 
@@ -63,4 +85,11 @@ public class VariableResponseProvider {
     }
     return Response.ok(new ByteArrayInputStream(valueBytes), MediaType.APPLICATION_OCTET_STREAM).build();
   }
+
+  /**
+   * Creates a response for a variable of type {@link ValueType#BYTES} from its content.
+   */
+  protected Response responseForByteVariable(InputStream content) {
+    return Response.ok(content, MediaType.APPLICATION_OCTET_STREAM).build();
+  }
 }
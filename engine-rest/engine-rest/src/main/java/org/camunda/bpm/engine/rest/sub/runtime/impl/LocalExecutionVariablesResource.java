@@ -19,9 +19,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.RuntimeServiceImpl;
 import org.camunda.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -55,6 +57,18 @@ public class LocalExecutionVariablesResource extends AbstractVariablesResource {
     return engine.getRuntimeService().getVariableLocalTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected boolean isVariableContentStreamed() {
+    return true;
+  }
+
+  protected VariableInstance getVariableInstanceEntity(String variableKey) {
+    return engine.getRuntimeService().getVariableInstanceLocal(resourceId, variableKey);
+  }
+
+  protected InputStream getVariableEntityContent(String variableKey) {
+    return engine.getRuntimeService().getVariableLocalContent(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     engine.getRuntimeService().setVariableLocal(resourceId, variableKey, variableValue);
   }
@@ -15,6 +15,8 @@
  */
 package org.camunda.bpm.engine.rest.sub.runtime.impl;
 
+import java.io.InputStream;
+
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.rest.dto.runtime.VariableInstanceDto;
@@ -22,6 +24,7 @@ import org.camunda.bpm.engine.rest.sub.AbstractResourceProvider;
 import org.camunda.bpm.engine.rest.sub.runtime.VariableInstanceResource;
 import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.runtime.VariableInstanceQuery;
+import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
 /**
@@ -42,7 +45,12 @@ public class VariableInstanceResourceImpl extends AbstractResourceProvider<Varia
 
   @Override
   protected Query<VariableInstanceQuery, VariableInstance> baseQueryForBinaryVariable() {
-    return baseQuery().disableCustomObjectDeserialization();
+    VariableInstanceQuery query = baseQuery();
+
+    // the content of binary variables is streamed separately
+    query.disableBinaryFetching();
+    query.disableCustomObjectDeserialization();
+    return query;
   }
 
   @Override
@@ -63,6 +71,15 @@ public class VariableInstanceResourceImpl extends AbstractResourceProvider<Varia
     return queryResult.getTypedValue();
   }
 
+  @Override
+  protected InputStream getResourceBinaryContent(TypedValue typedValue) {
+    if (ValueType.BYTES.equals(typedValue.getType()) || ValueType.FILE.equals(typedValue.getType())) {
+      return getEngine().getRuntimeService().getVariableInstanceContent(getId());
+    } else {
+      return null;
+    }
+  }
+
   @Override
   protected VariableInstanceDto transformToDto(VariableInstance queryResult) {
     return VariableInstanceDto.fromVariableInstance(queryResult);
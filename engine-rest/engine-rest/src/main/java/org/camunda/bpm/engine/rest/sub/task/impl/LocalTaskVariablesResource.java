@@ -19,9 +19,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.TaskServiceImpl;
 import org.camunda.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
+import java.io.InputStream;
 import java.util.List;
 
 public class LocalTaskVariablesResource extends AbstractVariablesResource {
@@ -51,6 +53,18 @@ public class LocalTaskVariablesResource extends AbstractVariablesResource {
     return engine.getTaskService().getVariableLocalTyped(resourceId, variableKey, deserializeValue);
   }
 
+  protected boolean isVariableContentStreamed() {
+    return true;
+  }
+
+  protected VariableInstance getVariableInstanceEntity(String variableKey) {
+    return engine.getTaskService().getVariableInstanceLocal(resourceId, variableKey);
+  }
+
+  protected InputStream getVariableEntityContent(String variableKey) {
+    return engine.getTaskService().getVariableLocalContent(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     engine.getTaskService().setVariableLocal(resourceId, variableKey, variableValue);
   }
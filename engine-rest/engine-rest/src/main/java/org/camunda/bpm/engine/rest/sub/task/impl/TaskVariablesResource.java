@@ -15,12 +15,14 @@
  */
 package org.camunda.bpm.engine.rest.sub.task.impl;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.TaskServiceImpl;
 import org.camunda.bpm.engine.rest.sub.impl.AbstractVariablesResource;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
@@ -57,6 +59,18 @@ public class TaskVariablesResource extends AbstractVariablesResource {
     taskService.updateVariables(resourceId, modifications, deletions);
   }
 
+  protected boolean isVariableContentStreamed() {
+    return true;
+  }
+
+  protected VariableInstance getVariableInstanceEntity(String variableKey) {
+    return engine.getTaskService().getVariableInstance(resourceId, variableKey);
+  }
+
+  protected InputStream getVariableEntityContent(String variableKey) {
+    return engine.getTaskService().getVariableContent(resourceId, variableKey);
+  }
+
   protected void setVariableEntity(String variableKey, TypedValue variableValue) {
     engine.getTaskService().setVariable(resourceId, variableKey, variableValue);
   }
@@ -35,6 +35,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -68,12 +70,15 @@ import org.camunda.bpm.engine.runtime.EventSubscriptionQuery;
 import org.camunda.bpm.engine.runtime.Execution;
 import org.camunda.bpm.engine.runtime.ExecutionQuery;
 import org.camunda.bpm.engine.runtime.Incident;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.type.SerializableValueType;
 import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.BooleanValue;
+import org.camunda.bpm.engine.variable.value.BytesValue;
 import org.camunda.bpm.engine.variable.value.FileValue;
 import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -504,7 +509,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
   @Test
   public void testGetSingleLocalVariableData() {
 
-    when(runtimeServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY, EXAMPLE_VARIABLE_VALUE_BYTES);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -516,13 +521,14 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     .when()
       .get(SINGLE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY);
+    verify(runtimeServiceMock).getVariableLocalContent(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleLocalVariableDataNonExisting() {
 
-    when(runtimeServiceMock.getVariableLocalTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, "nonExisting", null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -535,13 +541,13 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     .when()
       .get(SINGLE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_EXECUTION_ID, "nonExisting", false);
+    verify(runtimeServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_EXECUTION_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleLocalVariabledataNotBinary() {
 
-    when(runtimeServiceMock.getVariableLocalTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY, EXAMPLE_VARIABLE_VALUE);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -552,7 +558,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     .when()
       .get(SINGLE_EXECUTION_LOCAL_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableLocalTyped(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstanceLocal(MockProvider.EXAMPLE_EXECUTION_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -691,8 +697,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -712,7 +717,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -733,7 +738,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String encoding = "UTF-8";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, variableKey, variableValue);
 
     Response response = given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -754,7 +759,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(MockProvider.EXAMPLE_EXECUTION_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_EXECUTION_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID)
@@ -773,7 +778,7 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(runtimeServiceMock.getVariableLocalTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(EXAMPLE_TASK_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -1579,4 +1584,31 @@ public class ExecutionRestServiceInteractionTest extends AbstractRestServiceTest
     given().pathParam("id", MockProvider.EXAMPLE_EXECUTION_ID).contentType(ContentType.JSON).body(json).then().expect()
         .statusCode(Status.BAD_REQUEST.getStatusCode()).when().post(CREATE_INCIDENT_URL);
   }
+
+  protected void mockVariableContent(String executionId, String variableKey, TypedValue variableValue) {
+    VariableInstance variableInstance = null;
+    InputStream content = null;
+
+    // the variable instance holds no binary value, its content is streamed separately
+    if (variableValue instanceof FileValue) {
+      FileValue fileValue = (FileValue) variableValue;
+      FileValue fileMetadata = Variables.fileValue(fileValue.getFilename())
+        .mimeType(fileValue.getMimeType())
+        .encoding(fileValue.getEncoding())
+        .create();
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(fileMetadata).build();
+      content = fileValue.getValue();
+    }
+    else if (variableValue instanceof BytesValue) {
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(Variables.byteArrayValue(null)).build();
+      content = new ByteArrayInputStream(((BytesValue) variableValue).getValue());
+    }
+    else if (variableValue != null) {
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(variableValue).build();
+    }
+
+    when(runtimeServiceMock.getVariableInstanceLocal(executionId, variableKey)).thenReturn(variableInstance);
+    when(runtimeServiceMock.getVariableLocalContent(executionId, variableKey)).thenReturn(content);
+  }
+
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ import static org.mockito.Matchers.*;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -79,13 +81,16 @@ import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
 import org.camunda.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateSelectBuilder;
 import org.camunda.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateTenantBuilder;
 import org.camunda.bpm.engine.runtime.UpdateProcessInstancesSuspensionStateBuilder;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.type.SerializableValueType;
 import org.camunda.bpm.engine.variable.type.ValueType;
+import org.camunda.bpm.engine.variable.value.BytesValue;
 import org.camunda.bpm.engine.variable.value.FileValue;
 import org.camunda.bpm.engine.variable.value.LongValue;
 import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -604,8 +609,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -625,8 +629,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, variableKey, variableValue);
 
   given()
     .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -647,8 +650,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
     String encoding = "UTF-8";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, variableKey, variableValue);
 
     Response response = given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -669,8 +671,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, variableKey, variableValue);
 
    given()
     .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -689,8 +690,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
     String variableKey = "aVariableKey";
     LongValue variableValue = Variables.longValue(123L);
 
-    when(runtimeServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID), eq(variableKey), anyBoolean()))
-    .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, variableKey, variableValue);
 
    given()
     .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1167,7 +1167,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
   @Test
   public void testGetSingleLocalVariableData() {
 
-    when(runtimeServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY, EXAMPLE_VARIABLE_VALUE_BYTES);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1179,13 +1179,14 @@ public class ProcessInstanceRestServiceInteractionTest extends
     .when()
       .get(SINGLE_PROCESS_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableTyped(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstance(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY);
+    verify(runtimeServiceMock).getVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleLocalVariableDataNonExisting() {
 
-    when(runtimeServiceMock.getVariableTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, "nonExisting", null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1198,13 +1199,13 @@ public class ProcessInstanceRestServiceInteractionTest extends
     .when()
       .get(SINGLE_PROCESS_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableTyped(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, "nonExisting", false);
+    verify(runtimeServiceMock).getVariableInstance(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleLocalVariabledataNotBinary() {
 
-    when(runtimeServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    mockVariableContent(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_VARIABLE_KEY, EXAMPLE_VARIABLE_VALUE);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_PROCESS_INSTANCE_ID)
@@ -1215,7 +1216,7 @@ public class ProcessInstanceRestServiceInteractionTest extends
     .when()
       .get(SINGLE_PROCESS_INSTANCE_BINARY_VARIABLE_URL);
 
-    verify(runtimeServiceMock).getVariableTyped(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(runtimeServiceMock).getVariableInstance(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -3495,4 +3496,31 @@ public class ProcessInstanceRestServiceInteractionTest extends
     assertEquals(MockProvider.EXAMPLE_BATCH_JOB_DEFINITION_ID, batch.getBatchJobDefinitionId());
     assertEquals(MockProvider.EXAMPLE_TENANT_ID, batch.getTenantId());
   }
+
+  protected void mockVariableContent(String processInstanceId, String variableKey, TypedValue variableValue) {
+    VariableInstance variableInstance = null;
+    InputStream content = null;
+
+    // the variable instance holds no binary value, its content is streamed separately
+    if (variableValue instanceof FileValue) {
+      FileValue fileValue = (FileValue) variableValue;
+      FileValue fileMetadata = Variables.fileValue(fileValue.getFilename())
+        .mimeType(fileValue.getMimeType())
+        .encoding(fileValue.getEncoding())
+        .create();
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(fileMetadata).build();
+      content = fileValue.getValue();
+    }
+    else if (variableValue instanceof BytesValue) {
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(Variables.byteArrayValue(null)).build();
+      content = new ByteArrayInputStream(((BytesValue) variableValue).getValue());
+    }
+    else if (variableValue != null) {
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(variableValue).build();
+    }
+
+    when(runtimeServiceMock.getVariableInstance(processInstanceId, variableKey)).thenReturn(variableInstance);
+    when(runtimeServiceMock.getVariableContent(processInstanceId, variableKey)).thenReturn(content);
+  }
+
 }
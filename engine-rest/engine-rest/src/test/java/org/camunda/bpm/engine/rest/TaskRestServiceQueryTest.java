@@ -22,6 +22,7 @@ import static org.camunda.bpm.engine.rest.util.DateTimeUtils.withTimezone;
 import static org.camunda.bpm.engine.rest.util.QueryParamUtils.arrayAsCommaSeperatedList;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
@@ -893,6 +894,32 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
     verify(mockQuery).listPage(firstResult, maxResults);
   }
 
+  @Test
+  public void testSuccessfulKeysetPagination() {
+
+    String afterId = "aTaskId";
+    int maxResults = 10;
+    given().queryParam("afterId", afterId).queryParam("maxResults", maxResults)
+      .header("accept", MediaType.APPLICATION_JSON)
+      .then().expect().statusCode(Status.OK.getStatusCode())
+      .when().get(TASK_QUERY_URL);
+
+    verify(mockQuery).listAfter(afterId, maxResults);
+    verify(mockQuery, never()).listPage(anyInt(), anyInt());
+  }
+
+  @Test
+  public void testKeysetPaginationWithoutMaxResults() {
+
+    String afterId = "aTaskId";
+    given().queryParam("afterId", afterId)
+      .header("accept", MediaType.APPLICATION_JSON)
+      .then().expect().statusCode(Status.OK.getStatusCode())
+      .when().get(TASK_QUERY_URL);
+
+    verify(mockQuery).listAfter(afterId, Integer.MAX_VALUE);
+  }
+
   @Test
   public void testTaskVariableParameters() {
     // equals
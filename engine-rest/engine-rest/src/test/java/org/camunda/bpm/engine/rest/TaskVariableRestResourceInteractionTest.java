@@ -36,6 +36,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -66,12 +68,15 @@ import org.camunda.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
 import org.camunda.bpm.engine.rest.helper.variable.EqualsUntypedValue;
 import org.camunda.bpm.engine.rest.util.VariablesBuilder;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.type.SerializableValueType;
 import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.BooleanValue;
+import org.camunda.bpm.engine.variable.value.BytesValue;
 import org.camunda.bpm.engine.variable.value.FileValue;
 import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.camunda.bpm.engine.variable.value.TypedValue;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -322,7 +327,7 @@ public class TaskVariableRestResourceInteractionTest extends
   @Test
   public void testGetSingleVariableData() {
 
-    when(taskServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_BYTES_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE_BYTES);
+    mockVariableContent(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY, EXAMPLE_VARIABLE_VALUE_BYTES);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -334,13 +339,14 @@ public class TaskVariableRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableTyped(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY, false);
+    verify(taskServiceMock).getVariableInstance(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY);
+    verify(taskServiceMock).getVariableContent(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_BYTES_VARIABLE_KEY);
   }
 
   @Test
   public void testGetSingleVariableDataNonExisting() {
 
-    when(taskServiceMock.getVariableTyped(anyString(), eq("nonExisting"), eq(false))).thenReturn(null);
+    mockVariableContent(MockProvider.EXAMPLE_TASK_ID, "nonExisting", null);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -353,13 +359,13 @@ public class TaskVariableRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableTyped(MockProvider.EXAMPLE_TASK_ID, "nonExisting", false);
+    verify(taskServiceMock).getVariableInstance(MockProvider.EXAMPLE_TASK_ID, "nonExisting");
   }
 
   @Test
   public void testGetSingleVariabledataNotBinary() {
 
-    when(taskServiceMock.getVariableTyped(anyString(), eq(EXAMPLE_VARIABLE_KEY), eq(false))).thenReturn(EXAMPLE_VARIABLE_VALUE);
+    mockVariableContent(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY, EXAMPLE_VARIABLE_VALUE);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -370,7 +376,7 @@ public class TaskVariableRestResourceInteractionTest extends
     .when()
       .get(SINGLE_TASK_SINGLE_BINARY_VARIABLE_URL);
 
-    verify(taskServiceMock).getVariableTyped(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY, false);
+    verify(taskServiceMock).getVariableInstance(MockProvider.EXAMPLE_TASK_ID, EXAMPLE_VARIABLE_KEY);
   }
 
   @Test
@@ -508,8 +514,7 @@ public class TaskVariableRestResourceInteractionTest extends
     String mimeType = "text/plain";
     FileValue variableValue = Variables.fileValue(filename).mimeType(mimeType).create();
 
-    when(taskServiceMock.getVariableTyped(eq(MockProvider.EXAMPLE_TASK_ID), eq(variableKey), anyBoolean()))
-      .thenReturn(variableValue);
+    mockVariableContent(MockProvider.EXAMPLE_TASK_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", MockProvider.EXAMPLE_TASK_ID)
@@ -529,7 +534,7 @@ public class TaskVariableRestResourceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).create();
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(EXAMPLE_TASK_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -550,7 +555,7 @@ public class TaskVariableRestResourceInteractionTest extends
     String encoding = "UTF-8";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(EXAMPLE_TASK_ID, variableKey, variableValue);
 
     Response response = given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -571,7 +576,7 @@ public class TaskVariableRestResourceInteractionTest extends
     String filename = "test.txt";
     FileValue variableValue = Variables.fileValue(filename).file(byteContent).create();
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(EXAMPLE_TASK_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -590,7 +595,7 @@ public class TaskVariableRestResourceInteractionTest extends
     String variableKey = "aVariableKey";
     BooleanValue variableValue = Variables.booleanValue(true);
 
-    when(taskServiceMock.getVariableTyped(eq(EXAMPLE_TASK_ID), eq(variableKey), anyBoolean())).thenReturn(variableValue);
+    mockVariableContent(EXAMPLE_TASK_ID, variableKey, variableValue);
 
     given()
       .pathParam("id", EXAMPLE_TASK_ID)
@@ -1238,4 +1243,30 @@ public class TaskVariableRestResourceInteractionTest extends
       .delete(SINGLE_TASK_DELETE_SINGLE_VARIABLE_URL);
   }
 
+  protected void mockVariableContent(String taskId, String variableKey, TypedValue variableValue) {
+    VariableInstance variableInstance = null;
+    InputStream content = null;
+
+    // the variable instance holds no binary value, its content is streamed separately
+    if (variableValue instanceof FileValue) {
+      FileValue fileValue = (FileValue) variableValue;
+      FileValue fileMetadata = Variables.fileValue(fileValue.getFilename())
+        .mimeType(fileValue.getMimeType())
+        .encoding(fileValue.getEncoding())
+        .create();
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(fileMetadata).build();
+      content = fileValue.getValue();
+    }
+    else if (variableValue instanceof BytesValue) {
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(Variables.byteArrayValue(null)).build();
+      content = new ByteArrayInputStream(((BytesValue) variableValue).getValue());
+    }
+    else if (variableValue != null) {
+      variableInstance = MockProvider.mockVariableInstance().name(variableKey).typedValue(variableValue).build();
+    }
+
+    when(taskServiceMock.getVariableInstance(taskId, variableKey)).thenReturn(variableInstance);
+    when(taskServiceMock.getVariableContent(taskId, variableKey)).thenReturn(content);
+  }
+
 }
@@ -22,12 +22,15 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+
 import javax.ws.rs.core.Response.Status;
 
 import org.camunda.bpm.engine.RuntimeService;
@@ -232,10 +235,12 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
 
     VariableInstance variableInstanceMock =
         MockProvider.mockVariableInstance()
-          .typedValue(Variables.byteArrayValue(byteContent))
+          .typedValue(Variables.byteArrayValue(null))
           .build();
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
+    when(runtimeServiceMock.getVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID)).thenReturn(new ByteArrayInputStream(byteContent));
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
@@ -247,7 +252,8 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
 
     byte[] responseBytes = response.getBody().asByteArray();
     Assert.assertEquals(new String(byteContent), new String(responseBytes));
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
+    verify(runtimeServiceMock).getVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID);
     verify(variableInstanceQueryMock).disableCustomObjectDeserialization();
 
   }
@@ -257,6 +263,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     VariableInstance variableInstanceMock = MockProvider.createMockVariableInstance();
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
@@ -266,7 +273,8 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
       .body(containsString("Value of variable with id aVariableInstanceId is not a binary value"))
     .when().get(VARIABLE_INSTANCE_BINARY_DATA_URL);
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
+    verify(runtimeServiceMock, never()).getVariableInstanceContent(anyString());
     verify(variableInstanceQueryMock).disableCustomObjectDeserialization();
 
   }
@@ -277,6 +285,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     String nonExistingId = "nonExistingId";
 
     when(variableInstanceQueryMock.variableId(nonExistingId)).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(null);
 
@@ -285,7 +294,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     .body(containsString("Variable instance with Id 'nonExistingId' does not exist."))
     .when().get(VARIABLE_INSTANCE_BINARY_DATA_URL);
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
     verify(variableInstanceQueryMock).disableCustomObjectDeserialization();
   }
 
@@ -294,7 +303,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     String filename = "test.txt";
     byte[] byteContent = "test".getBytes();
     String encoding = "UTF-8";
-    FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
+    FileValue variableValue = Variables.fileValue(filename).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
 
     MockVariableInstanceBuilder builder = MockProvider.mockVariableInstance();
     VariableInstance variableInstanceMock =
@@ -304,6 +313,7 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
+    when(runtimeServiceMock.getVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID)).thenReturn(new ByteArrayInputStream(byteContent));
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
@@ -317,6 +327,9 @@ public class VariableInstanceRestServiceInteractionTest extends AbstractRestServ
     //due to some problems with wildfly we gotta check this separately
     String contentType = response.getContentType();
     assertThat(contentType, is(either(CoreMatchers.<Object>equalTo(ContentType.TEXT.toString() + "; charset=UTF-8")).or(CoreMatchers.<Object>equalTo(ContentType.TEXT.toString() + ";charset=UTF-8"))));
+
+    verify(variableInstanceQueryMock).disableBinaryFetching();
+    verify(runtimeServiceMock).getVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID);
   }
 
   @Test
@@ -51,11 +51,13 @@ import static io.restassured.path.json.JsonPath.from;
 import static org.fest.assertions.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -330,6 +332,43 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     verify(mockedQuery).listPage(firstResult, maxResults);
   }
 
+  @Test
+  public void testSuccessfulKeysetPagination() {
+    String afterId = "aProcessInstanceId";
+    int maxResults = 10;
+
+    given()
+      .queryParam("afterId", afterId)
+      .queryParam("maxResults", maxResults)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_RESOURCE_URL);
+
+    verify(mockedQuery).listAfter(afterId, maxResults);
+    verify(mockedQuery, never()).listPage(anyInt(), anyInt());
+  }
+
+  @Test
+  public void testSuccessfulKeysetPaginationPost() {
+    String afterId = "aProcessInstanceId";
+    int maxResults = 10;
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(EMPTY_JSON_OBJECT)
+      .queryParam("afterId", afterId)
+      .queryParam("maxResults", maxResults)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+      .when()
+        .post(HISTORIC_PROCESS_INSTANCE_RESOURCE_URL);
+
+    verify(mockedQuery).listAfter(afterId, maxResults);
+  }
+
   @Test
   public void testMissingFirstResultParameter() {
     int maxResults = 10;
@@ -22,12 +22,15 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+
 import javax.ws.rs.core.Response.Status;
 
 import org.camunda.bpm.engine.HistoryService;
@@ -254,10 +257,12 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
   public void testBinaryDataForBinaryVariable() {
     final byte[] byteContent = "some bytes".getBytes();
     HistoricVariableInstance variableInstanceMock = MockProvider.mockHistoricVariableInstance()
-        .typedValue(Variables.byteArrayValue(byteContent))
+        .typedValue(Variables.byteArrayValue(null))
         .build();
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
+    when(historyServiceMock.getHistoricVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID)).thenReturn(new ByteArrayInputStream(byteContent));
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
@@ -269,7 +274,8 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
 
     byte[] responseBytes = response.getBody().asByteArray();
     Assert.assertEquals(new String(byteContent), new String(responseBytes));
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
+    verify(historyServiceMock).getHistoricVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID);
 
   }
 
@@ -278,10 +284,12 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
     String filename = "test.txt";
     byte[] byteContent = "test".getBytes();
     String encoding = "UTF-8";
-    FileValue variableValue = Variables.fileValue(filename).file(byteContent).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
+    FileValue variableValue = Variables.fileValue(filename).mimeType(ContentType.TEXT.toString()).encoding(encoding).create();
     HistoricVariableInstance variableInstanceMock = MockProvider.mockHistoricVariableInstance().typedValue(variableValue).build();
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
+    when(historyServiceMock.getHistoricVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID)).thenReturn(new ByteArrayInputStream(byteContent));
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
@@ -296,7 +304,8 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
     String contentType = response.getContentType();
     assertThat(contentType, is(either(CoreMatchers.<Object>equalTo(ContentType.TEXT.toString() + "; charset=UTF-8")).or(CoreMatchers.<Object>equalTo(ContentType.TEXT.toString() + ";charset=UTF-8"))));
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
+    verify(historyServiceMock).getHistoricVariableInstanceContent(MockProvider.EXAMPLE_VARIABLE_INSTANCE_ID);
   }
 
   @Test
@@ -304,6 +313,7 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
     HistoricVariableInstance variableInstanceMock = MockProvider.createMockHistoricVariableInstance();
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
@@ -313,7 +323,8 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
       .body(containsString("Value of variable with id "+variableInstanceMock.getId()+" is not a binary value"))
     .when().get(VARIABLE_INSTANCE_BINARY_DATA_URL);
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
+    verify(historyServiceMock, never()).getHistoricVariableInstanceContent(anyString());
 
   }
 
@@ -323,6 +334,7 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
     String nonExistingId = "nonExistingId";
 
     when(variableInstanceQueryMock.variableId(nonExistingId)).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(null);
 
@@ -331,7 +343,7 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
     .body(containsString("Historic variable instance with Id 'nonExistingId' does not exist."))
     .when().get(VARIABLE_INSTANCE_BINARY_DATA_URL);
 
-    verify(variableInstanceQueryMock, never()).disableBinaryFetching();
+    verify(variableInstanceQueryMock).disableBinaryFetching();
 
   }
 
@@ -346,6 +358,7 @@ public class HistoricVariableInstanceRestServiceInteractionTest extends Abstract
         .build();
 
     when(variableInstanceQueryMock.variableId(variableInstanceMock.getId())).thenReturn(variableInstanceQueryMock);
+    when(variableInstanceQueryMock.disableBinaryFetching()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.disableCustomObjectDeserialization()).thenReturn(variableInstanceQueryMock);
     when(variableInstanceQueryMock.singleResult()).thenReturn(variableInstanceMock);
 
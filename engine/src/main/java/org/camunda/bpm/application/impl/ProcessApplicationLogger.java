@@ -218,4 +218,13 @@ public class ProcessApplicationLogger extends ProcessEngineLogger {
             ((CaseDefinitionEntity)execution.getCaseDefinition()).getDeploymentId(),
             processApplicationManager.getRegistrationSummary());
   }
+
+  public void couldNotReleaseProcessApplicationClassLoader(String processApplicationName, Throwable t) {
+    logWarn(
+        "025",
+        "Unregistering process application '{}' but could not release the types cached for its class loader: {}",
+        processApplicationName,
+        t.getMessage(),
+        t);
+  }
 }
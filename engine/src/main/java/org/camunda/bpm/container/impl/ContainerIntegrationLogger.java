@@ -366,4 +366,21 @@ public class ContainerIntegrationLogger extends ProcessEngineLogger {
         "Process application {} undeployed", name);
   }
 
+  public void debugUsingResourceIndex(String indexPath) {
+    logDebug(
+        "052", "Reading resources listed in index {}", indexPath);
+  }
+
+  public ProcessEngineException resourceIndexEntryNotFound(String indexPath, String resourcePath) {
+    return new ProcessEngineException(exceptionMessage(
+        "053",
+        "Resource '{}' listed in index '{}' does not exist.", resourcePath, indexPath));
+  }
+
+  public ProcessEngineException exceptionWhileWritingResourceIndex(String indexPath, IOException e) {
+    return new ProcessEngineException(exceptionMessage(
+        "054",
+        "IOException while writing resource index '{}'.", indexPath), e);
+  }
+
 }
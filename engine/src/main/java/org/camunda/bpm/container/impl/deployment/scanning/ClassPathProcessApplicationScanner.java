@@ -24,6 +24,7 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -152,7 +153,14 @@ public class ClassPathProcessApplicationScanner implements ProcessApplicationSca
     if (file.isDirectory()) {
       String path = file.getPath();
       String rootPath = path.endsWith(File.separator) ? path : path+File.separator;
-      handleDirectory(file, rootPath,  paResourceRootPath, paResourceRootPath, isPaLocal, additionalResourceSuffixes, resourceMap);
+      File indexFile = new File(file, ProcessApplicationResourceIndex.LOCATION);
+      if (isPaLocal && indexFile.isFile()) {
+        // only PA-local roots are archive roots which may contain an index
+        handleDirectoryIndex(file, indexFile, paResourceRootPath, resourceMap);
+      }
+      else {
+        handleDirectory(file, rootPath,  paResourceRootPath, paResourceRootPath, isPaLocal, additionalResourceSuffixes, resourceMap);
+      }
     }
     else {
       handleArchive(file, paResourceRootPath, additionalResourceSuffixes, resourceMap);
@@ -162,6 +170,13 @@ public class ClassPathProcessApplicationScanner implements ProcessApplicationSca
   protected void handleArchive(File file, String paResourceRootPath, String[] additionalResourceSuffixes, Map<String, byte[]> resourceMap) {
     try {
       ZipFile zipFile = new ZipFile(file);
+      ZipEntry indexEntry = zipFile.getEntry(ProcessApplicationResourceIndex.LOCATION);
+      if (indexEntry != null) {
+        handleArchiveIndex(zipFile, indexEntry, file, paResourceRootPath, resourceMap);
+        zipFile.close();
+        return;
+      }
+
       Enumeration< ? extends ZipEntry> entries = zipFile.entries();
       while (entries.hasMoreElements()) {
         ZipEntry zipEntry = entries.nextElement();
@@ -195,6 +210,55 @@ public class ClassPathProcessApplicationScanner implements ProcessApplicationSca
     }
   }
 
+  protected void handleArchiveIndex(ZipFile zipFile, ZipEntry indexEntry, File file, String paResourceRootPath, Map<String, byte[]> resourceMap) throws IOException {
+    String indexPath = file.getName() + "!" + indexEntry.getName();
+    LOG.debugUsingResourceIndex(indexPath);
+
+    for (String resourcePath : ProcessApplicationResourceIndex.read(zipFile.getInputStream(indexEntry), indexPath)) {
+      if (isBelowPath(resourcePath, paResourceRootPath)) {
+        ZipEntry zipEntry = zipFile.getEntry(resourcePath);
+        if (zipEntry == null) {
+          throw LOG.resourceIndexEntryNotFound(indexPath, resourcePath);
+        }
+        String resourceName = resourcePath;
+        if (paResourceRootPath != null && paResourceRootPath.length() > 0) {
+          // "directory/sub_directory/process.bpmn" -> "sub_directory/process.bpmn"
+          resourceName = resourcePath.substring(paResourceRootPath.length());
+        }
+        addResource(zipFile.getInputStream(zipEntry), resourceMap, file.getName()+"!", resourceName);
+      }
+    }
+  }
+
+  protected void handleDirectoryIndex(File rootDirectory, File indexFile, String paResourceRootPath, Map<String, byte[]> resourceMap) {
+    String indexPath = indexFile.getAbsolutePath();
+    LOG.debugUsingResourceIndex(indexPath);
+
+    InputStream indexInputStream = null;
+    List<String> resourcePaths;
+    try {
+      indexInputStream = new FileInputStream(indexFile);
+      resourcePaths = ProcessApplicationResourceIndex.read(indexInputStream, indexPath);
+    }
+    catch (IOException e) {
+      throw LOG.cannotOpenFileInputStream(indexPath, e);
+    }
+    finally {
+      IoUtil.closeSilently(indexInputStream);
+    }
+
+    for (String resourcePath : resourcePaths) {
+      if (isBelowPath(resourcePath, paResourceRootPath)) {
+        File resourceFile = new File(rootDirectory, resourcePath);
+        if (!resourceFile.isFile()) {
+          throw LOG.resourceIndexEntryNotFound(indexPath, resourcePath);
+        }
+        // like directory scanning, resources keep their path relative to the root
+        addResource(resourceFile, resourceMap, paResourceRootPath, resourcePath);
+      }
+    }
+  }
+
   protected void handleDirectory(File directory, String rootPath, String localPath, String paResourceRootPath, boolean isPaLocal, String[] additionalResourceSuffixes, Map<String, byte[]> resourceMap) {
     File[] paths = directory.listFiles();
 
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.container.impl.deployment.scanning;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.camunda.bpm.container.impl.ContainerIntegrationLogger;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+
+/**
+ * <p>Index of the deployable resources of a process archive, stored at {@link #LOCATION}.
+ * If an archive contains an index, the {@link ClassPathProcessApplicationScanner} reads the
+ * listed resources directly instead of walking the whole archive.</p>
+ *
+ * <p>The index lists one resource path per line, relative to the archive root and separated
+ * by '/'. Empty lines and lines starting with '#' are ignored. It is usually generated at build
+ * time by running {@link #main(String[])} on the directory the archive is assembled from.</p>
+ */
+public class ProcessApplicationResourceIndex {
+
+  private final static ContainerIntegrationLogger LOG = ProcessEngineLogger.CONTAINER_INTEGRATION_LOGGER;
+
+  public static final String LOCATION = "META-INF/processes.index";
+
+  protected static final Charset UTF_8 = Charset.forName("UTF-8");
+  protected static final String COMMENT_PREFIX = "#";
+
+  public static List<String> read(InputStream inputStream, String indexPath) {
+    byte[] bytes = IoUtil.readInputStream(inputStream, indexPath);
+
+    List<String> resourcePaths = new ArrayList<String>();
+    for (String line : new String(bytes, UTF_8).split("\r?\n")) {
+      String resourcePath = line.trim();
+      if (resourcePath.length() > 0 && !resourcePath.startsWith(COMMENT_PREFIX)) {
+        resourcePaths.add(resourcePath);
+      }
+    }
+    return resourcePaths;
+  }
+
+  /**
+   * Collects the deployable resources and their diagrams below the given root directory,
+   * in the same way the {@link ClassPathProcessApplicationScanner} discovers them.
+   */
+  public static List<String> collect(File rootDirectory, String[] additionalResourceSuffixes) {
+    List<String> resourcePaths = new ArrayList<String>();
+    collect(rootDirectory, "", additionalResourceSuffixes, resourcePaths);
+    Collections.sort(resourcePaths);
+    return resourcePaths;
+  }
+
+  protected static void collect(File directory, String pathPrefix, String[] additionalResourceSuffixes, List<String> resourcePaths) {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+
+    for (File file : files) {
+      if (file.isDirectory()) {
+        collect(file, pathPrefix + file.getName() + "/", additionalResourceSuffixes, resourcePaths);
+      }
+      else if (ProcessApplicationScanningUtil.isDeployable(file.getName(), additionalResourceSuffixes)) {
+        resourcePaths.add(pathPrefix + file.getName());
+        for (File diagram : files) {
+          if (!diagram.isDirectory() && ProcessApplicationScanningUtil.isDiagram(diagram.getName(), file.getName())) {
+            resourcePaths.add(pathPrefix + diagram.getName());
+          }
+        }
+      }
+    }
+  }
+
+  public static void write(File rootDirectory, String[] additionalResourceSuffixes) {
+    StringBuilder content = new StringBuilder();
+    for (String resourcePath : collect(rootDirectory, additionalResourceSuffixes)) {
+      content.append(resourcePath).append("\n");
+    }
+
+    File indexFile = new File(rootDirectory, LOCATION);
+    indexFile.getParentFile().mkdirs();
+
+    OutputStream outputStream = null;
+    try {
+      outputStream = new FileOutputStream(indexFile);
+      outputStream.write(content.toString().getBytes(UTF_8));
+    }
+    catch (IOException e) {
+      throw LOG.exceptionWhileWritingResourceIndex(indexFile.getAbsolutePath(), e);
+    }
+    finally {
+      IoUtil.closeSilently(outputStream);
+    }
+  }
+
+  /**
+   * Writes the index for the directory given as first argument, e.g. <code>target/classes</code>.
+   * Further arguments are treated as additional resource suffixes.
+   */
+  public static void main(String[] args) {
+    if (args.length == 0) {
+      throw new IllegalArgumentException("Usage: ProcessApplicationResourceIndex <root directory> [additional resource suffixes...]");
+    }
+
+    String[] additionalResourceSuffixes = new String[args.length - 1];
+    System.arraycopy(args, 1, additionalResourceSuffixes, 0, additionalResourceSuffixes.length);
+
+    write(new File(args[0]), additionalResourceSuffixes);
+  }
+
+}
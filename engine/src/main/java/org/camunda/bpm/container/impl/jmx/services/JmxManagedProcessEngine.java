@@ -15,6 +15,8 @@
  */
 package org.camunda.bpm.container.impl.jmx.services;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.camunda.bpm.container.impl.jmx.MBeanServiceContainer;
@@ -22,6 +24,9 @@ import org.camunda.bpm.container.impl.spi.PlatformService;
 import org.camunda.bpm.container.impl.spi.PlatformServiceContainer;
 import org.camunda.bpm.engine.ManagementService;
 import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.CacheStatistics;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 
 /**
  * <p>Represents a process engine managed by the {@link MBeanServiceContainer}</p>
@@ -81,4 +86,15 @@ public class JmxManagedProcessEngine implements PlatformService<ProcessEngine>,
     managementService.reportDbMetricsNow();
   }
 
+  public Map<String, String> getDeploymentCacheStatistics() {
+    Map<String, String> result = new HashMap<String, String>();
+    if (processEngine instanceof ProcessEngineImpl) {
+      DeploymentCache deploymentCache = ((ProcessEngineImpl) processEngine).getProcessEngineConfiguration().getDeploymentCache();
+      for (Map.Entry<String, CacheStatistics> statistics : deploymentCache.getCacheStatistics().entrySet()) {
+        result.put(statistics.getKey(), statistics.getValue().toString());
+      }
+    }
+    return result;
+  }
+
 }
@@ -15,6 +15,7 @@
  */
 package org.camunda.bpm.container.impl.jmx.services;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.camunda.bpm.engine.ProcessEngine;
@@ -45,4 +46,10 @@ public interface JmxManagedProcessEngineMBean {
   public void unregisterDeployment(String deploymentId);
 
   public void reportDbMetrics();
+
+  /**
+   * @return the hit, miss and eviction statistics of the deployment caches which
+   *   record them, keyed by cache name
+   */
+  public Map<String, String> getDeploymentCacheStatistics();
 }
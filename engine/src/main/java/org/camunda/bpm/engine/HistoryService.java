@@ -21,6 +21,7 @@ import org.camunda.bpm.engine.authorization.Resources;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.batch.history.HistoricBatchQuery;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricActivityInstanceExportBuilder;
 import org.camunda.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricActivityStatisticsQuery;
 import org.camunda.bpm.engine.history.HistoricCaseActivityInstance;
@@ -65,6 +66,7 @@ import org.camunda.bpm.engine.history.HistoricDecisionInstanceStatisticsQuery;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.Job;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -503,4 +505,45 @@ public interface HistoryService {
    * @since 7.7
    */
   String getHistoricExternalTaskLogErrorDetails(String historicExternalTaskLogId);
+
+  /**
+   * Creates a builder to export all historic activity instances in a compact
+   * binary format to a {@link java.nio.channels.WritableByteChannel}.
+   *
+   * @since 7.11
+   */
+  HistoricActivityInstanceExportBuilder createHistoricActivityInstanceExport();
+
+  /**
+   * Sets the removal time asynchronously on the history of all root process instances
+   * which were written without a removal time, e.g. before a removal time strategy was
+   * configured. The removal time is calculated by the configured
+   * {@link org.camunda.bpm.engine.impl.history.HistoryRemovalTimeProvider}.
+   *
+   * <p>The batch selects the root process instances window by window and slows down when
+   * the execution of a window exceeds the configured target latency. Root process instances
+   * without a history time to live are skipped.</p>
+   *
+   * @throws BadUserRequestException
+   *          when the history removal time strategy is <code>none</code>.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#CREATE} permission on {@link Resources#BATCH}.
+   *
+   * @since 7.11
+   */
+  Batch backfillRemovalTimeAsync();
+
+  /**
+   * Returns the content of a historic variable instance of type <code>bytes</code> or
+   * <code>file</code> as a stream, without loading the variable value into memory. Large
+   * contents are buffered in a temporary file which is deleted when the stream is closed,
+   * so the caller must close it.
+   *
+   * @param historicVariableInstanceId the id of the historic variable instance, cannot be null.
+   * @return the content or null if the historic variable instance does not exist, is not
+   *         visible to the current user, is not of a binary type or has no content.
+   *
+   * @since 7.11
+   */
+  InputStream getHistoricVariableInstanceContent(String historicVariableInstanceId);
 }
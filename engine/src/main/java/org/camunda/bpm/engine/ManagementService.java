@@ -1110,6 +1110,36 @@ public interface ManagementService {
    */
   ActivityStatisticsQuery createActivityStatisticsQuery(String processDefinitionId);
 
+  /**
+   * Recomputes the activity statistics summary of a process definition from the runtime
+   * data. Repairs counters which have drifted, e.g. because the runtime tables were changed
+   * by other means than the engine. Does nothing if the activity statistics summary is
+   * disabled or does not cover the process definition.
+   *
+   * Counter changes of transactions which run concurrently may be lost, so the summary
+   * should be reconciled while the process definition is not in use.
+   *
+   * @param processDefinitionId the id of the process definition
+   *
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  void reconcileActivityStatisticsSummary(String processDefinitionId);
+
+  /**
+   * Copies the variables which were written before their name was declared queryable
+   * to the variable lookup table. Until this has been done once for the configured
+   * queryable variable names, variable queries do not use the lookup table.
+   *
+   * The completed backfill is recorded in a property, so executing it again is a no-op
+   * until the queryable variable names change. Each page of variables is copied in a
+   * separate transaction.
+   *
+   * @throws AuthorizationException
+   *          If the user is not a member of the group {@link Groups#CAMUNDA_ADMIN}.
+   */
+  void backfillVariableLookup();
+
   /**
    * Get the deployments that are registered the engine's job executor.
    * This set is only relevant, if the engine configuration property <code>jobExecutorDeploymentAware</code> is set.
@@ -15,6 +15,7 @@
  */
 package org.camunda.bpm.engine;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -48,7 +49,9 @@ import org.camunda.bpm.engine.runtime.RestartProcessInstanceBuilder;
 import org.camunda.bpm.engine.runtime.SignalEventReceivedBuilder;
 import org.camunda.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateBuilder;
 import org.camunda.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateSelectBuilder;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.runtime.VariableInstanceQuery;
+import org.camunda.bpm.engine.runtime.VariablesBatchBuilder;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.value.SerializableValue;
 import org.camunda.bpm.engine.variable.value.TypedValue;
@@ -2040,4 +2043,106 @@ public interface RuntimeService {
    */
   ConditionEvaluationBuilder createConditionEvaluation();
 
+  /**
+   * Define variable updates on many executions and tasks using a fluent builder.
+   * All updates are applied in a single transaction.
+   *
+   * @return the fluent builder for defining the variable updates.
+   *
+   * @since 7.11
+   */
+  VariablesBatchBuilder createVariablesBatch();
+
+  /**
+   * Returns the content of a variable instance of type <code>bytes</code> or <code>file</code>
+   * as a stream, without loading the variable value into memory. Large contents are buffered
+   * in a temporary file which is deleted when the stream is closed, so the caller must close it.
+   *
+   * @param variableInstanceId the id of the variable instance, cannot be null.
+   * @return the content or null if the variable instance does not exist, is not visible
+   *         to the current user, is not of a binary type or has no content.
+   *
+   * @since 7.11
+   */
+  InputStream getVariableInstanceContent(String variableInstanceId);
+
+  /**
+   * Returns the variable instance with the given name. Searching for the variable is done in all
+   * scopes that are visible to the given execution (including parent scopes). The value of a variable
+   * of type <code>bytes</code> or <code>file</code> is not loaded, see {@link #getVariableContent(String, String)}.
+   *
+   * @param executionId id of process instance or execution, cannot be null.
+   * @param variableName name of variable, cannot be null.
+   * @return the variable instance or null if the variable is undefined.
+   *
+   * @throws ProcessEngineException
+   *          when no execution is found for the given executionId.
+   * @throws AuthorizationException
+   *          if the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}.
+   *
+   * @since 7.11
+   */
+  VariableInstance getVariableInstance(String executionId, String variableName);
+
+  /**
+   * Returns the variable instance with the given name. Searching for the variable is done in all
+   * scopes that are visible to the given execution (and not searching parent scopes). The value of
+   * a variable of type <code>bytes</code> or <code>file</code> is not loaded, see
+   * {@link #getVariableLocalContent(String, String)}.
+   *
+   * @param executionId id of process instance or execution, cannot be null.
+   * @param variableName name of variable, cannot be null.
+   * @return the variable instance or null if the variable is undefined.
+   *
+   * @throws ProcessEngineException
+   *          when no execution is found for the given executionId.
+   * @throws AuthorizationException
+   *          if the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}.
+   *
+   * @since 7.11
+   */
+  VariableInstance getVariableInstanceLocal(String executionId, String variableName);
+
+  /**
+   * Returns the content of a variable of type <code>bytes</code> or <code>file</code> as a stream,
+   * without loading the variable value into memory. Searching for the variable is done in all
+   * scopes that are visible to the given execution (including parent scopes). The caller must
+   * close the stream, see {@link #getVariableInstanceContent(String)}.
+   *
+   * @param executionId id of process instance or execution, cannot be null.
+   * @param variableName name of variable, cannot be null.
+   * @return the content or null if the variable is undefined, is not of a binary type or has no content.
+   *
+   * @throws ProcessEngineException
+   *          when no execution is found for the given executionId.
+   * @throws AuthorizationException
+   *          if the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}.
+   *
+   * @since 7.11
+   */
+  InputStream getVariableContent(String executionId, String variableName);
+
+  /**
+   * Returns the content of a variable of type <code>bytes</code> or <code>file</code> as a stream,
+   * without loading the variable value into memory. Searching for the variable is done in all
+   * scopes that are visible to the given execution (and not searching parent scopes). The caller
+   * must close the stream, see {@link #getVariableInstanceContent(String)}.
+   *
+   * @param executionId id of process instance or execution, cannot be null.
+   * @param variableName name of variable, cannot be null.
+   * @return the content or null if the variable is undefined, is not of a binary type or has no content.
+   *
+   * @throws ProcessEngineException
+   *          when no execution is found for the given executionId.
+   * @throws AuthorizationException
+   *          if the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}.
+   *
+   * @since 7.11
+   */
+  InputStream getVariableLocalContent(String executionId, String variableName);
+
 }
@@ -24,6 +24,7 @@ import org.camunda.bpm.engine.authorization.Permissions;
 import org.camunda.bpm.engine.authorization.Resources;
 import org.camunda.bpm.engine.history.UserOperationLogEntry;
 import org.camunda.bpm.engine.history.UserOperationLogQuery;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.task.Attachment;
 import org.camunda.bpm.engine.task.Comment;
 import org.camunda.bpm.engine.task.DelegationState;
@@ -653,6 +654,94 @@ public interface TaskService {
    */
   <T extends TypedValue> T getVariableLocalTyped(String taskId, String variableName, boolean deserializeValue);
 
+  /**
+   * Get the variable instance with the given name and search in the task scope and if available also
+   * the execution scopes. The value of a variable of type <code>bytes</code> or <code>file</code> is
+   * not loaded, see {@link #getVariableContent(String, String)}.
+   *
+   * @param taskId the id of the task
+   * @param variableName the name of the variable to fetch
+   *
+   * @return the variable instance or 'null' in case no such variable exists.
+   *
+   * @throws ProcessEngineException
+   *          when the task doesn't exist.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ} permission on {@link Resources#TASK}
+   *          or no {@link Permissions#READ_TASK} permission on {@link Resources#PROCESS_DEFINITION}
+   *          (if the task is part of a running process instance).
+   *
+   * @since 7.11
+   */
+  VariableInstance getVariableInstance(String taskId, String variableName);
+
+  /**
+   * Get the variable instance with the given name and only search in the task scope. The value of a
+   * variable of type <code>bytes</code> or <code>file</code> is not loaded, see
+   * {@link #getVariableLocalContent(String, String)}.
+   *
+   * @param taskId the id of the task
+   * @param variableName the name of the variable to fetch
+   *
+   * @return the variable instance or 'null' in case no such variable exists.
+   *
+   * @throws ProcessEngineException
+   *          when the task doesn't exist.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ} permission on {@link Resources#TASK}
+   *          or no {@link Permissions#READ_TASK} permission on {@link Resources#PROCESS_DEFINITION}
+   *          (if the task is part of a running process instance).
+   *
+   * @since 7.11
+   */
+  VariableInstance getVariableInstanceLocal(String taskId, String variableName);
+
+  /**
+   * Get the content of a variable of type <code>bytes</code> or <code>file</code> as a stream,
+   * without loading the variable value into memory, and search in the task scope and if available
+   * also the execution scopes. Large contents are buffered in a temporary file which is deleted
+   * when the stream is closed, so the caller must close it.
+   *
+   * @param taskId the id of the task
+   * @param variableName the name of the variable to fetch
+   *
+   * @return the content or 'null' in case no such variable exists, it is not of a binary type
+   *          or it has no content.
+   *
+   * @throws ProcessEngineException
+   *          when the task doesn't exist.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ} permission on {@link Resources#TASK}
+   *          or no {@link Permissions#READ_TASK} permission on {@link Resources#PROCESS_DEFINITION}
+   *          (if the task is part of a running process instance).
+   *
+   * @since 7.11
+   */
+  InputStream getVariableContent(String taskId, String variableName);
+
+  /**
+   * Get the content of a variable of type <code>bytes</code> or <code>file</code> as a stream,
+   * without loading the variable value into memory, and only search in the task scope. Large
+   * contents are buffered in a temporary file which is deleted when the stream is closed, so the
+   * caller must close it.
+   *
+   * @param taskId the id of the task
+   * @param variableName the name of the variable to fetch
+   *
+   * @return the content or 'null' in case no such variable exists, it is not of a binary type
+   *          or it has no content.
+   *
+   * @throws ProcessEngineException
+   *          when the task doesn't exist.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ} permission on {@link Resources#TASK}
+   *          or no {@link Permissions#READ_TASK} permission on {@link Resources#PROCESS_DEFINITION}
+   *          (if the task is part of a running process instance).
+   *
+   * @since 7.11
+   */
+  InputStream getVariableLocalContent(String taskId, String variableName);
+
   /**
    * Get all variables and search in the task scope and if available also the execution scopes.
    * If you have many variables and you only need a few, consider using {@link #getVariables(String, Collection)}
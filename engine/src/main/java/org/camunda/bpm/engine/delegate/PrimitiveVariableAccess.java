@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.delegate;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+
+/**
+ * Optional interface of a {@link VariableScope} which reads and writes numeric
+ * variables as primitive values. The variable scopes of the engine, such as
+ * the executions and tasks passed to delegates and listeners, implement it.
+ *
+ * @since 7.11
+ */
+public interface PrimitiveVariableAccess {
+
+  /**
+   * Returns the value of the given variable as a primitive <code>long</code>.
+   * Values stored as long, integer or short are read without creating a
+   * typed value; other numeric values are converted.
+   *
+   * @throws ProcessEngineException if the variable does not exist or its value is not a number
+   */
+  long getLongVariable(String variableName);
+
+  /**
+   * Sets the given variable to a long value. The variable is set in the
+   * same scope as with {@link VariableScope#setVariable(String, Object)}.
+   */
+  void setLongVariable(String variableName, long value);
+
+  /**
+   * Returns the value of the given variable as a primitive <code>double</code>.
+   * Values stored as double are read without creating a typed value; other
+   * numeric values are converted.
+   *
+   * @throws ProcessEngineException if the variable does not exist or its value is not a number
+   */
+  double getDoubleVariable(String variableName);
+
+  /**
+   * Sets the given variable to a double value. The variable is set in the
+   * same scope as with {@link VariableScope#setVariable(String, Object)}.
+   */
+  void setDoubleVariable(String variableName, double value);
+
+}
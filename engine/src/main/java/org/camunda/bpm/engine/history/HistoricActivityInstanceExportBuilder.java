@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.history;
+
+import java.nio.channels.WritableByteChannel;
+
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resources;
+
+/**
+ * Fluent builder to export all {@link HistoricActivityInstance historic activity instances}
+ * in a compact binary format.
+ *
+ * <p>The instances are read in chunks of {@link #batchSize(int)} rows, each chunk in a
+ * separate command, using keyset pagination on the removal time and the id. Instances
+ * without removal time are exported first. The rows are written to the channel as they are
+ * read, so the memory consumption is bounded by the batch and buffer size and does not
+ * depend on the number of exported instances.</p>
+ *
+ * @since 7.11
+ */
+public interface HistoricActivityInstanceExportBuilder {
+
+  /**
+   * Sets the number of rows which are fetched by a single command. Default is 1000.
+   */
+  HistoricActivityInstanceExportBuilder batchSize(int batchSize);
+
+  /**
+   * Sets the size in bytes of the buffer used to write to the channel. Default is 64 KB.
+   */
+  HistoricActivityInstanceExportBuilder bufferSize(int bufferSize);
+
+  /**
+   * Writes all historic activity instances to the given channel. The channel is not closed.
+   *
+   * @return the number of exported historic activity instances
+   *
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ_HISTORY} permission on any {@link Resources#PROCESS_DEFINITION}.
+   */
+  long writeTo(WritableByteChannel channel);
+
+}
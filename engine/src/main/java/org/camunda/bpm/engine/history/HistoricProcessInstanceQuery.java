@@ -20,6 +20,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
 
@@ -330,4 +331,22 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
 
   /** Only select historic process instances that are internallyTerminated. */
   HistoricProcessInstanceQuery internallyTerminated();
+
+  /**
+   * Executes the query and returns the historic process instances which follow the historic process instance with the given id
+   * according to the ordering of the query (keyset pagination). In contrast to
+   * {@link #listPage(int, int)}, the cost of fetching a page does not grow with the page depth.
+   *
+   * <p>The results are additionally ordered by id to make the order unique. The query may only
+   * be ordered by process instance id, process definition id, process definition key and start time, as these are set for every historic process instance.</p>
+   *
+   * @param afterId the id of the last historic process instance of the previous page or <code>null</code>
+   *   to fetch the first page. The historic process instance with this id must still exist.
+   * @param maxResults the maximum number of results to return
+   *
+   * @throws NotValidException if the query is ordered by another property
+   *
+   * @since 7.11
+   */
+  List<HistoricProcessInstance> listAfter(String afterId, int maxResults);
 }
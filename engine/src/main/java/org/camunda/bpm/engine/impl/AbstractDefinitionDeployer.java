@@ -30,6 +30,8 @@ import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.core.model.Properties;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsedResource;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsingDeployer;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
@@ -41,7 +43,7 @@ import org.camunda.bpm.engine.impl.repository.ResourceDefinitionEntity;
  *
  * Note: Implementations must be thread-safe. In particular they should not keep deployment-specific state.
  */
-public abstract class AbstractDefinitionDeployer<DefinitionEntity extends ResourceDefinitionEntity> implements Deployer {
+public abstract class AbstractDefinitionDeployer<DefinitionEntity extends ResourceDefinitionEntity> implements PreParsingDeployer {
 
   public static final String[] DIAGRAM_SUFFIXES = new String[] { "png", "jpg", "gif", "svg" };
 
@@ -65,6 +67,16 @@ public abstract class AbstractDefinitionDeployer<DefinitionEntity extends Resour
     postProcessDefinitions(deployment, definitions, properties);
   }
 
+  public PreParsedResource preParse(DeploymentEntity deployment, ResourceEntity resource) {
+    if (!isResourceHandled(resource)) {
+      return null;
+    }
+
+    Properties properties = new Properties();
+    List<DefinitionEntity> definitions = transformDefinitions(deployment, resource, properties);
+    return new PreParsedResource(this, resource, definitions, properties);
+  }
+
   protected List<DefinitionEntity> parseDefinitionResources(DeploymentEntity deployment, Properties properties) {
     List<DefinitionEntity> definitions = new ArrayList<DefinitionEntity>();
     for (ResourceEntity resource : deployment.getResources().values()) {
@@ -95,7 +107,10 @@ public abstract class AbstractDefinitionDeployer<DefinitionEntity extends Resour
 
   protected Collection<DefinitionEntity> transformResource(DeploymentEntity deployment, ResourceEntity resource, Properties properties) {
     String resourceName = resource.getName();
-    List<DefinitionEntity> definitions = transformDefinitions(deployment, resource, properties);
+    List<DefinitionEntity> definitions = getPreParsedDefinitions(deployment, resource, properties);
+    if (definitions == null) {
+      definitions = transformDefinitions(deployment, resource, properties);
+    }
 
     for (DefinitionEntity definition : definitions) {
       definition.setResourceName(resourceName);
@@ -110,6 +125,24 @@ public abstract class AbstractDefinitionDeployer<DefinitionEntity extends Resour
   }
 
 
+  @SuppressWarnings("unchecked")
+  protected List<DefinitionEntity> getPreParsedDefinitions(DeploymentEntity deployment, ResourceEntity resource, Properties properties) {
+    PreParsedResource preParsedResource = deployment.getPreParsedResource(this, resource);
+    if (preParsedResource != null) {
+      mergePreParsedProperties(properties, preParsedResource.getProperties());
+      return (List<DefinitionEntity>) preParsedResource.getDefinitions();
+    }
+    return null;
+  }
+
+  /**
+   * Adds the properties collected while transforming a single resource in advance
+   * (see {@link #preParse(DeploymentEntity, ResourceEntity)}) to the properties of the deployment.
+   */
+  protected void mergePreParsedProperties(Properties properties, Properties resourceProperties) {
+    // no properties are collected by default
+  }
+
   /**
    * Transform the resource entity into definition entities.
    *
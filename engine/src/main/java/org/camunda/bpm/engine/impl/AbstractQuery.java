@@ -22,6 +22,7 @@ import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -53,6 +54,8 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public static final String SORTORDER_ASC = "asc";
   public static final String SORTORDER_DESC = "desc";
 
+  protected static final QueryProperty KEYSET_ID = new QueryPropertyImpl("ID_");
+
   protected enum ResultType {
     LIST, LIST_PAGE, LIST_IDS, SINGLE_RESULT, COUNT
   }
@@ -64,6 +67,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
 
   protected Set<Validator<AbstractQuery<?, ?>>> validators = new HashSet<Validator<AbstractQuery<?, ?>>>();
 
+  protected String afterId;
+  protected List<QueryOrderingProperty> keysetOrderingProperties;
+
   protected AbstractQuery() {
   }
 
@@ -153,6 +159,50 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return evaluateExpressionsAndExecuteList(Context.getCommandContext(), new Page(firstResult, maxResults));
   }
 
+  /**
+   * Executes the query and returns the results which follow the result with the given id
+   * (keyset pagination). Queries which support keyset pagination restrict their results by
+   * {@link #getAfterId()} in their mapping and expose this method with the properties their
+   * results may be ordered by. These properties must not be <code>null</code> for any result,
+   * as rows with a <code>null</code> value cannot be compared with the row of the given id.
+   *
+   * <p>The ordering properties of the query are not modified, the additional ordering by id
+   * is only applied while the page is fetched.</p>
+   */
+  protected List<U> listAfter(String afterId, int maxResults, Collection<QueryProperty> keysetProperties) {
+    List<QueryOrderingProperty> keysetOrderingProperties = new ArrayList<QueryOrderingProperty>();
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      if (!orderingProperty.isContainedProperty() || !keysetProperties.contains(orderingProperty.getQueryProperty())) {
+        throw new NotValidException("Invalid query: keyset pagination is only supported when ordering by one of "
+            + keysetProperties + ": " + orderingProperty);
+      }
+      keysetOrderingProperties.add(orderingProperty);
+    }
+
+    // ordering by id makes the order of the results unique,
+    // which is required to continue right after the given result
+    keysetOrderingProperties.add(new QueryOrderingProperty(KEYSET_ID, Direction.ASCENDING));
+
+    this.keysetOrderingProperties = keysetOrderingProperties;
+    this.afterId = afterId;
+
+    try {
+      return listPage(0, maxResults);
+    }
+    finally {
+      this.afterId = null;
+      this.keysetOrderingProperties = null;
+    }
+  }
+
+  @Override
+  public List<QueryOrderingProperty> getOrderingProperties() {
+    if (keysetOrderingProperties != null) {
+      return keysetOrderingProperties;
+    }
+    return super.getOrderingProperties();
+  }
+
   public long count() {
     this.resultType = ResultType.COUNT;
     if (commandExecutor!=null) {
@@ -216,6 +266,10 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return null;
   }
 
+  public String getAfterId() {
+    return afterId;
+  }
+
   public Map<String, String> getExpressions() {
     return expressions;
   }
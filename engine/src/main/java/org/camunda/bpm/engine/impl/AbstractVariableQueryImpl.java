@@ -19,8 +19,10 @@ import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
@@ -124,11 +126,14 @@ public abstract class AbstractVariableQueryImpl<T extends Query<?,?>, U> extends
 
   protected void ensureVariablesInitialized() {
     if (!queryVariableValues.isEmpty()) {
-      VariableSerializers variableSerializers = Context
-              .getProcessEngineConfiguration()
-              .getVariableSerializers();
+      ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+      VariableSerializers variableSerializers = processEngineConfiguration.getVariableSerializers();
+      // the lookup table is incomplete until it has been backfilled
+      Set<String> queryableVariableNames = processEngineConfiguration.isVariableLookupBackfilled()
+          ? processEngineConfiguration.getQueryableVariableNames() : null;
       for(QueryVariableValue queryVariableValue : queryVariableValues) {
         queryVariableValue.initialize(variableSerializers);
+        queryVariableValue.initializeVariableLookup(queryableVariableNames);
       }
     }
   }
@@ -16,6 +16,8 @@
 package org.camunda.bpm.engine.impl;
 
 import org.camunda.bpm.engine.ProcessEngineBootstrapCommand;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.BackfillVariableLookupCmd;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
@@ -35,6 +37,7 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
     checkDeploymentLockExists(commandContext);
     checkHistoryCleanupLockExists(commandContext);
     createHistoryCleanupJob();
+    checkVariableLookupBackfilled(commandContext);
 
     return null;
   }
@@ -52,6 +55,18 @@ public class BootstrapEngineCommand implements ProcessEngineBootstrapCommand {
     }
   }
 
+  public void checkVariableLookupBackfilled(CommandContext commandContext) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    if (processEngineConfiguration.isVariableLookupEnabled()) {
+      String marker = BackfillVariableLookupCmd.getBackfillMarker(processEngineConfiguration.getQueryableVariableNames());
+      boolean backfilled = BackfillVariableLookupCmd.isBackfilled(commandContext, marker);
+      processEngineConfiguration.setVariableLookupBackfilled(backfilled);
+      if (!backfilled) {
+        LOG.variableLookupNotBackfilled();
+      }
+    }
+  }
+
   public void checkHistoryCleanupLockExists(CommandContext commandContext) {
     PropertyEntity historyCleanupLockProperty = commandContext.getPropertyManager().findPropertyById("history.cleanup.job.lock");
     if (historyCleanupLockProperty == null) {
@@ -28,6 +28,7 @@ import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
+import org.camunda.bpm.engine.query.QueryProperty;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsEmptyString;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotContainsNull;
@@ -42,6 +43,13 @@ import static org.camunda.bpm.engine.impl.util.EnsureUtil.*;
 public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<HistoricProcessInstanceQuery, HistoricProcessInstance> implements HistoricProcessInstanceQuery {
 
   private static final long serialVersionUID = 1L;
+
+  /** properties which are set for every historic process instance and can therefore be used for keyset pagination */
+  protected static final List<QueryProperty> KEYSET_PROPERTIES = Arrays.asList(
+      HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_,
+      HistoricProcessInstanceQueryProperty.PROCESS_DEFINITION_ID,
+      HistoricProcessInstanceQueryProperty.PROCESS_DEFINITION_KEY,
+      HistoricProcessInstanceQueryProperty.START_TIME);
   protected String processInstanceId;
   protected String processDefinitionId;
   protected String processDefinitionName;
@@ -315,6 +323,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     return orderBy(HistoricProcessInstanceQueryProperty.TENANT_ID);
   }
 
+  public List<HistoricProcessInstance> listAfter(String afterId, int maxResults) {
+    return listAfter(afterId, maxResults, KEYSET_PROPERTIES);
+  }
+
   public long executeCount(CommandContext commandContext) {
     checkQueryOk();
     ensureVariablesInitialized();
@@ -23,11 +23,13 @@ import org.camunda.bpm.engine.history.HistoricVariableInstance;
 import org.camunda.bpm.engine.history.HistoricVariableInstanceQuery;
 import org.camunda.bpm.engine.impl.cmd.CommandLogger;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.camunda.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.camunda.bpm.engine.query.VariableInstanceProjectionHandler;
 
 /**
  * @author Christian Lipphardt (camunda)
@@ -222,6 +224,29 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     return historicVariableInstances;
   }
 
+  public void project(final VariableInstanceProjectionHandler handler) {
+    ensureNotNull("handler", handler);
+    if (commandExecutor != null) {
+      commandExecutor.execute(new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          executeProjection(commandContext, handler);
+          return null;
+        }
+      });
+    }
+    else {
+      executeProjection(Context.getCommandContext(), handler);
+    }
+  }
+
+  public void executeProjection(CommandContext commandContext, VariableInstanceProjectionHandler handler) {
+    checkQueryOk();
+    ensureVariablesInitialized();
+    commandContext
+      .getHistoricVariableInstanceManager()
+      .projectHistoricVariableInstancesByQueryCriteria(this, new VariableInstanceProjectionResultHandler(handler));
+  }
+
   protected boolean shouldFetchValue(HistoricVariableInstanceEntity entity) {
     // do not fetch values for byte arrays eagerly (unless requested by the user)
     return isByteArrayFetchingEnabled
@@ -18,6 +18,7 @@ package org.camunda.bpm.engine.impl;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.batch.history.HistoricBatchQuery;
+import org.camunda.bpm.engine.history.HistoricActivityInstanceExportBuilder;
 import org.camunda.bpm.engine.history.HistoricActivityInstanceQuery;
 import org.camunda.bpm.engine.history.HistoricActivityStatisticsQuery;
 import org.camunda.bpm.engine.history.HistoricCaseActivityInstanceQuery;
@@ -57,13 +58,17 @@ import org.camunda.bpm.engine.impl.cmd.DeleteHistoricTaskInstanceCmd;
 import org.camunda.bpm.engine.impl.cmd.DeleteUserOperationLogEntryCmd;
 import org.camunda.bpm.engine.impl.cmd.GetHistoricExternalTaskLogErrorDetailsCmd;
 import org.camunda.bpm.engine.impl.cmd.GetHistoricJobLogExceptionStacktraceCmd;
+import org.camunda.bpm.engine.impl.cmd.GetHistoricVariableInstanceContentCmd;
 import org.camunda.bpm.engine.impl.cmd.batch.DeleteHistoricProcessInstancesBatchCmd;
+import org.camunda.bpm.engine.impl.cmd.batch.HistoryRemovalTimeBackfillBatchCmd;
 import org.camunda.bpm.engine.impl.dmn.cmd.DeleteHistoricDecisionInstanceByInstanceIdCmd;
 import org.camunda.bpm.engine.impl.dmn.cmd.DeleteHistoricDecisionInstancesBatchCmd;
 import org.camunda.bpm.engine.impl.dmn.cmd.DeleteHistoricDecisionInstanceByDefinitionIdCmd;
 import org.camunda.bpm.engine.impl.dmn.cmd.DeleteHistoricDecisionInstancesBulkCmd;
+import org.camunda.bpm.engine.impl.history.export.HistoricActivityInstanceExportBuilderImpl;
 import org.camunda.bpm.engine.runtime.Job;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -300,4 +305,17 @@ public class HistoryServiceImpl extends ServiceImpl implements HistoryService {
   public String getHistoricExternalTaskLogErrorDetails(String historicExternalTaskLogId) {
     return commandExecutor.execute(new GetHistoricExternalTaskLogErrorDetailsCmd(historicExternalTaskLogId));
   }
+
+  public HistoricActivityInstanceExportBuilder createHistoricActivityInstanceExport() {
+    return new HistoricActivityInstanceExportBuilderImpl(commandExecutor);
+  }
+
+  public Batch backfillRemovalTimeAsync() {
+    return commandExecutor.execute(new HistoryRemovalTimeBackfillBatchCmd());
+  }
+
+  public InputStream getHistoricVariableInstanceContent(String historicVariableInstanceId) {
+    return commandExecutor.execute(new GetHistoricVariableInstanceContentCmd(historicVariableInstanceId));
+  }
+
 }
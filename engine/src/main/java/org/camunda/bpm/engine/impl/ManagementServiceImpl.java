@@ -198,6 +198,14 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
     return new ActivityStatisticsQueryImpl(processDefinitionId, commandExecutor);
   }
 
+  public void reconcileActivityStatisticsSummary(String processDefinitionId) {
+    commandExecutor.execute(new ReconcileActivityStatisticsSummaryCmd(processDefinitionId));
+  }
+
+  public void backfillVariableLookup() {
+    commandExecutor.execute(new BackfillVariableLookupCmd());
+  }
+
   public DeploymentStatisticsQuery createDeploymentStatisticsQuery() {
     return new DeploymentStatisticsQueryImpl(commandExecutor);
   }
@@ -17,9 +17,12 @@ package org.camunda.bpm.engine.impl;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Set;
 
+import org.camunda.bpm.engine.impl.persistence.entity.VariableLookupEntity;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
 import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
 
@@ -34,6 +37,7 @@ public class QueryVariableValue implements Serializable {
   protected TypedValue value;
   protected QueryOperator operator;
   protected boolean local;
+  protected boolean variableLookup;
 
   protected AbstractQueryVariableValueCondition valueCondition;
 
@@ -54,6 +58,55 @@ public class QueryVariableValue implements Serializable {
     valueCondition.initializeValue(serializers);
   }
 
+  /**
+   * Determines whether the condition can be answered from the variable lookup table.
+   * Must be invoked after {@link #initialize(VariableSerializers)}.
+   */
+  public void initializeVariableLookup(Set<String> queryableVariableNames) {
+    variableLookup = queryableVariableNames != null
+        && queryableVariableNames.contains(name)
+        && isLookupOperator()
+        && isLookupValue();
+  }
+
+  protected boolean isLookupOperator() {
+    switch (getOperator()) {
+      case EQUALS:
+      case GREATER_THAN:
+      case GREATER_THAN_OR_EQUAL:
+      case LESS_THAN:
+      case LESS_THAN_OR_EQUAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  protected boolean isLookupValue() {
+    for (SingleQueryVariableValueCondition condition : getValueConditions()) {
+      String type = condition.getType();
+      if (!VariableLookupEntity.LOOKUP_TYPES.contains(type) || condition.getTextValue2() != null) {
+        return false;
+      }
+
+      if (ValueType.STRING.getName().equals(type)) {
+        // long strings are not copied to the lookup table, so only equality
+        // with a string that fits the lookup table can be answered from it
+        String textValue = condition.getTextValue();
+        if (textValue == null
+            || getOperator() != QueryOperator.EQUALS
+            || textValue.length() > VariableLookupEntity.TEXT_MAX_LENGTH) {
+          return false;
+        }
+
+      } else if (condition.getLongValue() == null && condition.getDoubleValue() == null) {
+        // null values may be stored with any type
+        return false;
+      }
+    }
+    return true;
+  }
+
   public List<SingleQueryVariableValueCondition> getValueConditions() {
     return valueCondition.getDisjunctiveConditions();
   }
@@ -84,4 +137,8 @@ public class QueryVariableValue implements Serializable {
   public boolean isLocal() {
     return local;
   }
+
+  public boolean isVariableLookup() {
+    return variableLookup;
+  }
 }
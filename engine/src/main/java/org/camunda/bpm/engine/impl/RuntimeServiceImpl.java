@@ -17,6 +17,7 @@ package org.camunda.bpm.engine.impl;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -34,9 +35,12 @@ import org.camunda.bpm.engine.impl.cmd.DeleteProcessInstancesCmd;
 import org.camunda.bpm.engine.impl.cmd.FindActiveActivityIdsCmd;
 import org.camunda.bpm.engine.impl.cmd.GetActivityInstanceCmd;
 import org.camunda.bpm.engine.impl.cmd.GetExecutionVariableCmd;
+import org.camunda.bpm.engine.impl.cmd.GetExecutionVariableContentCmd;
+import org.camunda.bpm.engine.impl.cmd.GetExecutionVariableInstanceCmd;
 import org.camunda.bpm.engine.impl.cmd.GetExecutionVariableTypedCmd;
 import org.camunda.bpm.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.camunda.bpm.engine.impl.cmd.GetStartFormCmd;
+import org.camunda.bpm.engine.impl.cmd.GetVariableInstanceContentCmd;
 import org.camunda.bpm.engine.impl.cmd.MessageEventReceivedCmd;
 import org.camunda.bpm.engine.impl.cmd.PatchExecutionVariablesCmd;
 import org.camunda.bpm.engine.impl.cmd.RemoveExecutionVariablesCmd;
@@ -68,7 +72,9 @@ import org.camunda.bpm.engine.runtime.ProcessInstantiationBuilder;
 import org.camunda.bpm.engine.runtime.RestartProcessInstanceBuilder;
 import org.camunda.bpm.engine.runtime.SignalEventReceivedBuilder;
 import org.camunda.bpm.engine.runtime.UpdateProcessInstanceSuspensionStateSelectBuilder;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.runtime.VariableInstanceQuery;
+import org.camunda.bpm.engine.runtime.VariablesBatchBuilder;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
@@ -701,4 +707,28 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
   public ConditionEvaluationBuilder createConditionEvaluation() {
     return new ConditionEvaluationBuilderImpl(commandExecutor);
   }
+
+  public VariablesBatchBuilder createVariablesBatch() {
+    return new VariablesBatchBuilderImpl(commandExecutor);
+  }
+
+  public InputStream getVariableInstanceContent(String variableInstanceId) {
+    return commandExecutor.execute(new GetVariableInstanceContentCmd(variableInstanceId));
+  }
+
+  public VariableInstance getVariableInstance(String executionId, String variableName) {
+    return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, false));
+  }
+
+  public VariableInstance getVariableInstanceLocal(String executionId, String variableName) {
+    return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, true));
+  }
+
+  public InputStream getVariableContent(String executionId, String variableName) {
+    return commandExecutor.execute(new GetExecutionVariableContentCmd(executionId, variableName, false));
+  }
+
+  public InputStream getVariableLocalContent(String executionId, String variableName) {
+    return commandExecutor.execute(new GetExecutionVariableContentCmd(executionId, variableName, true));
+  }
 }
\ No newline at end of file
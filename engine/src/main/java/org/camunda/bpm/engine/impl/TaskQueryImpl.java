@@ -28,6 +28,7 @@ import java.util.Set;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.identity.Group;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
@@ -35,6 +36,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.camunda.bpm.engine.query.QueryProperty;
 import org.camunda.bpm.engine.task.DelegationState;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
@@ -48,6 +50,10 @@ import org.camunda.bpm.engine.variable.type.ValueType;
 public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements TaskQuery {
 
   private static final long serialVersionUID = 1L;
+
+  /** properties which are set for every task and can therefore be used for keyset pagination */
+  protected static final List<QueryProperty> KEYSET_PROPERTIES = Arrays.asList(
+      TaskQueryProperty.TASK_ID, TaskQueryProperty.PRIORITY, TaskQueryProperty.CREATE_TIME);
   protected String taskId;
   protected String name;
   protected String nameNotEqual;
@@ -1017,15 +1023,21 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
   }
 
   protected void ensureVariablesInitialized() {
-    VariableSerializers types = Context.getProcessEngineConfiguration().getVariableSerializers();
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    VariableSerializers types = processEngineConfiguration.getVariableSerializers();
+    // the lookup table is incomplete until it has been backfilled
+    Set<String> queryableVariableNames = processEngineConfiguration.isVariableLookupBackfilled()
+        ? processEngineConfiguration.getQueryableVariableNames() : null;
     for(QueryVariableValue var : variables) {
       var.initialize(types);
+      var.initializeVariableLookup(queryableVariableNames);
     }
 
     if (!queries.isEmpty()) {
       for (TaskQueryImpl orQuery: queries) {
         for (QueryVariableValue var : orQuery.variables) {
           var.initialize(types);
+          var.initializeVariableLookup(queryableVariableNames);
         }
       }
     }
@@ -1261,6 +1273,10 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
 
   //results ////////////////////////////////////////////////////////////////
 
+  public List<Task> listAfter(String afterId, int maxResults) {
+    return listAfter(afterId, maxResults, KEYSET_PROPERTIES);
+  }
+
   @Override
   public List<Task> executeList(CommandContext commandContext, Page page) {
     ensureOrExpressionsEvaluated();
@@ -55,6 +55,8 @@ import org.camunda.bpm.engine.impl.cmd.GetTaskCommentsCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTaskEventsCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTaskVariableCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTaskVariableCmdTyped;
+import org.camunda.bpm.engine.impl.cmd.GetTaskVariableContentCmd;
+import org.camunda.bpm.engine.impl.cmd.GetTaskVariableInstanceCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTaskVariablesCmd;
 import org.camunda.bpm.engine.impl.cmd.PatchTaskVariablesCmd;
 import org.camunda.bpm.engine.impl.cmd.RemoveTaskVariablesCmd;
@@ -65,6 +67,7 @@ import org.camunda.bpm.engine.impl.cmd.SetTaskOwnerCmd;
 import org.camunda.bpm.engine.impl.cmd.SetTaskPriorityCmd;
 import org.camunda.bpm.engine.impl.cmd.SetTaskVariablesCmd;
 import org.camunda.bpm.engine.impl.util.ExceptionUtil;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.task.Attachment;
 import org.camunda.bpm.engine.task.Comment;
 import org.camunda.bpm.engine.task.Event;
@@ -264,6 +267,22 @@ public class TaskServiceImpl extends ServiceImpl implements TaskService {
     return getVariableTyped(taskId, variableName, true, deserializeValue);
   }
 
+  public VariableInstance getVariableInstance(String taskId, String variableName) {
+    return commandExecutor.execute(new GetTaskVariableInstanceCmd(taskId, variableName, false));
+  }
+
+  public VariableInstance getVariableInstanceLocal(String taskId, String variableName) {
+    return commandExecutor.execute(new GetTaskVariableInstanceCmd(taskId, variableName, true));
+  }
+
+  public InputStream getVariableContent(String taskId, String variableName) {
+    return commandExecutor.execute(new GetTaskVariableContentCmd(taskId, variableName, false));
+  }
+
+  public InputStream getVariableLocalContent(String taskId, String variableName) {
+    return commandExecutor.execute(new GetTaskVariableContentCmd(taskId, variableName, true));
+  }
+
   @SuppressWarnings("unchecked")
   protected <T extends TypedValue> T getVariableTyped(String taskId, String variableName, boolean isLocal, boolean deserializeValue) {
     return (T) commandExecutor.execute(new GetTaskVariableCmdTyped(taskId, variableName, isLocal, deserializeValue));
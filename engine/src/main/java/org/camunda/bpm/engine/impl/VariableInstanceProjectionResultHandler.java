@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.camunda.bpm.engine.query.VariableInstanceProjection;
+import org.camunda.bpm.engine.query.VariableInstanceProjectionHandler;
+
+/**
+ * Hands the rows mapped to {@link VariableInstanceProjection projections} to the
+ * user's {@link VariableInstanceProjectionHandler} while the result set is read.
+ */
+public class VariableInstanceProjectionResultHandler implements ResultHandler<VariableInstanceProjection> {
+
+  protected VariableInstanceProjectionHandler projectionHandler;
+
+  public VariableInstanceProjectionResultHandler(VariableInstanceProjectionHandler projectionHandler) {
+    this.projectionHandler = projectionHandler;
+  }
+
+  public void handleResult(ResultContext<? extends VariableInstanceProjection> resultContext) {
+    projectionHandler.handle(resultContext.getResultObject());
+  }
+
+}
@@ -21,11 +21,14 @@ import java.io.Serializable;
 import java.util.List;
 
 import org.camunda.bpm.engine.impl.cmd.CommandLogger;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
+import org.camunda.bpm.engine.query.VariableInstanceProjectionHandler;
 import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.bpm.engine.runtime.VariableInstanceQuery;
 
@@ -201,6 +204,29 @@ public class VariableInstanceQueryImpl extends AbstractVariableQueryImpl<Variabl
     return result;
   }
 
+  public void project(final VariableInstanceProjectionHandler handler) {
+    ensureNotNull("handler", handler);
+    if (commandExecutor != null) {
+      commandExecutor.execute(new Command<Void>() {
+        public Void execute(CommandContext commandContext) {
+          executeProjection(commandContext, handler);
+          return null;
+        }
+      });
+    }
+    else {
+      executeProjection(Context.getCommandContext(), handler);
+    }
+  }
+
+  public void executeProjection(CommandContext commandContext, VariableInstanceProjectionHandler handler) {
+    checkQueryOk();
+    ensureVariablesInitialized();
+    commandContext
+      .getVariableInstanceManager()
+      .projectVariableInstancesByQueryCriteria(this, new VariableInstanceProjectionResultHandler(handler));
+  }
+
   protected boolean shouldFetchValue(VariableInstanceEntity entity) {
     // do not fetch values for byte arrays eagerly (unless requested by the user)
     return isByteArrayFetchingEnabled
@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.cmd.SetExecutionVariablesCmd;
+import org.camunda.bpm.engine.impl.cmd.SetTaskVariablesCmd;
+import org.camunda.bpm.engine.impl.cmd.SetVariablesBatchCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.runtime.VariablesBatchBuilder;
+
+public class VariablesBatchBuilderImpl implements VariablesBatchBuilder {
+
+  protected CommandExecutor commandExecutor;
+
+  protected List<SetExecutionVariablesCmd> executionVariablesCmds = new ArrayList<SetExecutionVariablesCmd>();
+  protected List<SetTaskVariablesCmd> taskVariablesCmds = new ArrayList<SetTaskVariablesCmd>();
+
+  public VariablesBatchBuilderImpl(CommandExecutor commandExecutor) {
+    ensureNotNull("commandExecutor", commandExecutor);
+    this.commandExecutor = commandExecutor;
+  }
+
+  public VariablesBatchBuilder executionVariables(String executionId, Map<String, ?> variables) {
+    return addExecutionVariables(executionId, variables, false);
+  }
+
+  public VariablesBatchBuilder executionVariablesLocal(String executionId, Map<String, ?> variables) {
+    return addExecutionVariables(executionId, variables, true);
+  }
+
+  public VariablesBatchBuilder taskVariables(String taskId, Map<String, ?> variables) {
+    return addTaskVariables(taskId, variables, false);
+  }
+
+  public VariablesBatchBuilder taskVariablesLocal(String taskId, Map<String, ?> variables) {
+    return addTaskVariables(taskId, variables, true);
+  }
+
+  protected VariablesBatchBuilder addExecutionVariables(String executionId, Map<String, ?> variables, boolean isLocal) {
+    ensureNotNull("executionId", executionId);
+    ensureNotNull("variables", variables);
+    executionVariablesCmds.add(new SetExecutionVariablesCmd(executionId, variables, isLocal));
+    return this;
+  }
+
+  protected VariablesBatchBuilder addTaskVariables(String taskId, Map<String, ?> variables, boolean isLocal) {
+    ensureNotNull("taskId", taskId);
+    ensureNotNull("variables", variables);
+    taskVariablesCmds.add(new SetTaskVariablesCmd(taskId, variables, isLocal));
+    return this;
+  }
+
+  public void execute() {
+    commandExecutor.execute(new SetVariablesBatchCmd(executionVariablesCmds, taskVariablesCmds));
+  }
+
+  public List<SetExecutionVariablesCmd> getExecutionVariablesCmds() {
+    return executionVariablesCmds;
+  }
+
+  public List<SetTaskVariablesCmd> getTaskVariablesCmds() {
+    return taskVariablesCmds;
+  }
+
+}
@@ -17,12 +17,14 @@ package org.camunda.bpm.engine.impl.application;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import org.camunda.bpm.application.ProcessApplicationReference;
 import org.camunda.bpm.application.ProcessApplicationRegistration;
+import org.camunda.bpm.application.ProcessApplicationUnavailableException;
 import org.camunda.bpm.application.impl.ProcessApplicationLogger;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -35,6 +37,9 @@ import org.camunda.bpm.engine.impl.persistence.deploy.DeploymentFailListener;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionManager;
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractObjectValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.DeserializedValueCache;
+import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
 import org.camunda.bpm.engine.repository.CaseDefinition;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 
@@ -71,8 +76,10 @@ public class ProcessApplicationManager {
   }
 
   public synchronized void unregisterProcessApplicationForDeployments(Set<String> deploymentIds, boolean removeProcessesFromCache) {
+    Set<ProcessApplicationReference> references = getProcessApplicationReferences(deploymentIds);
     removeJobExecutorRegistrations(deploymentIds);
     removeProcessApplicationRegistration(deploymentIds, removeProcessesFromCache);
+    releaseProcessApplicationClassLoaders(references);
   }
 
   public boolean hasRegistrations() {
@@ -110,6 +117,56 @@ public class ProcessApplicationManager {
     }
   }
 
+  protected Set<ProcessApplicationReference> getProcessApplicationReferences(Set<String> deploymentIds) {
+    Set<ProcessApplicationReference> references = new HashSet<ProcessApplicationReference>();
+    for (String deploymentId : deploymentIds) {
+      DefaultProcessApplicationRegistration registration = registrationsByDeploymentId.get(deploymentId);
+      if (registration != null) {
+        references.add(registration.getReference());
+      }
+    }
+    return references;
+  }
+
+  /**
+   * Lets the serializers and the deserialized value cache discard the types they cached for
+   * process applications which have no registered deployments anymore, so that their class
+   * loaders can be collected.
+   */
+  protected void releaseProcessApplicationClassLoaders(Set<ProcessApplicationReference> references) {
+    Set<String> registeredNames = new HashSet<String>();
+    for (DefaultProcessApplicationRegistration registration : registrationsByDeploymentId.values()) {
+      registeredNames.add(registration.getReference().getName());
+    }
+
+    for (ProcessApplicationReference reference : references) {
+      if (registeredNames.contains(reference.getName())) {
+        continue;
+      }
+
+      try {
+        releaseClassLoader(reference.getProcessApplication().getProcessApplicationClassloader());
+      }
+      catch (ProcessApplicationUnavailableException e) {
+        LOG.couldNotReleaseProcessApplicationClassLoader(reference.getName(), e);
+      }
+    }
+  }
+
+  protected void releaseClassLoader(ClassLoader classLoader) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    DeserializedValueCache deserializedValueCache = processEngineConfiguration.getDeserializedValueCache();
+    if (deserializedValueCache != null) {
+      deserializedValueCache.releaseClassLoader(classLoader);
+    }
+
+    for (TypedValueSerializer<?> serializer : processEngineConfiguration.getVariableSerializers().getSerializers()) {
+      if (serializer instanceof AbstractObjectValueSerializer) {
+        ((AbstractObjectValueSerializer) serializer).releaseClassLoader(classLoader);
+      }
+    }
+  }
+
   protected void createJobExecutorRegistrations(Set<String> deploymentIds) {
     try {
       final DeploymentFailListener deploymentFailListener = new DeploymentFailListener(deploymentIds,
@@ -284,7 +284,14 @@ public class BatchEntity implements Batch, DbEntity, HasDbReferences, Nameable,
   }
 
   public JobEntity createSeedJob() {
+    return createSeedJob(null);
+  }
+
+  public JobEntity createSeedJob(Date dueDate) {
     JobEntity seedJob = BATCH_SEED_JOB_DECLARATION.createJobInstance(this);
+    if (dueDate != null) {
+      seedJob.setDuedate(dueDate);
+    }
 
     Context.getCommandContext().getJobManager().insertAndHintJobExecutor(seedJob);
 
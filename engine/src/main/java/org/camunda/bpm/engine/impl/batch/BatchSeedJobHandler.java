@@ -17,6 +17,8 @@ package org.camunda.bpm.engine.impl.batch;
 
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
+import java.util.Date;
+
 import org.camunda.bpm.engine.impl.batch.BatchSeedJobHandler.BatchSeedJobConfiguration;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
@@ -54,7 +56,11 @@ public class BatchSeedJobHandler implements JobHandler<BatchSeedJobConfiguration
     boolean done = batchJobHandler.createJobs(batch);
 
     if (!done) {
-      batch.createSeedJob();
+      Date dueDate = null;
+      if (batchJobHandler instanceof ThrottledBatchJobHandler) {
+        dueDate = ((ThrottledBatchJobHandler) batchJobHandler).getNextSeedJobDueDate(batch);
+      }
+      batch.createSeedJob(dueDate);
     }
     else {
       // create monitor job initially without due date to
@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch;
+
+import java.util.Date;
+
+/**
+ * A {@link BatchJobHandler} which wants to delay the next invocation of the
+ * seed job, e.g. to throttle the creation of batch jobs.
+ */
+public interface ThrottledBatchJobHandler {
+
+  /**
+   * Invoked after {@link BatchJobHandler#createJobs(BatchEntity)} returned <code>false</code>.
+   *
+   * @param batch the batch for which the seed job is created
+   * @return the due date of the next seed job or <code>null</code> to execute it as soon as possible
+   */
+  Date getNextSeedJobDueDate(BatchEntity batch);
+
+}
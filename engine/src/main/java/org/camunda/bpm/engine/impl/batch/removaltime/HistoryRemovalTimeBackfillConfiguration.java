@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch.removaltime;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.batch.BatchConfiguration;
+
+/**
+ * Configuration of the removal time backfill batch. The batch configuration keeps the
+ * checkpoint (the id of the last root process instance which was scheduled) and the state
+ * of the throttling; the configuration of a single batch job only contains the ids of
+ * the root process instances it processes.
+ */
+public class HistoryRemovalTimeBackfillConfiguration extends BatchConfiguration {
+
+  protected String lastRootProcessInstanceId;
+
+  /** time at which the jobs of the current window were created, <code>0</code> if there is none */
+  protected long windowStartTime;
+  protected int windowSize;
+
+  protected long targetLatency;
+  protected long maxThrottleDelay;
+  protected long throttleDelay;
+
+  public HistoryRemovalTimeBackfillConfiguration(List<String> ids) {
+    super(ids);
+  }
+
+  public String getLastRootProcessInstanceId() {
+    return lastRootProcessInstanceId;
+  }
+
+  public void setLastRootProcessInstanceId(String lastRootProcessInstanceId) {
+    this.lastRootProcessInstanceId = lastRootProcessInstanceId;
+  }
+
+  public long getWindowStartTime() {
+    return windowStartTime;
+  }
+
+  public void setWindowStartTime(long windowStartTime) {
+    this.windowStartTime = windowStartTime;
+  }
+
+  public int getWindowSize() {
+    return windowSize;
+  }
+
+  public void setWindowSize(int windowSize) {
+    this.windowSize = windowSize;
+  }
+
+  public long getTargetLatency() {
+    return targetLatency;
+  }
+
+  public void setTargetLatency(long targetLatency) {
+    this.targetLatency = targetLatency;
+  }
+
+  public long getMaxThrottleDelay() {
+    return maxThrottleDelay;
+  }
+
+  public void setMaxThrottleDelay(long maxThrottleDelay) {
+    this.maxThrottleDelay = maxThrottleDelay;
+  }
+
+  public long getThrottleDelay() {
+    return throttleDelay;
+  }
+
+  public void setThrottleDelay(long throttleDelay) {
+    this.throttleDelay = throttleDelay;
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch.removaltime;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.json.JsonObjectConverter;
+import org.camunda.bpm.engine.impl.util.JsonUtil;
+
+import com.google.gson.JsonObject;
+
+public class HistoryRemovalTimeBackfillConfigurationJsonConverter extends JsonObjectConverter<HistoryRemovalTimeBackfillConfiguration> {
+
+  public static final HistoryRemovalTimeBackfillConfigurationJsonConverter INSTANCE = new HistoryRemovalTimeBackfillConfigurationJsonConverter();
+
+  public static final String ROOT_PROCESS_INSTANCE_IDS = "rootProcessInstanceIds";
+  public static final String LAST_ROOT_PROCESS_INSTANCE_ID = "lastRootProcessInstanceId";
+  public static final String WINDOW_START_TIME = "windowStartTime";
+  public static final String WINDOW_SIZE = "windowSize";
+  public static final String TARGET_LATENCY = "targetLatency";
+  public static final String MAX_THROTTLE_DELAY = "maxThrottleDelay";
+  public static final String THROTTLE_DELAY = "throttleDelay";
+
+  public JsonObject toJsonObject(HistoryRemovalTimeBackfillConfiguration configuration) {
+    JsonObject json = JsonUtil.createObject();
+
+    JsonUtil.addListField(json, ROOT_PROCESS_INSTANCE_IDS, configuration.getIds());
+    JsonUtil.addField(json, LAST_ROOT_PROCESS_INSTANCE_ID, configuration.getLastRootProcessInstanceId());
+    JsonUtil.addField(json, WINDOW_START_TIME, configuration.getWindowStartTime());
+    JsonUtil.addField(json, WINDOW_SIZE, configuration.getWindowSize());
+    JsonUtil.addField(json, TARGET_LATENCY, configuration.getTargetLatency());
+    JsonUtil.addField(json, MAX_THROTTLE_DELAY, configuration.getMaxThrottleDelay());
+    JsonUtil.addField(json, THROTTLE_DELAY, configuration.getThrottleDelay());
+    return json;
+  }
+
+  public HistoryRemovalTimeBackfillConfiguration toObject(JsonObject json) {
+    HistoryRemovalTimeBackfillConfiguration configuration = new HistoryRemovalTimeBackfillConfiguration(readRootProcessInstanceIds(json));
+
+    if (json.has(LAST_ROOT_PROCESS_INSTANCE_ID)) {
+      configuration.setLastRootProcessInstanceId(JsonUtil.getString(json, LAST_ROOT_PROCESS_INSTANCE_ID));
+    }
+    configuration.setWindowStartTime(JsonUtil.getLong(json, WINDOW_START_TIME));
+    configuration.setWindowSize(JsonUtil.getInt(json, WINDOW_SIZE));
+    configuration.setTargetLatency(JsonUtil.getLong(json, TARGET_LATENCY));
+    configuration.setMaxThrottleDelay(JsonUtil.getLong(json, MAX_THROTTLE_DELAY));
+    configuration.setThrottleDelay(JsonUtil.getLong(json, THROTTLE_DELAY));
+    return configuration;
+  }
+
+  protected List<String> readRootProcessInstanceIds(JsonObject jsonObject) {
+    return JsonUtil.asList(JsonUtil.getArray(jsonObject, ROOT_PROCESS_INSTANCE_IDS));
+  }
+
+}
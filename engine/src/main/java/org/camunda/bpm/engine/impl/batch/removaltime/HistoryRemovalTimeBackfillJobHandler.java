@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.batch.removaltime;
+
+import static org.camunda.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_END;
+
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.impl.JobQueryImpl;
+import org.camunda.bpm.engine.impl.batch.AbstractBatchJobHandler;
+import org.camunda.bpm.engine.impl.batch.BatchEntity;
+import org.camunda.bpm.engine.impl.batch.BatchJobConfiguration;
+import org.camunda.bpm.engine.impl.batch.BatchJobContext;
+import org.camunda.bpm.engine.impl.batch.BatchJobDeclaration;
+import org.camunda.bpm.engine.impl.batch.ThrottledBatchJobHandler;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.history.HistoryRemovalTimeProvider;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayManager;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Sets the removal time on the history of root process instances which were written
+ * before a removal time strategy was in place.
+ *
+ * <p>Other than the id based batches, the ids are not collected when the batch is created.
+ * Each invocation of the seed job selects the next window of root process instances
+ * after the last checkpoint, which is stored in the batch configuration. A restarted
+ * seed job therefore continues where the previous one stopped.</p>
+ *
+ * <p>A new window is only created when all jobs of the previous window are executed.
+ * The time the previous window took per root process instance is compared with the
+ * target latency: the delay before the next window is doubled when the target was
+ * exceeded and halved otherwise (bounded by the max throttle delay).</p>
+ */
+public class HistoryRemovalTimeBackfillJobHandler extends AbstractBatchJobHandler<HistoryRemovalTimeBackfillConfiguration>
+    implements ThrottledBatchJobHandler {
+
+  public static final BatchJobDeclaration JOB_DECLARATION = new BatchJobDeclaration(Batch.TYPE_HISTORY_REMOVAL_TIME_BACKFILL);
+
+  /** interval (in milliseconds) in which the seed job checks whether the current window is executed */
+  public static final long MIN_POLL_INTERVAL = 1000;
+
+  @Override
+  public String getType() {
+    return Batch.TYPE_HISTORY_REMOVAL_TIME_BACKFILL;
+  }
+
+  @Override
+  public JobDeclaration<BatchJobContext, MessageEntity> getJobDeclaration() {
+    return JOB_DECLARATION;
+  }
+
+  protected HistoryRemovalTimeBackfillConfigurationJsonConverter getJsonConverterInstance() {
+    return HistoryRemovalTimeBackfillConfigurationJsonConverter.INSTANCE;
+  }
+
+  @Override
+  public boolean createJobs(BatchEntity batch) {
+    CommandContext commandContext = Context.getCommandContext();
+    HistoryRemovalTimeBackfillConfiguration configuration = readConfiguration(batch.getConfigurationBytes());
+
+    if (isWindowInProgress(configuration)) {
+      if (hasPendingJobs(batch)) {
+        // wait until the current window is executed
+        return false;
+      }
+
+      adjustThrottleDelay(configuration);
+      configuration.setWindowStartTime(0);
+      configuration.setWindowSize(0);
+    }
+
+    int windowSize = batch.getBatchJobsPerSeed() * batch.getInvocationsPerBatchJob();
+    boolean endedOnly = HISTORY_REMOVAL_TIME_STRATEGY_END.equals(commandContext.getProcessEngineConfiguration()
+      .getHistoryRemovalTimeStrategy());
+
+    List<String> ids = commandContext.getHistoricProcessInstanceManager()
+      .findRootProcessInstanceIdsWithoutRemovalTime(configuration.getLastRootProcessInstanceId(), endedOnly, windowSize);
+
+    if (!ids.isEmpty()) {
+      int createdJobs = createJobs(batch, configuration, ids);
+
+      batch.setJobsCreated(batch.getJobsCreated() + createdJobs);
+      // the total number of jobs is not known in advance
+      batch.setTotalJobs(batch.getJobsCreated());
+
+      configuration.setLastRootProcessInstanceId(ids.get(ids.size() - 1));
+      configuration.setWindowStartTime(ClockUtil.getCurrentTime().getTime());
+      configuration.setWindowSize(ids.size());
+    }
+
+    batch.setConfigurationBytes(writeConfiguration(configuration));
+
+    return ids.size() < windowSize;
+  }
+
+  protected int createJobs(BatchEntity batch, HistoryRemovalTimeBackfillConfiguration configuration, List<String> ids) {
+    CommandContext commandContext = Context.getCommandContext();
+    ByteArrayManager byteArrayManager = commandContext.getByteArrayManager();
+    JobManager jobManager = commandContext.getJobManager();
+
+    int invocationsPerBatchJob = batch.getInvocationsPerBatchJob();
+
+    int createdJobs = 0;
+    for (int i = 0; i < ids.size(); i += invocationsPerBatchJob) {
+      List<String> idsForJob = ids.subList(i, Math.min(i + invocationsPerBatchJob, ids.size()));
+
+      HistoryRemovalTimeBackfillConfiguration jobConfiguration = createJobConfiguration(configuration, idsForJob);
+      ByteArrayEntity configurationEntity = saveConfiguration(byteArrayManager, jobConfiguration);
+
+      JobEntity job = createBatchJob(batch, configurationEntity);
+      jobManager.insertAndHintJobExecutor(job);
+
+      createdJobs++;
+    }
+
+    return createdJobs;
+  }
+
+  @Override
+  protected HistoryRemovalTimeBackfillConfiguration createJobConfiguration(HistoryRemovalTimeBackfillConfiguration configuration, List<String> processIdsForJob) {
+    return new HistoryRemovalTimeBackfillConfiguration(processIdsForJob);
+  }
+
+  public Date getNextSeedJobDueDate(BatchEntity batch) {
+    HistoryRemovalTimeBackfillConfiguration configuration = readConfiguration(batch.getConfigurationBytes());
+
+    if (!isWindowInProgress(configuration)) {
+      return null;
+    }
+
+    long delay = Math.max(configuration.getThrottleDelay(), MIN_POLL_INTERVAL);
+    return new Date(ClockUtil.getCurrentTime().getTime() + delay);
+  }
+
+  /**
+   * Doubles the delay when the last window exceeded the target latency per root
+   * process instance, halves it otherwise.
+   */
+  protected void adjustThrottleDelay(HistoryRemovalTimeBackfillConfiguration configuration) {
+    long duration = ClockUtil.getCurrentTime().getTime() - configuration.getWindowStartTime();
+    long latency = duration / Math.max(configuration.getWindowSize(), 1);
+
+    long throttleDelay = configuration.getThrottleDelay();
+    if (latency > configuration.getTargetLatency()) {
+      throttleDelay = Math.min(Math.max(throttleDelay * 2, MIN_POLL_INTERVAL), configuration.getMaxThrottleDelay());
+    }
+    else {
+      throttleDelay = throttleDelay / 2;
+      if (throttleDelay < MIN_POLL_INTERVAL) {
+        throttleDelay = 0;
+      }
+    }
+
+    configuration.setThrottleDelay(throttleDelay);
+  }
+
+  protected boolean isWindowInProgress(HistoryRemovalTimeBackfillConfiguration configuration) {
+    return configuration.getWindowStartTime() > 0;
+  }
+
+  protected boolean hasPendingJobs(BatchEntity batch) {
+    // failed jobs do not block the backfill, they are reported as incidents
+    JobQueryImpl jobQuery = new JobQueryImpl();
+    jobQuery.jobDefinitionId(batch.getBatchJobDefinitionId())
+      .withRetriesLeft();
+
+    return Context.getCommandContext()
+      .getJobManager()
+      .findJobCountByQueryCriteria(jobQuery) > 0;
+  }
+
+  @Override
+  public void execute(BatchJobConfiguration configuration, ExecutionEntity execution, CommandContext commandContext, String tenantId) {
+    ByteArrayEntity configurationEntity = commandContext
+        .getDbEntityManager()
+        .selectById(ByteArrayEntity.class, configuration.getConfigurationByteArrayId());
+
+    HistoryRemovalTimeBackfillConfiguration batchConfiguration = readConfiguration(configurationEntity.getBytes());
+
+    for (String rootProcessInstanceId : batchConfiguration.getIds()) {
+      addRemovalTime(rootProcessInstanceId, commandContext);
+    }
+
+    commandContext.getByteArrayManager().delete(configurationEntity);
+  }
+
+  protected void addRemovalTime(String rootProcessInstanceId, CommandContext commandContext) {
+    HistoricProcessInstanceEventEntity rootProcessInstance = commandContext.getHistoricProcessInstanceManager()
+      .findHistoricProcessInstanceEvent(rootProcessInstanceId);
+
+    if (rootProcessInstance == null || rootProcessInstance.getRemovalTime() != null) {
+      return;
+    }
+
+    ProcessDefinitionEntity processDefinition = commandContext.getProcessDefinitionManager()
+      .findLatestProcessDefinitionById(rootProcessInstance.getProcessDefinitionId());
+
+    if (processDefinition == null) {
+      return;
+    }
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    HistoryRemovalTimeProvider removalTimeProvider = processEngineConfiguration.getHistoryRemovalTimeProvider();
+
+    Date removalTime = removalTimeProvider.calculateRemovalTime(rootProcessInstance, processDefinition);
+    if (removalTime == null) {
+      return;
+    }
+
+    commandContext.getHistoricProcessInstanceManager()
+      .addRemovalTimeToProcessInstancesByRootProcessInstanceId(rootProcessInstanceId, removalTime);
+
+    if (processEngineConfiguration.isDmnEnabled()) {
+      commandContext.getHistoricDecisionInstanceManager()
+        .addRemovalTimeToDecisionsByRootProcessInstanceId(rootProcessInstanceId, removalTime);
+    }
+  }
+
+}
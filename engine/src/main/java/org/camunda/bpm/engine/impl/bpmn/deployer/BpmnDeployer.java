@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.delegate.Expression;
 import org.camunda.bpm.engine.impl.AbstractDefinitionDeployer;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
@@ -42,6 +43,7 @@ import org.camunda.bpm.engine.impl.jobexecutor.TimerDeclarationImpl;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionManager;
@@ -53,7 +55,10 @@ import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceManager;
 import org.camunda.bpm.engine.impl.pvm.runtime.LegacyBehavior;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.engine.impl.util.xml.ElementSnapshot;
 import org.camunda.bpm.engine.management.JobDefinition;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.task.IdentityLinkType;
@@ -76,6 +81,9 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
   protected static final PropertyMapKey<String, List<JobDeclaration<?, ?>>> JOB_DECLARATIONS_PROPERTY =
       new PropertyMapKey<String, List<JobDeclaration<?, ?>>>("JOB_DECLARATIONS_PROPERTY");
 
+  protected static final PropertyMapKey<String, byte[]> PARSE_SNAPSHOTS_PROPERTY =
+      new PropertyMapKey<String, byte[]>("PARSE_SNAPSHOTS_PROPERTY");
+
   protected ExpressionManager expressionManager;
   protected BpmnParser bpmnParser;
 
@@ -88,15 +96,18 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
 
   @Override
   protected List<ProcessDefinitionEntity> transformDefinitions(DeploymentEntity deployment, ResourceEntity resource, Properties properties) {
-    byte[] bytes = resource.getBytes();
-    ByteArrayInputStream inputStream = new ByteArrayInputStream(bytes);
-
     BpmnParse bpmnParse = bpmnParser
         .createParse()
-        .sourceInputStream(inputStream)
         .deployment(deployment)
         .name(resource.getName());
 
+    Element parseSnapshot = loadParseSnapshot(deployment, resource);
+    if (parseSnapshot != null) {
+      bpmnParse.sourceElement(parseSnapshot);
+    } else {
+      bpmnParse.sourceInputStream(new ByteArrayInputStream(resource.getBytes()));
+    }
+
     if (!deployment.isValidatingSchema()) {
       bpmnParse.setSchemaResource(null);
     }
@@ -108,9 +119,66 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
     }
     properties.get(JOB_DECLARATIONS_PROPERTY).putAll(bpmnParse.getJobDeclarations());
 
+    if (parseSnapshot == null && isParseSnapshotCreated(deployment)) {
+      properties.putMapEntry(PARSE_SNAPSHOTS_PROPERTY, resource.getName(), ElementSnapshot.write(bpmnParse.getRootElement()));
+    }
+
     return bpmnParse.getProcessDefinitions();
   }
 
+  /**
+   * @return the element tree of the resource restored from its parse snapshot or
+   * <code>null</code> if the resource has to be parsed
+   */
+  protected Element loadParseSnapshot(DeploymentEntity deployment, ResourceEntity resource) {
+    if (deployment.isNew() || resource.getId() == null || !isParseSnapshotsEnabled()) {
+      return null;
+    }
+
+    ByteArrayEntity snapshot = getResourceManager().findParseSnapshotByResourceId(resource.getId());
+    if (snapshot == null) {
+      return null;
+    }
+
+    try {
+      return ElementSnapshot.read(snapshot.getBytes());
+    } catch (ProcessEngineException e) {
+      LOG.ignoringParseSnapshot(resource.getName(), e);
+      return null;
+    }
+  }
+
+  protected boolean isParseSnapshotCreated(DeploymentEntity deployment) {
+    // snapshots contain the element tree of a validating parse only
+    return deployment.isNew() && deployment.isValidatingSchema() && isParseSnapshotsEnabled();
+  }
+
+  protected boolean isParseSnapshotsEnabled() {
+    return Context.getProcessEngineConfiguration().isEnableBpmnParseSnapshots();
+  }
+
+  @Override
+  protected void mergePreParsedProperties(Properties properties, Properties resourceProperties) {
+    if (!properties.contains(JOB_DECLARATIONS_PROPERTY)) {
+      properties.set(JOB_DECLARATIONS_PROPERTY, new HashMap<String, List<JobDeclaration<?, ?>>>());
+    }
+    properties.get(JOB_DECLARATIONS_PROPERTY).putAll(resourceProperties.get(JOB_DECLARATIONS_PROPERTY));
+
+    for (Map.Entry<String, byte[]> parseSnapshot : resourceProperties.get(PARSE_SNAPSHOTS_PROPERTY).entrySet()) {
+      properties.putMapEntry(PARSE_SNAPSHOTS_PROPERTY, parseSnapshot.getKey(), parseSnapshot.getValue());
+    }
+  }
+
+  @Override
+  protected void persistDefinitions(DeploymentEntity deployment, List<ProcessDefinitionEntity> definitions, Properties properties) {
+    super.persistDefinitions(deployment, definitions, properties);
+
+    for (Map.Entry<String, byte[]> parseSnapshot : properties.get(PARSE_SNAPSHOTS_PROPERTY).entrySet()) {
+      ResourceEntity resource = deployment.getResource(parseSnapshot.getKey());
+      getResourceManager().insertParseSnapshot(resource, parseSnapshot.getValue());
+    }
+  }
+
   @Override
   protected ProcessDefinitionEntity findDefinitionByDeploymentAndKey(String deploymentId, String definitionKey) {
     return getProcessDefinitionManager().findProcessDefinitionByDeploymentAndKey(deploymentId, definitionKey);
@@ -137,9 +205,8 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
 
     updateJobDeclarations(declarations, definition, deployment.isNew());
 
-    ProcessDefinitionEntity latestDefinition = findLatestDefinitionByKeyAndTenantId(definition.getKey(), definition.getTenantId());
-
     if (deployment.isNew()) {
+      ProcessDefinitionEntity latestDefinition = findLatestDefinitionByKeyAndTenantId(definition.getKey(), definition.getTenantId());
       adjustStartEventSubscriptions(definition, latestDefinition);
     }
 
@@ -444,6 +511,10 @@ public class BpmnDeployer extends AbstractDefinitionDeployer<ProcessDefinitionEn
     return getCommandContext().getProcessDefinitionManager();
   }
 
+  protected ResourceManager getResourceManager() {
+    return getCommandContext().getResourceManager();
+  }
+
   // getters/setters ///////////////////////////////////////////////////////////////////////////////////
 
   public ExpressionManager getExpressionManager() {
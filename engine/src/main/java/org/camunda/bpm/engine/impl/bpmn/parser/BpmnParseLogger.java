@@ -43,6 +43,10 @@ public class BpmnParseLogger extends ProcessEngineLogger {
     logError("004", "Unexpected Exception with message: {} ", cause.getMessage());
   }
 
+  public void ignoringParseSnapshot(String resourceName, Throwable cause) {
+    logDebug("012", "Ignoring parse snapshot of resource '{}', the resource is parsed again: {}", resourceName, cause.getMessage());
+  }
+
   // EXCEPTIONS
 
   public ProcessEngineException parsingProcessException(Exception cause) {
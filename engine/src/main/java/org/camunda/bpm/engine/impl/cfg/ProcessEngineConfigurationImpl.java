@@ -33,6 +33,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -101,6 +102,7 @@ import org.camunda.bpm.engine.impl.batch.deletion.DeleteHistoricProcessInstances
 import org.camunda.bpm.engine.impl.batch.deletion.DeleteProcessInstancesJobHandler;
 import org.camunda.bpm.engine.impl.batch.externaltask.SetExternalTaskRetriesJobHandler;
 import org.camunda.bpm.engine.impl.batch.job.SetJobRetriesJobHandler;
+import org.camunda.bpm.engine.impl.batch.removaltime.HistoryRemovalTimeBackfillJobHandler;
 import org.camunda.bpm.engine.impl.batch.update.UpdateProcessInstancesSuspendStateJobHandler;
 import org.camunda.bpm.engine.impl.bpmn.behavior.ExternalTaskActivityBehavior;
 import org.camunda.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
@@ -265,7 +267,11 @@ import org.camunda.bpm.engine.impl.persistence.GenericManagerFactory;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.CacheFactory;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DefaultCacheFactory;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DefinitionCacheWeigher;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.ModelInstanceCacheWeigher;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.WeightedCacheFactory;
+import org.camunda.bpm.engine.impl.persistence.entity.ActivityStatisticsSummaryRegistry;
 import org.camunda.bpm.engine.impl.persistence.entity.AttachmentManager;
 import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationManager;
 import org.camunda.bpm.engine.impl.persistence.entity.BatchManager;
@@ -326,6 +332,7 @@ import org.camunda.bpm.engine.impl.variable.serializer.BooleanValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.ByteArrayValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.DateValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.DefaultVariableSerializers;
+import org.camunda.bpm.engine.impl.variable.serializer.DeserializedValueCache;
 import org.camunda.bpm.engine.impl.variable.serializer.DoubleValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.FileValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.IntegerValueSerializer;
@@ -438,6 +445,34 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected CacheFactory cacheFactory;
   protected int cacheCapacity = 1000;
+
+  /**
+   * If positive and no {@link #cacheFactory} is set, the caches of the parsed definitions
+   * are additionally bounded by the number of activities of the cached definitions,
+   * see {@link WeightedCacheFactory} and {@link DefinitionCacheWeigher}.
+   */
+  protected long definitionCacheMaximumWeight = 0;
+
+  /**
+   * Creates the caches of the BPMN, CMMN and DMN model instances. Defaults to the {@link #cacheFactory}.
+   */
+  protected CacheFactory modelInstanceCacheFactory;
+
+  /**
+   * If positive and no {@link #modelInstanceCacheFactory} is set, the caches of the model
+   * instances are additionally bounded by the number of XML elements of the cached models,
+   * see {@link WeightedCacheFactory} and {@link ModelInstanceCacheWeigher}.
+   */
+  protected long modelInstanceCacheMaximumWeight = 0;
+
+  /**
+   * If enabled, lookups of the latest definition by key resolve the definition from an
+   * in-memory index. Before an indexed definition is used, a query of its revision checks
+   * that it is still the latest version and unchanged, so that changes made by other
+   * process engines are observed. Only the full definition query and the refresh of the
+   * cached definition are saved.
+   */
+  protected boolean enableLatestDefinitionIndex = false;
   protected boolean enableFetchProcessDefinitionDescription = true;
 
   // JOB EXECUTOR /////////////////////////////////////////////////////////////
@@ -488,6 +523,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    * default priority for batch jobs
    */
   protected long batchJobPriority = DefaultJobPriorityProvider.DEFAULT_PRIORITY;
+  /**
+   * target time in milliseconds the removal time backfill batch may spend per root process
+   * instance; the batch slows down when it is exceeded
+   */
+  protected long historyRemovalTimeBackfillTargetLatency = 50;
+  /**
+   * max delay in milliseconds between two windows of the removal time backfill batch
+   */
+  protected long historyRemovalTimeBackfillMaxThrottleDelay = 60000;
 
   // OTHER ////////////////////////////////////////////////////////////////////
   protected List<FormEngine> customFormEngines;
@@ -505,10 +549,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected String defaultSerializationFormat = Variables.SerializationDataFormats.JAVA.getName();
   protected boolean javaSerializationFormatEnabled = false;
+  /**
+   * Size in bytes from which serialized object and Spin values are stored gzip compressed.
+   * -1 disables compression; compressed values are always readable.
+   */
+  protected int serializedValueCompressionThreshold = -1;
+  /**
+   * Maximal total size in bytes of the serialized values whose deserialized objects are
+   * shared between commands. 0 disables the cache. The cache is divided into
+   * {@link DeserializedValueCache#DEFAULT_SEGMENT_COUNT} segments, a single value is only
+   * cached if it fits into the share of one segment.
+   */
+  protected long deserializedValueCacheSize = 0;
+  /**
+   * Names of the immutable object types whose deserialized values may be shared between commands.
+   */
+  protected Set<String> deserializedValueCacheObjectTypes = new HashSet<String>();
+  protected DeserializedValueCache deserializedValueCache;
   protected String defaultCharsetName = null;
   protected Charset defaultCharset = null;
 
   protected ExpressionManager expressionManager;
+  /**
+   * Maximum number of parsed expressions the {@link ExpressionManager} shares between definitions.
+   * 0 (the default) disables sharing.
+   */
+  protected int expressionCacheSize = ExpressionManager.DEFAULT_EXPRESSION_CACHE_SIZE;
+  /**
+   * Number of evaluations after which an expression is compiled into specialized
+   * evaluators resolving variables directly from the variable scope. 0 disables compilation.
+   */
+  protected int expressionCompilationThreshold = 0;
   protected ScriptingEngines scriptingEngines;
   protected List<ResolverFactory> resolverFactories;
   protected ScriptingEnvironment scriptingEnvironment;
@@ -517,6 +588,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected boolean autoStoreScriptVariables = false;
   protected boolean enableScriptCompilation = true;
   protected boolean enableScriptEngineCaching = true;
+  /**
+   * Maximum number of idle instances kept per language for script engines
+   * which are not thread-safe. 0 disables pooling.
+   */
+  protected int scriptEnginePoolSize = 0;
+  /**
+   * Maximum number of compiled scripts shared between definitions with the same script source.
+   * 0 (the default) disables sharing.
+   */
+  protected int compiledScriptCacheSize = ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_SIZE;
   protected boolean enableFetchScriptEngineFromProcessApplication = true;
 
   protected boolean cmmnEnabled = true;
@@ -620,6 +701,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected boolean isExecutionTreePrefetchEnabled = true;
 
+  /**
+   * If true, the variables of all executions and tasks of a process instance are
+   * fetched with a single query when the variables of one of them are accessed.
+   */
+  protected boolean isVariablePrefetchEnabled = false;
+
   /**
    * If true the process engine will attempt to acquire an exclusive lock before
    * creating a deployment.
@@ -631,12 +718,67 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected boolean isDeploymentSynchronized = true;
 
+  /**
+   * If positive, the resources of a deployment are parsed before the deployment lock is
+   * acquired, using up to this number of threads. If 0, they are parsed while the deployment
+   * is persisted.
+   */
+  protected int deploymentParseParallelism = 0;
+
+  /**
+   * If true, a snapshot of the validated BPMN element tree is stored with every deployed
+   * BPMN resource. When the process definition is later missing in the deployment cache,
+   * the snapshot is used instead of parsing and validating the XML again.
+   */
+  protected boolean enableBpmnParseSnapshots = false;
+
   /**
    * Allows setting whether the process engine should try reusing the first level entity cache.
    * Default setting is false, enabling it improves performance of asynchronous continuations.
    */
   protected boolean isDbEntityCacheReuseEnabled = false;
 
+  /**
+   * If true, the engine keeps the number of active activity instances, failed jobs and
+   * incidents per activity in a summary table which is used to answer activity statistics
+   * queries without aggregating the runtime tables. Only process definitions deployed while
+   * the summary is enabled are covered. Once enabled, the setting must not be switched off
+   * again as the counters would not be updated in the meantime. Counters which have drifted,
+   * e.g. because the runtime tables were changed manually, can be recomputed with the
+   * {@link org.camunda.bpm.engine.impl.cmd.ReconcileActivityStatisticsSummaryCmd}.
+   */
+  protected boolean activityStatisticsSummaryEnabled = false;
+
+  protected ActivityStatisticsSummaryRegistry activityStatisticsSummaryRegistry;
+
+  /**
+   * Names of variables which are mirrored into an indexed lookup table. Equality and range
+   * filters on these variables in process instance, execution and task queries are answered
+   * from the lookup table once it has been backfilled, see {@link #variableLookupBackfilled}.
+   */
+  protected Set<String> queryableVariableNames = Collections.emptySet();
+
+  /**
+   * Whether the variables which were written before their name was declared queryable have
+   * been copied to the lookup table. Determined when the engine starts and set when
+   * {@link org.camunda.bpm.engine.ManagementService#backfillVariableLookup()} completes.
+   */
+  protected volatile boolean variableLookupBackfilled = false;
+
+  /**
+   * If true, serialized variable values of at least {@link #contentAddressedByteArrayMinSize}
+   * bytes are stored content-addressed: variables with equal values share one byte array
+   * row which is found by the hash of its content and counts its references. The row is
+   * removed together with its last reference. Historic values are only shared with the
+   * end-time based history cleanup strategy, since the removal-time based cleanup removes
+   * byte arrays by the removal time of the single process instance owning them. Once
+   * enabled, the setting must not be switched off again while shared historic values
+   * exist, as the history cleanup would leave them behind.
+   */
+  protected boolean enableContentAddressedByteArrays = false;
+
+  protected int contentAddressedByteArrayMinSize = 1024;
+
   protected boolean isInvokeCustomVariableListeners = true;
 
   /**
@@ -834,6 +976,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initIncidentHandlers();
     initPasswordDigest();
     initDeploymentRegistration();
+    initActivityStatisticsSummary();
     initResourceAuthorizationProvider();
     initMetrics();
     initMigration();
@@ -846,6 +989,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     invokePostInit();
   }
 
+  protected void initActivityStatisticsSummary() {
+    if (activityStatisticsSummaryEnabled && activityStatisticsSummaryRegistry == null) {
+      activityStatisticsSummaryRegistry = new ActivityStatisticsSummaryRegistry();
+    }
+  }
+
   public void initHistoryRemovalTime() {
     initHistoryRemovalTimeProvider();
     initHistoryRemovalTimeStrategy();
@@ -1092,6 +1241,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
       DeleteHistoricDecisionInstancesJobHandler deleteHistoricDecisionInstancesJobHandler = new DeleteHistoricDecisionInstancesJobHandler();
       batchHandlers.put(deleteHistoricDecisionInstancesJobHandler.getType(), deleteHistoricDecisionInstancesJobHandler);
+
+      HistoryRemovalTimeBackfillJobHandler historyRemovalTimeBackfillJobHandler = new HistoryRemovalTimeBackfillJobHandler();
+      batchHandlers.put(historyRemovalTimeBackfillJobHandler.getType(), historyRemovalTimeBackfillJobHandler);
     }
 
     if (customBatchJobHandlers != null) {
@@ -1684,7 +1836,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       }
 
       initCacheFactory();
-      deploymentCache = new DeploymentCache(cacheFactory, cacheCapacity);
+      deploymentCache = new DeploymentCache(cacheFactory, modelInstanceCacheFactory, cacheCapacity);
       deploymentCache.setDeployers(deployers);
     }
   }
@@ -2057,6 +2209,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       }
 
     }
+
+    if (deserializedValueCache == null && deserializedValueCacheSize > 0) {
+      deserializedValueCache = new DeserializedValueCache(deserializedValueCacheSize, deserializedValueCacheObjectTypes);
+    }
   }
 
   protected void initFormEngines() {
@@ -2120,6 +2276,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     if (scriptingEngines == null) {
       scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(resolverFactories));
       scriptingEngines.setEnableScriptEngineCaching(enableScriptEngineCaching);
+      scriptingEngines.setScriptEnginePoolSize(scriptEnginePoolSize);
+      scriptingEngines.setCompiledScriptCacheSize(compiledScriptCacheSize);
     }
     if (scriptFactory == null) {
       scriptFactory = new ScriptFactory();
@@ -2158,6 +2316,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       expressionManager = new ExpressionManager(beans);
     }
 
+    expressionManager.setExpressionCacheSize(expressionCacheSize);
+    expressionManager.setExpressionCompilationThreshold(expressionCompilationThreshold);
+
     // add function mapper for command context (eg currentUser(), currentUserGroups())
     expressionManager.addFunctionMapper(new CommandContextFunctionMapper());
     // add function mapper for date time (eg now(), dateTime())
@@ -2325,7 +2486,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected void initCacheFactory() {
     if (cacheFactory == null) {
-      cacheFactory = new DefaultCacheFactory();
+      if (definitionCacheMaximumWeight > 0) {
+        cacheFactory = new WeightedCacheFactory(definitionCacheMaximumWeight, new DefinitionCacheWeigher());
+      }
+      else {
+        cacheFactory = new DefaultCacheFactory();
+      }
+    }
+    if (modelInstanceCacheFactory == null) {
+      if (modelInstanceCacheMaximumWeight > 0) {
+        modelInstanceCacheFactory = new WeightedCacheFactory(modelInstanceCacheMaximumWeight, new ModelInstanceCacheWeigher());
+      }
+      else {
+        modelInstanceCacheFactory = cacheFactory;
+      }
     }
   }
 
@@ -2686,6 +2860,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getExpressionCacheSize() {
+    return expressionCacheSize;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCacheSize(int expressionCacheSize) {
+    this.expressionCacheSize = expressionCacheSize;
+    return this;
+  }
+
+  public int getExpressionCompilationThreshold() {
+    return expressionCompilationThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+    this.expressionCompilationThreshold = expressionCompilationThreshold;
+    return this;
+  }
+
   public BusinessCalendarManager getBusinessCalendarManager() {
     return businessCalendarManager;
   }
@@ -2743,6 +2935,38 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.cacheCapacity = cacheCapacity;
   }
 
+  public long getDefinitionCacheMaximumWeight() {
+    return definitionCacheMaximumWeight;
+  }
+
+  public void setDefinitionCacheMaximumWeight(long definitionCacheMaximumWeight) {
+    this.definitionCacheMaximumWeight = definitionCacheMaximumWeight;
+  }
+
+  public CacheFactory getModelInstanceCacheFactory() {
+    return modelInstanceCacheFactory;
+  }
+
+  public void setModelInstanceCacheFactory(CacheFactory modelInstanceCacheFactory) {
+    this.modelInstanceCacheFactory = modelInstanceCacheFactory;
+  }
+
+  public long getModelInstanceCacheMaximumWeight() {
+    return modelInstanceCacheMaximumWeight;
+  }
+
+  public void setModelInstanceCacheMaximumWeight(long modelInstanceCacheMaximumWeight) {
+    this.modelInstanceCacheMaximumWeight = modelInstanceCacheMaximumWeight;
+  }
+
+  public boolean isEnableLatestDefinitionIndex() {
+    return enableLatestDefinitionIndex;
+  }
+
+  public void setEnableLatestDefinitionIndex(boolean enableLatestDefinitionIndex) {
+    this.enableLatestDefinitionIndex = enableLatestDefinitionIndex;
+  }
+
   public void setEnableFetchProcessDefinitionDescription(boolean enableFetchProcessDefinitionDescription){
     this.enableFetchProcessDefinitionDescription = enableFetchProcessDefinitionDescription;
   }
@@ -3342,6 +3566,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.batchJobPriority = batchJobPriority;
   }
 
+  public long getHistoryRemovalTimeBackfillTargetLatency() {
+    return historyRemovalTimeBackfillTargetLatency;
+  }
+
+  public void setHistoryRemovalTimeBackfillTargetLatency(long historyRemovalTimeBackfillTargetLatency) {
+    this.historyRemovalTimeBackfillTargetLatency = historyRemovalTimeBackfillTargetLatency;
+  }
+
+  public long getHistoryRemovalTimeBackfillMaxThrottleDelay() {
+    return historyRemovalTimeBackfillMaxThrottleDelay;
+  }
+
+  public void setHistoryRemovalTimeBackfillMaxThrottleDelay(long historyRemovalTimeBackfillMaxThrottleDelay) {
+    this.historyRemovalTimeBackfillMaxThrottleDelay = historyRemovalTimeBackfillMaxThrottleDelay;
+  }
+
   public SessionFactory getIdentityProviderSessionFactory() {
     return identityProviderSessionFactory;
   }
@@ -3457,6 +3697,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.isExecutionTreePrefetchEnabled = isExecutionTreePrefetchingEnabled;
   }
 
+  public boolean isVariablePrefetchEnabled() {
+    return isVariablePrefetchEnabled;
+  }
+
+  public void setVariablePrefetchEnabled(boolean isVariablePrefetchEnabled) {
+    this.isVariablePrefetchEnabled = isVariablePrefetchEnabled;
+  }
+
   public ProcessEngineImpl getProcessEngine() {
     return processEngine;
   }
@@ -3525,6 +3773,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.isDeploymentLockUsed = isDeploymentLockUsed;
   }
 
+  public int getDeploymentParseParallelism() {
+    return deploymentParseParallelism;
+  }
+
+  /**
+   * Sets the number of threads used to parse the resources of a deployment before the
+   * deployment lock is acquired. With a value greater than 1, parse listeners must be
+   * thread-safe. If 0, resources are parsed while the deployment is persisted.
+   */
+  public void setDeploymentParseParallelism(int deploymentParseParallelism) {
+    this.deploymentParseParallelism = deploymentParseParallelism;
+  }
+
+  public boolean isEnableBpmnParseSnapshots() {
+    return enableBpmnParseSnapshots;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableBpmnParseSnapshots(boolean enableBpmnParseSnapshots) {
+    this.enableBpmnParseSnapshots = enableBpmnParseSnapshots;
+    return this;
+  }
+
   /**
    * @return true if deployment processing must be synchronized
    */
@@ -3607,6 +3877,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.javaSerializationFormatEnabled = javaSerializationFormatEnabled;
   }
 
+  public int getSerializedValueCompressionThreshold() {
+    return serializedValueCompressionThreshold;
+  }
+
+  public ProcessEngineConfigurationImpl setSerializedValueCompressionThreshold(int serializedValueCompressionThreshold) {
+    this.serializedValueCompressionThreshold = serializedValueCompressionThreshold;
+    return this;
+  }
+
+  public long getDeserializedValueCacheSize() {
+    return deserializedValueCacheSize;
+  }
+
+  public ProcessEngineConfigurationImpl setDeserializedValueCacheSize(long deserializedValueCacheSize) {
+    this.deserializedValueCacheSize = deserializedValueCacheSize;
+    return this;
+  }
+
+  public Set<String> getDeserializedValueCacheObjectTypes() {
+    return deserializedValueCacheObjectTypes;
+  }
+
+  public ProcessEngineConfigurationImpl setDeserializedValueCacheObjectTypes(Set<String> deserializedValueCacheObjectTypes) {
+    this.deserializedValueCacheObjectTypes = deserializedValueCacheObjectTypes;
+    return this;
+  }
+
+  public DeserializedValueCache getDeserializedValueCache() {
+    return deserializedValueCache;
+  }
+
+  public ProcessEngineConfigurationImpl setDeserializedValueCache(DeserializedValueCache deserializedValueCache) {
+    this.deserializedValueCache = deserializedValueCache;
+    return this;
+  }
+
   public ProcessEngineConfigurationImpl setDefaultCharsetName(String defaultCharsetName) {
     this.defaultCharsetName = defaultCharsetName;
     return this;
@@ -3630,6 +3936,73 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isActivityStatisticsSummaryEnabled() {
+    return activityStatisticsSummaryEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setActivityStatisticsSummaryEnabled(boolean activityStatisticsSummaryEnabled) {
+    this.activityStatisticsSummaryEnabled = activityStatisticsSummaryEnabled;
+    return this;
+  }
+
+  public ActivityStatisticsSummaryRegistry getActivityStatisticsSummaryRegistry() {
+    return activityStatisticsSummaryRegistry;
+  }
+
+  public ProcessEngineConfigurationImpl setActivityStatisticsSummaryRegistry(ActivityStatisticsSummaryRegistry activityStatisticsSummaryRegistry) {
+    this.activityStatisticsSummaryRegistry = activityStatisticsSummaryRegistry;
+    return this;
+  }
+
+  public Set<String> getQueryableVariableNames() {
+    return queryableVariableNames;
+  }
+
+  /**
+   * Declares the names of the variables which are mirrored into the variable lookup table.
+   *
+   * <p>Queries on these names only read the lookup table, so it must be complete: every
+   * process engine that writes to the same database must declare the same names. Variables
+   * written before a name was declared are copied to the lookup table by
+   * {@link org.camunda.bpm.engine.ManagementService#backfillVariableLookup()}, which has to
+   * be executed once after the names have changed. Until then, queries read the variable
+   * table. Other process engines observe the completed backfill when they are restarted.</p>
+   */
+  public ProcessEngineConfigurationImpl setQueryableVariableNames(Set<String> queryableVariableNames) {
+    this.queryableVariableNames = queryableVariableNames;
+    return this;
+  }
+
+  public boolean isVariableLookupEnabled() {
+    return queryableVariableNames != null && !queryableVariableNames.isEmpty();
+  }
+
+  public boolean isVariableLookupBackfilled() {
+    return variableLookupBackfilled;
+  }
+
+  public void setVariableLookupBackfilled(boolean variableLookupBackfilled) {
+    this.variableLookupBackfilled = variableLookupBackfilled;
+  }
+
+  public boolean isEnableContentAddressedByteArrays() {
+    return enableContentAddressedByteArrays;
+  }
+
+  public ProcessEngineConfigurationImpl setEnableContentAddressedByteArrays(boolean enableContentAddressedByteArrays) {
+    this.enableContentAddressedByteArrays = enableContentAddressedByteArrays;
+    return this;
+  }
+
+  public int getContentAddressedByteArrayMinSize() {
+    return contentAddressedByteArrayMinSize;
+  }
+
+  public ProcessEngineConfigurationImpl setContentAddressedByteArrayMinSize(int contentAddressedByteArrayMinSize) {
+    this.contentAddressedByteArrayMinSize = contentAddressedByteArrayMinSize;
+    return this;
+  }
+
   public DbEntityCacheKeyMapping getDbEntityCacheKeyMapping() {
     return dbEntityCacheKeyMapping;
   }
@@ -3723,6 +4096,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public int getScriptEnginePoolSize() {
+    return scriptEnginePoolSize;
+  }
+
+  public ProcessEngineConfigurationImpl setScriptEnginePoolSize(int scriptEnginePoolSize) {
+    this.scriptEnginePoolSize = scriptEnginePoolSize;
+    return this;
+  }
+
+  public int getCompiledScriptCacheSize() {
+    return compiledScriptCacheSize;
+  }
+
+  public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+    this.compiledScriptCacheSize = compiledScriptCacheSize;
+    return this;
+  }
+
   public boolean isEnableFetchScriptEngineFromProcessApplication() {
     return enableFetchScriptEngineFromProcessApplication;
   }
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.digest.Sha512HashDigest;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.camunda.bpm.engine.impl.util.ExceptionUtil;
+
+/**
+ * Copies the variable instances of all queryable variable names which have no entry in
+ * the variable lookup table yet, see {@link ProcessEngineConfigurationImpl#setQueryableVariableNames(Set)}.
+ *
+ * <p>Every page is copied in a separate transaction by a {@link BackfillVariableLookupPageCmd}.
+ * When all names have been backfilled, the property {@link #BACKFILL_PROPERTY_NAME} is set to
+ * a marker of the queryable variable names. The backfill is skipped if the property already
+ * matches the names, and queries only read the lookup table while it does.</p>
+ */
+public class BackfillVariableLookupCmd implements Command<Void> {
+
+  public static final String BACKFILL_PROPERTY_NAME = "variable.lookup.backfill";
+
+  public Void execute(CommandContext commandContext) {
+    commandContext.getAuthorizationManager().checkCamundaAdmin();
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    if (!processEngineConfiguration.isVariableLookupEnabled()) {
+      return null;
+    }
+
+    Set<String> queryableVariableNames = processEngineConfiguration.getQueryableVariableNames();
+    String marker = getBackfillMarker(queryableVariableNames);
+
+    if (!isBackfilled(commandContext, marker)) {
+      CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutorTxRequiresNew();
+
+      for (String queryableVariableName : queryableVariableNames) {
+        String lastVariableInstanceId = null;
+        do {
+          lastVariableInstanceId = backfillPage(commandExecutor, new BackfillVariableLookupPageCmd(queryableVariableName, lastVariableInstanceId));
+        } while (lastVariableInstanceId != null);
+      }
+
+      setBackfillMarker(commandExecutor, marker);
+    }
+
+    processEngineConfiguration.setVariableLookupBackfilled(true);
+
+    return null;
+  }
+
+  protected String backfillPage(CommandExecutor commandExecutor, BackfillVariableLookupPageCmd pageCmd) {
+    try {
+      return commandExecutor.execute(pageCmd);
+
+    } catch (ProcessEngineException e) {
+      if (ExceptionUtil.checkConstraintViolationException(e)) {
+        // another process engine has backfilled entries of the same page concurrently;
+        // the page is selected again without these entries
+        return commandExecutor.execute(pageCmd);
+      }
+      throw e;
+    }
+  }
+
+  protected void setBackfillMarker(CommandExecutor commandExecutor, String marker) {
+    try {
+      commandExecutor.execute(new SetPropertyCmd(BACKFILL_PROPERTY_NAME, marker));
+
+    } catch (ProcessEngineException e) {
+      // the property has been created by a concurrent backfill
+      if (!ExceptionUtil.checkConstraintViolationException(e)) {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the variable lookup table has been backfilled for the
+   * queryable variable names of the given marker
+   */
+  public static boolean isBackfilled(CommandContext commandContext, String marker) {
+    PropertyEntity property = commandContext.getPropertyManager().findPropertyById(BACKFILL_PROPERTY_NAME);
+    return property != null && marker.equals(property.getValue());
+  }
+
+  /**
+   * @return a marker which identifies the given set of queryable variable names
+   */
+  public static String getBackfillMarker(Set<String> queryableVariableNames) {
+    List<String> names = new ArrayList<String>(queryableVariableNames);
+    Collections.sort(names);
+
+    StringBuilder joinedNames = new StringBuilder();
+    for (String name : names) {
+      joinedNames.append(name).append('\n');
+    }
+    return new Sha512HashDigest().encrypt(joinedNames.toString());
+  }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableLookupEntity;
+
+/**
+ * Copies one page of the variable instances of a queryable variable name into the
+ * variable lookup table, if they have no entry yet. Returns the id of the last variable
+ * instance of the page, or <code>null</code> if all variable instances of the name have
+ * been visited.
+ *
+ * <p>Covers variables which were written before their name was declared queryable,
+ * see {@link BackfillVariableLookupCmd}.</p>
+ */
+public class BackfillVariableLookupPageCmd implements Command<String> {
+
+  public static final int PAGE_SIZE = 500;
+
+  protected String name;
+  protected String idAfter;
+
+  public BackfillVariableLookupPageCmd(String name, String idAfter) {
+    this.name = name;
+    this.idAfter = idAfter;
+  }
+
+  @SuppressWarnings("unchecked")
+  public String execute(CommandContext commandContext) {
+    List<VariableInstanceEntity> variableInstances = commandContext
+      .getVariableInstanceManager()
+      .findVariableInstancesWithoutLookupEntry(name, idAfter, PAGE_SIZE);
+
+    DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+    for (VariableInstanceEntity variableInstance : variableInstances) {
+      Map<String, Object> variableState = (Map<String, Object>) variableInstance.getPersistentState();
+      if (VariableLookupEntity.isLookupState(variableState)) {
+        dbEntityManager.insert(new VariableLookupEntity(variableInstance.getId(), name, variableState));
+      }
+    }
+
+    if (variableInstances.size() < PAGE_SIZE) {
+      return null;
+    }
+    return variableInstances.get(variableInstances.size() - 1).getId();
+  }
+
+}
@@ -293,4 +293,16 @@ public class CommandLogger extends ProcessEngineLogger {
       "043",
       "No subscriptions were found during evaluation of the conditional start events."));
   }
+
+  public void debugPreParsingDeploymentResources(int numberOfResources, int parallelism) {
+    logDebug(
+        "044", "Parsing {} deployment resources before acquiring the deployment lock with a parallelism of {}", numberOfResources, parallelism);
+  }
+
+  public ProcessEngineException exceptionWhilePreParsingDeploymentResources(Throwable cause) {
+    return new ProcessEngineException(exceptionMessage(
+      "045",
+      "Exception while parsing deployment resources: {}",
+      cause.getMessage()), cause);
+  }
 }
@@ -27,6 +27,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.camunda.bpm.application.ProcessApplicationReference;
 import org.camunda.bpm.application.ProcessApplicationRegistration;
@@ -39,13 +42,17 @@ import org.camunda.bpm.engine.impl.DeploymentQueryImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cfg.TransactionLogger;
 import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.cmmn.deployer.CmmnDeployer;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
 import org.camunda.bpm.engine.impl.persistence.deploy.DeploymentFailListener;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsedResource;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsingDeployer;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessApplicationDeploymentImpl;
@@ -129,19 +136,27 @@ public class DeployCmd implements Command<DeploymentWithDefinitions>, Serializab
     DeploymentWithDefinitions deployment = commandContext.runWithoutAuthorization(new Callable<DeploymentWithDefinitions>() {
       @Override
       public DeploymentWithDefinitions call() throws Exception {
-        acquireExclusiveLock(commandContext);
-        DeploymentEntity deployment = initDeployment();
-        Map<String, ResourceEntity> resourcesToDeploy = resolveResourcesToDeploy(commandContext, deployment);
-        Map<String, ResourceEntity> resourcesToIgnore = new HashMap<String, ResourceEntity>(deployment.getResources());
-        resourcesToIgnore.keySet().removeAll(resourcesToDeploy.keySet());
-
-        if (!resourcesToDeploy.isEmpty()) {
-          LOG.debugCreatingNewDeployment();
-          deployment.setResources(resourcesToDeploy);
-          deploy(deployment);
-        } else {
-          LOG.usingExistingDeployment();
-          deployment = getExistingDeployment(commandContext, deployment.getName());
+        DeploymentEntity deployment;
+        Map<String, ResourceEntity> resourcesToIgnore;
+        try {
+          preParseResources(commandContext);
+          acquireExclusiveLock(commandContext);
+          deployment = initDeployment();
+          Map<String, ResourceEntity> resourcesToDeploy = resolveResourcesToDeploy(commandContext, deployment);
+          resourcesToIgnore = new HashMap<String, ResourceEntity>(deployment.getResources());
+          resourcesToIgnore.keySet().removeAll(resourcesToDeploy.keySet());
+
+          if (!resourcesToDeploy.isEmpty()) {
+            LOG.debugCreatingNewDeployment();
+            deployment.setResources(resourcesToDeploy);
+            deploy(deployment);
+          } else {
+            LOG.usingExistingDeployment();
+            deployment = getExistingDeployment(commandContext, deployment.getName());
+          }
+        } finally {
+          // the pre-parsed results must not outlive the deployment attempt
+          deploymentBuilder.getDeployment().clearPreParsedResources();
         }
 
         scheduleProcessDefinitionActivation(commandContext, deployment);
@@ -424,6 +439,82 @@ public class DeployCmd implements Command<DeploymentWithDefinitions>, Serializab
     }
   }
 
+  /**
+   * Parses the resources which are expected to be deployed before the exclusive lock is
+   * acquired, so that the lock is only held while the deployment is persisted. Resources
+   * which are deployed although they were not expected to be are parsed during the deployment.
+   */
+  protected void preParseResources(CommandContext commandContext) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    int parallelism = processEngineConfiguration.getDeploymentParseParallelism();
+    if (parallelism <= 0) {
+      return;
+    }
+
+    DeploymentEntity deployment = deploymentBuilder.getDeployment();
+    Map<String, ResourceEntity> resources = resolveResourcesToDeploy(commandContext, deployment);
+    if (resources.isEmpty()) {
+      return;
+    }
+
+    // the parsed definitions reference the deployment
+    if (deployment.getId() == null) {
+      deployment.setId(processEngineConfiguration.getIdGenerator().getNextId());
+    }
+    deployment.setNew(true);
+
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    List<PreParseResourceTask> tasks = new ArrayList<PreParseResourceTask>();
+    for (Deployer deployer : processEngineConfiguration.getDeploymentCache().getDeployers()) {
+      if (deployer instanceof PreParsingDeployer) {
+        for (ResourceEntity resource : resources.values()) {
+          tasks.add(new PreParseResourceTask((PreParsingDeployer) deployer, deployment, resource, processEngineConfiguration, classLoader));
+        }
+      }
+    }
+
+    LOG.debugPreParsingDeploymentResources(resources.size(), parallelism);
+    for (PreParsedResource preParsedResource : executePreParseTasks(tasks, parallelism)) {
+      if (preParsedResource != null) {
+        deployment.addPreParsedResource(preParsedResource);
+      }
+    }
+  }
+
+  protected List<PreParsedResource> executePreParseTasks(List<PreParseResourceTask> tasks, int parallelism) {
+    List<PreParsedResource> preParsedResources = new ArrayList<PreParsedResource>();
+
+    if (parallelism == 1 || tasks.size() <= 1) {
+      for (PreParseResourceTask task : tasks) {
+        preParsedResources.add(task.call());
+      }
+      return preParsedResources;
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+    try {
+      for (Future<PreParsedResource> result : pool.invokeAll(tasks)) {
+        preParsedResources.add(result.get());
+      }
+      return preParsedResources;
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw LOG.exceptionWhilePreParsingDeploymentResources(e);
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else {
+        throw LOG.exceptionWhilePreParsingDeploymentResources(cause);
+      }
+
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
   protected DeploymentEntity initDeployment() {
     DeploymentEntity deployment = deploymentBuilder.getDeployment();
     deployment.setDeploymentTime(ClockUtil.getCurrentTime());
@@ -652,4 +743,40 @@ public class DeployCmd implements Command<DeploymentWithDefinitions>, Serializab
       }
     }
   }
+
+  /**
+   * Parses a single resource, possibly in a thread of a fork-join pool.
+   */
+  protected static class PreParseResourceTask implements Callable<PreParsedResource> {
+
+    protected PreParsingDeployer deployer;
+    protected DeploymentEntity deployment;
+    protected ResourceEntity resource;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ClassLoader classLoader;
+
+    public PreParseResourceTask(PreParsingDeployer deployer, DeploymentEntity deployment, ResourceEntity resource,
+        ProcessEngineConfigurationImpl processEngineConfiguration, ClassLoader classLoader) {
+      this.deployer = deployer;
+      this.deployment = deployment;
+      this.resource = resource;
+      this.processEngineConfiguration = processEngineConfiguration;
+      this.classLoader = classLoader;
+    }
+
+    public PreParsedResource call() {
+      Thread thread = Thread.currentThread();
+      ClassLoader previousClassLoader = thread.getContextClassLoader();
+
+      Context.setProcessEngineConfiguration(processEngineConfiguration);
+      thread.setContextClassLoader(classLoader);
+      try {
+        return deployer.preParse(deployment, resource);
+
+      } finally {
+        thread.setContextClassLoader(previousClassLoader);
+        Context.removeProcessEngineConfiguration();
+      }
+    }
+  }
 }
@@ -15,14 +15,12 @@
  */
 package org.camunda.bpm.engine.impl.cmd;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.AttachmentEntity;
-import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 
 
 /**
@@ -46,10 +44,7 @@ public class GetAttachmentContentCmd implements Command<InputStream>, Serializab
       return null;
     }
     
-    ByteArrayEntity byteArray = dbEntityManger.selectById(ByteArrayEntity.class, contentId);
-    byte[] bytes = byteArray.getBytes();
-    
-    return new ByteArrayInputStream(bytes);
+    return commandContext.getByteArrayManager().openByteArrayContent(contentId);
   }
 
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.Serializable;
+
+import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.variable.serializer.AbstractTypedValueSerializer;
+import org.camunda.bpm.engine.runtime.VariableInstance;
+
+/**
+ * Returns the variable instance of an execution by name. Like a variable instance query
+ * with binary fetching disabled, the value of bytes and file variables is not loaded;
+ * their content is streamed by {@link GetExecutionVariableContentCmd}.
+ */
+public class GetExecutionVariableInstanceCmd implements Command<VariableInstance>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+  protected String executionId;
+  protected String variableName;
+  protected boolean isLocal;
+
+  public GetExecutionVariableInstanceCmd(String executionId, String variableName, boolean isLocal) {
+    this.executionId = executionId;
+    this.variableName = variableName;
+    this.isLocal = isLocal;
+  }
+
+  public VariableInstance execute(CommandContext commandContext) {
+    VariableInstanceEntity variableInstance = findVariableInstance(commandContext);
+
+    if (variableInstance != null && !isBinaryType(variableInstance)) {
+      variableInstance.getTypedValue(false);
+    }
+
+    return variableInstance;
+  }
+
+  protected VariableInstanceEntity findVariableInstance(CommandContext commandContext) {
+    ensureNotNull("executionId", executionId);
+    ensureNotNull("variableName", variableName);
+
+    ExecutionEntity execution = commandContext
+      .getExecutionManager()
+      .findExecutionById(executionId);
+
+    ensureNotNull("execution " + executionId + " doesn't exist", "execution", execution);
+
+    checkGetExecutionVariable(execution, commandContext);
+
+    return findVariableInstance(execution, variableName, isLocal);
+  }
+
+  protected void checkGetExecutionVariable(ExecutionEntity execution, CommandContext commandContext) {
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkReadProcessInstance(execution);
+    }
+  }
+
+  public static VariableInstanceEntity findVariableInstance(AbstractVariableScope variableScope, String variableName, boolean isLocal) {
+    if (isLocal) {
+      return (VariableInstanceEntity) variableScope.getVariableInstanceLocal(variableName);
+    } else {
+      return (VariableInstanceEntity) variableScope.getVariableInstance(variableName);
+    }
+  }
+
+  /**
+   * @return true if the variable instance is of type bytes or file. Initializes the
+   * serializer of the variable instance, so that its value can be read after the
+   * command has been executed.
+   */
+  public static boolean isBinaryType(VariableInstanceEntity variableInstance) {
+    return AbstractTypedValueSerializer.BINARY_VALUE_TYPES.contains(variableInstance.getSerializer().getType().getName());
+  }
+
+}
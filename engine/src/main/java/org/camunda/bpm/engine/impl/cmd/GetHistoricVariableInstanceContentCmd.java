@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.List;
+
+import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.impl.HistoricVariableInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+
+/**
+ * Streams the content of a bytes or file historic variable instance without loading
+ * the variable value. The variable is looked up with a query, so the same authorization
+ * checks apply as for {@link org.camunda.bpm.engine.HistoryService#createHistoricVariableInstanceQuery()}.
+ */
+public class GetHistoricVariableInstanceContentCmd implements Command<InputStream>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String historicVariableInstanceId;
+
+  public GetHistoricVariableInstanceContentCmd(String historicVariableInstanceId) {
+    this.historicVariableInstanceId = historicVariableInstanceId;
+  }
+
+  public InputStream execute(CommandContext commandContext) {
+    ensureNotNull("historicVariableInstanceId", historicVariableInstanceId);
+
+    HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+    query.variableId(historicVariableInstanceId);
+    query.disableBinaryFetching();
+    query.disableCustomObjectDeserialization();
+
+    List<HistoricVariableInstance> variableInstances = query.executeList(commandContext, null);
+    if (variableInstances.isEmpty()) {
+      return null;
+    }
+
+    HistoricVariableInstanceEntity variableInstance = (HistoricVariableInstanceEntity) variableInstances.get(0);
+    if (!GetVariableInstanceContentCmd.isBinaryType(variableInstance.getTypeName()) || variableInstance.getByteArrayId() == null) {
+      return null;
+    }
+
+    return commandContext
+      .getByteArrayManager()
+      .openByteArrayContent(variableInstance.getByteArrayId());
+  }
+
+}
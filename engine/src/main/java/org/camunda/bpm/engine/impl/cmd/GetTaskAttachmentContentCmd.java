@@ -15,14 +15,12 @@
  */
 package org.camunda.bpm.engine.impl.cmd;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.AttachmentEntity;
-import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 
 
 /**
@@ -54,13 +52,9 @@ public class GetTaskAttachmentContentCmd implements Command<InputStream>, Serial
       return null;
     }
 
-    ByteArrayEntity byteArray = commandContext
-        .getDbEntityManager()
-        .selectById(ByteArrayEntity.class, contentId);
-
-    byte[] bytes = byteArray.getBytes();
-
-    return new ByteArrayInputStream(bytes);
+    return commandContext
+        .getByteArrayManager()
+        .openByteArrayContent(contentId);
   }
 
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Streams the content of a bytes or file variable of a task by name without loading
+ * the variable value.
+ */
+public class GetTaskVariableContentCmd implements Command<InputStream>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+  protected String taskId;
+  protected String variableName;
+  protected boolean isLocal;
+
+  public GetTaskVariableContentCmd(String taskId, String variableName, boolean isLocal) {
+    this.taskId = taskId;
+    this.variableName = variableName;
+    this.isLocal = isLocal;
+  }
+
+  public InputStream execute(CommandContext commandContext) {
+    VariableInstanceEntity variableInstance = new GetTaskVariableInstanceCmd(taskId, variableName, isLocal)
+      .findVariableInstance(commandContext);
+
+    return GetVariableInstanceContentCmd.openContent(commandContext, variableInstance);
+  }
+
+}
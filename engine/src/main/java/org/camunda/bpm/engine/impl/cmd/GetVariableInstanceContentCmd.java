@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.VariableInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.runtime.VariableInstance;
+import org.camunda.bpm.engine.variable.type.ValueType;
+
+/**
+ * Streams the content of a bytes or file variable instance without loading the
+ * variable value. The variable is looked up with a query, so the same authorization
+ * checks apply as for {@link org.camunda.bpm.engine.RuntimeService#createVariableInstanceQuery()}.
+ */
+public class GetVariableInstanceContentCmd implements Command<InputStream>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String variableInstanceId;
+
+  public GetVariableInstanceContentCmd(String variableInstanceId) {
+    this.variableInstanceId = variableInstanceId;
+  }
+
+  public InputStream execute(CommandContext commandContext) {
+    ensureNotNull("variableInstanceId", variableInstanceId);
+
+    VariableInstanceQueryImpl query = new VariableInstanceQueryImpl();
+    query.variableId(variableInstanceId);
+    query.disableBinaryFetching();
+    query.disableCustomObjectDeserialization();
+
+    List<VariableInstance> variableInstances = query.executeList(commandContext, null);
+    if (variableInstances.isEmpty()) {
+      return null;
+    }
+
+    return openContent(commandContext, (VariableInstanceEntity) variableInstances.get(0));
+  }
+
+  /**
+   * @return the content of the given variable instance or null if it does not exist,
+   * is not of a binary type or has no content
+   */
+  public static InputStream openContent(CommandContext commandContext, VariableInstanceEntity variableInstance) {
+    if (variableInstance == null
+        || !isBinaryType(variableInstance.getTypeName())
+        || variableInstance.getByteArrayValueId() == null) {
+      return null;
+    }
+
+    return commandContext
+      .getByteArrayManager()
+      .openByteArrayContent(variableInstance.getByteArrayValueId());
+  }
+
+  protected static boolean isBinaryType(String typeName) {
+    return ValueType.BYTES.getName().equals(typeName) || ValueType.FILE.getName().equals(typeName);
+  }
+
+}
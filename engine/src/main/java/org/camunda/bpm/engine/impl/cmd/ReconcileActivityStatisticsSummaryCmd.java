@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Recomputes the activity statistics summary counters of a process definition from the
+ * runtime tables. Counter changes of transactions which run concurrently may be lost, so
+ * the command should be executed while the process definition is not in use, e.g. after
+ * the runtime tables were changed by means the summary does not track.
+ */
+public class ReconcileActivityStatisticsSummaryCmd implements Command<Void> {
+
+  protected String processDefinitionId;
+
+  public ReconcileActivityStatisticsSummaryCmd(String processDefinitionId) {
+    this.processDefinitionId = processDefinitionId;
+  }
+
+  public Void execute(CommandContext commandContext) {
+    ensureNotNull("processDefinitionId", processDefinitionId);
+
+    commandContext.getAuthorizationManager().checkCamundaAdmin();
+
+    commandContext
+      .getStatisticsManager()
+      .reconcileActivityStatisticsSummary(processDefinitionId);
+
+    return null;
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.util.CollectionUtil;
+
+/**
+ * Sets variables on many executions and tasks within a single command context.
+ *
+ * <p>The targeted tasks and executions, as well as their variable instances, are
+ * prefetched with one select per entity type, so that the individual variable
+ * commands are served from the entity cache. Variables of parent executions are
+ * still loaded on demand when a non-local variable is not found in the targeted
+ * scope.</p>
+ *
+ * <p>History events are created per variable update, as for the individual
+ * commands. They are written together with the runtime changes in the single
+ * flush at the end of the command; no separate history batch is produced.</p>
+ */
+public class SetVariablesBatchCmd implements Command<Void>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected List<SetExecutionVariablesCmd> executionVariablesCmds;
+  protected List<SetTaskVariablesCmd> taskVariablesCmds;
+
+  public SetVariablesBatchCmd(List<SetExecutionVariablesCmd> executionVariablesCmds, List<SetTaskVariablesCmd> taskVariablesCmds) {
+    this.executionVariablesCmds = executionVariablesCmds;
+    this.taskVariablesCmds = taskVariablesCmds;
+  }
+
+  public Void execute(CommandContext commandContext) {
+    ensureNotNull("executionVariablesCmds", executionVariablesCmds);
+    ensureNotNull("taskVariablesCmds", taskVariablesCmds);
+
+    prefetchEntities(commandContext);
+
+    for (SetTaskVariablesCmd taskVariablesCmd : taskVariablesCmds) {
+      taskVariablesCmd.execute(commandContext);
+    }
+
+    for (SetExecutionVariablesCmd executionVariablesCmd : executionVariablesCmds) {
+      executionVariablesCmd.execute(commandContext);
+    }
+
+    return null;
+  }
+
+  protected void prefetchEntities(CommandContext commandContext) {
+    Set<String> executionIds = new LinkedHashSet<String>();
+
+    if (!taskVariablesCmds.isEmpty()) {
+      Set<String> taskIds = new LinkedHashSet<String>();
+      for (SetTaskVariablesCmd taskVariablesCmd : taskVariablesCmds) {
+        taskIds.add(taskVariablesCmd.entityId);
+      }
+
+      List<TaskEntity> tasks = commandContext
+        .getTaskManager()
+        .findTasksByIds(new ArrayList<String>(taskIds));
+
+      if (!tasks.isEmpty()) {
+        prefetchTaskVariables(commandContext, tasks);
+      }
+
+      for (TaskEntity task : tasks) {
+        if (task.getExecutionId() != null) {
+          executionIds.add(task.getExecutionId());
+        }
+      }
+    }
+
+    for (SetExecutionVariablesCmd executionVariablesCmd : executionVariablesCmds) {
+      executionIds.add(executionVariablesCmd.entityId);
+    }
+
+    if (!executionIds.isEmpty()) {
+      List<ExecutionEntity> executions = commandContext
+        .getExecutionManager()
+        .findExecutionsByIds(new ArrayList<String>(executionIds));
+
+      if (!executions.isEmpty()) {
+        prefetchExecutionVariables(commandContext, executions);
+      }
+    }
+  }
+
+  protected void prefetchTaskVariables(CommandContext commandContext, List<TaskEntity> tasks) {
+    List<String> taskIds = new ArrayList<String>();
+    for (TaskEntity task : tasks) {
+      taskIds.add(task.getId());
+    }
+
+    List<VariableInstanceEntity> variables = commandContext
+      .getVariableInstanceManager()
+      .findVariableInstancesByTaskIds(taskIds);
+
+    Map<String, List<VariableInstanceEntity>> variablesByTaskId = new HashMap<String, List<VariableInstanceEntity>>();
+    for (VariableInstanceEntity variable : variables) {
+      CollectionUtil.addToMapOfLists(variablesByTaskId, variable.getTaskId(), variable);
+    }
+
+    for (TaskEntity task : tasks) {
+      task.initializeVariables(variablesByTaskId.get(task.getId()));
+    }
+  }
+
+  protected void prefetchExecutionVariables(CommandContext commandContext, List<ExecutionEntity> executions) {
+    List<String> executionIds = new ArrayList<String>();
+    for (ExecutionEntity execution : executions) {
+      executionIds.add(execution.getId());
+    }
+
+    List<VariableInstanceEntity> variables = commandContext
+      .getVariableInstanceManager()
+      .findVariableInstancesByExecutionIds(executionIds);
+
+    Map<String, List<VariableInstanceEntity>> variablesByExecutionId = new HashMap<String, List<VariableInstanceEntity>>();
+    for (VariableInstanceEntity variable : variables) {
+      CollectionUtil.addToMapOfLists(variablesByExecutionId, variable.getExecutionId(), variable);
+    }
+
+    for (ExecutionEntity execution : executions) {
+      execution.initializeVariables(variablesByExecutionId.get(execution.getId()));
+    }
+  }
+
+}
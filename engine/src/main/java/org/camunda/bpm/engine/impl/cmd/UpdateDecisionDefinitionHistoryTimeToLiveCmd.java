@@ -19,6 +19,7 @@ import java.io.Serializable;
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.impl.cfg.CommandChecker;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureGreaterThanOrEqual;
@@ -49,6 +50,7 @@ public class UpdateDecisionDefinitionHistoryTimeToLiveCmd implements Command<Voi
 
     DecisionDefinitionEntity decisionDefinitionEntity = commandContext.getDecisionDefinitionManager().findDecisionDefinitionById(decisionDefinitionId);
     decisionDefinitionEntity.setHistoryTimeToLive(historyTimeToLive);
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
 
     return null;
   }
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd.batch;
+
+import static org.camunda.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_NONE;
+
+import java.util.Collections;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.impl.batch.BatchEntity;
+import org.camunda.bpm.engine.impl.batch.BatchJobHandler;
+import org.camunda.bpm.engine.impl.batch.removaltime.HistoryRemovalTimeBackfillConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Creates the batch which sets the removal time on the history of all root process
+ * instances which do not have one yet.
+ */
+public class HistoryRemovalTimeBackfillBatchCmd extends AbstractBatchCmd<Batch> {
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Batch execute(CommandContext commandContext) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+
+    if (HISTORY_REMOVAL_TIME_STRATEGY_NONE.equals(processEngineConfiguration.getHistoryRemovalTimeStrategy())) {
+      throw new BadUserRequestException("Cannot backfill removal time: history removal time strategy is '"
+        + HISTORY_REMOVAL_TIME_STRATEGY_NONE + "'");
+    }
+
+    checkAuthorizations(commandContext, Permissions.CREATE);
+
+    BatchJobHandler<HistoryRemovalTimeBackfillConfiguration> batchJobHandler = (BatchJobHandler<HistoryRemovalTimeBackfillConfiguration>)
+      processEngineConfiguration.getBatchHandlers().get(Batch.TYPE_HISTORY_REMOVAL_TIME_BACKFILL);
+
+    HistoryRemovalTimeBackfillConfiguration configuration = new HistoryRemovalTimeBackfillConfiguration(Collections.<String>emptyList());
+    configuration.setTargetLatency(processEngineConfiguration.getHistoryRemovalTimeBackfillTargetLatency());
+    configuration.setMaxThrottleDelay(processEngineConfiguration.getHistoryRemovalTimeBackfillMaxThrottleDelay());
+
+    BatchEntity batch = new BatchEntity();
+    batch.setType(batchJobHandler.getType());
+    // jobs are created window by window, the total is updated by the seed job
+    batch.setTotalJobs(0);
+    batch.setBatchJobsPerSeed(processEngineConfiguration.getBatchJobsPerSeed());
+    batch.setInvocationsPerBatchJob(processEngineConfiguration.getInvocationsPerBatchJob());
+    batch.setConfigurationBytes(batchJobHandler.writeConfiguration(configuration));
+    commandContext.getBatchManager().insertBatch(batch);
+
+    batch.createSeedJobDefinition();
+    batch.createMonitorJobDefinition();
+    batch.createBatchJobDefinition();
+
+    batch.fireHistoricStartEvent();
+
+    batch.createSeedJob();
+
+    return batch;
+  }
+
+}
@@ -23,6 +23,7 @@ import java.io.Serializable;
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.impl.cfg.CommandChecker;
 import org.camunda.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionEntity;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 
@@ -53,6 +54,7 @@ public class UpdateCaseDefinitionHistoryTimeToLiveCmd implements Command<Void>,
     }
 
     caseDefinitionEntity.setHistoryTimeToLive(historyTimeToLive);
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
 
     return null;
   }
@@ -154,6 +154,14 @@ public class CaseDefinitionManager extends AbstractManager implements AbstractRe
     return findLatestCaseDefinitionByKeyAndTenantId(definitionKey, tenantId);
   }
 
+  @Override
+  public Integer findRevisionOfLatestDefinition(String definitionId, boolean keyUniqueAcrossTenants) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("definitionId", definitionId);
+    parameters.put("keyUniqueAcrossTenants", keyUniqueAcrossTenants);
+    return (Integer) getDbEntityManager().selectOne("selectRevisionOfLatestCaseDefinition", parameters);
+  }
+
   @Override
   public CaseDefinitionEntity findDefinitionByKeyVersionTagAndTenantId(String definitionKey, String definitionVersionTag, String tenantId) {
     throw new UnsupportedOperationException("Currently finding case definition by version tag and tenant is not implemented.");
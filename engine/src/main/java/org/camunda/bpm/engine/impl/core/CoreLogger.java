@@ -80,4 +80,13 @@ public class CoreLogger extends ProcessEngineLogger {
       ));
   }
 
+  public ProcessEngineException nonNumericVariableException(String variableName, Object value) {
+    return new ProcessEngineException(exceptionMessage(
+        "008",
+        "Cannot read variable with name {} as a number. Its value is '{}'",
+        variableName,
+        value
+      ));
+  }
+
 }
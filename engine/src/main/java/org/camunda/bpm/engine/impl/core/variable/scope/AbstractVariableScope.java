@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.camunda.bpm.engine.delegate.PrimitiveVariableAccess;
 import org.camunda.bpm.engine.delegate.VariableScope;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -38,6 +39,7 @@ import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.impl.VariableMapImpl;
+import org.camunda.bpm.engine.variable.type.ValueType;
 import org.camunda.bpm.engine.variable.value.SerializableValue;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
@@ -47,7 +49,7 @@ import org.camunda.bpm.engine.variable.value.TypedValue;
  * @author Sebastian Menski
  *
  */
-public abstract class AbstractVariableScope implements Serializable, VariableScope, VariableEventDispatcher {
+public abstract class AbstractVariableScope implements Serializable, VariableScope, PrimitiveVariableAccess, VariableEventDispatcher {
 
   private static final long serialVersionUID = 1L;
 
@@ -176,6 +178,59 @@ public abstract class AbstractVariableScope implements Serializable, VariableSco
     }
   }
 
+  // primitive accessors /////////////////////////////////////
+
+  public long getLongVariable(String variableName) {
+    CoreVariableInstance variableInstance = getVariableInstance(variableName);
+
+    if (variableInstance instanceof VariableInstanceEntity) {
+      // read the persistent field directly instead of resolving a typed value
+      VariableInstanceEntity valueFields = (VariableInstanceEntity) variableInstance;
+      if (isLongSerializer(valueFields.getSerializerName()) && valueFields.getLongValue() != null) {
+        return valueFields.getLongValue();
+      }
+    }
+
+    return getNumberFromVariableInstance(variableName, variableInstance).longValue();
+  }
+
+  public void setLongVariable(String variableName, long value) {
+    setVariable(variableName, Variables.longValue(value), getSourceActivityVariableScope());
+  }
+
+  public double getDoubleVariable(String variableName) {
+    CoreVariableInstance variableInstance = getVariableInstance(variableName);
+
+    if (variableInstance instanceof VariableInstanceEntity) {
+      VariableInstanceEntity valueFields = (VariableInstanceEntity) variableInstance;
+      if (ValueType.DOUBLE.getName().equals(valueFields.getSerializerName()) && valueFields.getDoubleValue() != null) {
+        return valueFields.getDoubleValue();
+      }
+    }
+
+    return getNumberFromVariableInstance(variableName, variableInstance).doubleValue();
+  }
+
+  public void setDoubleVariable(String variableName, double value) {
+    setVariable(variableName, Variables.doubleValue(value), getSourceActivityVariableScope());
+  }
+
+  protected boolean isLongSerializer(String serializerName) {
+    return ValueType.LONG.getName().equals(serializerName)
+        || ValueType.INTEGER.getName().equals(serializerName)
+        || ValueType.SHORT.getName().equals(serializerName);
+  }
+
+  protected Number getNumberFromVariableInstance(String variableName, CoreVariableInstance variableInstance) {
+    Object value = getValueFromVariableInstance(false, variableInstance);
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    else {
+      throw ProcessEngineLogger.CORE_LOGGER.nonNumericVariableException(variableName, value);
+    }
+  }
+
   public CoreVariableInstance getVariableInstance(String variableName) {
     CoreVariableInstance variableInstance = getVariableInstanceLocal(variableName);
     if (variableInstance!=null) {
@@ -19,8 +19,11 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
+import org.camunda.bpm.engine.delegate.PrimitiveVariableAccess;
 import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.value.TypedValue;
 
 /**
@@ -30,7 +33,7 @@ import org.camunda.bpm.engine.variable.value.TypedValue;
  *
  * @author Thorben Lindhauer
  */
-public class VariableScopeLocalAdapter implements VariableScope {
+public class VariableScopeLocalAdapter implements VariableScope, PrimitiveVariableAccess {
 
   protected VariableScope wrappedScope;
 
@@ -90,6 +93,32 @@ public class VariableScopeLocalAdapter implements VariableScope {
     return wrappedScope.getVariableLocalTyped(variableName, deserializeValue);
   }
 
+  public long getLongVariable(String variableName) {
+    return getNumberValue(variableName).longValue();
+  }
+
+  public void setLongVariable(String variableName, long value) {
+    setVariableLocal(variableName, Variables.longValue(value));
+  }
+
+  public double getDoubleVariable(String variableName) {
+    return getNumberValue(variableName).doubleValue();
+  }
+
+  public void setDoubleVariable(String variableName, double value) {
+    setVariableLocal(variableName, Variables.doubleValue(value));
+  }
+
+  protected Number getNumberValue(String variableName) {
+    Object value = getVariableLocal(variableName);
+    if (value instanceof Number) {
+      return (Number) value;
+    }
+    else {
+      throw ProcessEngineLogger.CORE_LOGGER.nonNumericVariableException(variableName, value);
+    }
+  }
+
   public Set<String> getVariableNames() {
     return getVariableNamesLocal();
   }
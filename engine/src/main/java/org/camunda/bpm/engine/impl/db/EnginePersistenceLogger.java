@@ -708,4 +708,19 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
         ));
   }
 
+  public ProcessEngineException exceptionWhileReadingByteArrayContent(String byteArrayId, Throwable cause) {
+    return new ProcessEngineException(exceptionMessage(
+        "086",
+        "Exception while reading the content of byte array '{}': {}",
+        byteArrayId, cause.getMessage()
+        ), cause);
+  }
+
+  public void variableLookupNotBackfilled() {
+    logWarn(
+        "087",
+        "The variable lookup table has not been backfilled for the queryable variable names of this process engine. " +
+        "Queries on these variables read the variable table until ManagementService#backfillVariableLookup() is executed.");
+  }
+
 }
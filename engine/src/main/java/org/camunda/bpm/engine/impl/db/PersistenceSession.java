@@ -18,6 +18,7 @@ package org.camunda.bpm.engine.impl.db;
 import java.util.List;
 
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ResultHandler;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.interceptor.Session;
 
@@ -38,6 +39,13 @@ public interface PersistenceSession extends Session {
 
   Object selectOne(String statement, Object parameter);
 
+  /**
+   * Passes each row of the result to the given handler instead of collecting
+   * the results in a list. Loaded objects are not propagated to the
+   * registered {@link EntityLoadListener}s.
+   */
+  void select(String statement, Object parameter, ResultHandler resultHandler);
+
   void lock(String statement, Object parameter);
 
   int executeUpdate(String updateStatement, Object parameter);
@@ -35,6 +35,7 @@ import java.util.Map;
 
 import org.apache.ibatis.executor.BatchExecutorException;
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ResultHandler;
 import org.camunda.bpm.engine.impl.DeploymentQueryImpl;
 import org.camunda.bpm.engine.impl.ExecutionQueryImpl;
 import org.camunda.bpm.engine.impl.GroupQueryImpl;
@@ -76,7 +77,9 @@ import org.camunda.bpm.engine.impl.identity.db.DbGroupQueryImpl;
 import org.camunda.bpm.engine.impl.identity.db.DbUserQueryImpl;
 import org.camunda.bpm.engine.impl.interceptor.Session;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ActivityStatisticsSummaryTracker;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableLookupTracker;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.impl.util.EnsureUtil;
 import org.camunda.bpm.engine.impl.util.ExceptionUtil;
@@ -105,6 +108,9 @@ public class DbEntityManager implements Session, EntityLoadListener {
   protected PersistenceSession persistenceSession;
   protected boolean isIgnoreForeignKeysForNextFlush;
 
+  protected ActivityStatisticsSummaryTracker activityStatisticsSummaryTracker;
+  protected VariableLookupTracker variableLookupTracker;
+
   public DbEntityManager(IdGenerator idGenerator, PersistenceSession persistenceSession) {
     this.idGenerator = idGenerator;
     this.persistenceSession = persistenceSession;
@@ -113,12 +119,29 @@ public class DbEntityManager implements Session, EntityLoadListener {
     }
     initializeEntityCache();
     initializeOperationManager();
+    initializeActivityStatisticsSummaryTracker();
+    initializeVariableLookupTracker();
   }
 
   protected void initializeOperationManager() {
     dbOperationManager = new DbOperationManager();
   }
 
+  protected void initializeActivityStatisticsSummaryTracker() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null && processEngineConfiguration.isActivityStatisticsSummaryEnabled()) {
+      activityStatisticsSummaryTracker = new ActivityStatisticsSummaryTracker(
+          processEngineConfiguration.getActivityStatisticsSummaryRegistry(), idGenerator);
+    }
+  }
+
+  protected void initializeVariableLookupTracker() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null && processEngineConfiguration.isVariableLookupEnabled()) {
+      variableLookupTracker = new VariableLookupTracker(processEngineConfiguration.getQueryableVariableNames());
+    }
+  }
+
   protected void initializeEntityCache() {
 
     final JobExecutorContext jobExecutorContext = Context.getJobExecutorContext();
@@ -193,6 +216,15 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return result;
   }
 
+  /**
+   * Streams the result of the given statement to the handler. The rows are
+   * neither put into nor filtered against the entity cache, so that the
+   * memory consumption does not grow with the size of the result.
+   */
+  public void select(String statement, Object parameter, ResultHandler resultHandler) {
+    persistenceSession.select(statement, parameter, resultHandler);
+  }
+
   @SuppressWarnings("unchecked")
   public boolean selectBoolean(String statement, Object parameter) {
     List<String> result = (List<String>) persistenceSession.selectList(statement, parameter);
@@ -518,12 +550,28 @@ public class DbEntityManager implements Session, EntityLoadListener {
       flushCachedEntity(cachedDbEntity);
     }
 
+    if (activityStatisticsSummaryTracker != null) {
+      activityStatisticsSummaryTracker.flush(this);
+    }
+
+    if (variableLookupTracker != null) {
+      variableLookupTracker.flush(this);
+    }
+
     // log cache state after flush
     LOG.flushedCacheState(dbEntityCache.getCachedEntities());
   }
 
   protected void flushCachedEntity(CachedDbEntity cachedDbEntity) {
 
+    if (activityStatisticsSummaryTracker != null) {
+      activityStatisticsSummaryTracker.entityFlushed(cachedDbEntity);
+    }
+
+    if (variableLookupTracker != null) {
+      variableLookupTracker.entityFlushed(cachedDbEntity);
+    }
+
     if(cachedDbEntity.getEntityState() == TRANSIENT) {
       // latest state of references in cache is relevant when determining insertion order
       cachedDbEntity.determineEntityReferences();
@@ -725,6 +773,13 @@ public class DbEntityManager implements Session, EntityLoadListener {
     this.dbEntityCache = dbEntityCache;
   }
 
+  /**
+   * @return the tracker of the activity statistics summary or <code>null</code> if the summary is disabled
+   */
+  public ActivityStatisticsSummaryTracker getActivityStatisticsSummaryTracker() {
+    return activityStatisticsSummaryTracker;
+  }
+
   // query factory methods ////////////////////////////////////////////////////
 
   public DeploymentQueryImpl createDeploymentQuery() {
@@ -34,6 +34,8 @@ public class CachedDbEntity implements Recyclable {
 
   protected Object copy;
 
+  protected boolean forcedDirty;
+
   protected DbEntityState entityState;
 
   /**
@@ -45,6 +47,7 @@ public class CachedDbEntity implements Recyclable {
     // clean out state
     dbEntity = null;
     copy = null;
+    forcedDirty = false;
     entityState = null;
   }
 
@@ -53,16 +56,26 @@ public class CachedDbEntity implements Recyclable {
    * @return true if the entity is dirty (state has changed since it was put into the cache)
    */
   public boolean isDirty() {
-    return !dbEntity.getPersistentState().equals(copy);
+    return forcedDirty || !dbEntity.getPersistentState().equals(copy);
   }
 
   public void forceSetDirty() {
-    // set the value of the copy to some value which will always be different from the new entity state.
-    this.copy = -1;
+    // keep the copy: it still describes the state in the database
+    this.forcedDirty = true;
   }
 
   public void makeCopy() {
     copy = dbEntity.getPersistentState();
+    forcedDirty = false;
+  }
+
+  /**
+   * @return the persistent state of the entity as it was when the entity was
+   * put into the cache or last flushed; <code>null</code> for entities without a copy
+   * (e.g. {@link DbEntityState#TRANSIENT} or {@link DbEntityState#MERGED} entities)
+   */
+  public Object getCopy() {
+    return copy;
   }
 
   public String toString() {
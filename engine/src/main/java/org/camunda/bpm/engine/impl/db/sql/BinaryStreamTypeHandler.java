@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db.sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * Maps binary columns to the stream of the JDBC driver. The stream is only
+ * readable while the result set is positioned on the row, so results mapped
+ * by this handler must be consumed by a result handler.
+ */
+public class BinaryStreamTypeHandler extends BaseTypeHandler<InputStream> {
+
+  public void setNonNullParameter(PreparedStatement ps, int i, InputStream parameter, JdbcType jdbcType) throws SQLException {
+    ps.setBinaryStream(i, parameter);
+  }
+
+  public InputStream getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return rs.getBinaryStream(columnName);
+  }
+
+  public InputStream getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return rs.getBinaryStream(columnIndex);
+  }
+
+  public InputStream getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    byte[] bytes = cs.getBytes(columnIndex);
+    return bytes != null ? new ByteArrayInputStream(bytes) : null;
+  }
+
+}
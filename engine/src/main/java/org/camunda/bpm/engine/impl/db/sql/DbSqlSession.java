@@ -36,6 +36,7 @@ import java.util.List;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
@@ -119,6 +120,11 @@ public class DbSqlSession extends AbstractPersistenceSession {
     return result;
   }
 
+  public void select(String statement, Object parameter, ResultHandler resultHandler) {
+    statement = dbSqlSessionFactory.mapStatement(statement);
+    sqlSession.select(statement, parameter, resultHandler);
+  }
+
   // lock ////////////////////////////////////////////
 
   public void lock(String statement, Object parameter) {
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.camunda.bpm.engine.impl.Direction;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.QueryOrderingProperty;
 import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
@@ -101,6 +102,35 @@ public class MybatisJoinHelper {
 
   }
 
+  /**
+   * Creates the condition which restricts the rows of the given table alias to the rows
+   * which follow the row <code>KEYSET</code> according to the given ordering properties.
+   */
+  public static String keysetCondition(List<QueryOrderingProperty> orderingProperties, String tableAlias) {
+    StringBuilder sb = new StringBuilder();
+
+    for (int i = 0; i < orderingProperties.size(); i++) {
+      if (i > 0) {
+        sb.append(" or ");
+      }
+      sb.append("(");
+
+      for (int j = 0; j < i; j++) {
+        String column = orderingProperties.get(j).getQueryProperty().getName();
+        sb.append(tableAlias).append(".").append(column).append(" = KEYSET.").append(column).append(" and ");
+      }
+
+      QueryOrderingProperty orderingProperty = orderingProperties.get(i);
+      String column = orderingProperty.getQueryProperty().getName();
+      String operator = Direction.DESCENDING.equals(orderingProperty.getDirection()) ? " < " : " > ";
+      sb.append(tableAlias).append(".").append(column).append(operator).append("KEYSET.").append(column);
+
+      sb.append(")");
+    }
+
+    return sb.toString();
+  }
+
   protected static MyBatisTableMapping getTableMapping(String relation) {
     MyBatisTableMapping mapping = mappings.get(relation);
 
@@ -29,6 +29,7 @@ import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntit
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionManager;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionEntity;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsedResource;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
@@ -52,6 +53,12 @@ public class DecisionDefinitionDeployer extends AbstractDefinitionDeployer<Decis
     return DMN_RESOURCE_SUFFIXES;
   }
 
+  @Override
+  public PreParsedResource preParse(DeploymentEntity deployment, ResourceEntity resource) {
+    // the decisions are taken from the deployed DRD
+    return null;
+  }
+
   @Override
   protected List<DecisionDefinitionEntity> transformDefinitions(DeploymentEntity deployment, ResourceEntity resource, Properties properties) {
     List<DecisionDefinitionEntity> decisions = new ArrayList<DecisionDefinitionEntity>();
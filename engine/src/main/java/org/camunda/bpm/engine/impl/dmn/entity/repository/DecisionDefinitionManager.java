@@ -196,6 +196,14 @@ public class DecisionDefinitionManager extends AbstractManager implements Abstra
     return findLatestDecisionDefinitionByKeyAndTenantId(definitionKey, tenantId);
   }
 
+  @Override
+  public Integer findRevisionOfLatestDefinition(String definitionId, boolean keyUniqueAcrossTenants) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("definitionId", definitionId);
+    parameters.put("keyUniqueAcrossTenants", keyUniqueAcrossTenants);
+    return (Integer) getDbEntityManager().selectOne("selectRevisionOfLatestDecisionDefinition", parameters);
+  }
+
   @Override
   public DecisionDefinitionEntity findDefinitionByKeyVersionAndTenantId(String definitionKey, Integer definitionVersion, String tenantId) {
     return findDecisionDefinitionByKeyVersionAndTenantId(definitionKey, definitionVersion, tenantId);
@@ -119,6 +119,11 @@ public class DecisionRequirementsDefinitionManager extends AbstractManager imple
     return null;
   }
 
+  @Override
+  public Integer findRevisionOfLatestDefinition(String definitionId, boolean keyUniqueAcrossTenants) {
+    return null;
+  }
+
   @Override
   public DecisionRequirementsDefinitionEntity findDefinitionByKeyVersionAndTenantId(String definitionKey, Integer definitionVersion, String tenantId) {
     return null;
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.el;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.el.ExpressionCompiler.CompiledNode;
+import org.camunda.bpm.engine.impl.javax.el.ELContext;
+import org.camunda.bpm.engine.impl.javax.el.ValueExpression;
+
+/**
+ * {@link ValueExpression} evaluating a compiled expression tree. Falls back to
+ * the interpreted expression whenever the compiled tree cannot resolve the
+ * expression for the current variable scope.
+ */
+public class CompiledValueExpression extends ValueExpression {
+
+  private static final long serialVersionUID = 1L;
+
+  protected final ValueExpression interpretedExpression;
+  protected final transient CompiledNode compiledNode;
+
+  public CompiledValueExpression(ValueExpression interpretedExpression, CompiledNode compiledNode) {
+    this.interpretedExpression = interpretedExpression;
+    this.compiledNode = compiledNode;
+  }
+
+  public Object getValue(ELContext context) {
+    Object variableScope = context.getContext(VariableScope.class);
+    if (variableScope != null && compiledNode != null) {
+      Object value = compiledNode.eval((VariableScope) variableScope);
+      if (value != ExpressionCompiler.UNRESOLVED) {
+        return value;
+      }
+    }
+    return interpretedExpression.getValue(context);
+  }
+
+  public void setValue(ELContext context, Object value) {
+    interpretedExpression.setValue(context, value);
+  }
+
+  public boolean isReadOnly(ELContext context) {
+    return interpretedExpression.isReadOnly(context);
+  }
+
+  public Class<?> getType(ELContext context) {
+    return interpretedExpression.getType(context);
+  }
+
+  public Class<?> getExpectedType() {
+    return interpretedExpression.getExpectedType();
+  }
+
+  public String getExpressionString() {
+    return interpretedExpression.getExpressionString();
+  }
+
+  public boolean isLiteralText() {
+    return interpretedExpression.isLiteralText();
+  }
+
+  public ValueExpression getInterpretedExpression() {
+    return interpretedExpression;
+  }
+
+  public boolean equals(Object obj) {
+    if (obj instanceof CompiledValueExpression) {
+      return interpretedExpression.equals(((CompiledValueExpression) obj).interpretedExpression);
+    }
+    return false;
+  }
+
+  public int hashCode() {
+    return interpretedExpression.hashCode();
+  }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.el;
+
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.juel.AstBinary;
+import org.camunda.bpm.engine.impl.juel.AstBoolean;
+import org.camunda.bpm.engine.impl.juel.AstEval;
+import org.camunda.bpm.engine.impl.juel.AstIdentifier;
+import org.camunda.bpm.engine.impl.juel.AstNested;
+import org.camunda.bpm.engine.impl.juel.AstNode;
+import org.camunda.bpm.engine.impl.juel.AstNull;
+import org.camunda.bpm.engine.impl.juel.AstNumber;
+import org.camunda.bpm.engine.impl.juel.AstString;
+import org.camunda.bpm.engine.impl.juel.AstUnary;
+import org.camunda.bpm.engine.impl.juel.BooleanOperations;
+import org.camunda.bpm.engine.impl.juel.Builder;
+import org.camunda.bpm.engine.impl.juel.ExpressionNode;
+import org.camunda.bpm.engine.impl.juel.NumberOperations;
+import org.camunda.bpm.engine.impl.juel.TreeBuilderException;
+import org.camunda.bpm.engine.impl.juel.TypeConverter;
+
+/**
+ * <p>Translates the syntax tree of a JUEL expression into a tree of
+ * specialized evaluators.</p>
+ *
+ * <p>Only identifiers, literals and the boolean, relational and arithmetic
+ * operators are supported, which covers typical sequence flow conditions like
+ * <code>${amount > 1000 && approved}</code>. Identifiers are looked up directly
+ * in the {@link VariableScope}, bypassing the el resolver chain. Expressions
+ * containing property access, method or function invocations are not compiled.</p>
+ *
+ * <p>The operators are evaluated using the same {@link BooleanOperations} and
+ * {@link NumberOperations} as the interpreted expression, so both evaluations
+ * yield the same results.</p>
+ */
+public class ExpressionCompiler {
+
+  /**
+   * Returned by an evaluator if the compiled expression cannot be evaluated
+   * for the given variable scope and the interpreted expression must be used instead.
+   */
+  public static final Object UNRESOLVED = new Object();
+
+  protected Builder builder = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS);
+  protected TypeConverter converter = TypeConverter.DEFAULT;
+
+  /**
+   * @return the compiled evaluator or <code>null</code> if the expression
+   * contains constructs that cannot be compiled
+   */
+  public CompiledNode compile(String expressionText) {
+    ExpressionNode root;
+    try {
+      root = builder.build(expressionText).getRoot();
+    }
+    catch (TreeBuilderException e) {
+      return null;
+    }
+
+    if (root instanceof AstEval) {
+      return compile((AstNode) root);
+    }
+    else {
+      // literal text and composite expressions
+      return null;
+    }
+  }
+
+  protected CompiledNode compile(AstNode node) {
+    if (node instanceof AstEval || node instanceof AstNested) {
+      return compile(node.getChild(0));
+    }
+    else if (node instanceof AstIdentifier) {
+      return compileIdentifier(((AstIdentifier) node).getName());
+    }
+    else if (node instanceof AstString || node instanceof AstNumber
+        || node instanceof AstBoolean || node instanceof AstNull) {
+      return new LiteralNode(node.eval(null, null));
+    }
+    else if (node instanceof AstBinary) {
+      return compileBinary((AstBinary) node);
+    }
+    else if (node instanceof AstUnary) {
+      return compileUnary((AstUnary) node);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected CompiledNode compileIdentifier(String name) {
+    if (VariableScopeElResolver.EXECUTION_KEY.equals(name)
+        || VariableScopeElResolver.CASE_EXECUTION_KEY.equals(name)
+        || VariableScopeElResolver.TASK_KEY.equals(name)
+        || VariableScopeElResolver.LOGGED_IN_USER_KEY.equals(name)) {
+      // resolved from the scope itself rather than from its variables
+      return null;
+    }
+    return new VariableNode(name);
+  }
+
+  protected CompiledNode compileBinary(AstBinary node) {
+    CompiledNode left = compile(node.getChild(0));
+    CompiledNode right = compile(node.getChild(1));
+    if (left == null || right == null) {
+      return null;
+    }
+
+    AstBinary.Operator operator = node.getOperator();
+    if (operator == AstBinary.AND) {
+      return new AndNode(converter, left, right);
+    }
+    else if (operator == AstBinary.OR) {
+      return new OrNode(converter, left, right);
+    }
+    else if (isSupportedBinaryOperator(operator)) {
+      return new BinaryNode(converter, operator, left, right);
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected boolean isSupportedBinaryOperator(AstBinary.Operator operator) {
+    return operator == AstBinary.EQ || operator == AstBinary.NE
+        || operator == AstBinary.LT || operator == AstBinary.LE
+        || operator == AstBinary.GT || operator == AstBinary.GE
+        || operator == AstBinary.ADD || operator == AstBinary.SUB
+        || operator == AstBinary.MUL || operator == AstBinary.DIV
+        || operator == AstBinary.MOD;
+  }
+
+  protected CompiledNode compileUnary(AstUnary node) {
+    CompiledNode child = compile(node.getChild(0));
+    AstUnary.Operator operator = node.getOperator();
+    if (child == null) {
+      return null;
+    }
+    else if (operator == AstUnary.NOT || operator == AstUnary.EMPTY || operator == AstUnary.NEG) {
+      return new UnaryNode(converter, operator, child);
+    }
+    else {
+      return null;
+    }
+  }
+
+  /**
+   * Evaluator of a compiled expression (sub)tree.
+   */
+  public static abstract class CompiledNode {
+
+    /**
+     * @return the value of the node or {@link ExpressionCompiler#UNRESOLVED}
+     */
+    public abstract Object eval(VariableScope variableScope);
+
+  }
+
+  protected static class LiteralNode extends CompiledNode {
+
+    protected final Object value;
+
+    public LiteralNode(Object value) {
+      this.value = value;
+    }
+
+    public Object eval(VariableScope variableScope) {
+      return value;
+    }
+  }
+
+  protected static class VariableNode extends CompiledNode {
+
+    protected final String name;
+
+    public VariableNode(String name) {
+      this.name = name;
+    }
+
+    public Object eval(VariableScope variableScope) {
+      if (variableScope.hasVariable(name)) {
+        return variableScope.getVariable(name);
+      }
+      else {
+        // the variable may still be resolved by a bean or mock resolver
+        return UNRESOLVED;
+      }
+    }
+  }
+
+  protected static class AndNode extends CompiledNode {
+
+    protected final TypeConverter converter;
+    protected final CompiledNode left;
+    protected final CompiledNode right;
+
+    public AndNode(TypeConverter converter, CompiledNode left, CompiledNode right) {
+      this.converter = converter;
+      this.left = left;
+      this.right = right;
+    }
+
+    public Object eval(VariableScope variableScope) {
+      Object l = left.eval(variableScope);
+      if (l == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+      if (!Boolean.TRUE.equals(converter.convert(l, Boolean.class))) {
+        return Boolean.FALSE;
+      }
+      Object r = right.eval(variableScope);
+      return r == UNRESOLVED ? UNRESOLVED : converter.convert(r, Boolean.class);
+    }
+  }
+
+  protected static class OrNode extends CompiledNode {
+
+    protected final TypeConverter converter;
+    protected final CompiledNode left;
+    protected final CompiledNode right;
+
+    public OrNode(TypeConverter converter, CompiledNode left, CompiledNode right) {
+      this.converter = converter;
+      this.left = left;
+      this.right = right;
+    }
+
+    public Object eval(VariableScope variableScope) {
+      Object l = left.eval(variableScope);
+      if (l == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+      if (Boolean.TRUE.equals(converter.convert(l, Boolean.class))) {
+        return Boolean.TRUE;
+      }
+      Object r = right.eval(variableScope);
+      return r == UNRESOLVED ? UNRESOLVED : converter.convert(r, Boolean.class);
+    }
+  }
+
+  protected static class BinaryNode extends CompiledNode {
+
+    protected final TypeConverter converter;
+    protected final AstBinary.Operator operator;
+    protected final CompiledNode left;
+    protected final CompiledNode right;
+
+    public BinaryNode(TypeConverter converter, AstBinary.Operator operator, CompiledNode left, CompiledNode right) {
+      this.converter = converter;
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+    }
+
+    public Object eval(VariableScope variableScope) {
+      Object l = left.eval(variableScope);
+      if (l == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+      Object r = right.eval(variableScope);
+      if (r == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+
+      if (operator == AstBinary.EQ) {
+        return BooleanOperations.eq(converter, l, r);
+      }
+      else if (operator == AstBinary.NE) {
+        return BooleanOperations.ne(converter, l, r);
+      }
+      else if (operator == AstBinary.LT) {
+        return BooleanOperations.lt(converter, l, r);
+      }
+      else if (operator == AstBinary.LE) {
+        return BooleanOperations.le(converter, l, r);
+      }
+      else if (operator == AstBinary.GT) {
+        return BooleanOperations.gt(converter, l, r);
+      }
+      else if (operator == AstBinary.GE) {
+        return BooleanOperations.ge(converter, l, r);
+      }
+      else if (operator == AstBinary.ADD) {
+        return NumberOperations.add(converter, l, r);
+      }
+      else if (operator == AstBinary.SUB) {
+        return NumberOperations.sub(converter, l, r);
+      }
+      else if (operator == AstBinary.MUL) {
+        return NumberOperations.mul(converter, l, r);
+      }
+      else if (operator == AstBinary.DIV) {
+        return NumberOperations.div(converter, l, r);
+      }
+      else {
+        return NumberOperations.mod(converter, l, r);
+      }
+    }
+  }
+
+  protected static class UnaryNode extends CompiledNode {
+
+    protected final TypeConverter converter;
+    protected final AstUnary.Operator operator;
+    protected final CompiledNode child;
+
+    public UnaryNode(TypeConverter converter, AstUnary.Operator operator, CompiledNode child) {
+      this.converter = converter;
+      this.operator = operator;
+      this.child = child;
+    }
+
+    public Object eval(VariableScope variableScope) {
+      Object value = child.eval(variableScope);
+      if (value == UNRESOLVED) {
+        return UNRESOLVED;
+      }
+
+      if (operator == AstUnary.NOT) {
+        return !converter.convert(value, Boolean.class);
+      }
+      else if (operator == AstUnary.EMPTY) {
+        return BooleanOperations.empty(converter, value);
+      }
+      else {
+        return NumberOperations.neg(converter, value);
+      }
+    }
+  }
+
+}
@@ -33,6 +33,8 @@ import org.camunda.bpm.engine.impl.javax.el.ValueExpression;
 import org.camunda.bpm.engine.impl.juel.ExpressionFactoryImpl;
 import org.camunda.bpm.engine.test.mock.MockElResolver;
 import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.ConcurrentLruCache;
 
 
 /**
@@ -54,6 +56,7 @@ import org.camunda.bpm.engine.variable.context.VariableContext;
  */
 public class ExpressionManager {
 
+  public static final int DEFAULT_EXPRESSION_CACHE_SIZE = 0;
 
   protected List<FunctionMapper> functionMappers = new ArrayList<FunctionMapper>();
   protected ExpressionFactory expressionFactory;
@@ -62,6 +65,21 @@ public class ExpressionManager {
   protected Map<Object, Object> beans;
   protected ELResolver elResolver;
 
+  /**
+   * Value expressions are bound to the function mappers only, so definitions
+   * containing the same expression text can share one parsed expression.
+   * Disabled by default.
+   */
+  protected int expressionCacheSize = DEFAULT_EXPRESSION_CACHE_SIZE;
+  protected volatile Cache<String, ValueExpression> expressionCache;
+
+  /**
+   * Number of evaluations after which an expression is compiled,
+   * 0 disables compilation.
+   */
+  protected int expressionCompilationThreshold = 0;
+  protected ExpressionCompiler expressionCompiler = new ExpressionCompiler();
+
   public ExpressionManager() {
     this(null);
   }
@@ -78,11 +96,98 @@ public class ExpressionManager {
   }
 
   public ValueExpression createValueExpression(String expression) {
-    return expressionFactory.createValueExpression(parsingElContext, expression, Object.class);
+    return createValueExpression(expression, Object.class);
+  }
+
+  public ValueExpression createValueExpression(String expression, Class<?> expectedType) {
+    Cache<String, ValueExpression> cache = getExpressionCache();
+    if (cache == null) {
+      return expressionFactory.createValueExpression(parsingElContext, expression, expectedType);
+    }
+
+    String cacheKey = expectedType.getName() + ":" + expression;
+    ValueExpression valueExpression = cache.get(cacheKey);
+    if (valueExpression == null) {
+      valueExpression = expressionFactory.createValueExpression(parsingElContext, expression, expectedType);
+      cache.put(cacheKey, valueExpression);
+    }
+    return valueExpression;
   }
 
   public void setExpressionFactory(ExpressionFactory expressionFactory) {
     this.expressionFactory = expressionFactory;
+    expressionCache = null;
+  }
+
+  protected Cache<String, ValueExpression> getExpressionCache() {
+    if (expressionCache == null && expressionCacheSize > 0) {
+      synchronized (this) {
+        if (expressionCache == null) {
+          expressionCache = new ConcurrentLruCache<String, ValueExpression>(expressionCacheSize);
+        }
+      }
+    }
+    return expressionCache;
+  }
+
+  public int getExpressionCacheSize() {
+    return expressionCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of parsed value expressions shared between definitions.
+   * A size of 0 disables the cache.
+   */
+  public void setExpressionCacheSize(int expressionCacheSize) {
+    this.expressionCacheSize = expressionCacheSize;
+    expressionCache = null;
+  }
+
+  public int getExpressionCompilationThreshold() {
+    return expressionCompilationThreshold;
+  }
+
+  /**
+   * Sets the number of evaluations after which an expression is compiled
+   * into a tree of specialized evaluators. A threshold of 0 disables compilation.
+   */
+  public void setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+    this.expressionCompilationThreshold = expressionCompilationThreshold;
+  }
+
+  /**
+   * @return a compiled version of the given value expression or the value expression itself
+   * if compilation is not supported for it
+   */
+  public ValueExpression compileValueExpression(ValueExpression valueExpression, String expression) {
+    if (!isExpressionCompilationSupported() || valueExpression.getExpectedType() != Object.class) {
+      return valueExpression;
+    }
+
+    ExpressionCompiler.CompiledNode compiledNode = expressionCompiler.compile(expression);
+    if (compiledNode == null) {
+      return valueExpression;
+    }
+    return new CompiledValueExpression(valueExpression, compiledNode);
+  }
+
+  /**
+   * Compiled expressions resolve identifiers directly from the variable scope and
+   * evaluate operators with the default type conversions. This is only equivalent to
+   * the interpreted evaluation if the built-in expression factory is used and
+   * variables are resolved before any other el resolver is consulted.
+   */
+  protected boolean isExpressionCompilationSupported() {
+    if (expressionFactory == null || expressionFactory.getClass() != ExpressionFactoryImpl.class) {
+      return false;
+    }
+
+    ELResolver resolver = getCachedElResolver();
+    if (resolver instanceof CompositeELResolver) {
+      List<ELResolver> resolvers = ((CompositeELResolver) resolver).getResolvers();
+      return !resolvers.isEmpty() && resolvers.get(0) instanceof VariableScopeElResolver;
+    }
+    return false;
   }
 
   public ELContext getElContext(VariableScope variableScope) {
@@ -157,5 +262,7 @@ public class ExpressionManager {
    */
   public void addFunctionMapper(FunctionMapper elFunctionMapper) {
     this.functionMappers.add(elFunctionMapper);
+    // cached expressions are bound to the previous function mappers
+    expressionCache = null;
   }
 }
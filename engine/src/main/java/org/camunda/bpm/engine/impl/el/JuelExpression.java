@@ -39,6 +39,7 @@ public class JuelExpression implements Expression {
   protected String expressionText;
   protected ValueExpression valueExpression;
   protected ExpressionManager expressionManager;
+  protected int evaluationCount;
 
   public JuelExpression(ValueExpression valueExpression, ExpressionManager expressionManager, String expressionText) {
     this.valueExpression = valueExpression;
@@ -52,6 +53,7 @@ public class JuelExpression implements Expression {
 
   public Object getValue(VariableScope variableScope, BaseDelegateExecution contextExecution) {
     ELContext elContext = expressionManager.getElContext(variableScope);
+    compileIfHot();
     try {
       ExpressionGetInvocation invocation = new ExpressionGetInvocation(valueExpression, elContext, contextExecution);
       Context.getProcessEngineConfiguration()
@@ -69,6 +71,18 @@ public class JuelExpression implements Expression {
     }
   }
 
+  /**
+   * Replaces the interpreted expression with a compiled one once the expression
+   * reaches the configured number of evaluations. The counter is not synchronized,
+   * concurrent evaluations at worst compile the expression once more.
+   */
+  protected void compileIfHot() {
+    int threshold = expressionManager.getExpressionCompilationThreshold();
+    if (threshold > 0 && evaluationCount < threshold && ++evaluationCount == threshold) {
+      valueExpression = expressionManager.compileValueExpression(valueExpression, expressionText);
+    }
+  }
+
   public void setValue(Object value, VariableScope variableScope) {
     setValue(value, variableScope, null);
   }
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.export;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Exports the next chunk of historic activity instances after the position of the
+ * cursor and advances the cursor to the last exported row.
+ */
+public class ExportHistoricActivityInstancesCmd implements Command<Integer> {
+
+  protected HistoricDataExportCursor cursor;
+  protected int batchSize;
+  protected HistoricActivityInstanceExportWriter writer;
+
+  public ExportHistoricActivityInstancesCmd(HistoricDataExportCursor cursor, int batchSize, HistoricActivityInstanceExportWriter writer) {
+    this.cursor = cursor;
+    this.batchSize = batchSize;
+    this.writer = writer;
+  }
+
+  public Integer execute(CommandContext commandContext) {
+    ExportResultHandler resultHandler = new ExportResultHandler();
+
+    commandContext.getHistoricActivityInstanceManager()
+      .exportHistoricActivityInstances(cursor, batchSize, resultHandler);
+
+    return resultHandler.count;
+  }
+
+  protected class ExportResultHandler implements ResultHandler<HistoricActivityInstanceEventEntity> {
+
+    protected int count = 0;
+
+    public void handleResult(ResultContext<? extends HistoricActivityInstanceEventEntity> context) {
+      HistoricActivityInstanceEventEntity activityInstance = context.getResultObject();
+      writer.write(activityInstance);
+      cursor.advance(activityInstance.getRemovalTime(), activityInstance.getId());
+      count++;
+    }
+
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.export;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureGreaterThanOrEqual;
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.nio.channels.WritableByteChannel;
+
+import org.camunda.bpm.engine.history.HistoricActivityInstanceExportBuilder;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+
+public class HistoricActivityInstanceExportBuilderImpl implements HistoricActivityInstanceExportBuilder {
+
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  protected CommandExecutor commandExecutor;
+
+  protected int batchSize = DEFAULT_BATCH_SIZE;
+  protected int bufferSize = HistoricActivityInstanceExportWriter.DEFAULT_BUFFER_SIZE;
+
+  public HistoricActivityInstanceExportBuilderImpl(CommandExecutor commandExecutor) {
+    this.commandExecutor = commandExecutor;
+  }
+
+  public HistoricActivityInstanceExportBuilder batchSize(int batchSize) {
+    ensureGreaterThanOrEqual("batchSize", batchSize, 1);
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public HistoricActivityInstanceExportBuilder bufferSize(int bufferSize) {
+    ensureGreaterThanOrEqual("bufferSize", bufferSize, 1);
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  public long writeTo(WritableByteChannel channel) {
+    ensureNotNull("channel", channel);
+
+    HistoricActivityInstanceExportWriter writer = new HistoricActivityInstanceExportWriter(channel, bufferSize);
+    writer.writeHeader();
+
+    HistoricDataExportCursor cursor = new HistoricDataExportCursor();
+    long exportedRows = 0;
+
+    while (true) {
+      // every chunk is fetched in a separate command to not hold
+      // a database connection for the whole export
+      int chunkSize = commandExecutor.execute(new ExportHistoricActivityInstancesCmd(cursor, batchSize, writer));
+      exportedRows += chunkSize;
+
+      if (chunkSize < batchSize) {
+        if (cursor.isWithoutRemovalTime()) {
+          cursor.startRemovalTimePhase();
+        }
+        else {
+          break;
+        }
+      }
+    }
+
+    writer.flush();
+
+    return exportedRows;
+  }
+
+}
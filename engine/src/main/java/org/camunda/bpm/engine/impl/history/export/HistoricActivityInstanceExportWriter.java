@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.export;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Date;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.util.EngineUtilLogger;
+
+/**
+ * Writes historic activity instances as length-prefixed binary records to a channel,
+ * using a single buffer of fixed size.
+ *
+ * <p>The stream starts with the magic number {@link #MAGIC} and the format version
+ * (one byte). Each record starts with its length in bytes (int), followed by the columns
+ * in the order of the <code>ACT_HI_ACTINST</code> table. Strings are written as length
+ * (short, -1 for <code>null</code>) and UTF-8 bytes, dates as epoch milliseconds
+ * ({@link Long#MIN_VALUE} for <code>null</code>).</p>
+ */
+public class HistoricActivityInstanceExportWriter {
+
+  protected static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
+  public static final int MAGIC = 0x43484149;
+  public static final byte FORMAT_VERSION = 1;
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  protected static final Charset UTF_8 = Charset.forName("UTF-8");
+  protected static final long NULL_VALUE = Long.MIN_VALUE;
+
+  protected WritableByteChannel channel;
+  protected ByteBuffer buffer;
+
+  public HistoricActivityInstanceExportWriter(WritableByteChannel channel, int bufferSize) {
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocate(bufferSize);
+  }
+
+  public void writeHeader() {
+    buffer.putInt(MAGIC);
+    buffer.put(FORMAT_VERSION);
+  }
+
+  public void write(HistoricActivityInstanceEventEntity activityInstance) {
+    int recordStart = buffer.position();
+    try {
+      writeRecord(activityInstance);
+    }
+    catch (BufferOverflowException e) {
+      if (recordStart == 0) {
+        throw LOG.exportRecordExceedsBufferSize(activityInstance.getId(), buffer.capacity());
+      }
+      buffer.position(recordStart);
+      flush();
+      write(activityInstance);
+    }
+  }
+
+  protected void writeRecord(HistoricActivityInstanceEventEntity activityInstance) {
+    int lengthPosition = buffer.position();
+    buffer.putInt(0);
+
+    putString(activityInstance.getId());
+    putString(activityInstance.getParentActivityInstanceId());
+    putString(activityInstance.getProcessDefinitionKey());
+    putString(activityInstance.getProcessDefinitionId());
+    putString(activityInstance.getRootProcessInstanceId());
+    putString(activityInstance.getProcessInstanceId());
+    putString(activityInstance.getExecutionId());
+    putString(activityInstance.getActivityId());
+    putString(activityInstance.getTaskId());
+    putString(activityInstance.getCalledProcessInstanceId());
+    putString(activityInstance.getCalledCaseInstanceId());
+    putString(activityInstance.getActivityName());
+    putString(activityInstance.getActivityType());
+    putString(activityInstance.getTaskAssignee());
+    putDate(activityInstance.getStartTime());
+    putDate(activityInstance.getEndTime());
+    putLong(activityInstance.getDurationRaw());
+    buffer.putInt(activityInstance.getActivityInstanceState());
+    buffer.putLong(activityInstance.getSequenceCounter());
+    putString(activityInstance.getTenantId());
+    putDate(activityInstance.getRemovalTime());
+
+    buffer.putInt(lengthPosition, buffer.position() - lengthPosition - 4);
+  }
+
+  protected void putString(String value) {
+    if (value == null) {
+      buffer.putShort((short) -1);
+    }
+    else {
+      byte[] bytes = value.getBytes(UTF_8);
+      buffer.putShort((short) bytes.length);
+      buffer.put(bytes);
+    }
+  }
+
+  protected void putDate(Date value) {
+    buffer.putLong(value != null ? value.getTime() : NULL_VALUE);
+  }
+
+  protected void putLong(Long value) {
+    buffer.putLong(value != null ? value : NULL_VALUE);
+  }
+
+  /**
+   * Writes the buffered records to the channel.
+   */
+  public void flush() {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+    catch (IOException e) {
+      throw LOG.exceptionWhileWritingToChannel(e);
+    }
+    finally {
+      buffer.clear();
+    }
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.export;
+
+import java.util.Date;
+
+/**
+ * Position of a historic data export. The export first walks all rows without
+ * removal time ordered by id and afterwards all rows ordered by removal time and id.
+ */
+public class HistoricDataExportCursor {
+
+  protected boolean withoutRemovalTime = true;
+  protected Date removalTimeAfter;
+  protected String idAfter;
+
+  public void advance(Date removalTime, String id) {
+    this.removalTimeAfter = removalTime;
+    this.idAfter = id;
+  }
+
+  /**
+   * Continues with the rows which have a removal time.
+   */
+  public void startRemovalTimePhase() {
+    withoutRemovalTime = false;
+    removalTimeAfter = null;
+    idAfter = null;
+  }
+
+  public boolean isWithoutRemovalTime() {
+    return withoutRemovalTime;
+  }
+
+  public Date getRemovalTimeAfter() {
+    return removalTimeAfter;
+  }
+
+  public String getIdAfter() {
+    return idAfter;
+  }
+
+}
@@ -26,6 +26,7 @@ import org.camunda.bpm.engine.impl.history.event.HistoricVariableUpdateEventEnti
 import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
 import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.camunda.bpm.engine.repository.ResourceTypes;
 
@@ -93,15 +94,19 @@ public class DbHistoryEventHandler implements HistoryEventHandler {
       // insert byte array entity (if applicable)
       byte[] byteValue = historyEvent.getByteValue();
       if(byteValue != null) {
-        ByteArrayEntity byteArrayEntity = new ByteArrayEntity(historyEvent.getVariableName(), byteValue, ResourceTypes.HISTORY);
-        byteArrayEntity.setRootProcessInstanceId(historyEvent.getRootProcessInstanceId());
-        byteArrayEntity.setRemovalTime(historyEvent.getRemovalTime());
-
-        Context
-        .getCommandContext()
-        .getByteArrayManager()
-        .insertByteArray(byteArrayEntity);
-        historyEvent.setByteArrayId(byteArrayEntity.getId());
+        ByteArrayManager byteArrayManager = Context.getCommandContext().getByteArrayManager();
+
+        if (byteArrayManager.isContentAddressed(byteValue, ResourceTypes.HISTORY)) {
+          historyEvent.setByteArrayId(byteArrayManager.acquireSharedByteArray(historyEvent.getVariableName(), byteValue, ResourceTypes.HISTORY));
+        }
+        else {
+          ByteArrayEntity byteArrayEntity = new ByteArrayEntity(historyEvent.getVariableName(), byteValue, ResourceTypes.HISTORY);
+          byteArrayEntity.setRootProcessInstanceId(historyEvent.getRootProcessInstanceId());
+          byteArrayEntity.setRemovalTime(historyEvent.getRemovalTime());
+
+          byteArrayManager.insertByteArray(byteArrayEntity);
+          historyEvent.setByteArrayId(byteArrayEntity.getId());
+        }
 
       }
       dbEntityManager.insert(historyEvent);
@@ -123,28 +123,31 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
       String parentActivityInstanceId,
       HistoryEventType eventType) {
 
-    evt.setId(activityInstanceId);
     evt.setEventType(eventType.getEventName());
-    evt.setActivityInstanceId(activityInstanceId);
     evt.setParentActivityInstanceId(parentActivityInstanceId);
-    evt.setProcessDefinitionId(execution.getProcessDefinitionId());
-    evt.setProcessInstanceId(execution.getProcessInstanceId());
     evt.setExecutionId(execution.getId());
-    evt.setTenantId(execution.getTenantId());
-    evt.setRootProcessInstanceId(execution.getRootProcessInstanceId());
 
-    if (isHistoryRemovalTimeStrategyStart()) {
-      provideRemovalTime(evt);
-    }
+    if (!isActivityInstanceEventInitialized(evt, execution, eventSource, activityInstanceId)) {
+      evt.setId(activityInstanceId);
+      evt.setActivityInstanceId(activityInstanceId);
+      evt.setProcessDefinitionId(execution.getProcessDefinitionId());
+      evt.setProcessInstanceId(execution.getProcessInstanceId());
+      evt.setTenantId(execution.getTenantId());
+      evt.setRootProcessInstanceId(execution.getRootProcessInstanceId());
 
-    ProcessDefinitionEntity definition = execution.getProcessDefinition();
-    if (definition != null) {
-      evt.setProcessDefinitionKey(definition.getKey());
-    }
+      if (isHistoryRemovalTimeStrategyStart()) {
+        provideRemovalTime(evt);
+      }
 
-    evt.setActivityId(eventSource.getId());
-    evt.setActivityName((String) eventSource.getProperty("name"));
-    evt.setActivityType((String) eventSource.getProperty("type"));
+      ProcessDefinitionEntity definition = execution.getProcessDefinition();
+      if (definition != null) {
+        evt.setProcessDefinitionKey(definition.getKey());
+      }
+
+      evt.setActivityId(eventSource.getId());
+      evt.setActivityName((String) eventSource.getProperty("name"));
+      evt.setActivityType((String) eventSource.getProperty("type"));
+    }
 
     // update sub process reference
     ExecutionEntity subProcessInstance = execution.getSubProcessInstance();
@@ -164,10 +167,15 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
 
     String processDefinitionId = execution.getProcessDefinitionId();
     String processInstanceId = execution.getProcessInstanceId();
-    String executionId = execution.getId();
-    // the given execution is the process instance!
-    String caseInstanceId = execution.getCaseInstanceId();
-    String tenantId = execution.getTenantId();
+
+    evt.setEventType(eventType.getEventName());
+    evt.setExecutionId(execution.getId());
+    evt.setBusinessKey(execution.getProcessBusinessKey());
+
+    if (isEventInitialized(evt, processInstanceId, processDefinitionId)) {
+      // the event was produced earlier in this command, the remaining properties do not change
+      return;
+    }
 
     ProcessDefinitionEntity definition = execution.getProcessDefinition();
     String processDefinitionKey = null;
@@ -176,14 +184,12 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
     }
 
     evt.setId(processInstanceId);
-    evt.setEventType(eventType.getEventName());
     evt.setProcessDefinitionKey(processDefinitionKey);
     evt.setProcessDefinitionId(processDefinitionId);
     evt.setProcessInstanceId(processInstanceId);
-    evt.setExecutionId(executionId);
-    evt.setBusinessKey(execution.getProcessBusinessKey());
-    evt.setCaseInstanceId(caseInstanceId);
-    evt.setTenantId(tenantId);
+    // the given execution is the process instance!
+    evt.setCaseInstanceId(execution.getCaseInstanceId());
+    evt.setTenantId(execution.getTenantId());
     evt.setRootProcessInstanceId(execution.getRootProcessInstanceId());
 
     if (execution.getSuperCaseExecution() != null) {
@@ -448,6 +454,25 @@ public class DefaultHistoryEventProducer implements HistoryEventProducer {
     return evt;
   }
 
+  /**
+   * An event is already initialized if it was produced earlier in the same command and
+   * is reused (see {@link CacheAwareHistoryEventProducer}). Then only the properties which
+   * change during the lifetime of the instance need to be updated.
+   */
+  protected boolean isEventInitialized(HistoryEvent evt, String id, String processDefinitionId) {
+    return id != null
+      && id.equals(evt.getId())
+      && processDefinitionId != null
+      && processDefinitionId.equals(evt.getProcessDefinitionId());
+  }
+
+  protected boolean isActivityInstanceEventInitialized(HistoricActivityInstanceEventEntity evt, ExecutionEntity execution,
+      PvmScope eventSource, String activityInstanceId) {
+    // a migrated activity instance changes its activity
+    return isEventInitialized(evt, activityInstanceId, execution.getProcessDefinitionId())
+      && eventSource.getId().equals(evt.getActivityId());
+  }
+
   // event instance factory ////////////////////////
 
   protected HistoricProcessInstanceEventEntity newProcessInstanceEventEntity(ExecutionEntity execution) {
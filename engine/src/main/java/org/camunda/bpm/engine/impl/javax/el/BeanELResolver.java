@@ -47,8 +47,18 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BeanELResolver extends ELResolver {
 	protected static final class BeanProperties {
 		private final Map<String, BeanProperty> map = new HashMap<String, BeanProperty>();
+		private static final Object NO_METHOD = new Object();
+
+		private final Class<?> baseClass;
+		/**
+		 * Public methods resolved by name, indexed by parameter count, or {@link #NO_METHOD} if there is
+		 * no such method. Arrays are replaced rather than modified, so lookups of already resolved methods
+		 * don't need to lock or allocate.
+		 */
+		private final ConcurrentHashMap<String, Object[]> methods = new ConcurrentHashMap<String, Object[]>();
 
 		public BeanProperties(Class<?> baseClass) {
+			this.baseClass = baseClass;
 			PropertyDescriptor[] descriptors;
 			try {
 				descriptors = Introspector.getBeanInfo(baseClass).getPropertyDescriptors();
@@ -63,10 +73,31 @@ public class BeanELResolver extends ELResolver {
 		public BeanProperty getBeanProperty(String property) {
 			return map.get(property);
 		}
+
+		public Method getMethod(String name, int paramCount) {
+			Object[] resolved = methods.get(name);
+			if (resolved != null && paramCount < resolved.length && resolved[paramCount] != null) {
+				return resolved[paramCount] == NO_METHOD ? null : (Method) resolved[paramCount];
+			}
+			Method method = findMethod(baseClass, name, paramCount);
+			// concurrent updates may drop an entry, it is resolved again on the next lookup
+			Object[] updated = new Object[Math.max(paramCount + 1, resolved == null ? 0 : resolved.length)];
+			if (resolved != null) {
+				System.arraycopy(resolved, 0, updated, 0, resolved.length);
+			}
+			updated[paramCount] = method != null ? method : NO_METHOD;
+			methods.put(name, updated);
+			return method;
+		}
 	}
 
 	protected static final class BeanProperty {
 		private final PropertyDescriptor descriptor;
+		// accessible accessors are resolved on first use; racing threads resolve the same methods
+		private Method readMethod;
+		private Method writeMethod;
+		private volatile boolean readMethodResolved;
+		private volatile boolean writeMethodResolved;
 
 		public BeanProperty(PropertyDescriptor descriptor) {
 			this.descriptor = descriptor;
@@ -77,15 +108,23 @@ public class BeanELResolver extends ELResolver {
 		}
 
 		public Method getReadMethod() {
-			return findAccessibleMethod(descriptor.getReadMethod());
+			if (!readMethodResolved) {
+				readMethod = findAccessibleMethod(descriptor.getReadMethod());
+				readMethodResolved = true;
+			}
+			return readMethod;
 		}
 
 		public Method getWriteMethod() {
-			return findAccessibleMethod(descriptor.getWriteMethod());
+			if (!writeMethodResolved) {
+				writeMethod = findAccessibleMethod(descriptor.getWriteMethod());
+				writeMethodResolved = true;
+			}
+			return writeMethod;
 		}
 
 		public boolean isReadOnly() {
-			return findAccessibleMethod(descriptor.getWriteMethod()) == null;
+			return getWriteMethod() == null;
 		}
 	}
 
@@ -127,7 +166,11 @@ public class BeanELResolver extends ELResolver {
 	}
 
 	private final boolean readOnly;
-	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
+	/**
+	 * Bean metadata is attached to the bean classes themselves, so classes of undeployed process
+	 * applications and their class loaders are not retained by this resolver.
+	 */
+	private final ClassValue<BeanProperties> cache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -143,7 +186,12 @@ public class BeanELResolver extends ELResolver {
 	 */
 	public BeanELResolver(boolean readOnly) {
 		this.readOnly = readOnly;
-		this.cache = new ConcurrentHashMap<Class<?>, BeanProperties>();
+		this.cache = new ClassValue<BeanProperties>() {
+			@Override
+			protected BeanProperties computeValue(Class<?> type) {
+				return new BeanProperties(type);
+			}
+		};
 	}
 
 	/**
@@ -495,8 +543,12 @@ public class BeanELResolver extends ELResolver {
 				return null;
 			}
 		}
+		return cache.get(base.getClass()).getMethod(name, paramCount);
+	}
+
+	private static Method findMethod(Class<?> baseClass, String name, int paramCount) {
 		Method varArgsMethod = null;
-		for (Method method : base.getClass().getMethods()) {
+		for (Method method : baseClass.getMethods()) {
 			if (method.getName().equals(name)) {
 				int formalParamCount = method.getParameterTypes().length;
 				if (method.isVarArgs() && paramCount >= formalParamCount - 1) {
@@ -609,37 +661,10 @@ public class BeanELResolver extends ELResolver {
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
 		BeanProperties beanProperties = cache.get(base.getClass());
-		if (beanProperties == null) {
-			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
-			beanProperties = cache.putIfAbsent(base.getClass(), newBeanProperties);
-			if (beanProperties == null) { // put succeeded, use new value
-				beanProperties = newBeanProperties;
-			}
-		}
 		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
 		if (beanProperty == null) {
 			throw new PropertyNotFoundException("Could not find property " + property + " in " + base.getClass());
 		}
 		return beanProperty;
 	}
-
-	/**
-	 * This method is not part of the API, though it can be used (reflectively) by clients of this
-	 * class to remove entries from the cache when the beans are being unloaded.
-	 * 
-	 * Note: this method is present in the reference implementation, so we're adding it here to ease
-	 * migration.
-	 * 
-	 * @param classloader
-	 *            The classLoader used to load the beans.
-	 */
-	@SuppressWarnings("unused")
-	private final void purgeBeanClasses(ClassLoader loader) {
-		Iterator<Class<?>> classes = cache.keySet().iterator();
-		while (classes.hasNext()) {
-			if (loader == classes.next().getClassLoader()) {
-				classes.remove();
-			}
-		}
-	}
 }
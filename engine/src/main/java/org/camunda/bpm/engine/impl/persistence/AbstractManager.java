@@ -60,6 +60,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.JobManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.ResourceManager;
+import org.camunda.bpm.engine.impl.persistence.entity.StatisticsManager;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskManager;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskReportManager;
 import org.camunda.bpm.engine.impl.persistence.entity.TenantManager;
@@ -237,6 +238,10 @@ public abstract class AbstractManager implements Session {
     return getSession(TenantManager.class);
   }
 
+  protected StatisticsManager getStatisticsManager() {
+    return getSession(StatisticsManager.class);
+  }
+
   public void close() {
   }
 
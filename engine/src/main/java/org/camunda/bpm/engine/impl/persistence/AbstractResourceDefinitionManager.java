@@ -26,6 +26,13 @@ public interface AbstractResourceDefinitionManager<T> {
 
   T findLatestDefinitionByKeyAndTenantId(String definitionKey, String tenantId);
 
+  /**
+   * @return the revision of the definition with the given id if it is the latest version of its key
+   * and tenant, <code>null</code> otherwise. If <code>keyUniqueAcrossTenants</code> is set,
+   * <code>null</code> is also returned if a definition of another tenant has the same key.
+   */
+  Integer findRevisionOfLatestDefinition(String definitionId, boolean keyUniqueAcrossTenants);
+
   T findDefinitionByKeyVersionAndTenantId(String definitionKey, Integer definitionVersion, String tenantId);
 
   T findDefinitionByDeploymentAndKey(String deploymentId, String definitionKey);
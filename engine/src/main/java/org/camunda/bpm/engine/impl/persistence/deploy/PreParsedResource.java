@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.core.model.Properties;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+import org.camunda.bpm.engine.impl.repository.ResourceDefinitionEntity;
+
+/**
+ * The definitions a {@link PreParsingDeployer} transformed a resource into,
+ * together with the deployment properties collected while doing so.
+ */
+public class PreParsedResource {
+
+  protected final Deployer deployer;
+  protected final ResourceEntity resource;
+  protected final List<? extends ResourceDefinitionEntity> definitions;
+  protected final Properties properties;
+
+  public PreParsedResource(Deployer deployer, ResourceEntity resource, List<? extends ResourceDefinitionEntity> definitions, Properties properties) {
+    this.deployer = deployer;
+    this.resource = resource;
+    this.definitions = definitions;
+    this.properties = properties;
+  }
+
+  public Deployer getDeployer() {
+    return deployer;
+  }
+
+  public ResourceEntity getResource() {
+    return resource;
+  }
+
+  public List<? extends ResourceDefinitionEntity> getDefinitions() {
+    return definitions;
+  }
+
+  public Properties getProperties() {
+    return properties;
+  }
+
+}
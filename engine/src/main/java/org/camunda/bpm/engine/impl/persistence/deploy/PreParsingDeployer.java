@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy;
+
+import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+
+/**
+ * A {@link Deployer} which can parse the resources of a deployment before the
+ * deployment is persisted, i.e. before the exclusive deployment lock is acquired.
+ * The results are passed to {@link #deploy(DeploymentEntity)} via
+ * {@link DeploymentEntity#getPreParsedResource(Deployer, ResourceEntity)}.
+ */
+public interface PreParsingDeployer extends Deployer {
+
+  /**
+   * Parses a resource of the deployment. May be invoked concurrently for
+   * different resources of the same deployment.
+   *
+   * @return the parse result or <code>null</code> if the resource is not
+   *   handled or cannot be parsed in advance by this deployer
+   */
+  PreParsedResource preParse(DeploymentEntity deployment, ResourceEntity resource);
+
+}
@@ -46,6 +46,10 @@ public class CacheDeployer {
     this.deployers = deployers;
   }
 
+  public List<Deployer> getDeployers() {
+    return deployers;
+  }
+
   public void deploy(final DeploymentEntity deployment) {
     Context.getCommandContext().runWithoutAuthorization(new Callable<Void>() {
       public Void call() throws Exception {
@@ -41,6 +41,12 @@ public class CachePurgeReport implements PurgeReporting<Set<String>> {
    */
   Map<String, Set<String>> deletedCache = new HashMap<String, Set<String>>();
 
+  /**
+   * Key: cache name
+   * Value: statistics of the cache before it was purged
+   */
+  Map<String, CacheStatistics> cacheStatistics = new HashMap<String, CacheStatistics>();
+
   @Override
   public void addPurgeInformation(String key, Set<String> value) {
     deletedCache.put(key, new HashSet<String>(value));
@@ -75,4 +81,15 @@ public class CachePurgeReport implements PurgeReporting<Set<String>> {
   public boolean isEmpty() {
     return deletedCache.isEmpty();
   }
+
+  /**
+   * @return the statistics of the caches which record them, see {@link StatisticsCache}
+   */
+  public Map<String, CacheStatistics> getCacheStatistics() {
+    return cacheStatistics;
+  }
+
+  public void setCacheStatistics(Map<String, CacheStatistics> cacheStatistics) {
+    this.cacheStatistics = new HashMap<String, CacheStatistics>(cacheStatistics);
+  }
 }
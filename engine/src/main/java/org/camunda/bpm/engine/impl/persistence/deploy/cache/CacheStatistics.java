@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+/**
+ * Immutable snapshot of the statistics of a {@link StatisticsCache}.
+ */
+public class CacheStatistics {
+
+  protected final long hitCount;
+  protected final long missCount;
+  protected final long evictionCount;
+  protected final int size;
+  protected final long weight;
+
+  public CacheStatistics(long hitCount, long missCount, long evictionCount, int size, long weight) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+    this.weight = weight;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the ratio of lookups which found a value or 1 if there were no lookups
+   */
+  public double getHitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * @return the number of values which were removed to satisfy the bounds of the cache
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public long getWeight() {
+    return weight;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics[hitCount=" + hitCount
+      + ", missCount=" + missCount
+      + ", evictionCount=" + evictionCount
+      + ", size=" + size
+      + ", weight=" + weight
+      + "]";
+  }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+/**
+ * <p>Estimates the memory footprint of a value kept in a deployment cache.</p>
+ *
+ * <p>Weights are relative units; the maximum weight of a {@link WeightedCache}
+ * has to be chosen in the same unit.</p>
+ */
+public interface CacheWeigher {
+
+  /**
+   * @return the weight of the given value, at least 1
+   */
+  int weigh(Object value);
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.core.model.CoreActivity;
+
+/**
+ * <p>Weighs parsed process and case definitions by the number of activities
+ * they contain. Any other value has a weight of 1.</p>
+ *
+ * <p>The maximum weight of a cache using this weigher is therefore a number
+ * of activities.</p>
+ */
+public class DefinitionCacheWeigher implements CacheWeigher {
+
+  public int weigh(Object value) {
+    if (value instanceof CoreActivity) {
+      return 1 + countActivities((CoreActivity) value);
+    } else {
+      return 1;
+    }
+  }
+
+  protected int countActivities(CoreActivity scope) {
+    int count = 0;
+    List<? extends CoreActivity> activities = scope.getActivities();
+    for (CoreActivity activity : activities) {
+      count += 1 + countActivities(activity);
+    }
+    return count;
+  }
+
+}
@@ -17,11 +17,14 @@ package org.camunda.bpm.engine.impl.persistence.deploy.cache;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionEntity;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionEntity;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionQueryImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -32,7 +35,9 @@ import org.camunda.bpm.model.cmmn.CmmnModelInstance;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
 import org.camunda.commons.utils.cache.Cache;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -52,14 +57,22 @@ public class DeploymentCache {
   protected CacheDeployer cacheDeployer = new CacheDeployer();
 
   public DeploymentCache(CacheFactory factory, int cacheCapacity) {
-    processDefinitionEntityCache = new ProcessDefinitionCache(factory, cacheCapacity, cacheDeployer);
-    caseDefinitionCache = new CaseDefinitionCache(factory, cacheCapacity, cacheDeployer);
-    decisionDefinitionCache = new DecisionDefinitionCache(factory, cacheCapacity, cacheDeployer);
-    decisionRequirementsDefinitionCache = new DecisionRequirementsDefinitionCache(factory, cacheCapacity, cacheDeployer);
+    this(factory, factory, cacheCapacity);
+  }
 
-    bpmnModelInstanceCache = new BpmnModelInstanceCache(factory, cacheCapacity, processDefinitionEntityCache);
-    cmmnModelInstanceCache = new CmmnModelInstanceCache(factory, cacheCapacity, caseDefinitionCache);
-    dmnModelInstanceCache = new DmnModelInstanceCache(factory, cacheCapacity, decisionDefinitionCache);
+  /**
+   * @param definitionCacheFactory creates the caches of the parsed definitions
+   * @param modelInstanceCacheFactory creates the caches of the BPMN, CMMN and DMN model instances
+   */
+  public DeploymentCache(CacheFactory definitionCacheFactory, CacheFactory modelInstanceCacheFactory, int cacheCapacity) {
+    processDefinitionEntityCache = new ProcessDefinitionCache(definitionCacheFactory, cacheCapacity, cacheDeployer);
+    caseDefinitionCache = new CaseDefinitionCache(definitionCacheFactory, cacheCapacity, cacheDeployer);
+    decisionDefinitionCache = new DecisionDefinitionCache(definitionCacheFactory, cacheCapacity, cacheDeployer);
+    decisionRequirementsDefinitionCache = new DecisionRequirementsDefinitionCache(definitionCacheFactory, cacheCapacity, cacheDeployer);
+
+    bpmnModelInstanceCache = new BpmnModelInstanceCache(modelInstanceCacheFactory, cacheCapacity, processDefinitionEntityCache);
+    cmmnModelInstanceCache = new CmmnModelInstanceCache(modelInstanceCacheFactory, cacheCapacity, caseDefinitionCache);
+    dmnModelInstanceCache = new DmnModelInstanceCache(modelInstanceCacheFactory, cacheCapacity, decisionDefinitionCache);
   }
 
   public void deploy(final DeploymentEntity deployment) {
@@ -272,6 +285,34 @@ public class DeploymentCache {
     decisionRequirementsDefinitionCache.removeDefinitionFromCache(decisionRequirementsDefinitionId);
   }
 
+  /**
+   * Must be invoked when a change to the repository may change the result of a lookup of
+   * the latest definition by key. The indexes are discarded immediately, so that the
+   * current transaction observes the change, and again when the transaction is committed,
+   * so that lookups of concurrent transactions do not keep the outdated result.
+   */
+  public void invalidateLatestDefinitionIndexes() {
+    invalidateLatestDefinitionIndexesNow();
+
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      commandContext
+        .getTransactionContext()
+        .addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+          public void execute(CommandContext commandContext) {
+            invalidateLatestDefinitionIndexesNow();
+          }
+        });
+    }
+  }
+
+  protected void invalidateLatestDefinitionIndexesNow() {
+    processDefinitionEntityCache.invalidateLatestDefinitionIndex();
+    caseDefinitionCache.invalidateLatestDefinitionIndex();
+    decisionDefinitionCache.invalidateLatestDefinitionIndex();
+    decisionRequirementsDefinitionCache.invalidateLatestDefinitionIndex();
+  }
+
   // getters and setters //////////////////////////////////////////////////////
 
   public Cache<String, BpmnModelInstance> getBpmnModelInstanceCache() {
@@ -302,10 +343,36 @@ public class DeploymentCache {
     return caseDefinitionCache.getCache();
   }
 
+  /**
+   * @return the statistics of all caches which record them (see {@link StatisticsCache}),
+   *   keyed by the cache names of the {@link CachePurgeReport}
+   */
+  public Map<String, CacheStatistics> getCacheStatistics() {
+    Map<String, CacheStatistics> statistics = new HashMap<String, CacheStatistics>();
+    addCacheStatistics(statistics, CachePurgeReport.PROCESS_DEF_CACHE, getProcessDefinitionCache());
+    addCacheStatistics(statistics, CachePurgeReport.BPMN_MODEL_INST_CACHE, getBpmnModelInstanceCache());
+    addCacheStatistics(statistics, CachePurgeReport.CASE_DEF_CACHE, getCaseDefinitionCache());
+    addCacheStatistics(statistics, CachePurgeReport.CASE_MODEL_INST_CACHE, getCmmnModelInstanceCache());
+    addCacheStatistics(statistics, CachePurgeReport.DMN_DEF_CACHE, getDecisionDefinitionCache());
+    addCacheStatistics(statistics, CachePurgeReport.DMN_MODEL_INST_CACHE, getDmnDefinitionCache());
+    addCacheStatistics(statistics, CachePurgeReport.DMN_REQ_DEF_CACHE, getDecisionRequirementsDefinitionCache());
+    return statistics;
+  }
+
+  protected void addCacheStatistics(Map<String, CacheStatistics> statistics, String cacheName, Cache<String, ?> cache) {
+    if (cache instanceof StatisticsCache) {
+      statistics.put(cacheName, ((StatisticsCache<String, ?>) cache).getStatistics());
+    }
+  }
+
   public void setDeployers(List<Deployer> deployers) {
     this.cacheDeployer.setDeployers(deployers);
   }
 
+  public List<Deployer> getDeployers() {
+    return cacheDeployer.getDeployers();
+  }
+
   public void removeDeployment(String deploymentId) {
     bpmnModelInstanceCache.removeAllDefinitionsByDeploymentId(deploymentId);
     if(Context.getProcessEngineConfiguration().isCmmnEnabled()) {
@@ -337,6 +404,8 @@ public class DeploymentCache {
   public CachePurgeReport purgeCache() {
 
     CachePurgeReport result = new CachePurgeReport();
+    result.setCacheStatistics(getCacheStatistics());
+
     Cache<String, ProcessDefinitionEntity> processDefinitionCache = getProcessDefinitionCache();
     if (!processDefinitionCache.isEmpty()) {
       result.addPurgeInformation(CachePurgeReport.PROCESS_DEF_CACHE, processDefinitionCache.keySet());
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps definition keys to the id of the latest definition. Since the index does not
+ * observe changes which are made by other process engines, an indexed definition is
+ * only used after checking that it is still the latest version with an unchanged
+ * revision, see {@link ResourceDefinitionCache#findIndexedDefinition(String, boolean)}.
+ */
+public class LatestDefinitionIndex {
+
+  protected static final char SEPARATOR = '\u0000';
+
+  protected final ConcurrentMap<String, String> definitionIdsByKey = new ConcurrentHashMap<String, String>();
+  protected final ConcurrentMap<String, String> definitionIdsByKeyAndTenantId = new ConcurrentHashMap<String, String>();
+
+  public String getDefinitionIdByKey(String definitionKey) {
+    return definitionIdsByKey.get(definitionKey);
+  }
+
+  public void putDefinitionIdByKey(String definitionKey, String definitionId) {
+    definitionIdsByKey.put(definitionKey, definitionId);
+  }
+
+  public String getDefinitionIdByKeyAndTenantId(String definitionKey, String tenantId) {
+    return definitionIdsByKeyAndTenantId.get(keyAndTenantId(definitionKey, tenantId));
+  }
+
+  public void putDefinitionIdByKeyAndTenantId(String definitionKey, String tenantId, String definitionId) {
+    definitionIdsByKeyAndTenantId.put(keyAndTenantId(definitionKey, tenantId), definitionId);
+  }
+
+  protected String keyAndTenantId(String definitionKey, String tenantId) {
+    if (tenantId == null) {
+      return definitionKey;
+    } else {
+      return definitionKey + SEPARATOR + tenantId;
+    }
+  }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import org.camunda.bpm.model.xml.ModelInstance;
+import org.camunda.bpm.model.xml.instance.DomElement;
+
+/**
+ * <p>Weighs BPMN, CMMN and DMN model instances by the number of XML elements
+ * they consist of. Any other value has a weight of 1.</p>
+ *
+ * <p>The maximum weight of a cache using this weigher is therefore a number
+ * of XML elements.</p>
+ */
+public class ModelInstanceCacheWeigher implements CacheWeigher {
+
+  public int weigh(Object value) {
+    if (value instanceof ModelInstance) {
+      DomElement rootElement = ((ModelInstance) value).getDocument().getRootElement();
+      return rootElement != null ? countElements(rootElement) : 1;
+    } else {
+      return 1;
+    }
+  }
+
+  protected int countElements(DomElement element) {
+    int count = 1;
+    for (DomElement childElement : element.getChildElements()) {
+      count += countElements(childElement);
+    }
+    return count;
+  }
+
+}
@@ -17,6 +17,7 @@ package org.camunda.bpm.engine.impl.persistence.deploy.cache;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.HasDbRevision;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.AbstractResourceDefinitionManager;
 import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
@@ -34,6 +35,8 @@ public abstract class ResourceDefinitionCache<T extends ResourceDefinitionEntity
   protected Cache<String, T> cache;
   protected CacheDeployer cacheDeployer;
 
+  protected volatile LatestDefinitionIndex latestDefinitionIndex;
+
   public ResourceDefinitionCache(CacheFactory factory, int cacheCapacity, CacheDeployer cacheDeployer) {
     this.cache = factory.createCache(cacheCapacity);
     this.cacheDeployer = cacheDeployer;
@@ -61,18 +64,37 @@ public abstract class ResourceDefinitionCache<T extends ResourceDefinitionEntity
    * @throws ProcessEngineException if more than one tenant has a definition with the given key
    */
   public T findDeployedLatestDefinitionByKey(String definitionKey) {
-    T definition = getManager()
-        .findLatestDefinitionByKey(definitionKey);
-    checkInvalidDefinitionByKey(definitionKey, definition);
-    definition = resolveDefinition(definition);
+    // the result depends on the authenticated tenants if the tenant check applies
+    LatestDefinitionIndex index = isTenantCheckEnabled() ? null : getLatestDefinitionIndex();
+
+    T definition = findIndexedDefinition(index != null ? index.getDefinitionIdByKey(definitionKey) : null, true);
+    if (definition == null) {
+      definition = getManager()
+          .findLatestDefinitionByKey(definitionKey);
+      checkInvalidDefinitionByKey(definitionKey, definition);
+      definition = resolveDefinition(definition);
+
+      if (index != null) {
+        index.putDefinitionIdByKey(definitionKey, definition.getId());
+      }
+    }
     return definition;
   }
 
   public T findDeployedLatestDefinitionByKeyAndTenantId(String definitionKey, String tenantId) {
-    T definition = getManager()
-        .findLatestDefinitionByKeyAndTenantId(definitionKey, tenantId);
-    checkInvalidDefinitionByKeyAndTenantId(definitionKey, tenantId, definition);
-    definition = resolveDefinition(definition);
+    LatestDefinitionIndex index = getLatestDefinitionIndex();
+
+    T definition = findIndexedDefinition(index != null ? index.getDefinitionIdByKeyAndTenantId(definitionKey, tenantId) : null, false);
+    if (definition == null) {
+      definition = getManager()
+          .findLatestDefinitionByKeyAndTenantId(definitionKey, tenantId);
+      checkInvalidDefinitionByKeyAndTenantId(definitionKey, tenantId, definition);
+      definition = resolveDefinition(definition);
+
+      if (index != null) {
+        index.putDefinitionIdByKeyAndTenantId(definitionKey, tenantId, definition.getId());
+      }
+    }
     return definition;
   }
 
@@ -146,12 +168,68 @@ public abstract class ResourceDefinitionCache<T extends ResourceDefinitionEntity
 
   public void clear() {
     cache.clear();
+    invalidateLatestDefinitionIndex();
   }
 
   public Cache<String, T> getCache() {
     return cache;
   }
 
+  /**
+   * @return the current index or <code>null</code> if no index is used
+   */
+  protected LatestDefinitionIndex getLatestDefinitionIndex() {
+    if (!Context.getProcessEngineConfiguration().isEnableLatestDefinitionIndex()) {
+      return null;
+    }
+
+    LatestDefinitionIndex index = latestDefinitionIndex;
+    if (index == null) {
+      index = new LatestDefinitionIndex();
+      latestDefinitionIndex = index;
+    }
+    return index;
+  }
+
+  /**
+   * Discards the latest definition index, so that the next lookups by key query the
+   * database again and refresh the modifiable fields of the cached definitions.
+   */
+  public void invalidateLatestDefinitionIndex() {
+    latestDefinitionIndex = null;
+  }
+
+  /**
+   * Returns the indexed definition if it is still the latest version according to the
+   * database and its revision in the database matches the cached one, so that changes
+   * made by other process engines are observed. Since every change of the modifiable
+   * fields increments the revision, they are not refreshed.
+   *
+   * @return the cached definition or <code>null</code> if the database has to be queried
+   */
+  protected T findIndexedDefinition(String definitionId, boolean keyUniqueAcrossTenants) {
+    if (definitionId == null) {
+      return null;
+    }
+
+    T definition = cache.get(definitionId);
+    if (!(definition instanceof HasDbRevision)) {
+      return null;
+    }
+
+    Integer revision = getManager().findRevisionOfLatestDefinition(definitionId, keyUniqueAcrossTenants);
+    if (revision == null || revision != ((HasDbRevision) definition).getRevision()) {
+      return null;
+    }
+    return definition;
+  }
+
+  protected boolean isTenantCheckEnabled() {
+    return Context.getCommandContext()
+        .getTenantManager()
+        .isTenantCheckEnabled();
+  }
+
   protected abstract AbstractResourceDefinitionManager<T> getManager();
 
   protected abstract void checkInvalidDefinitionId(String definitionId);
@@ -0,0 +1,436 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>A cache which is bounded by the number of entries and by the total weight
+ * of its values, see {@link CacheWeigher}.</p>
+ *
+ * <p>Eviction follows the W-TinyLFU policy: new entries are added to a small
+ * LRU admission window. Entries leaving the window are only admitted to the
+ * main space (a segmented LRU with a probation and a protected segment) if
+ * they were accessed more frequently than the entry they would replace,
+ * according to a {@link FrequencySketch}. This keeps frequently used
+ * definitions cached when many rarely used ones are loaded.</p>
+ *
+ * <p>Reads do not lock: accesses are recorded in a lossy ring buffer which is
+ * replayed against the eviction policy by the thread that holds the eviction
+ * lock. Writes are serialized by the eviction lock.</p>
+ */
+public class WeightedCache<K, V> implements StatisticsCache<K, V> {
+
+  protected static final int READ_BUFFER_SIZE = 128;
+  protected static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  protected static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+  /** share of the maximum weight reserved for the admission window */
+  protected static final double WINDOW_PERCENTAGE = 0.01;
+  /** share of the main space reserved for the protected segment */
+  protected static final double PROTECTED_PERCENTAGE = 0.8;
+
+  protected static final int WINDOW = 0;
+  protected static final int PROBATION = 1;
+  protected static final int PROTECTED = 2;
+  protected static final int REMOVED = 3;
+
+  protected final int capacity;
+  protected final long maximumWeight;
+  protected final long windowMaximumWeight;
+  protected final long protectedMaximumWeight;
+  protected final CacheWeigher weigher;
+
+  protected final ConcurrentMap<K, Node<K, V>> data;
+
+  protected final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<Node<K, V>>(READ_BUFFER_SIZE);
+  protected final AtomicLong readBufferWriteCount = new AtomicLong();
+
+  protected final AtomicLong hitCount = new AtomicLong();
+  protected final AtomicLong missCount = new AtomicLong();
+  protected final AtomicLong evictionCount = new AtomicLong();
+
+  // guarded by the eviction lock
+  protected final ReentrantLock evictionLock = new ReentrantLock();
+  protected final FrequencySketch frequencySketch;
+  protected final LinkedHashSet<Node<K, V>> window = new LinkedHashSet<Node<K, V>>();
+  protected final LinkedHashSet<Node<K, V>> probation = new LinkedHashSet<Node<K, V>>();
+  protected final LinkedHashSet<Node<K, V>> protectedSegment = new LinkedHashSet<Node<K, V>>();
+  protected long windowWeight;
+  protected long probationWeight;
+  protected long protectedWeight;
+
+  /**
+   * Creates the cache.
+   *
+   * @param capacity the maximum number of entries
+   * @param maximumWeight the maximum total weight of all values
+   * @param weigher estimates the weight of a value
+   *
+   * @throws IllegalArgumentException if the capacity or the maximum weight is not positive
+   */
+  public WeightedCache(int capacity, long maximumWeight, CacheWeigher weigher) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    if (maximumWeight <= 0) {
+      throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+    }
+
+    this.capacity = capacity;
+    this.maximumWeight = maximumWeight;
+    this.windowMaximumWeight = Math.max(1, (long) (maximumWeight * WINDOW_PERCENTAGE));
+    this.protectedMaximumWeight = (long) ((maximumWeight - windowMaximumWeight) * PROTECTED_PERCENTAGE);
+    this.weigher = weigher;
+    this.data = new ConcurrentHashMap<K, Node<K, V>>(Math.min(capacity, 1024));
+    this.frequencySketch = new FrequencySketch(capacity);
+  }
+
+  public V get(K key) {
+    Node<K, V> node = data.get(key);
+    if (node == null) {
+      missCount.incrementAndGet();
+      return null;
+    }
+
+    hitCount.incrementAndGet();
+    recordRead(node);
+    return node.value;
+  }
+
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+
+    // the weight is computed once per value and kept with the entry; weighing
+    // happens outside of the eviction lock since it may walk the whole value
+    Node<K, V> existingNode = data.get(key);
+    int weight = existingNode != null && existingNode.value == value ? -1 : weigh(value);
+
+    evictionLock.lock();
+    try {
+      drainReadBuffer();
+
+      Node<K, V> node = data.get(key);
+      if (node == null) {
+        if (weight < 0) {
+          weight = weigh(value);
+        }
+        node = new Node<K, V>(key, value, weight);
+        data.put(key, node);
+        window.add(node);
+        windowWeight += weight;
+      }
+      else {
+        if (node.value != value) {
+          if (weight < 0) {
+            weight = weigh(value);
+          }
+          node.value = value;
+          addWeight(node.segment, weight - node.weight);
+          node.weight = weight;
+        }
+        onAccess(node);
+      }
+
+      frequencySketch.increment(key);
+      evictEntries(node);
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  protected int weigh(V value) {
+    return Math.max(1, weigher.weigh(value));
+  }
+
+  public void remove(K key) {
+    evictionLock.lock();
+    try {
+      Node<K, V> node = data.remove(key);
+      if (node != null) {
+        unlink(node);
+      }
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  public void clear() {
+    evictionLock.lock();
+    try {
+      for (Node<K, V> node : data.values()) {
+        node.segment = REMOVED;
+      }
+      data.clear();
+      window.clear();
+      probation.clear();
+      protectedSegment.clear();
+      windowWeight = 0;
+      probationWeight = 0;
+      protectedWeight = 0;
+
+      for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+        readBuffer.set(i, null);
+      }
+    }
+    finally {
+      evictionLock.unlock();
+    }
+  }
+
+  public boolean isEmpty() {
+    return data.isEmpty();
+  }
+
+  public Set<K> keySet() {
+    return Collections.unmodifiableSet(data.keySet());
+  }
+
+  public int size() {
+    return data.size();
+  }
+
+  public CacheStatistics getStatistics() {
+    long weight;
+    evictionLock.lock();
+    try {
+      weight = windowWeight + probationWeight + protectedWeight;
+    }
+    finally {
+      evictionLock.unlock();
+    }
+    return new CacheStatistics(hitCount.get(), missCount.get(), evictionCount.get(), data.size(), weight);
+  }
+
+  // read buffer //////////////////////////////////////////////////////////////
+
+  protected void recordRead(Node<K, V> node) {
+    long writeCount = readBufferWriteCount.getAndIncrement();
+    // entries which are overwritten before the buffer is drained are lost
+    readBuffer.lazySet((int) (writeCount & READ_BUFFER_MASK), node);
+
+    if ((writeCount + 1) % READ_BUFFER_DRAIN_THRESHOLD == 0 && evictionLock.tryLock()) {
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  protected void drainReadBuffer() {
+    for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+      Node<K, V> node = readBuffer.getAndSet(i, null);
+      if (node != null && node.segment != REMOVED) {
+        frequencySketch.increment(node.key);
+        onAccess(node);
+      }
+    }
+  }
+
+  // eviction policy //////////////////////////////////////////////////////////
+
+  protected void onAccess(Node<K, V> node) {
+    switch (node.segment) {
+    case WINDOW:
+      moveToTail(window, node);
+      break;
+
+    case PROBATION:
+      // promote to the protected segment
+      probation.remove(node);
+      probationWeight -= node.weight;
+      protectedSegment.add(node);
+      protectedWeight += node.weight;
+      node.segment = PROTECTED;
+      demoteProtectedEntries();
+      break;
+
+    case PROTECTED:
+      moveToTail(protectedSegment, node);
+      break;
+
+    default:
+      // removed
+    }
+  }
+
+  protected void demoteProtectedEntries() {
+    while (protectedWeight > protectedMaximumWeight && protectedSegment.size() > 1) {
+      Node<K, V> node = pollFirst(protectedSegment);
+      protectedWeight -= node.weight;
+      probation.add(node);
+      probationWeight += node.weight;
+      node.segment = PROBATION;
+    }
+  }
+
+  /**
+   * Moves entries from the admission window to the main space and evicts
+   * entries until the bounds of the cache are satisfied. The given entry
+   * was just written and is never evicted.
+   */
+  protected void evictEntries(Node<K, V> current) {
+    while (windowWeight > windowMaximumWeight && window.size() > 1) {
+      Node<K, V> candidate = pollFirst(window);
+      windowWeight -= candidate.weight;
+      admit(candidate);
+    }
+
+    while (isOverflowing()) {
+      Node<K, V> victim = findVictim();
+      if (victim == null || victim == current) {
+        break;
+      }
+      evict(victim);
+    }
+  }
+
+  /**
+   * Admits a candidate from the window to the probation segment if it is used
+   * more frequently than the entries which have to be evicted to make room for it.
+   */
+  protected void admit(Node<K, V> candidate) {
+    long mainMaximumWeight = maximumWeight - windowWeight;
+
+    while (probationWeight + protectedWeight + candidate.weight > mainMaximumWeight || data.size() > capacity) {
+      Node<K, V> victim = findMainVictim();
+      if (victim == null) {
+        break;
+      }
+
+      if (frequencySketch.frequency(candidate.key) > frequencySketch.frequency(victim.key)) {
+        evict(victim);
+      }
+      else {
+        candidate.segment = REMOVED;
+        data.remove(candidate.key, candidate);
+        evictionCount.incrementAndGet();
+        return;
+      }
+    }
+
+    probation.add(candidate);
+    probationWeight += candidate.weight;
+    candidate.segment = PROBATION;
+  }
+
+  protected boolean isOverflowing() {
+    return windowWeight + probationWeight + protectedWeight > maximumWeight || data.size() > capacity;
+  }
+
+  protected Node<K, V> findMainVictim() {
+    if (!probation.isEmpty()) {
+      return probation.iterator().next();
+    }
+    else if (!protectedSegment.isEmpty()) {
+      return protectedSegment.iterator().next();
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected Node<K, V> findVictim() {
+    Node<K, V> victim = findMainVictim();
+    if (victim == null && !window.isEmpty()) {
+      victim = window.iterator().next();
+    }
+    return victim;
+  }
+
+  protected void evict(Node<K, V> node) {
+    data.remove(node.key, node);
+    unlink(node);
+    evictionCount.incrementAndGet();
+  }
+
+  protected void unlink(Node<K, V> node) {
+    switch (node.segment) {
+    case WINDOW:
+      window.remove(node);
+      break;
+    case PROBATION:
+      probation.remove(node);
+      break;
+    case PROTECTED:
+      protectedSegment.remove(node);
+      break;
+    default:
+      return;
+    }
+    addWeight(node.segment, -node.weight);
+    node.segment = REMOVED;
+  }
+
+  protected void addWeight(int segment, long delta) {
+    switch (segment) {
+    case WINDOW:
+      windowWeight += delta;
+      break;
+    case PROBATION:
+      probationWeight += delta;
+      break;
+    case PROTECTED:
+      protectedWeight += delta;
+      break;
+    default:
+      // removed
+    }
+  }
+
+  protected void moveToTail(LinkedHashSet<Node<K, V>> segment, Node<K, V> node) {
+    segment.remove(node);
+    segment.add(node);
+  }
+
+  protected Node<K, V> pollFirst(LinkedHashSet<Node<K, V>> segment) {
+    Iterator<Node<K, V>> iterator = segment.iterator();
+    Node<K, V> node = iterator.next();
+    iterator.remove();
+    return node;
+  }
+
+  protected static class Node<K, V> {
+
+    protected final K key;
+    protected volatile V value;
+
+    // guarded by the eviction lock
+    protected int weight;
+    protected int segment = WINDOW;
+
+    public Node(K key, V value, int weight) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+
+}
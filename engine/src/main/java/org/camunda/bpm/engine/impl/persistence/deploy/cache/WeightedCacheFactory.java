@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import org.camunda.commons.utils.cache.Cache;
+
+/**
+ * <p>Provides deployment caches which are bounded by the number of entries and by
+ * the estimated size of their values, see {@link WeightedCache}.</p>
+ *
+ * <p>The maximum weight is expressed in the unit of the given {@link CacheWeigher}
+ * and applies to each created cache separately. Definitions and model instances
+ * are weighed in different units, so the {@link DeploymentCache} uses a separate
+ * factory for each of them, see {@link DefinitionCacheWeigher} and
+ * {@link ModelInstanceCacheWeigher}.</p>
+ */
+public class WeightedCacheFactory implements CacheFactory {
+
+  protected long maximumWeight;
+  protected CacheWeigher weigher;
+
+  public WeightedCacheFactory(long maximumWeight, CacheWeigher weigher) {
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+  }
+
+  @Override
+  public <T> Cache<String, T> createCache(int maxNumberOfElementsInCache) {
+    return new WeightedCache<String, T>(maxNumberOfElementsInCache, maximumWeight, weigher);
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  public CacheWeigher getWeigher() {
+    return weigher;
+  }
+
+}
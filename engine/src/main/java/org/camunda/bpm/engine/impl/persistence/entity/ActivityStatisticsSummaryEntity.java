@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+
+/**
+ * A single counter of the activity statistics summary. The summary keeps the number of
+ * active activity instances, failed jobs and incidents per activity of a process definition
+ * and is maintained incrementally while entities are flushed.
+ */
+public class ActivityStatisticsSummaryEntity implements DbEntity, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final String COUNTER_INITIALIZED = "initialized";
+  public static final String COUNTER_INSTANCES = "instances";
+  public static final String COUNTER_FAILED_JOBS = "failedJobs";
+  public static final String COUNTER_INCIDENT_PREFIX = "incident:";
+
+  protected String id;
+  protected String processDefinitionId;
+  protected String activityId;
+  protected String counter;
+  protected String incidentType;
+  protected long count;
+
+  public ActivityStatisticsSummaryEntity() {
+  }
+
+  public ActivityStatisticsSummaryEntity(String processDefinitionId, String activityId, String counter, String incidentType) {
+    this.processDefinitionId = processDefinitionId;
+    this.activityId = activityId;
+    this.counter = counter;
+    this.incidentType = incidentType;
+  }
+
+  public static String incidentCounter(String incidentType) {
+    return COUNTER_INCIDENT_PREFIX + incidentType;
+  }
+
+  public static String counterKey(String activityId, String counter) {
+    return activityId + "\n" + counter;
+  }
+
+  public String getCounterKey() {
+    return counterKey(activityId, counter);
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getProcessDefinitionId() {
+    return processDefinitionId;
+  }
+
+  public void setProcessDefinitionId(String processDefinitionId) {
+    this.processDefinitionId = processDefinitionId;
+  }
+
+  public String getActivityId() {
+    return activityId;
+  }
+
+  public void setActivityId(String activityId) {
+    this.activityId = activityId;
+  }
+
+  public String getCounter() {
+    return counter;
+  }
+
+  public void setCounter(String counter) {
+    this.counter = counter;
+  }
+
+  public String getIncidentType() {
+    return incidentType;
+  }
+
+  public void setIncidentType(String incidentType) {
+    this.incidentType = incidentType;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public void setCount(long count) {
+    this.count = count;
+  }
+
+  public Object getPersistentState() {
+    // counts are only changed by bulk updates
+    return ActivityStatisticsSummaryEntity.class;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+           + "[id=" + id
+           + ", processDefinitionId=" + processDefinitionId
+           + ", activityId=" + activityId
+           + ", counter=" + counter
+           + ", incidentType=" + incidentType
+           + ", count=" + count
+           + "]";
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+
+/**
+ * Engine wide registry of the activity statistics summary counters which are known
+ * to exist in the database. Counters are never removed while their process definition
+ * exists, so the registry allows to update them without querying the database first.
+ */
+public class ActivityStatisticsSummaryRegistry {
+
+  protected ConcurrentMap<String, Set<String>> countersByProcessDefinitionId = new ConcurrentHashMap<String, Set<String>>();
+
+  /**
+   * @return the keys (see {@link ActivityStatisticsSummaryEntity#getCounterKey()}) of all
+   * counters of the given process definition; loaded from the database if the process
+   * definition is not known yet or if <code>refresh</code> is set
+   */
+  public Set<String> getCounterKeys(String processDefinitionId, DbEntityManager dbEntityManager, boolean refresh) {
+    Set<String> counterKeys = countersByProcessDefinitionId.get(processDefinitionId);
+    if (counterKeys == null || refresh) {
+      counterKeys = loadCounterKeys(processDefinitionId, dbEntityManager);
+      countersByProcessDefinitionId.put(processDefinitionId, counterKeys);
+    }
+    return counterKeys;
+  }
+
+  public boolean isInitialized(String processDefinitionId, DbEntityManager dbEntityManager) {
+    String initializedKey = ActivityStatisticsSummaryEntity.counterKey(null, ActivityStatisticsSummaryEntity.COUNTER_INITIALIZED);
+    return getCounterKeys(processDefinitionId, dbEntityManager, false).contains(initializedKey);
+  }
+
+  public void remove(String processDefinitionId) {
+    countersByProcessDefinitionId.remove(processDefinitionId);
+  }
+
+  public void clear() {
+    countersByProcessDefinitionId.clear();
+  }
+
+  protected Set<String> loadCounterKeys(String processDefinitionId, DbEntityManager dbEntityManager) {
+    final Set<String> counterKeys = new HashSet<String>();
+    dbEntityManager.select("selectActivityStatisticsSummaryByProcessDefinitionId", processDefinitionId, new ResultHandler<ActivityStatisticsSummaryEntity>() {
+      public void handleResult(ResultContext<? extends ActivityStatisticsSummaryEntity> resultContext) {
+        counterKeys.add(resultContext.getResultObject().getCounterKey());
+      }
+    });
+    return Collections.unmodifiableSet(counterKeys);
+  }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import static org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState.DELETED_PERSISTENT;
+import static org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState.PERSISTENT;
+import static org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState.TRANSIENT;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.camunda.bpm.engine.impl.cfg.IdGenerator;
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
+
+/**
+ * Collects the changes of the activity statistics summary counters while the entity cache
+ * is flushed and schedules one update per changed counter.
+ *
+ * <p>The old state of an entity is taken from the copy of its persistent state in the
+ * entity cache, the new state from the entity itself. Entities which are merged into the
+ * cache are not tracked; bulk statements which change counted entities must report their
+ * changes explicitly, see {@link #failedJobsRetried(String, String, long)}.
+ * {@link org.camunda.bpm.engine.impl.cmd.ReconcileActivityStatisticsSummaryCmd} recomputes
+ * the counters of a process definition from the runtime tables.</p>
+ *
+ * <p>The counters are updated in the order of their keys, so concurrent transactions
+ * which change the same counters lock them in the same order. Counters which do not
+ * exist yet are inserted while holding the lock on the initialized counter of their
+ * process definition, so that concurrent transactions do not insert the same counter.</p>
+ */
+public class ActivityStatisticsSummaryTracker {
+
+  protected ActivityStatisticsSummaryRegistry registry;
+
+  protected IdGenerator idGenerator;
+
+  protected Map<String, ActivityStatisticsSummaryEntity> deltas = new TreeMap<String, ActivityStatisticsSummaryEntity>();
+
+  protected Set<String> deletedProcessDefinitionIds = new HashSet<String>();
+
+  public ActivityStatisticsSummaryTracker(ActivityStatisticsSummaryRegistry registry, IdGenerator idGenerator) {
+    this.registry = registry;
+    this.idGenerator = idGenerator;
+  }
+
+  /**
+   * Must be invoked before the entity is flushed, i.e. while its state in the cache
+   * still reflects the pending changes.
+   */
+  @SuppressWarnings("unchecked")
+  public void entityFlushed(CachedDbEntity cachedDbEntity) {
+    DbEntity entity = cachedDbEntity.getEntity();
+    if (!(entity instanceof ExecutionEntity || entity instanceof JobEntity || entity instanceof IncidentEntity)) {
+      return;
+    }
+
+    DbEntityState entityState = cachedDbEntity.getEntityState();
+    Map<String, Object> oldState = null;
+    Map<String, Object> newState = null;
+
+    if (entityState == TRANSIENT) {
+      newState = (Map<String, Object>) entity.getPersistentState();
+
+    } else if (entityState == PERSISTENT && cachedDbEntity.isDirty() && cachedDbEntity.getCopy() instanceof Map) {
+      oldState = (Map<String, Object>) cachedDbEntity.getCopy();
+      newState = (Map<String, Object>) entity.getPersistentState();
+
+    } else if (entityState == DELETED_PERSISTENT && cachedDbEntity.getCopy() instanceof Map) {
+      oldState = (Map<String, Object>) cachedDbEntity.getCopy();
+
+    } else {
+      return;
+    }
+
+    if (entity instanceof ExecutionEntity) {
+      trackExecution(oldState, -1);
+      trackExecution(newState, 1);
+
+    } else if (entity instanceof JobEntity) {
+      String activityId = ((JobEntity) entity).getActivityId();
+      trackJob(oldState, activityId, -1);
+      trackJob(newState, activityId, 1);
+
+    } else {
+      String incidentType = ((IncidentEntity) entity).getIncidentType();
+      trackIncident(oldState, incidentType, -1);
+      trackIncident(newState, incidentType, 1);
+    }
+  }
+
+  protected void trackExecution(Map<String, Object> state, long delta) {
+    if (state != null && Boolean.TRUE.equals(state.get("isActive"))) {
+      String processDefinitionId = (String) state.get("processDefinitionId");
+      String activityId = (String) state.get("activityId");
+      addDelta(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_INSTANCES, null, delta);
+    }
+  }
+
+  protected void trackJob(Map<String, Object> state, String activityId, long delta) {
+    // like the statistics query, only count failed jobs which have a job definition
+    if (state != null
+        && Integer.valueOf(0).equals(state.get("retries"))
+        && state.get("jobDefinitionId") != null) {
+      String processDefinitionId = (String) state.get("processDefinitionId");
+      addDelta(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_FAILED_JOBS, null, delta);
+    }
+  }
+
+  protected void trackIncident(Map<String, Object> state, String incidentType, long delta) {
+    if (state != null) {
+      String processDefinitionId = (String) state.get("processDefinitionId");
+      String activityId = (String) state.get("activityId");
+      addDelta(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.incidentCounter(incidentType), incidentType, delta);
+    }
+  }
+
+  /**
+   * Must be invoked when failed jobs of an activity are given new retries by a bulk update.
+   */
+  public void failedJobsRetried(String processDefinitionId, String activityId, long count) {
+    addDelta(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_FAILED_JOBS, null, -count);
+  }
+
+  /**
+   * Must be invoked when the counters of a process definition are deleted, so that they
+   * are not recreated by changes which are flushed afterwards.
+   */
+  public void processDefinitionDeleted(String processDefinitionId) {
+    deletedProcessDefinitionIds.add(processDefinitionId);
+  }
+
+  protected void addDelta(String processDefinitionId, String activityId, String counter, String incidentType, long delta) {
+    if (processDefinitionId == null || activityId == null) {
+      return;
+    }
+
+    String key = processDefinitionId + "\n" + ActivityStatisticsSummaryEntity.counterKey(activityId, counter);
+    ActivityStatisticsSummaryEntity counterDelta = deltas.get(key);
+    if (counterDelta == null) {
+      counterDelta = new ActivityStatisticsSummaryEntity(processDefinitionId, activityId, counter, incidentType);
+      deltas.put(key, counterDelta);
+    }
+    counterDelta.setCount(counterDelta.getCount() + delta);
+  }
+
+  /**
+   * Schedules the collected changes: counters which exist are incremented by a bulk update,
+   * missing counters are inserted with the collected change as initial count unless the
+   * summary of the process definition has been deleted.
+   */
+  public void flush(DbEntityManager dbEntityManager) {
+    Set<String> refreshedProcessDefinitionIds = new HashSet<String>();
+
+    for (ActivityStatisticsSummaryEntity counterDelta : deltas.values()) {
+      if (counterDelta.getCount() == 0) {
+        continue;
+      }
+
+      String processDefinitionId = counterDelta.getProcessDefinitionId();
+      if (deletedProcessDefinitionIds.contains(processDefinitionId)) {
+        continue;
+      }
+
+      Set<String> counterKeys = registry.getCounterKeys(processDefinitionId, dbEntityManager, false);
+
+      if (!counterKeys.contains(counterDelta.getCounterKey()) && !refreshedProcessDefinitionIds.contains(processDefinitionId)) {
+        // missing counters are only created while holding the lock on the initialized counter
+        // of the process definition; concurrent transactions which create the same counter
+        // wait for the lock and see the counter when reading the counters again
+        dbEntityManager.lock("lockActivityStatisticsSummary", processDefinitionId);
+        counterKeys = registry.getCounterKeys(processDefinitionId, dbEntityManager, true);
+        refreshedProcessDefinitionIds.add(processDefinitionId);
+      }
+
+      if (counterKeys.contains(counterDelta.getCounterKey())) {
+        dbEntityManager.updatePreserveOrder(ActivityStatisticsSummaryEntity.class, "updateActivityStatisticsSummaryCount", counterDelta);
+
+      } else if (registry.isInitialized(processDefinitionId, dbEntityManager)) {
+        counterDelta.setId(idGenerator.getNextId());
+
+        DbEntityOperation insertOperation = new DbEntityOperation();
+        insertOperation.setEntity(counterDelta);
+        insertOperation.setFlushRelevantEntityReferences(Collections.<String>emptySet());
+        insertOperation.setOperationType(DbOperationType.INSERT);
+        dbEntityManager.getDbOperationManager().addOperation(insertOperation);
+      }
+    }
+
+    deltas.clear();
+  }
+
+}
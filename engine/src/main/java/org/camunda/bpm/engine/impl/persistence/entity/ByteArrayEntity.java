@@ -41,6 +41,9 @@ public class ByteArrayEntity implements Serializable, DbEntity, HasDbRevision {
   protected Date createTime;
   protected String rootProcessInstanceId;
   protected Date removalTime;
+  /** hash of the content of a shared byte array, null if the byte array has a single owner */
+  protected String hash;
+  protected Integer referenceCount;
 
   public ByteArrayEntity() {
   }
@@ -156,6 +159,26 @@ public class ByteArrayEntity implements Serializable, DbEntity, HasDbRevision {
     this.removalTime = removalTime;
   }
 
+  public String getHash() {
+    return hash;
+  }
+
+  public void setHash(String hash) {
+    this.hash = hash;
+  }
+
+  public Integer getReferenceCount() {
+    return referenceCount;
+  }
+
+  public void setReferenceCount(Integer referenceCount) {
+    this.referenceCount = referenceCount;
+  }
+
+  public boolean isShared() {
+    return hash != null;
+  }
+
   @Override
   public String toString() {
     return this.getClass().getSimpleName()
@@ -168,6 +191,8 @@ public class ByteArrayEntity implements Serializable, DbEntity, HasDbRevision {
            + ", createTime=" + createTime
            + ", rootProcessInstanceId=" + rootProcessInstanceId
            + ", removalTime=" + removalTime
+           + ", hash=" + hash
+           + ", referenceCount=" + referenceCount
            + "]";
   }
 
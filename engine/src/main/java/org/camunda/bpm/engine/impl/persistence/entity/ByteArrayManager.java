@@ -15,13 +15,34 @@
  */
 package org.camunda.bpm.engine.impl.persistence.entity;
 
+import static org.camunda.bpm.engine.ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_END_TIME_BASED;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.digest._apacheCommonsCodec.Base64;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.impl.persistence.entity.util.ByteArrayContentBuffer;
+import org.camunda.bpm.engine.impl.persistence.entity.util.ByteArrayReferenceCount;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.repository.ResourceType;
+import org.camunda.bpm.engine.repository.ResourceTypes;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,6 +50,13 @@ import java.util.Map;
  */
 public class ByteArrayManager extends AbstractManager {
 
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  public static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+  /** reference count changes of shared byte arrays which are not flushed yet, by byte array id */
+  protected Map<String, ByteArrayReferenceCount> referenceCounts = new HashMap<String, ByteArrayReferenceCount>();
+
   /**
    * Deletes the {@link ByteArrayEntity} with the given id from the database.
    * Important: this operation will NOT do any optimistic locking, to avoid loading the
@@ -39,11 +67,146 @@ public class ByteArrayManager extends AbstractManager {
     getDbEntityManager().delete(ByteArrayEntity.class, "deleteByteArrayNoRevisionCheck", byteArrayEntityId);
   }
 
+  /**
+   * Returns the content of the {@link ByteArrayEntity} with the given id without loading
+   * the entity. The content is streamed from the database and kept in memory only if it is
+   * small, otherwise it is buffered in a temporary file which is deleted when the returned
+   * stream is closed.
+   *
+   * @return the content or null if the byte array does not exist or has no content
+   */
+  public InputStream openByteArrayContent(final String byteArrayId) {
+    ByteArrayEntity cachedByteArray = getDbEntityManager().getCachedEntity(ByteArrayEntity.class, byteArrayId);
+    if (cachedByteArray != null) {
+      // the cached entity may contain changes which are not flushed yet
+      byte[] bytes = cachedByteArray.getBytes();
+      return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    final InputStream[] result = new InputStream[1];
+    getDbEntityManager().select("selectByteArrayContent", byteArrayId, new ResultHandler<Map<String, Object>>() {
+      public void handleResult(ResultContext<? extends Map<String, Object>> context) {
+        InputStream content = (InputStream) context.getResultObject().get("bytes");
+        if (content != null) {
+          try {
+            result[0] = ByteArrayContentBuffer.copy(content, ByteArrayContentBuffer.DEFAULT_MEMORY_THRESHOLD);
+          }
+          catch (IOException e) {
+            throw LOG.exceptionWhileReadingByteArrayContent(byteArrayId, e);
+          }
+        }
+      }
+    });
+
+    return result[0];
+  }
+
   public void insertByteArray(ByteArrayEntity arr) {
     arr.setCreateTime(ClockUtil.getCurrentTime());
     getDbEntityManager().insert(arr);
   }
 
+  /**
+   * Whether the given serialized variable value is stored in a shared byte array, see
+   * {@link ProcessEngineConfigurationImpl#isEnableContentAddressedByteArrays()}.
+   */
+  public boolean isContentAddressed(byte[] bytes, ResourceType type) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (!processEngineConfiguration.isEnableContentAddressedByteArrays()
+        || bytes.length < processEngineConfiguration.getContentAddressedByteArrayMinSize()) {
+      return false;
+    }
+
+    // the removal-time based history cleanup deletes historic byte arrays
+    // by the removal time of the single process instance owning them
+    return !ResourceTypes.HISTORY.getValue().equals(type.getValue())
+        || HISTORY_CLEANUP_STRATEGY_END_TIME_BASED.equals(processEngineConfiguration.getHistoryCleanupStrategy());
+  }
+
+  /**
+   * Adds a reference to the shared byte array of the given type holding the given content.
+   * If there is none yet, it is inserted. Otherwise the existing row is locked until the
+   * transaction ends, so that it cannot be removed in parallel by the release of its last
+   * reference. The reference count is updated when the command is flushed.
+   *
+   * @return the id of the shared byte array
+   */
+  public String acquireSharedByteArray(String name, byte[] bytes, ResourceType type) {
+    String hash = createContentHash(bytes);
+    DbEntityManager dbEntityManager = getDbEntityManager();
+
+    // byte arrays inserted by this command are not found by the query yet
+    for (ByteArrayEntity byteArray : dbEntityManager.getCachedEntitiesByType(ByteArrayEntity.class)) {
+      if (hash.equals(byteArray.getHash())
+          && type.getValue().equals(byteArray.getType())
+          && dbEntityManager.getDbEntityCache().isTransient(byteArray)) {
+        byteArray.setReferenceCount(byteArray.getReferenceCount() + 1);
+        return byteArray.getId();
+      }
+    }
+
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("hash", hash);
+    parameters.put("type", type.getValue());
+
+    @SuppressWarnings("unchecked")
+    List<String> byteArrayIds = dbEntityManager.selectList("selectSharedByteArrayIdsForUpdate", parameters);
+    if (!byteArrayIds.isEmpty()) {
+      String byteArrayId = byteArrayIds.get(0);
+      getReferenceCount(byteArrayId).increment();
+      return byteArrayId;
+    }
+
+    ByteArrayEntity byteArray = new ByteArrayEntity(name, bytes, type);
+    byteArray.setHash(hash);
+    byteArray.setReferenceCount(1);
+    insertByteArray(byteArray);
+
+    return byteArray.getId();
+  }
+
+  /**
+   * Removes a reference to the given shared byte array. The byte array is deleted once it
+   * has no references left.
+   */
+  public void releaseSharedByteArray(ByteArrayEntity byteArray) {
+    DbEntityManager dbEntityManager = getDbEntityManager();
+
+    if (dbEntityManager.getDbEntityCache().isTransient(byteArray)) {
+      byteArray.setReferenceCount(byteArray.getReferenceCount() - 1);
+      if (byteArray.getReferenceCount() == 0) {
+        dbEntityManager.delete(byteArray);
+      }
+    }
+    else {
+      getReferenceCount(byteArray.getId()).decrement();
+      dbEntityManager.deletePreserveOrder(ByteArrayEntity.class, "deleteUnreferencedSharedByteArray", byteArray.getId());
+    }
+  }
+
+  protected ByteArrayReferenceCount getReferenceCount(String byteArrayId) {
+    ByteArrayReferenceCount referenceCount = referenceCounts.get(byteArrayId);
+    if (referenceCount == null) {
+      referenceCount = new ByteArrayReferenceCount(byteArrayId);
+      referenceCounts.put(byteArrayId, referenceCount);
+
+      // the count is summed up until the flush, the deletion of unreferenced
+      // byte arrays is executed afterwards since it preserves the order
+      getDbEntityManager().update(ByteArrayEntity.class, "updateSharedByteArrayReferenceCount", referenceCount);
+    }
+    return referenceCount;
+  }
+
+  protected String createContentHash(byte[] bytes) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+      return new String(Base64.encodeBase64(digest.digest(bytes)));
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new ProcessEngineException("Cannot lookup " + CONTENT_HASH_ALGORITHM + " algorithm");
+    }
+  }
+
   public void addRemovalTimeToByteArraysByRootProcessInstanceId(String rootProcessInstanceId, Date removalTime) {
     Map<String, Object> parameters = new HashMap<>();
     parameters.put("rootProcessInstanceId", rootProcessInstanceId);
@@ -27,6 +27,9 @@ import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionDefinitionEntity;
 import org.camunda.bpm.engine.impl.dmn.entity.repository.DecisionRequirementsDefinitionEntity;
+import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsedResource;
+import org.camunda.bpm.engine.impl.persistence.deploy.PreParsingDeployer;
 import org.camunda.bpm.engine.impl.repository.ResourceDefinitionEntity;
 import org.camunda.bpm.engine.repository.*;
 
@@ -53,6 +56,13 @@ public class DeploymentEntity implements Serializable, DeploymentWithDefinitions
    */
   protected Map<Class<?>, List> deployedArtifacts;
 
+  /**
+   * Will only be used during actual deployment to pass resources which were parsed
+   * before the deployment lock was acquired (see {@link PreParsingDeployer}).
+   * Will be null otherwise.
+   */
+  protected transient List<PreParsedResource> preParsedResources;
+
   public ResourceEntity getResource(String resourceName) {
     return getResources().get(resourceName);
   }
@@ -134,6 +144,34 @@ public class DeploymentEntity implements Serializable, DeploymentWithDefinitions
     }
   }
 
+  // pre-parsed resources ////////////////////////////////////////////////////
+
+  public void addPreParsedResource(PreParsedResource preParsedResource) {
+    if (preParsedResources == null) {
+      preParsedResources = new ArrayList<PreParsedResource>();
+    }
+    preParsedResources.add(preParsedResource);
+  }
+
+  /**
+   * @return the result of parsing the given resource by the given deployer in advance
+   *   or <code>null</code> if the resource was not parsed in advance
+   */
+  public PreParsedResource getPreParsedResource(Deployer deployer, ResourceEntity resource) {
+    if (preParsedResources != null) {
+      for (PreParsedResource preParsedResource : preParsedResources) {
+        if (preParsedResource.getDeployer() == deployer && preParsedResource.getResource() == resource) {
+          return preParsedResource;
+        }
+      }
+    }
+    return null;
+  }
+
+  public void clearPreParsedResources() {
+    preParsedResources = null;
+  }
+
   // getters and setters //////////////////////////////////////////////////////
 
   public String getId() {
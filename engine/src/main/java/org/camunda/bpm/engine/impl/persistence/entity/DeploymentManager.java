@@ -58,6 +58,8 @@ public class DeploymentManager extends AbstractManager {
       getResourceManager().insertResource(resource);
     }
 
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
+
     Context
       .getProcessEngineConfiguration()
       .getDeploymentCache()
@@ -127,11 +129,13 @@ public class DeploymentManager extends AbstractManager {
     deleteDecisionDeployment(deploymentId, cascade);
     deleteDecisionRequirementDeployment(deploymentId);
 
+    getResourceManager().deleteParseSnapshotsByDeploymentId(deploymentId);
     getResourceManager().deleteResourcesByDeploymentId(deploymentId);
 
     deleteAuthorizations(Resources.DEPLOYMENT, deploymentId);
     getDbEntityManager().delete(DeploymentEntity.class, "deleteDeployment", deploymentId);
 
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
   }
 
   protected void deleteCaseDeployment(String deploymentId, boolean cascade) {
@@ -56,6 +56,8 @@ import org.camunda.bpm.engine.impl.history.event.HistoryEventProcessor;
 import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
 import org.camunda.bpm.engine.impl.history.producer.HistoryEventProducer;
 import org.camunda.bpm.engine.impl.interceptor.AtomicOperationInvocation;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandContextListener;
 import org.camunda.bpm.engine.impl.jobexecutor.MessageJobDeclaration;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerDeclarationImpl;
 import org.camunda.bpm.engine.impl.persistence.entity.util.FormPropertyStartContext;
@@ -158,6 +160,9 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
   protected transient List<IncidentEntity> incidents;
   protected int cachedEntityState;
 
+  /** persistent variables of all scopes by scope id, only set on the process instance execution */
+  protected transient Map<String, List<VariableInstanceEntity>> prefetchedVariables;
+
   @SuppressWarnings("unchecked")
   protected transient VariableStore<VariableInstanceEntity> variableStore =
       new VariableStore<VariableInstanceEntity>(this, new ExecutionEntityReferencer(this));
@@ -1250,15 +1255,83 @@ public class ExecutionEntity extends PvmExecutionImpl implements Execution, Proc
         && !(getActivity().getActivityBehavior() instanceof CompositeActivityBehavior);
   }
 
+  /**
+   * Uses the given variables as the persistent variables of this execution, e.g. when they
+   * were fetched together with the variables of other executions. Has no effect if the
+   * variables of this execution are already loaded.
+   */
+  public void initializeVariables(Collection<VariableInstanceEntity> variables) {
+    variableStore.setVariablesProvider(new VariableCollectionProvider<VariableInstanceEntity>(variables));
+  }
+
   @Override
   public Collection<VariableInstanceEntity> provideVariables() {
+    if (isVariablePrefetchEnabled() && processInstanceId != null) {
+      return getProcessInstance().getPrefetchedVariables(id);
+    }
     return Context.getCommandContext().getVariableInstanceManager().findVariableInstancesByExecutionId(id);
   }
 
   public Collection<VariableInstanceEntity> provideVariables(Collection<String> variableNames) {
+    if (isVariablePrefetchEnabled() && processInstanceId != null) {
+      List<VariableInstanceEntity> variables = new ArrayList<VariableInstanceEntity>();
+      for (VariableInstanceEntity variable : getProcessInstance().getPrefetchedVariables(id)) {
+        if (variableNames.contains(variable.getName())) {
+          variables.add(variable);
+        }
+      }
+      return variables;
+    }
     return Context.getCommandContext().getVariableInstanceManager().findVariableInstancesByExecutionIdAndVariableNames(id, variableNames);
   }
 
+  /**
+   * Returns the persistent variables of the given execution or task of this process instance.
+   * The variables of all scopes are fetched with a single query on first access, so resolving
+   * variables along a deep scope hierarchy does not query each ancestor on its own.
+   */
+  protected List<VariableInstanceEntity> getPrefetchedVariables(String variableScopeId) {
+    if (prefetchedVariables == null) {
+      prefetchedVariables = new HashMap<String, List<VariableInstanceEntity>>();
+
+      CommandContext commandContext = Context.getCommandContext();
+      List<VariableInstanceEntity> variables = commandContext
+        .getVariableInstanceManager()
+        .findVariableInstancesByProcessInstanceId(id);
+
+      // the prefetched rows are only valid for the current command
+      commandContext.registerCommandContextListener(new CommandContextListener() {
+        public void onCommandContextClose(CommandContext commandContext) {
+          clearPrefetchedVariables();
+        }
+        public void onCommandFailed(CommandContext commandContext, Throwable t) {
+          clearPrefetchedVariables();
+        }
+      });
+
+      for (VariableInstanceEntity variable : variables) {
+        CollectionUtil.addToMapOfLists(prefetchedVariables, variable.getVariableScopeId(), variable);
+      }
+    }
+
+    List<VariableInstanceEntity> variables = prefetchedVariables.get(variableScopeId);
+    return variables != null ? variables : Collections.<VariableInstanceEntity>emptyList();
+  }
+
+  /**
+   * Discards the prefetched variables, so that the next access queries them again.
+   */
+  public void clearPrefetchedVariables() {
+    prefetchedVariables = null;
+  }
+
+  /**
+   * @return true if the variables of all scopes of a process instance are fetched at once
+   */
+  protected boolean isVariablePrefetchEnabled() {
+    return Context.getProcessEngineConfiguration().isVariablePrefetchEnabled();
+  }
+
   protected boolean isAutoFireHistoryEvents() {
     // as long as the process instance is starting (i.e. before activity instance
     // of the selected initial (start event) is created), the variable scope should
@@ -115,6 +115,11 @@ public class ExecutionManager extends AbstractManager {
     return getDbEntityManager().selectById(ExecutionEntity.class, executionId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<ExecutionEntity> findExecutionsByIds(List<String> executionIds) {
+    return getDbEntityManager().selectList("selectExecutionsByIds", executionIds);
+  }
+
   public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
     configureQuery(executionQuery);
     return (Long) getDbEntityManager().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -15,17 +15,22 @@
  */
 package org.camunda.bpm.engine.impl.persistence.entity;
 
+import static org.camunda.bpm.engine.authorization.Permissions.READ_HISTORY;
+import static org.camunda.bpm.engine.authorization.Resources.PROCESS_DEFINITION;
+
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.session.ResultHandler;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
 import org.camunda.bpm.engine.impl.HistoricActivityInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.history.event.HistoricActivityInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.export.HistoricDataExportCursor;
 import org.camunda.bpm.engine.impl.persistence.AbstractHistoricManager;
 
 
@@ -98,4 +103,20 @@ public class HistoricActivityInstanceManager extends AbstractHistoricManager {
         new ListQueryParameterObject(parameters, 0, batchSize));
   }
 
+  public void exportHistoricActivityInstances(HistoricDataExportCursor cursor, int batchSize, ResultHandler resultHandler) {
+    getAuthorizationManager().checkAuthorization(READ_HISTORY, PROCESS_DEFINITION);
+
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("withoutRemovalTime", cursor.isWithoutRemovalTime());
+    parameters.put("removalTimeAfter", cursor.getRemovalTimeAfter());
+    parameters.put("idAfter", cursor.getIdAfter());
+    parameters.put("maxResults", batchSize);
+
+    ListQueryParameterObject query = new ListQueryParameterObject(parameters, 0, batchSize);
+    getTenantManager().configureQuery(query);
+
+    getDbEntityManager()
+      .select("selectHistoricActivityInstancesForExport", query, resultHandler);
+  }
+
 }
@@ -23,6 +23,7 @@ import java.util.Map;
 import org.camunda.bpm.engine.history.HistoricDetail;
 import org.camunda.bpm.engine.impl.HistoricDetailQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.history.event.HistoricDetailEventEntity;
@@ -58,7 +59,16 @@ public class HistoricDetailManager extends AbstractHistoricManager {
   }
 
   public void deleteHistoricDetails(Map<String, Object> parameters) {
+    boolean contentAddressedByteArrays = Context.getProcessEngineConfiguration().isEnableContentAddressedByteArrays();
+
+    if (contentAddressedByteArrays) {
+      // shared byte arrays only lose the references of the deleted details
+      getDbEntityManager().updatePreserveOrder(ByteArrayEntity.class, "releaseHistoricDetailByteArraysByIds", parameters);
+    }
     getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteHistoricDetailByteArraysByIds", parameters);
+    if (contentAddressedByteArrays) {
+      getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteUnreferencedHistoricDetailByteArraysByIds", parameters);
+    }
     getDbEntityManager().deletePreserveOrder(HistoricDetailEventEntity.class, "deleteHistoricDetailsByIds", parameters);
   }
 
@@ -42,7 +42,7 @@ public class HistoricDetailVariableInstanceUpdateEntity extends HistoricVariable
 
   protected TypedValueField typedValueField = new TypedValueField(this, false);
 
-  protected ByteArrayField byteArrayField = new ByteArrayField(this, ResourceTypes.HISTORY);
+  protected ByteArrayField byteArrayField = new ByteArrayField(this, ResourceTypes.HISTORY, true);
 
   public Object getValue() {
     return typedValueField.getValue();
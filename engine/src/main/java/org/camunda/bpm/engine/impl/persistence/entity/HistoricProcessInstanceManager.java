@@ -128,6 +128,16 @@ public class HistoricProcessInstanceManager extends AbstractHistoricManager {
     return (List<String>) getDbEntityManager().selectList("selectHistoricProcessInstanceIdsForCleanup", parameterObject);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<String> findRootProcessInstanceIdsWithoutRemovalTime(String idAfter, boolean endedOnly, int maxResults) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("idAfter", idAfter);
+    parameters.put("endedOnly", endedOnly);
+    parameters.put("maxResults", maxResults);
+    ListQueryParameterObject parameterObject = new ListQueryParameterObject(parameters, 0, maxResults);
+    return (List<String>) getDbEntityManager().selectList("selectHistoricRootProcessInstanceIdsWithoutRemovalTime", parameterObject);
+  }
+
   @SuppressWarnings("unchecked")
   public List<String> findHistoricProcessInstanceIds(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
     configureQuery(historicProcessInstanceQuery);
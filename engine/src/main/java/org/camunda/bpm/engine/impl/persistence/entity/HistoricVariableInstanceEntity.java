@@ -74,7 +74,7 @@ public class HistoricVariableInstanceEntity implements ValueFields, HistoricVari
 
   protected Date removalTime;
 
-  protected ByteArrayField byteArrayField = new ByteArrayField(this, ResourceTypes.HISTORY);
+  protected ByteArrayField byteArrayField = new ByteArrayField(this, ResourceTypes.HISTORY, true);
 
   protected TypedValueField typedValueField = new TypedValueField(this, false);
 
@@ -22,10 +22,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.session.ResultHandler;
 import org.camunda.bpm.engine.history.HistoricVariableInstance;
 import org.camunda.bpm.engine.history.HistoricVariableInstanceQuery;
 import org.camunda.bpm.engine.impl.HistoricVariableInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.persistence.AbstractHistoricManager;
@@ -59,7 +61,16 @@ public class HistoricVariableInstanceManager extends AbstractHistoricManager {
   }
 
   protected void deleteHistoricVariableInstances(Map<String, Object> parameters) {
+    boolean contentAddressedByteArrays = Context.getProcessEngineConfiguration().isEnableContentAddressedByteArrays();
+
+    if (contentAddressedByteArrays) {
+      // shared byte arrays only lose the references of the deleted variables
+      getDbEntityManager().updatePreserveOrder(ByteArrayEntity.class, "releaseHistoricVariableInstanceByteArraysByIds", parameters);
+    }
     getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteHistoricVariableInstanceByteArraysByIds", parameters);
+    if (contentAddressedByteArrays) {
+      getDbEntityManager().deletePreserveOrder(ByteArrayEntity.class, "deleteUnreferencedHistoricVariableInstanceByteArraysByIds", parameters);
+    }
     getDbEntityManager().deletePreserveOrder(HistoricVariableInstanceEntity.class, "deleteHistoricVariableInstanceByIds", parameters);
   }
 
@@ -142,6 +153,11 @@ public class HistoricVariableInstanceManager extends AbstractHistoricManager {
     return getDbEntityManager().selectListWithRawParameter("selectHistoricVariableInstanceByNativeQuery", parameterMap, firstResult, maxResults);
   }
 
+  public void projectHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicVariableInstanceQuery, ResultHandler<?> resultHandler) {
+    configureQuery(historicVariableInstanceQuery);
+    getDbEntityManager().select("selectHistoricVariableInstanceProjectionByQueryCriteria", historicVariableInstanceQuery, resultHandler);
+  }
+
   public long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
     return (Long) getDbEntityManager().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
   }
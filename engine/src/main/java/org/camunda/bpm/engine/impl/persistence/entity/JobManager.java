@@ -173,7 +173,7 @@ public class JobManager extends AbstractManager {
     if (Context.getProcessEngineConfiguration().isJobExecutorDeploymentAware()) {
       Set<String> registeredDeployments = Context.getProcessEngineConfiguration().getRegisteredDeployments();
       if (!registeredDeployments.isEmpty()) {
-        params.put("deploymentIds", registeredDeployments);
+        params.put("deploymentIds", padDeploymentIds(registeredDeployments));
       }
     }
 
@@ -195,6 +195,31 @@ public class JobManager extends AbstractManager {
     return getDbEntityManager().selectList("selectNextJobsToExecute", params, page);
   }
 
+  /**
+   * Pads the deployment ids to the next power of two by repeating the last id. The
+   * acquisition statement then only changes when the number of registered deployments
+   * crosses a power of two, so that databases and drivers can reuse the prepared statement
+   * instead of parsing a new one whenever a deployment is registered or unregistered.
+   */
+  protected List<String> padDeploymentIds(Set<String> deploymentIds) {
+    List<String> paddedDeploymentIds = new ArrayList<String>(deploymentIds);
+    if (paddedDeploymentIds.isEmpty()) {
+      return paddedDeploymentIds;
+    }
+
+    int size = paddedDeploymentIds.size();
+    int paddedSize = Integer.highestOneBit(size);
+    if (paddedSize < size) {
+      paddedSize <<= 1;
+    }
+
+    String lastDeploymentId = paddedDeploymentIds.get(size - 1);
+    for (int i = size; i < paddedSize; i++) {
+      paddedDeploymentIds.add(lastDeploymentId);
+    }
+    return paddedDeploymentIds;
+  }
+
   @SuppressWarnings("unchecked")
   public List<JobEntity> findJobsByExecutionId(String executionId) {
     return getDbEntityManager().selectList("selectJobsByExecutionId", executionId);
@@ -332,6 +357,17 @@ public class JobManager extends AbstractManager {
     Map<String, Object> parameters = new HashMap<String, Object>();
     parameters.put("jobDefinitionId", jobDefinitionId);
     parameters.put("retries", retries);
+
+    ActivityStatisticsSummaryTracker activityStatisticsSummaryTracker = getDbEntityManager().getActivityStatisticsSummaryTracker();
+    if (activityStatisticsSummaryTracker != null && retries > 0) {
+      // the bulk update bypasses the entity cache, so the failed jobs must be reported explicitly
+      JobDefinitionEntity jobDefinition = getJobDefinitionManager().findById(jobDefinitionId);
+      if (jobDefinition != null) {
+        long failedJobs = (Long) getDbEntityManager().selectOne("selectFailedJobCountByJobDefinitionId", jobDefinitionId);
+        activityStatisticsSummaryTracker.failedJobsRetried(jobDefinition.getProcessDefinitionId(), jobDefinition.getActivityId(), failedJobs);
+      }
+    }
+
     getDbEntityManager().update(JobEntity.class, "updateFailedJobRetriesByParameters", parameters);
   }
 
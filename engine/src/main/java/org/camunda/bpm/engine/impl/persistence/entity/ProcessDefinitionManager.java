@@ -53,6 +53,7 @@ public class ProcessDefinitionManager extends AbstractManager implements Abstrac
   public void insertProcessDefinition(ProcessDefinitionEntity processDefinition) {
     getDbEntityManager().insert(processDefinition);
     createDefaultAuthorizations(processDefinition);
+    getStatisticsManager().initializeActivityStatisticsSummary(processDefinition);
   }
 
   // select ///////////////////////////////////////////////////////////
@@ -205,6 +206,7 @@ public class ProcessDefinitionManager extends AbstractManager implements Abstrac
     parameters.put("processDefinitionId", processDefinitionId);
     parameters.put("suspensionState", suspensionState.getStateCode());
     getDbEntityManager().update(ProcessDefinitionEntity.class, "updateProcessDefinitionSuspensionStateByParameters", configureParameterizedQuery(parameters));
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
   }
 
   public void updateProcessDefinitionSuspensionStateByKey(String processDefinitionKey, SuspensionState suspensionState) {
@@ -213,6 +215,7 @@ public class ProcessDefinitionManager extends AbstractManager implements Abstrac
     parameters.put("isTenantIdSet", false);
     parameters.put("suspensionState", suspensionState.getStateCode());
     getDbEntityManager().update(ProcessDefinitionEntity.class, "updateProcessDefinitionSuspensionStateByParameters", configureParameterizedQuery(parameters));
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
   }
 
   public void updateProcessDefinitionSuspensionStateByKeyAndTenantId(String processDefinitionKey, String tenantId, SuspensionState suspensionState) {
@@ -222,6 +225,7 @@ public class ProcessDefinitionManager extends AbstractManager implements Abstrac
     parameters.put("tenantId", tenantId);
     parameters.put("suspensionState", suspensionState.getStateCode());
     getDbEntityManager().update(ProcessDefinitionEntity.class, "updateProcessDefinitionSuspensionStateByParameters", configureParameterizedQuery(parameters));
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
   }
 
   // delete  ///////////////////////////////////////////////////////////
@@ -361,11 +365,16 @@ public class ProcessDefinitionManager extends AbstractManager implements Abstrac
       .getDeploymentCache()
       .removeProcessDefinition(processDefinitionId);
 
+    Context.getProcessEngineConfiguration().getDeploymentCache().invalidateLatestDefinitionIndexes();
+
     deleteSubscriptionsForProcessDefinition(processDefinitionId);
 
     // delete job definitions
     getJobDefinitionManager().deleteJobDefinitionsByProcessDefinitionId(processDefinition.getId());
 
+    // delete activity statistics summary
+    getStatisticsManager().deleteActivityStatisticsSummary(processDefinitionId);
+
   }
 
 
@@ -408,6 +417,14 @@ public class ProcessDefinitionManager extends AbstractManager implements Abstrac
     return findLatestProcessDefinitionByKeyAndTenantId(definitionKey, tenantId);
   }
 
+  @Override
+  public Integer findRevisionOfLatestDefinition(String definitionId, boolean keyUniqueAcrossTenants) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("definitionId", definitionId);
+    parameters.put("keyUniqueAcrossTenants", keyUniqueAcrossTenants);
+    return (Integer) getDbEntityManager().selectOne("selectRevisionOfLatestProcessDefinition", parameters);
+  }
+
   @Override
   public ProcessDefinitionEntity findDefinitionByKeyVersionAndTenantId(String definitionKey, Integer definitionVersion, String tenantId) {
     return findProcessDefinitionByKeyVersionAndTenantId(definitionKey, definitionVersion, tenantId);
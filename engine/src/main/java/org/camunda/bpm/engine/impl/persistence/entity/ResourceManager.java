@@ -16,6 +16,7 @@
 package org.camunda.bpm.engine.impl.persistence.entity;
 
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.repository.ResourceTypes;
 
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,15 @@ import java.util.Set;
  */
 public class ResourceManager extends AbstractManager {
 
+  /**
+   * Suffix appended to the id of a resource to obtain the id of its parse snapshot.
+   * Parse snapshots are stored without a deployment id, so that they are not
+   * returned as resources of the deployment.
+   */
+  public static final String PARSE_SNAPSHOT_ID_SUFFIX = ":snapshot";
+
+  protected static final int MAX_ID_LENGTH = 64;
+
   public void insertResource(ResourceEntity resource) {
     getDbEntityManager().insert(resource);
   }
@@ -36,6 +46,38 @@ public class ResourceManager extends AbstractManager {
     getDbEntityManager().delete(ResourceEntity.class, "deleteResourcesByDeploymentId", deploymentId);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<String> findResourceIdsByDeploymentId(String deploymentId) {
+    return getDbEntityManager().selectList("selectResourceIdsByDeploymentId", deploymentId);
+  }
+
+  public ByteArrayEntity findParseSnapshotByResourceId(String resourceId) {
+    return getDbEntityManager().selectById(ByteArrayEntity.class, getParseSnapshotId(resourceId));
+  }
+
+  public void insertParseSnapshot(ResourceEntity resource, byte[] snapshot) {
+    String snapshotId = getParseSnapshotId(resource.getId());
+    if (snapshotId.length() > MAX_ID_LENGTH) {
+      // the resource is parsed from its source instead
+      return;
+    }
+
+    ByteArrayEntity snapshotEntity = new ByteArrayEntity(resource.getName(), snapshot, ResourceTypes.REPOSITORY);
+    snapshotEntity.setId(snapshotId);
+    snapshotEntity.setTenantId(resource.getTenantId());
+    getByteArrayManager().insertByteArray(snapshotEntity);
+  }
+
+  public void deleteParseSnapshotsByDeploymentId(String deploymentId) {
+    for (String resourceId : findResourceIdsByDeploymentId(deploymentId)) {
+      getByteArrayManager().deleteByteArrayById(getParseSnapshotId(resourceId));
+    }
+  }
+
+  protected String getParseSnapshotId(String resourceId) {
+    return resourceId + PARSE_SNAPSHOT_ID_SUFFIX;
+  }
+
   public ResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName) {
     Map<String, Object> params = new HashMap<String, Object>();
     params.put("deploymentId", deploymentId);
@@ -22,15 +22,26 @@ import org.camunda.bpm.engine.impl.DeploymentStatisticsQueryImpl;
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.ProcessDefinitionStatisticsQueryImpl;
 import org.camunda.bpm.engine.impl.batch.BatchStatisticsQueryImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.AuthorizationCheck;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
 import org.camunda.bpm.engine.management.ActivityStatistics;
 import org.camunda.bpm.engine.history.HistoricDecisionInstanceStatistics;
 import org.camunda.bpm.engine.management.DeploymentStatistics;
+import org.camunda.bpm.engine.management.IncidentStatistics;
 import org.camunda.bpm.engine.management.ProcessDefinitionStatistics;
 import org.camunda.bpm.engine.repository.DecisionRequirementsDefinition;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import static org.camunda.bpm.engine.authorization.Permissions.READ;
 import static org.camunda.bpm.engine.authorization.Resources.DECISION_REQUIREMENTS_DEFINITION;
@@ -53,11 +64,17 @@ public class StatisticsManager extends AbstractManager {
   @SuppressWarnings("unchecked")
   public List<ActivityStatistics> getStatisticsGroupedByActivity(ActivityStatisticsQueryImpl query, Page page) {
     configureQuery(query);
+    if (isActivityStatisticsSummaryApplicable(query)) {
+      return getDbEntityManager().selectList("selectActivityStatisticsFromSummary", query, page);
+    }
     return getDbEntityManager().selectList("selectActivityStatistics", query, page);
   }
 
   public long getStatisticsCountGroupedByActivity(ActivityStatisticsQueryImpl query) {
     configureQuery(query);
+    if (isActivityStatisticsSummaryApplicable(query)) {
+      return (Long) getDbEntityManager().selectOne("selectActivityStatisticsCountFromSummary", query);
+    }
     return (Long) getDbEntityManager().selectOne("selectActivityStatisticsCount", query);
   }
 
@@ -104,6 +121,153 @@ public class StatisticsManager extends AbstractManager {
     getTenantManager().configureQuery(batchQuery);
   }
 
+  /**
+   * The summary does not distinguish process instances or tenants, so it can only be used
+   * if the query is not restricted by authorizations or tenant memberships.
+   */
+  protected boolean isActivityStatisticsSummaryApplicable(ActivityStatisticsQueryImpl query) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (!processEngineConfiguration.isActivityStatisticsSummaryEnabled()) {
+      return false;
+    }
+
+    AuthorizationCheck authCheck = query.getAuthCheck();
+    if (authCheck.isAuthorizationCheckEnabled() && authCheck.getAuthUserId() != null) {
+      return false;
+    }
+
+    if (query.getTenantCheck().isTenantCheckEnabled()) {
+      return false;
+    }
+
+    return processEngineConfiguration
+        .getActivityStatisticsSummaryRegistry()
+        .isInitialized(query.getProcessDefinitionId(), getDbEntityManager());
+  }
+
+  /**
+   * Creates the activity statistics summary counters of a newly deployed process definition.
+   * Counters for the registered incident types are created upfront, counters for other
+   * incident types are created when the first incident of this type occurs.
+   */
+  public void initializeActivityStatisticsSummary(ProcessDefinitionEntity processDefinition) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (!processEngineConfiguration.isActivityStatisticsSummaryEnabled()) {
+      return;
+    }
+
+    String processDefinitionId = processDefinition.getId();
+    Set<String> incidentTypes = processEngineConfiguration.getIncidentHandlers().keySet();
+
+    insertActivityStatisticsSummaryCounter(processDefinitionId, null, ActivityStatisticsSummaryEntity.COUNTER_INITIALIZED, null);
+    for (ActivityImpl activity : collectActivities(processDefinition, new ArrayList<ActivityImpl>())) {
+      String activityId = activity.getId();
+      insertActivityStatisticsSummaryCounter(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_INSTANCES, null);
+      insertActivityStatisticsSummaryCounter(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_FAILED_JOBS, null);
+      for (String incidentType : incidentTypes) {
+        insertActivityStatisticsSummaryCounter(processDefinitionId, activityId, ActivityStatisticsSummaryEntity.incidentCounter(incidentType), incidentType);
+      }
+    }
+  }
+
+  protected void insertActivityStatisticsSummaryCounter(String processDefinitionId, String activityId, String counter, String incidentType) {
+    getDbEntityManager().insert(new ActivityStatisticsSummaryEntity(processDefinitionId, activityId, counter, incidentType));
+  }
+
+  protected List<ActivityImpl> collectActivities(ScopeImpl scope, List<ActivityImpl> activities) {
+    for (ActivityImpl activity : scope.getActivities()) {
+      activities.add(activity);
+      collectActivities(activity, activities);
+    }
+    return activities;
+  }
+
+  public void deleteActivityStatisticsSummary(String processDefinitionId) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration.isActivityStatisticsSummaryEnabled()) {
+      DbEntityManager dbEntityManager = getDbEntityManager();
+      dbEntityManager.delete(ActivityStatisticsSummaryEntity.class, "deleteActivityStatisticsSummaryByProcessDefinitionId", processDefinitionId);
+      if (dbEntityManager.getActivityStatisticsSummaryTracker() != null) {
+        dbEntityManager.getActivityStatisticsSummaryTracker().processDefinitionDeleted(processDefinitionId);
+      }
+      processEngineConfiguration.getActivityStatisticsSummaryRegistry().remove(processDefinitionId);
+    }
+  }
+
+  /**
+   * Recomputes the activity statistics summary counters of the given process definition
+   * from the runtime tables and overwrites the stored counts. Repairs counters which have
+   * drifted, e.g. because the runtime tables were changed by statements the summary does
+   * not track. Counters are written in the order of their keys.
+   */
+  @SuppressWarnings("unchecked")
+  public void reconcileActivityStatisticsSummary(String processDefinitionId) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (!processEngineConfiguration.isActivityStatisticsSummaryEnabled()) {
+      return;
+    }
+
+    DbEntityManager dbEntityManager = getDbEntityManager();
+    // missing counters are inserted below, see ActivityStatisticsSummaryTracker#flush
+    dbEntityManager.lock("lockActivityStatisticsSummary", processDefinitionId);
+
+    List<ActivityStatisticsSummaryEntity> storedCounters = dbEntityManager
+        .selectListWithRawParameter("selectActivityStatisticsSummaryByProcessDefinitionId", processDefinitionId, 0, Integer.MAX_VALUE);
+
+    Map<String, ActivityStatisticsSummaryEntity> countersByKey = new TreeMap<String, ActivityStatisticsSummaryEntity>();
+    boolean initialized = false;
+    for (ActivityStatisticsSummaryEntity counter : storedCounters) {
+      if (ActivityStatisticsSummaryEntity.COUNTER_INITIALIZED.equals(counter.getCounter())) {
+        initialized = true;
+      } else {
+        counter.setCount(0);
+        countersByKey.put(counter.getCounterKey(), counter);
+      }
+    }
+
+    if (!initialized) {
+      // the process definition is not covered by the summary
+      return;
+    }
+
+    // the summary is neither restricted by tenants nor by authorizations
+    ActivityStatisticsQueryImpl query = new ActivityStatisticsQueryImpl(processDefinitionId, null);
+    query.includeFailedJobs().includeIncidents();
+    query.getTenantCheck().setTenantCheckEnabled(false);
+
+    List<ActivityStatistics> statistics = dbEntityManager.selectList("selectActivityStatistics", query);
+    for (ActivityStatistics activityStatistics : statistics) {
+      String activityId = activityStatistics.getId();
+      setCount(countersByKey, processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_INSTANCES, null, activityStatistics.getInstances());
+      setCount(countersByKey, processDefinitionId, activityId, ActivityStatisticsSummaryEntity.COUNTER_FAILED_JOBS, null, activityStatistics.getFailedJobs());
+      for (IncidentStatistics incidentStatistics : activityStatistics.getIncidentStatistics()) {
+        String incidentType = incidentStatistics.getIncidentType();
+        setCount(countersByKey, processDefinitionId, activityId, ActivityStatisticsSummaryEntity.incidentCounter(incidentType), incidentType, incidentStatistics.getIncidentCount());
+      }
+    }
+
+    for (ActivityStatisticsSummaryEntity counter : countersByKey.values()) {
+      if (counter.getId() != null) {
+        dbEntityManager.updatePreserveOrder(ActivityStatisticsSummaryEntity.class, "setActivityStatisticsSummaryCount", counter);
+      } else if (counter.getCount() != 0) {
+        dbEntityManager.insert(counter);
+      }
+    }
+
+    processEngineConfiguration.getActivityStatisticsSummaryRegistry().remove(processDefinitionId);
+  }
+
+  protected void setCount(Map<String, ActivityStatisticsSummaryEntity> countersByKey, String processDefinitionId,
+      String activityId, String counterName, String incidentType, long count) {
+    String counterKey = ActivityStatisticsSummaryEntity.counterKey(activityId, counterName);
+    ActivityStatisticsSummaryEntity counter = countersByKey.get(counterKey);
+    if (counter == null) {
+      counter = new ActivityStatisticsSummaryEntity(processDefinitionId, activityId, counterName, incidentType);
+      countersByKey.put(counterKey, counter);
+    }
+    counter.setCount(count);
+  }
+
   protected void checkReadProcessDefinition(ActivityStatisticsQueryImpl query) {
     CommandContext commandContext = getCommandContext();
     if (isAuthorizationEnabled() && getCurrentAuthentication() != null && commandContext.isAuthorizationCheckEnabled()) {
@@ -33,6 +33,7 @@ import org.camunda.bpm.engine.impl.core.instance.CoreExecution;
 import org.camunda.bpm.engine.impl.core.variable.CoreVariableInstance;
 import org.camunda.bpm.engine.impl.core.variable.event.VariableEvent;
 import org.camunda.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.camunda.bpm.engine.impl.core.variable.scope.VariableCollectionProvider;
 import org.camunda.bpm.engine.impl.core.variable.scope.VariableInstanceFactory;
 import org.camunda.bpm.engine.impl.core.variable.scope.VariableInstanceLifecycleListener;
 import org.camunda.bpm.engine.impl.core.variable.scope.VariableStore;
@@ -503,8 +504,20 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     }
   }
 
+  /**
+   * Uses the given variables as the persistent variables of this task, e.g. when they
+   * were fetched together with the variables of other tasks. Has no effect if the
+   * variables of this task are already loaded.
+   */
+  public void initializeVariables(Collection<VariableInstanceEntity> variables) {
+    variableStore.setVariablesProvider(new VariableCollectionProvider<VariableInstanceEntity>(variables));
+  }
+
   @Override
   public Collection<VariableInstanceEntity> provideVariables() {
+    if (isVariablePrefetchEnabled()) {
+      return getExecution().getProcessInstance().getPrefetchedVariables(id);
+    }
     return Context
         .getCommandContext()
         .getVariableInstanceManager()
@@ -512,6 +525,15 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
   }
 
   public Collection<VariableInstanceEntity> provideVariables(Collection<String> variableNames) {
+    if (isVariablePrefetchEnabled()) {
+      List<VariableInstanceEntity> variables = new ArrayList<VariableInstanceEntity>();
+      for (VariableInstanceEntity variable : getExecution().getProcessInstance().getPrefetchedVariables(id)) {
+        if (variableNames.contains(variable.getName())) {
+          variables.add(variable);
+        }
+      }
+      return variables;
+    }
     return Context
         .getCommandContext()
         .getVariableInstanceManager()
@@ -548,6 +570,13 @@ public class TaskEntity extends AbstractVariableScope implements Task, DelegateT
     return parentTask;
   }
 
+  /**
+   * Variables of tasks are prefetched together with the variables of their process instance.
+   */
+  protected boolean isVariablePrefetchEnabled() {
+    return executionId != null && Context.getProcessEngineConfiguration().isVariablePrefetchEnabled();
+  }
+
   @Override
   public ExecutionEntity getExecution() {
     if ( (execution==null) && (executionId!=null) ) {
@@ -115,6 +115,11 @@ public class TaskManager extends AbstractManager {
     return getDbEntityManager().selectById(TaskEntity.class, id);
   }
 
+  @SuppressWarnings("unchecked")
+  public List<TaskEntity> findTasksByIds(List<String> ids) {
+    return getDbEntityManager().selectList("selectTasksByIds", ids);
+  }
+
   @SuppressWarnings("unchecked")
   public List<TaskEntity> findTasksByExecutionId(String executionId) {
     return getDbEntityManager().selectList("selectTasksByExecutionId", executionId);
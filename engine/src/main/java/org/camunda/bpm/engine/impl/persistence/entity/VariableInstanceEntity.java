@@ -72,7 +72,7 @@ public class VariableInstanceEntity implements VariableInstance, CoreVariableIns
   protected String textValue;
   protected String textValue2;
 
-  protected ByteArrayField byteArrayField = new ByteArrayField(this, ResourceTypes.RUNTIME);
+  protected ByteArrayField byteArrayField = new ByteArrayField(this, ResourceTypes.RUNTIME, true);
 
   protected TypedValueField typedValueField = new TypedValueField(this, true);
 
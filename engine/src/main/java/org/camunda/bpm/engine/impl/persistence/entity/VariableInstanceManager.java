@@ -20,8 +20,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.session.ResultHandler;
 import org.camunda.bpm.engine.impl.Page;
 import org.camunda.bpm.engine.impl.VariableInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 import org.camunda.bpm.engine.runtime.VariableInstance;
 
@@ -55,11 +57,42 @@ public class VariableInstanceManager extends AbstractManager {
     return getDbEntityManager().selectList("selectVariablesByExecutionId", parameter);
   }
 
+  /**
+   * Selects the variable instances of the given tasks with a single query.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VariableInstanceEntity> findVariableInstancesByTaskIds(List<String> taskIds) {
+    return getDbEntityManager().selectList("selectVariablesByTaskIds", taskIds);
+  }
+
+  /**
+   * Selects the variable instances of the given executions, without the task variables,
+   * with a single query.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(List<String> executionIds) {
+    return getDbEntityManager().selectList("selectVariablesByExecutionIds", executionIds);
+  }
+
   @SuppressWarnings("unchecked")
   public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
     return getDbEntityManager().selectList("selectVariablesByProcessInstanceId", processInstanceId);
   }
 
+  /**
+   * Selects the variable instances of the given name which have no entry in the variable
+   * lookup table, ordered by id.
+   */
+  @SuppressWarnings("unchecked")
+  public List<VariableInstanceEntity> findVariableInstancesWithoutLookupEntry(String name, String idAfter, int maxResults) {
+    Map<String, Object> parameters = new HashMap<String, Object>();
+    parameters.put("name", name);
+    parameters.put("idAfter", idAfter);
+    parameters.put("maxResults", maxResults);
+    ListQueryParameterObject parameterObject = new ListQueryParameterObject(parameters, 0, maxResults);
+    return getDbEntityManager().selectList("selectVariablesWithoutLookupEntry", parameterObject);
+  }
+
   public List<VariableInstanceEntity> findVariableInstancesByCaseExecutionId(String caseExecutionId) {
     return findVariableInstancesByCaseExecutionIdAndVariableNames(caseExecutionId, null);
   }
@@ -90,6 +123,11 @@ public class VariableInstanceManager extends AbstractManager {
     return getDbEntityManager().selectList("selectVariableInstanceByQueryCriteria", variableInstanceQuery, page);
   }
 
+  public void projectVariableInstancesByQueryCriteria(VariableInstanceQueryImpl variableInstanceQuery, ResultHandler<?> resultHandler) {
+    configureQuery(variableInstanceQuery);
+    getDbEntityManager().select("selectVariableInstanceProjectionByQueryCriteria", variableInstanceQuery, resultHandler);
+  }
+
   protected void configureQuery(VariableInstanceQueryImpl query) {
     getAuthorizationManager().configureVariableInstanceQuery(query);
     getTenantManager().configureQuery(query);
@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.variable.type.ValueType;
+
+/**
+ * A copy of a variable instance of one of the queryable variable names in the narrow,
+ * indexed lookup table. Only variables of primitive types are copied, string values only
+ * if they fit into the indexed text column. The entity shares its id with the variable
+ * instance and is maintained while variable instances are flushed.
+ */
+public class VariableLookupEntity implements DbEntity, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final int TEXT_MAX_LENGTH = 255;
+
+  /** serializer names of the variables which are copied to the lookup table */
+  public static final Set<String> LOOKUP_TYPES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+      ValueType.STRING.getName(),
+      ValueType.BOOLEAN.getName(),
+      ValueType.SHORT.getName(),
+      ValueType.INTEGER.getName(),
+      ValueType.LONG.getName(),
+      ValueType.DOUBLE.getName(),
+      ValueType.DATE.getName())));
+
+  protected String id;
+  protected String name;
+  protected String type;
+  protected String executionId;
+  protected String processInstanceId;
+  protected String caseExecutionId;
+  protected String caseInstanceId;
+  protected String taskId;
+  protected String textValue;
+  protected Long longValue;
+  protected Double doubleValue;
+
+  public VariableLookupEntity() {
+  }
+
+  public VariableLookupEntity(String id, String name, Map<String, Object> variableState) {
+    this.id = id;
+    this.name = name;
+    this.type = (String) variableState.get("serializerName");
+    this.executionId = (String) variableState.get("executionId");
+    this.processInstanceId = (String) variableState.get("processInstanceId");
+    this.caseExecutionId = (String) variableState.get("caseExecutionId");
+    this.caseInstanceId = (String) variableState.get("caseInstanceId");
+    this.taskId = (String) variableState.get("taskId");
+    this.textValue = (String) variableState.get("textValue");
+    this.longValue = (Long) variableState.get("longValue");
+    this.doubleValue = (Double) variableState.get("doubleValue");
+  }
+
+  /**
+   * @param variableState the persistent state of a {@link VariableInstanceEntity}
+   * @return true if a variable in the given state is copied to the lookup table
+   */
+  public static boolean isLookupState(Map<String, Object> variableState) {
+    String serializerName = (String) variableState.get("serializerName");
+    if (!LOOKUP_TYPES.contains(serializerName)) {
+      return false;
+    }
+    String textValue = (String) variableState.get("textValue");
+    return textValue == null || textValue.length() <= TEXT_MAX_LENGTH;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public String getExecutionId() {
+    return executionId;
+  }
+
+  public void setExecutionId(String executionId) {
+    this.executionId = executionId;
+  }
+
+  public String getProcessInstanceId() {
+    return processInstanceId;
+  }
+
+  public void setProcessInstanceId(String processInstanceId) {
+    this.processInstanceId = processInstanceId;
+  }
+
+  public String getCaseExecutionId() {
+    return caseExecutionId;
+  }
+
+  public void setCaseExecutionId(String caseExecutionId) {
+    this.caseExecutionId = caseExecutionId;
+  }
+
+  public String getCaseInstanceId() {
+    return caseInstanceId;
+  }
+
+  public void setCaseInstanceId(String caseInstanceId) {
+    this.caseInstanceId = caseInstanceId;
+  }
+
+  public String getTaskId() {
+    return taskId;
+  }
+
+  public void setTaskId(String taskId) {
+    this.taskId = taskId;
+  }
+
+  public String getTextValue() {
+    return textValue;
+  }
+
+  public void setTextValue(String textValue) {
+    this.textValue = textValue;
+  }
+
+  public Long getLongValue() {
+    return longValue;
+  }
+
+  public void setLongValue(Long longValue) {
+    this.longValue = longValue;
+  }
+
+  public Double getDoubleValue() {
+    return doubleValue;
+  }
+
+  public void setDoubleValue(Double doubleValue) {
+    this.doubleValue = doubleValue;
+  }
+
+  public Object getPersistentState() {
+    // lookup entries are only written by the tracker during the flush
+    return VariableLookupEntity.class;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName()
+           + "[id=" + id
+           + ", name=" + name
+           + ", type=" + type
+           + ", executionId=" + executionId
+           + ", processInstanceId=" + processInstanceId
+           + ", caseExecutionId=" + caseExecutionId
+           + ", caseInstanceId=" + caseInstanceId
+           + ", taskId=" + taskId
+           + ", textValue=" + textValue
+           + ", longValue=" + longValue
+           + ", doubleValue=" + doubleValue
+           + "]";
+  }
+
+}
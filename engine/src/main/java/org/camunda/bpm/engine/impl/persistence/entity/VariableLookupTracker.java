@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import static org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState.DELETED_PERSISTENT;
+import static org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState.PERSISTENT;
+import static org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState.TRANSIENT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
+
+/**
+ * Mirrors the variable instances of the queryable variable names into the lookup table
+ * while the entity cache is flushed.
+ *
+ * <p>Whether a lookup entry exists is derived from the old state of the variable instance,
+ * which is taken from the copy of its persistent state in the entity cache. Variables which
+ * were written before their name was declared queryable are copied by the
+ * {@link org.camunda.bpm.engine.impl.cmd.BackfillVariableLookupCmd}.</p>
+ */
+public class VariableLookupTracker {
+
+  protected Set<String> queryableVariableNames;
+
+  protected List<DbEntityOperation> operations = new ArrayList<DbEntityOperation>();
+
+  public VariableLookupTracker(Set<String> queryableVariableNames) {
+    this.queryableVariableNames = queryableVariableNames;
+  }
+
+  /**
+   * Must be invoked before the entity is flushed, i.e. while its state in the cache
+   * still reflects the pending changes.
+   */
+  @SuppressWarnings("unchecked")
+  public void entityFlushed(CachedDbEntity cachedDbEntity) {
+    DbEntity entity = cachedDbEntity.getEntity();
+    if (!(entity instanceof VariableInstanceEntity)) {
+      return;
+    }
+
+    VariableInstanceEntity variableInstance = (VariableInstanceEntity) entity;
+    if (!queryableVariableNames.contains(variableInstance.getName())) {
+      return;
+    }
+
+    DbEntityState entityState = cachedDbEntity.getEntityState();
+    Map<String, Object> oldState = null;
+    Map<String, Object> newState = null;
+
+    if (entityState == TRANSIENT) {
+      newState = (Map<String, Object>) entity.getPersistentState();
+
+    } else if (entityState == PERSISTENT && cachedDbEntity.isDirty() && cachedDbEntity.getCopy() instanceof Map) {
+      oldState = (Map<String, Object>) cachedDbEntity.getCopy();
+      newState = (Map<String, Object>) entity.getPersistentState();
+
+    } else if (entityState == DELETED_PERSISTENT && cachedDbEntity.getCopy() instanceof Map) {
+      oldState = (Map<String, Object>) cachedDbEntity.getCopy();
+
+    } else {
+      return;
+    }
+
+    boolean hasLookupEntry = oldState != null && VariableLookupEntity.isLookupState(oldState);
+    boolean needsLookupEntry = newState != null && VariableLookupEntity.isLookupState(newState);
+
+    if (needsLookupEntry) {
+      VariableLookupEntity lookupEntry = new VariableLookupEntity(variableInstance.getId(), variableInstance.getName(), newState);
+      addOperation(lookupEntry, hasLookupEntry ? DbOperationType.UPDATE : DbOperationType.INSERT);
+
+    } else if (hasLookupEntry) {
+      VariableLookupEntity lookupEntry = new VariableLookupEntity();
+      lookupEntry.setId(variableInstance.getId());
+      addOperation(lookupEntry, DbOperationType.DELETE);
+    }
+  }
+
+  protected void addOperation(VariableLookupEntity lookupEntry, DbOperationType operationType) {
+    DbEntityOperation operation = new DbEntityOperation();
+    operation.setEntity(lookupEntry);
+    operation.setFlushRelevantEntityReferences(Collections.<String>emptySet());
+    operation.setOperationType(operationType);
+    operations.add(operation);
+  }
+
+  /**
+   * Schedules the collected inserts, updates and deletes of lookup entries.
+   */
+  public void flush(DbEntityManager dbEntityManager) {
+    for (DbEntityOperation operation : operations) {
+      dbEntityManager.getDbOperationManager().addOperation(operation);
+    }
+
+    operations.clear();
+  }
+
+}
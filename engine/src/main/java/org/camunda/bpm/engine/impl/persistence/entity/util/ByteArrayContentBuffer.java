@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.camunda.bpm.engine.impl.util.IoUtil;
+
+/**
+ * Copies the content of a byte array from the database so that it remains
+ * readable after the command completed. Small contents are kept in memory,
+ * larger contents are spilled to a temporary file which is deleted once the
+ * returned stream is closed. Callers should close the stream in a finally block;
+ * the files of streams which are garbage collected without being closed are
+ * deleted when the next content is spilled.
+ */
+public class ByteArrayContentBuffer {
+
+  public static final int DEFAULT_MEMORY_THRESHOLD = 64 * 1024;
+
+  protected static final String TEMP_FILE_PREFIX = "camunda-bytearray-";
+
+  protected static final ReferenceQueue<TemporaryFileInputStream> UNCLOSED_STREAMS = new ReferenceQueue<TemporaryFileInputStream>();
+
+  /** keeps the references reachable until their file is deleted */
+  protected static final Set<TemporaryFileReference> TEMPORARY_FILES =
+      Collections.newSetFromMap(new ConcurrentHashMap<TemporaryFileReference, Boolean>());
+
+  public static InputStream copy(InputStream content, int memoryThreshold) throws IOException {
+    deleteFilesOfUnclosedStreams();
+
+    byte[] buffer = new byte[memoryThreshold + 1];
+    int length = fill(content, buffer);
+
+    if (length <= memoryThreshold) {
+      return new ByteArrayInputStream(Arrays.copyOf(buffer, length));
+    }
+
+    File file = File.createTempFile(TEMP_FILE_PREFIX, null);
+    OutputStream outputStream = null;
+    boolean copied = false;
+    try {
+      outputStream = new FileOutputStream(file);
+      outputStream.write(buffer, 0, length);
+
+      int read = content.read(buffer);
+      while (read != -1) {
+        outputStream.write(buffer, 0, read);
+        read = content.read(buffer);
+      }
+      outputStream.close();
+      copied = true;
+
+      return new TemporaryFileInputStream(file);
+    }
+    finally {
+      IoUtil.closeSilently(outputStream);
+      if (!copied) {
+        file.delete();
+      }
+    }
+  }
+
+  protected static void deleteFilesOfUnclosedStreams() {
+    Reference<? extends TemporaryFileInputStream> reference = UNCLOSED_STREAMS.poll();
+    while (reference != null) {
+      ((TemporaryFileReference) reference).deleteFile();
+      reference = UNCLOSED_STREAMS.poll();
+    }
+  }
+
+  protected static int fill(InputStream content, byte[] buffer) throws IOException {
+    int length = 0;
+    while (length < buffer.length) {
+      int read = content.read(buffer, length, buffer.length - length);
+      if (read == -1) {
+        break;
+      }
+      length += read;
+    }
+    return length;
+  }
+
+  /**
+   * Deletes the file it reads from when closed.
+   */
+  public static class TemporaryFileInputStream extends FileInputStream {
+
+    protected final TemporaryFileReference reference;
+
+    public TemporaryFileInputStream(File file) throws FileNotFoundException {
+      super(file);
+      this.reference = new TemporaryFileReference(this, file);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      }
+      finally {
+        reference.deleteFile();
+      }
+    }
+  }
+
+  /**
+   * Deletes the file of a {@link TemporaryFileInputStream}, either when the stream is
+   * closed or after it was garbage collected.
+   */
+  protected static class TemporaryFileReference extends PhantomReference<TemporaryFileInputStream> {
+
+    protected final File file;
+
+    public TemporaryFileReference(TemporaryFileInputStream stream, File file) {
+      super(stream, UNCLOSED_STREAMS);
+      this.file = file;
+      TEMPORARY_FILES.add(this);
+    }
+
+    public void deleteFile() {
+      if (TEMPORARY_FILES.remove(this)) {
+        file.delete();
+      }
+      clear();
+    }
+  }
+
+}
@@ -17,10 +17,12 @@ package org.camunda.bpm.engine.impl.persistence.entity.util;
 
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayManager;
 import org.camunda.bpm.engine.impl.persistence.entity.Nameable;
 import org.camunda.bpm.engine.impl.variable.serializer.ValueFields;
 import org.camunda.bpm.engine.repository.ResourceType;
 
+import java.util.Arrays;
 import java.util.Date;
 
 /**
@@ -40,6 +42,12 @@ public class ByteArrayField {
   protected String rootProcessInstanceId;
   protected Date removalTime;
 
+  /**
+   * whether the value may be stored in a byte array shared with other fields of equal
+   * content, see {@link ByteArrayManager#isContentAddressed(byte[], ResourceType)}
+   */
+  protected boolean contentAddressable;
+
   public ByteArrayField(Nameable nameProvider, ResourceType type, String rootProcessInstanceId, Date removalTime) {
     this(nameProvider, type);
     this.removalTime = removalTime;
@@ -51,6 +59,11 @@ public class ByteArrayField {
     this.type = type;
   }
 
+  public ByteArrayField(Nameable nameProvider, ResourceType type, boolean contentAddressable) {
+    this(nameProvider, type);
+    this.contentAddressable = contentAddressable;
+  }
+
   public String getByteArrayId() {
     return byteArrayId;
   }
@@ -94,11 +107,28 @@ public class ByteArrayField {
 
   public void setByteArrayValue(byte[] bytes, boolean isTransient) {
     if (bytes != null) {
+      boolean contentAddressed = !isTransient && isContentAddressed(bytes);
+
       // note: there can be cases where byteArrayId is not null
       //   but the corresponding byte array entity has been removed in parallel;
       //   thus we also need to check if the actual byte array entity still exists
-      if (this.byteArrayId != null && getByteArrayEntity() != null) {
-        byteArrayValue.setBytes(bytes);
+      if (this.byteArrayId != null && getByteArrayEntity() != null
+          && ((!byteArrayValue.isShared() && !contentAddressed) || Arrays.equals(byteArrayValue.getBytes(), bytes))) {
+        // a byte array owned by this field alone is updated in place; writing back
+        // identical content (e.g. the same serialized payload) would only cause a
+        // needless update of the byte array row or move of the reference
+        if (!Arrays.equals(byteArrayValue.getBytes(), bytes)) {
+          byteArrayValue.setBytes(bytes);
+        }
+      }
+      else if (contentAddressed) {
+        // a shared byte array is never changed, the reference is moved instead
+        deleteByteArrayValue();
+
+        setByteArrayId(Context
+          .getCommandContext()
+          .getByteArrayManager()
+          .acquireSharedByteArray(nameProvider.getName(), bytes, type));
       }
       else {
         deleteByteArrayValue();
@@ -129,15 +159,29 @@ public class ByteArrayField {
       getByteArrayEntity();
 
       if (byteArrayValue != null) {
-        Context.getCommandContext()
-               .getDbEntityManager()
-               .delete(byteArrayValue);
+        if (byteArrayValue.isShared()) {
+          Context.getCommandContext()
+                 .getByteArrayManager()
+                 .releaseSharedByteArray(byteArrayValue);
+        }
+        else {
+          Context.getCommandContext()
+                 .getDbEntityManager()
+                 .delete(byteArrayValue);
+        }
       }
 
       byteArrayId = null;
     }
   }
 
+  protected boolean isContentAddressed(byte[] bytes) {
+    return contentAddressable
+        && Context.getCommandContext()
+                  .getByteArrayManager()
+                  .isContentAddressed(bytes, type);
+  }
+
   public void setByteArrayValue(ByteArrayEntity byteArrayValue) {
     this.byteArrayValue = byteArrayValue;
   }
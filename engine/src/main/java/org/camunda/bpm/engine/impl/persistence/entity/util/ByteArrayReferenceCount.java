@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity.util;
+
+/**
+ * The change of the reference count of a shared byte array within one command. All
+ * references acquired and released during the command are summed up and flushed as a
+ * single update. Instances are compared by identity, so that the bulk operation carrying
+ * the change is scheduled once and picks up later changes of the count.
+ */
+public class ByteArrayReferenceCount {
+
+  protected String byteArrayId;
+  protected int delta;
+
+  public ByteArrayReferenceCount(String byteArrayId) {
+    this.byteArrayId = byteArrayId;
+  }
+
+  public void increment() {
+    delta++;
+  }
+
+  public void decrement() {
+    delta--;
+  }
+
+  public String getByteArrayId() {
+    return byteArrayId;
+  }
+
+  public int getDelta() {
+    return delta;
+  }
+
+}
@@ -28,6 +28,7 @@ import org.camunda.bpm.engine.delegate.VariableScope;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.scripting.engine.ScriptingEngines;
 
 /**
  * A script which is provided as source code.
@@ -79,8 +80,16 @@ public class SourceExecutableScript extends CompiledExecutableScript {
       if (getCompiledScript() == null && shouldBeCompiled) {
         synchronized (this) {
           if (getCompiledScript() == null && shouldBeCompiled) {
-            // try to compile script
-            compiledScript = compile(engine, language, scriptSource);
+            ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+
+            // reuse the script compiled for another definition with the same source
+            compiledScript = scriptingEngines.getCompiledScript(engine, language, scriptSource);
+
+            if (compiledScript == null) {
+              // try to compile script
+              compiledScript = compile(engine, language, scriptSource);
+              scriptingEngines.putCompiledScript(engine, language, scriptSource, compiledScript);
+            }
 
             // either the script was successfully compiled or it can't be
             // compiled but we won't try it again
@@ -17,6 +17,9 @@ package org.camunda.bpm.engine.impl.scripting.engine;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
@@ -33,6 +36,14 @@ public class ScriptEngineResolver {
 
   protected Map<String, ScriptEngine> cachedEngines = new HashMap<String, ScriptEngine>();
 
+  /**
+   * Idle instances of script engines which are not thread-safe. A pooled engine
+   * is used by a single thread between its checkout and its release.
+   */
+  protected int scriptEnginePoolSize = 0;
+  protected ConcurrentHashMap<String, BlockingQueue<ScriptEngine>> pooledEngines = new ConcurrentHashMap<String, BlockingQueue<ScriptEngine>>();
+  protected ConcurrentHashMap<String, ScriptEngineFactory> pooledEngineFactories = new ConcurrentHashMap<String, ScriptEngineFactory>();
+
   public ScriptEngineResolver(ScriptEngineManager scriptEngineManager) {
     this.scriptEngineManager = scriptEngineManager;
   }
@@ -71,6 +82,9 @@ public class ScriptEngineResolver {
           if(isCachable(scriptEngine)) {
             cachedEngines.put(language, scriptEngine);
           }
+          else if(scriptEnginePoolSize > 0) {
+            pooledEngineFactories.putIfAbsent(language, scriptEngine.getFactory());
+          }
 
         }
 
@@ -83,6 +97,74 @@ public class ScriptEngineResolver {
     return scriptEngine;
   }
 
+  /**
+   * Like {@link #getScriptEngine(String, boolean)} with caching, but script engines which cannot
+   * be cached are taken from the pool if pooling is enabled. The caller must return the engine
+   * with {@link #releaseScriptEngine(String, ScriptEngine)} once it is done.
+   *
+   * @param language the language (such as 'groovy' for the script engine)
+   * @return the engine or null if no script engine can be created for the given language
+   */
+  public ScriptEngine borrowScriptEngine(String language) {
+    ScriptEngine scriptEngine = cachedEngines.get(language);
+
+    if (scriptEngine == null) {
+      scriptEngine = pollPooledScriptEngine(language);
+    }
+
+    if (scriptEngine == null) {
+      scriptEngine = getScriptEngine(language, true);
+    }
+
+    return scriptEngine;
+  }
+
+  /**
+   * Returns a script engine obtained from {@link #borrowScriptEngine(String)} to the pool.
+   * Engines which are cached or were not created by this resolver are ignored.
+   *
+   * @param language the language of the script engine
+   * @param scriptEngine the script engine which is not used by the calling thread anymore
+   */
+  public void releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    if (scriptEnginePoolSize > 0 && scriptEngine != null
+        && scriptEngine.getFactory() == pooledEngineFactories.get(language)) {
+
+      BlockingQueue<ScriptEngine> pool = pooledEngines.get(language);
+      if (pool == null) {
+        pooledEngines.putIfAbsent(language, new ArrayBlockingQueue<ScriptEngine>(scriptEnginePoolSize));
+        pool = pooledEngines.get(language);
+      }
+      // the engine is discarded if the pool is full
+      pool.offer(scriptEngine);
+    }
+  }
+
+  protected ScriptEngine pollPooledScriptEngine(String language) {
+    BlockingQueue<ScriptEngine> pool = pooledEngines.get(language);
+    return pool != null ? pool.poll() : null;
+  }
+
+  /**
+   * @return true if the given engine is the engine shared by all threads for the given language
+   */
+  public boolean isCachedScriptEngine(String language, ScriptEngine scriptEngine) {
+    return scriptEngine != null && cachedEngines.get(language) == scriptEngine;
+  }
+
+  public int getScriptEnginePoolSize() {
+    return scriptEnginePoolSize;
+  }
+
+  /**
+   * @param scriptEnginePoolSize the maximum number of idle engines kept per language
+   * for script engines which are not thread-safe, 0 disables pooling
+   */
+  public void setScriptEnginePoolSize(int scriptEnginePoolSize) {
+    this.scriptEnginePoolSize = scriptEnginePoolSize;
+    pooledEngines.clear();
+  }
+
   /**
    * Allows checking whether the script engine can be cached.
    *
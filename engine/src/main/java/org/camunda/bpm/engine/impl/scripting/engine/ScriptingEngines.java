@@ -18,6 +18,7 @@ package org.camunda.bpm.engine.impl.scripting.engine;
 import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
 
 import javax.script.Bindings;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
 import javax.script.ScriptEngineManager;
@@ -31,6 +32,8 @@ import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.delegate.VariableScope;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.ConcurrentLruCache;
 
 /**
  * <p>Manager for JSR-223 {@link ScriptEngine} handling.</p>
@@ -52,12 +55,20 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
 
   public static final String DEFAULT_SCRIPTING_LANGUAGE = "juel";
   public static final String GROOVY_SCRIPTING_LANGUAGE = "groovy";
+  public static final int DEFAULT_COMPILED_SCRIPT_CACHE_SIZE = 0;
 
   protected ScriptEngineResolver scriptEngineResolver;
   protected ScriptBindingsFactory scriptBindingsFactory;
 
   protected boolean enableScriptEngineCaching = true;
 
+  /**
+   * Scripts compiled by the cached script engines, shared between all
+   * definitions containing the same script source.
+   */
+  protected int compiledScriptCacheSize = DEFAULT_COMPILED_SCRIPT_CACHE_SIZE;
+  protected volatile Cache<String, CompiledScript> compiledScriptCache;
+
   public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
     this(new ScriptEngineManager());
     this.scriptBindingsFactory = scriptBindingsFactory;
@@ -75,6 +86,27 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
     this.enableScriptEngineCaching = enableScriptEngineCaching;
   }
 
+  public int getScriptEnginePoolSize() {
+    return scriptEngineResolver.getScriptEnginePoolSize();
+  }
+
+  public void setScriptEnginePoolSize(int scriptEnginePoolSize) {
+    scriptEngineResolver.setScriptEnginePoolSize(scriptEnginePoolSize);
+  }
+
+  public int getCompiledScriptCacheSize() {
+    return compiledScriptCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of compiled scripts shared between definitions.
+   * A size of 0 disables sharing.
+   */
+  public void setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+    this.compiledScriptCacheSize = compiledScriptCacheSize;
+    compiledScriptCache = null;
+  }
+
   public ScriptEngineManager getScriptEngineManager() {
     return scriptEngineResolver.getScriptEngineManager();
   }
@@ -92,6 +124,19 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
    * @throws ProcessEngineException if no such engine can be found.
    */
   public ScriptEngine getScriptEngineForLanguage(String language) {
+    return getScriptEngineForLanguage(language, false);
+  }
+
+  /**
+   * Like {@link #getScriptEngineForLanguage(String)}, but global script engines which are not
+   * thread-safe may be taken from the pool. The caller must release the engine with
+   * {@link #releaseScriptEngine(String, ScriptEngine)} in a finally block.
+   */
+  public ScriptEngine borrowScriptEngineForLanguage(String language) {
+    return getScriptEngineForLanguage(language, true);
+  }
+
+  protected ScriptEngine getScriptEngineForLanguage(String language, boolean borrow) {
 
     if (language != null) {
       language = language.toLowerCase();
@@ -108,7 +153,7 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
     }
 
     if(engine == null) {
-      engine = getGlobalScriptEngine(language);
+      engine = getGlobalScriptEngine(language, borrow);
     }
 
     return engine;
@@ -131,14 +176,79 @@ public class ScriptingEngines implements DmnScriptEngineResolver {
   }
 
   protected ScriptEngine getGlobalScriptEngine(String language) {
+    return getGlobalScriptEngine(language, false);
+  }
+
+  protected ScriptEngine getGlobalScriptEngine(String language, boolean borrow) {
 
-    ScriptEngine scriptEngine = scriptEngineResolver.getScriptEngine(language, enableScriptEngineCaching);
+    ScriptEngine scriptEngine;
+    if (borrow && enableScriptEngineCaching) {
+      scriptEngine = scriptEngineResolver.borrowScriptEngine(language);
+    }
+    else {
+      // callers such as the DMN engine do not release the engine, so it is never taken from the pool
+      scriptEngine = scriptEngineResolver.getScriptEngine(language, enableScriptEngineCaching);
+    }
 
     ensureNotNull("Can't find scripting engine for '" + language + "'", "scriptEngine", scriptEngine);
 
     return scriptEngine;
   }
 
+  /**
+   * Releases a script engine obtained from {@link #borrowScriptEngineForLanguage(String)} after
+   * the calling thread finished using it, so that engines which are not thread-safe can be reused.
+   */
+  public void releaseScriptEngine(String language, ScriptEngine scriptEngine) {
+    if (enableScriptEngineCaching && language != null) {
+      scriptEngineResolver.releaseScriptEngine(language.toLowerCase(), scriptEngine);
+    }
+  }
+
+  /**
+   * @return the shared compiled script for the given source or null if the source was not
+   * compiled by the given script engine yet
+   */
+  public CompiledScript getCompiledScript(ScriptEngine scriptEngine, String language, String source) {
+    Cache<String, CompiledScript> cache = getCompiledScriptCache();
+    if (cache == null || !isSharedScriptEngine(scriptEngine, language)) {
+      return null;
+    }
+
+    CompiledScript compiledScript = cache.get(language.toLowerCase() + ":" + source);
+    if (compiledScript != null && compiledScript.getEngine() == scriptEngine) {
+      return compiledScript;
+    }
+    return null;
+  }
+
+  /**
+   * Shares the compiled script with other definitions containing the same source. Only scripts compiled
+   * by the cached global script engines are shared, as process application engines may be undeployed.
+   */
+  public void putCompiledScript(ScriptEngine scriptEngine, String language, String source, CompiledScript compiledScript) {
+    Cache<String, CompiledScript> cache = getCompiledScriptCache();
+    if (cache != null && compiledScript != null && isSharedScriptEngine(scriptEngine, language)) {
+      cache.put(language.toLowerCase() + ":" + source, compiledScript);
+    }
+  }
+
+  protected boolean isSharedScriptEngine(ScriptEngine scriptEngine, String language) {
+    return enableScriptEngineCaching && language != null
+        && scriptEngineResolver.isCachedScriptEngine(language.toLowerCase(), scriptEngine);
+  }
+
+  protected Cache<String, CompiledScript> getCompiledScriptCache() {
+    if (compiledScriptCache == null && compiledScriptCacheSize > 0) {
+      synchronized (this) {
+        if (compiledScriptCache == null) {
+          compiledScriptCache = new ConcurrentLruCache<String, CompiledScript>(compiledScriptCacheSize);
+        }
+      }
+    }
+    return compiledScriptCache;
+  }
+
   /** override to build a spring aware ScriptingEngines
    * @param engineBindin
    * @param scriptEngine */
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * Gzip compression of byte array values. Compressed values are stored behind
+ * a {@link #COMPRESSED_VALUE_HEADER header} owned by the engine and only values
+ * carrying this header are decompressed. Values which start with the header by
+ * themselves are always compressed, so that they cannot be mistaken for
+ * compressed values when read.
+ */
+public class CompressionUtil {
+
+  private static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
+  /**
+   * Marks a value compressed by the engine: a zero byte, the characters "cz" and
+   * the format version. Serialized values written before compression existed
+   * (Java serialization streams and text based formats) cannot start with it.
+   */
+  protected static final byte[] COMPRESSED_VALUE_HEADER = new byte[] { 0, 'c', 'z', 1 };
+
+  /**
+   * @return the compressed bytes, or the given bytes if they are shorter than the
+   *   threshold, the threshold is negative or compression does not make them smaller
+   */
+  public static byte[] compress(byte[] bytes, int threshold) {
+    if (bytes == null) {
+      return null;
+    }
+
+    boolean mustCompress = isCompressed(bytes);
+    if (!mustCompress && (threshold < 0 || bytes.length < threshold)) {
+      return bytes;
+    }
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4);
+    GZIPOutputStream gzipOutputStream = null;
+    try {
+      outputStream.write(COMPRESSED_VALUE_HEADER);
+      gzipOutputStream = new GZIPOutputStream(outputStream);
+      gzipOutputStream.write(bytes);
+      gzipOutputStream.finish();
+    }
+    catch (IOException e) {
+      throw LOG.exceptionWhileCompressingBytes(e);
+    }
+    finally {
+      IoUtil.closeSilently(gzipOutputStream);
+    }
+
+    byte[] compressed = outputStream.toByteArray();
+    return mustCompress || compressed.length < bytes.length ? compressed : bytes;
+  }
+
+  /**
+   * @return the decompressed bytes if the given bytes were compressed by {@link #compress(byte[], int)},
+   *   the given bytes otherwise
+   */
+  public static byte[] decompress(byte[] bytes) {
+    if (!isCompressed(bytes)) {
+      return bytes;
+    }
+
+    int headerLength = COMPRESSED_VALUE_HEADER.length;
+    GZIPInputStream gzipInputStream = null;
+    try {
+      gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes, headerLength, bytes.length - headerLength));
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+      byte[] buffer = new byte[16*1024];
+      int bytesRead = gzipInputStream.read(buffer);
+      while (bytesRead != -1) {
+        outputStream.write(buffer, 0, bytesRead);
+        bytesRead = gzipInputStream.read(buffer);
+      }
+      return outputStream.toByteArray();
+    }
+    catch (IOException e) {
+      throw LOG.exceptionWhileDecompressingBytes(e);
+    }
+    finally {
+      IoUtil.closeSilently(gzipInputStream);
+    }
+  }
+
+  public static boolean isCompressed(byte[] bytes) {
+    if (bytes == null || bytes.length < COMPRESSED_VALUE_HEADER.length) {
+      return false;
+    }
+    for (int i = 0; i < COMPRESSED_VALUE_HEADER.length; i++) {
+      if (bytes[i] != COMPRESSED_VALUE_HEADER[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
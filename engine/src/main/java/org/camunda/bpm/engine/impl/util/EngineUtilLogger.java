@@ -218,4 +218,40 @@ public class EngineUtilLogger extends ProcessEngineLogger {
       "030",
       "Exception while parsing JSON: {}", e.getMessage(), e);
   }
+
+  public ProcessEngineException exceptionWhileWritingToChannel(Exception e) {
+    return new ProcessEngineException(exceptionMessage(
+      "031",
+      "Exception while writing to channel: {}", e.getMessage()), e);
+  }
+
+  public ProcessEngineException exportRecordExceedsBufferSize(String id, int bufferSize) {
+    return new ProcessEngineException(exceptionMessage(
+      "032",
+      "Record with id '{}' does not fit into export buffer of {} bytes", id, bufferSize));
+  }
+
+  public ProcessEngineException exceptionWhileWritingElementSnapshot(Exception e) {
+    return new ProcessEngineException(exceptionMessage(
+      "033",
+      "Exception while writing element snapshot: {}", e.getMessage()), e);
+  }
+
+  public ProcessEngineException exceptionWhileReadingElementSnapshot(Exception e) {
+    return new ProcessEngineException(exceptionMessage(
+      "034",
+      "Exception while reading element snapshot: {}", e.getMessage()), e);
+  }
+
+  public ProcessEngineException exceptionWhileCompressingBytes(Exception e) {
+    return new ProcessEngineException(exceptionMessage(
+      "035",
+      "Exception while compressing bytes: {}", e.getMessage()), e);
+  }
+
+  public ProcessEngineException exceptionWhileDecompressingBytes(Exception e) {
+    return new ProcessEngineException(exceptionMessage(
+      "036",
+      "Exception while decompressing bytes: {}", e.getMessage()), e);
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.util.EngineUtilLogger;
+
+/**
+ * Compact binary form of an {@link Element} tree that was produced by a validating {@link Parse}.
+ * Reading a snapshot restores the tree, including the attribute defaults added by the schema,
+ * without running the SAX parser and the schema validation again.
+ *
+ * <p>A snapshot is bound to the format and the engine version which wrote it; {@link #read(byte[])}
+ * returns <code>null</code> for snapshots written by another version, so that callers fall back
+ * to parsing the source document.</p>
+ */
+public class ElementSnapshot {
+
+  private static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
+  protected static final int MAGIC = 0xCA3E7001;
+  protected static final int FORMAT_VERSION = 1;
+  protected static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  public static byte[] write(Element rootElement) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes));
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      writeString(out, getEngineVersion());
+      writeElement(out, rootElement);
+      out.close();
+    } catch (IOException e) {
+      throw LOG.exceptionWhileWritingElementSnapshot(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @return the restored root element or <code>null</code> if the snapshot was written
+   * by another format or engine version
+   */
+  public static Element read(byte[] snapshot) {
+    try {
+      DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(snapshot)));
+      try {
+        if (in.readInt() != MAGIC
+            || in.readInt() != FORMAT_VERSION
+            || !getEngineVersion().equals(readString(in))) {
+          return null;
+        }
+        return readElement(in);
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      throw LOG.exceptionWhileReadingElementSnapshot(e);
+    }
+  }
+
+  protected static void writeElement(DataOutputStream out, Element element) throws IOException {
+    writeString(out, element.uri);
+    writeString(out, element.tagName);
+    out.writeInt(element.line);
+    out.writeInt(element.column);
+    writeString(out, element.text.toString());
+
+    Collection<Attribute> attributes = element.attributeMap.values();
+    out.writeInt(attributes.size());
+    for (Attribute attribute : attributes) {
+      writeString(out, attribute.getName());
+      writeString(out, attribute.getValue());
+      writeString(out, attribute.getUri());
+    }
+
+    out.writeInt(element.elements.size());
+    for (Element child : element.elements) {
+      writeElement(out, child);
+    }
+  }
+
+  protected static Element readElement(DataInputStream in) throws IOException {
+    String uri = readString(in);
+    String tagName = readString(in);
+    int line = in.readInt();
+    int column = in.readInt();
+
+    Element element = new Element(uri, tagName, line, column);
+    element.appendText(readString(in));
+
+    int attributeCount = in.readInt();
+    for (int i = 0; i < attributeCount; i++) {
+      String name = readString(in);
+      String value = readString(in);
+      String attributeUri = readString(in);
+      element.attributeMap.put(element.composeMapKey(attributeUri, name), new Attribute(name, value, attributeUri));
+    }
+
+    int childCount = in.readInt();
+    for (int i = 0; i < childCount; i++) {
+      element.add(readElement(in));
+    }
+
+    return element;
+  }
+
+  protected static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] bytes = value.getBytes(UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  protected static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  protected static String getEngineVersion() {
+    Package enginePackage = ProcessEngine.class.getPackage();
+    String version = enginePackage != null ? enginePackage.getImplementationVersion() : null;
+    return version != null ? version : "";
+  }
+
+}
@@ -111,6 +111,21 @@ public class Parse extends DefaultHandler {
     return this;
   }
 
+  /**
+   * Uses an element tree which was parsed and validated before, e.g. restored from an
+   * {@link ElementSnapshot}, instead of parsing a source.
+   */
+  public Parse sourceElement(Element rootElement) {
+    if (name==null) {
+      name("element");
+    }
+    if (streamSource!=null) {
+      throw LOG.multipleSourcesException(streamSource, null);
+    }
+    this.rootElement = rootElement;
+    return this;
+  }
+
   public Parse xxeProcessing(boolean enable) {
     setEnableXxeProcessing(enable);
     return this;
@@ -128,6 +143,11 @@ public class Parse extends DefaultHandler {
   }
 
   public Parse execute() {
+    if (streamSource == null && rootElement != null) {
+      // the element tree was provided, see #sourceElement(Element)
+      return this;
+    }
+
     try {
       InputStream inputStream = streamSource.getInputStream();
 
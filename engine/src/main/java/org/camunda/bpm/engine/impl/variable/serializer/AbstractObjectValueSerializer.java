@@ -16,6 +16,8 @@
 package org.camunda.bpm.engine.impl.variable.serializer;
 
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.impl.value.ObjectValueImpl;
 import org.camunda.bpm.engine.variable.impl.value.UntypedValueImpl;
@@ -87,6 +89,14 @@ public abstract class AbstractObjectValueSerializer extends AbstractSerializable
     return typedValue.isDeserialized();
   }
 
+  /**
+   * Invoked when a process application is undeployed. Serializers which cache
+   * information about types must discard the types loaded by the given class loader.
+   */
+  public void releaseClassLoader(ClassLoader classLoader) {
+    // nothing cached by default
+  }
+
   // methods to be implemented by subclasses ////////////
 
   /**
@@ -109,7 +119,30 @@ public abstract class AbstractObjectValueSerializer extends AbstractSerializable
 
   protected Object deserializeFromByteArray(byte[] object, ValueFields valueFields) throws Exception {
     String objectTypeName = readObjectNameFromFields(valueFields);
-    return deserializeFromByteArray(object, objectTypeName);
+
+    DeserializedValueCache cache = getDeserializedValueCache();
+    if (cache == null || !cache.isCacheable(objectTypeName, object)) {
+      return deserializeFromByteArray(object, objectTypeName);
+    }
+
+    Object deserializedObject = cache.get(serializationDataFormat, objectTypeName, object);
+    if (deserializedObject == null) {
+      deserializedObject = deserializeFromByteArray(object, objectTypeName);
+      if (deserializedObject != null) {
+        cache.put(serializationDataFormat, objectTypeName, object, deserializedObject);
+      }
+    }
+    return deserializedObject;
+  }
+
+  protected DeserializedValueCache getDeserializedValueCache() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null) {
+      return processEngineConfiguration.getDeserializedValueCache();
+    }
+    else {
+      return null;
+    }
   }
 
   /**
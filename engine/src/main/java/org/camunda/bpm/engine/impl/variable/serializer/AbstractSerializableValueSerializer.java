@@ -16,7 +16,10 @@
 package org.camunda.bpm.engine.impl.variable.serializer;
 
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.digest._apacheCommonsCodec.Base64;
+import org.camunda.bpm.engine.impl.util.CompressionUtil;
 import org.camunda.bpm.engine.impl.util.StringUtil;
 import org.camunda.bpm.engine.variable.impl.value.UntypedValueImpl;
 import org.camunda.bpm.engine.variable.type.SerializableValueType;
@@ -64,7 +67,7 @@ public abstract class AbstractSerializableValueSerializer<T extends Serializable
     }
 
     // write value and type to fields.
-    writeToValueFields(value, valueFields, serializedByteValue);
+    writeToValueFields(value, valueFields, compressSerializedValue(serializedByteValue));
 
     // update the ObjectValue to keep it consistent with value fields.
     updateTypedValue(value, serializedStringValue);
@@ -72,7 +75,7 @@ public abstract class AbstractSerializableValueSerializer<T extends Serializable
 
   public T readValue(ValueFields valueFields, boolean deserializeObjectValue) {
 
-    byte[] serializedByteValue = readSerializedValueFromFields(valueFields);
+    byte[] serializedByteValue = CompressionUtil.decompress(readSerializedValueFromFields(valueFields));
     String serializedStringValue = getSerializedStringValue(serializedByteValue);
 
     if(deserializeObjectValue) {
@@ -104,6 +107,20 @@ public abstract class AbstractSerializableValueSerializer<T extends Serializable
     return valueFields.getByteArrayValue();
   }
 
+  /**
+   * Compresses the serialized value if it exceeds the configured
+   * {@link ProcessEngineConfigurationImpl#getSerializedValueCompressionThreshold() threshold}.
+   */
+  protected byte[] compressSerializedValue(byte[] serializedByteValue) {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    int threshold = -1;
+    if (processEngineConfiguration != null) {
+      threshold = processEngineConfiguration.getSerializedValueCompressionThreshold();
+    }
+    // values which look compressed are compressed regardless of the threshold
+    return CompressionUtil.compress(serializedByteValue, threshold);
+  }
+
   protected String getSerializedStringValue(byte[] serializedByteValue) {
     if(serializedByteValue != null) {
       if(!isSerializationTextBased()) {
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.variable.serializer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.util.ClassLoaderUtil;
+
+/**
+ * <p>Caches deserialized object values between commands, so that reading the
+ * same serialized value again does not parse it again.</p>
+ *
+ * <p>Entries are keyed by the serialized bytes together with the data format, the
+ * object type name and the context class loader. An updated value therefore never
+ * hits an outdated entry. The cached objects reference the classes of their class
+ * loader, so the entries of a process application are removed when it is undeployed,
+ * see {@link #releaseClassLoader(ClassLoader)}.</p>
+ *
+ * <p>The cache is divided into segments which are locked independently. Each segment
+ * is bounded by its share of the total size of the serialized bytes and evicts its
+ * least recently used entries first.</p>
+ *
+ * <p>Cached objects are shared by all callers. Only object types that are
+ * immutable may be configured to be cached.</p>
+ */
+public class DeserializedValueCache {
+
+  public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+  protected final long maxWeight;
+  protected final Set<String> objectTypeNames;
+  protected final Segment[] segments;
+
+  /**
+   * @param maxWeight the maximal total size in bytes of the cached serialized values
+   * @param objectTypeNames the names of the immutable object types which are cached
+   */
+  public DeserializedValueCache(long maxWeight, Set<String> objectTypeNames) {
+    this(maxWeight, objectTypeNames, DEFAULT_SEGMENT_COUNT);
+  }
+
+  /**
+   * @param maxWeight the maximal total size in bytes of the cached serialized values
+   * @param objectTypeNames the names of the immutable object types which are cached
+   * @param segmentCount the number of independently locked segments
+   */
+  public DeserializedValueCache(long maxWeight, Set<String> objectTypeNames, int segmentCount) {
+    this.maxWeight = maxWeight;
+    this.objectTypeNames = Collections.unmodifiableSet(new HashSet<String>(objectTypeNames));
+
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new Segment(maxWeight / segmentCount);
+    }
+  }
+
+  public boolean isCacheable(String objectTypeName, byte[] serializedValue) {
+    return objectTypeName != null
+        && objectTypeNames.contains(objectTypeName)
+        && serializedValue.length <= maxWeight / segments.length;
+  }
+
+  public Object get(String serializationDataFormat, String objectTypeName, byte[] serializedValue) {
+    Key key = new Key(serializationDataFormat, objectTypeName, serializedValue);
+    Segment segment = getSegment(key);
+    synchronized (segment) {
+      return segment.entries.get(key);
+    }
+  }
+
+  public void put(String serializationDataFormat, String objectTypeName, byte[] serializedValue, Object deserializedValue) {
+    Key key = new Key(serializationDataFormat, objectTypeName, serializedValue);
+    Segment segment = getSegment(key);
+    synchronized (segment) {
+      if (segment.entries.put(key, deserializedValue) == null) {
+        segment.weight += serializedValue.length;
+      }
+
+      Iterator<Key> keys = segment.entries.keySet().iterator();
+      while (segment.weight > segment.maxWeight && keys.hasNext()) {
+        segment.weight -= keys.next().serializedValue.length;
+        keys.remove();
+      }
+    }
+  }
+
+  /**
+   * Removes the entries which were read with the given context class loader.
+   */
+  public void releaseClassLoader(ClassLoader classLoader) {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        Iterator<Key> keys = segment.entries.keySet().iterator();
+        while (keys.hasNext()) {
+          Key key = keys.next();
+          if (key.classLoader == classLoader) {
+            segment.weight -= key.serializedValue.length;
+            keys.remove();
+          }
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.entries.clear();
+        segment.weight = 0;
+      }
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.entries.size();
+      }
+    }
+    return size;
+  }
+
+  public long getWeight() {
+    long weight = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        weight += segment.weight;
+      }
+    }
+    return weight;
+  }
+
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  public Set<String> getObjectTypeNames() {
+    return objectTypeNames;
+  }
+
+  protected Segment getSegment(Key key) {
+    int hash = key.hashCode ^ (key.hashCode >>> 16);
+    return segments[(hash & Integer.MAX_VALUE) % segments.length];
+  }
+
+  protected static class Segment {
+
+    protected final long maxWeight;
+    protected final LinkedHashMap<Key, Object> entries = new LinkedHashMap<Key, Object>(16, 0.75f, true);
+    protected long weight = 0;
+
+    public Segment(long maxWeight) {
+      this.maxWeight = maxWeight;
+    }
+  }
+
+  protected static class Key {
+
+    protected final String serializationDataFormat;
+    protected final String objectTypeName;
+    protected final byte[] serializedValue;
+    protected final ClassLoader classLoader;
+    protected final int hashCode;
+
+    public Key(String serializationDataFormat, String objectTypeName, byte[] serializedValue) {
+      this.serializationDataFormat = serializationDataFormat;
+      this.objectTypeName = objectTypeName;
+      this.serializedValue = serializedValue;
+      this.classLoader = ClassLoaderUtil.getContextClassloader();
+
+      int result = Arrays.hashCode(serializedValue);
+      result = 31 * result + serializationDataFormat.hashCode();
+      result = 31 * result + objectTypeName.hashCode();
+      result = 31 * result + System.identityHashCode(classLoader);
+      this.hashCode = result;
+    }
+
+    public int hashCode() {
+      return hashCode;
+    }
+
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hashCode == other.hashCode
+          && classLoader == other.classLoader
+          && serializationDataFormat.equals(other.serializationDataFormat)
+          && objectTypeName.equals(other.objectTypeName)
+          && Arrays.equals(serializedValue, other.serializedValue);
+    }
+  }
+
+}
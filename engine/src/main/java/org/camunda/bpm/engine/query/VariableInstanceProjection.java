@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.query;
+
+/**
+ * The plain column values of a runtime or historic variable instance. A projection
+ * is read straight from the query result without creating the variable entity,
+ * resolving the variable's type or fetching byte array values.
+ *
+ * @see VariableInstanceProjectionHandler
+ */
+public interface VariableInstanceProjection {
+
+  String getId();
+
+  String getName();
+
+  /**
+   * @return the name of the serializer that has written the value, for example
+   *   <code>string</code>, <code>long</code> or <code>serializable</code>
+   */
+  String getSerializerName();
+
+  String getProcessInstanceId();
+
+  String getExecutionId();
+
+  String getCaseInstanceId();
+
+  String getCaseExecutionId();
+
+  String getTaskId();
+
+  String getActivityInstanceId();
+
+  String getTenantId();
+
+  /** The value of string variables. */
+  String getTextValue();
+
+  /** The object type name of object variables or the file name of file variables. */
+  String getTextValue2();
+
+  /** The value of long, integer, short, boolean and date variables. */
+  Long getLongValue();
+
+  /** The value of double variables. */
+  Double getDoubleValue();
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.query;
+
+/**
+ * Receives the {@link VariableInstanceProjection projections} of a variable
+ * instance query one by one, while the query result is read.
+ */
+public interface VariableInstanceProjectionHandler {
+
+  /**
+   * Called for each variable instance that matches the query. The handler is
+   * invoked inside the command that executes the query and must not keep
+   * a reference to the projection if memory consumption should stay constant.
+   */
+  void handle(VariableInstanceProjection projection);
+
+}
@@ -19,6 +19,7 @@ import java.io.Serializable;
 
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
 import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.query.VariableInstanceProjectionHandler;
 
 /**
  * @author roman.smirnov
@@ -165,4 +166,19 @@ public interface VariableInstanceQuery extends Query<VariableInstanceQuery, Vari
    */
   VariableInstanceQuery orderByTenantId();
 
+  /**
+   * Passes the plain column values of all matching variable instances to the given
+   * handler while the query result is read. Neither variable entities nor typed values
+   * are created and byte array values are not fetched. The results are ordered as
+   * configured by the orderBy methods; paging is not applied.
+   *
+   * <p>The rows are requested from the JDBC driver in chunks of 1000. Whether the driver
+   * actually streams them depends on the driver: MySQL Connector/J, for example, buffers
+   * the whole result unless the connection property <code>useCursorFetch=true</code> is
+   * set, and PostgreSQL only streams within a transaction.</p>
+   *
+   * @since 7.11
+   */
+  void project(VariableInstanceProjectionHandler handler);
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.runtime;
+
+import java.util.Map;
+
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resources;
+
+/**
+ * <p>A fluent builder for setting variables on many executions and tasks at once.</p>
+ *
+ * <p>All collected variable updates are applied in a single transaction when
+ * {@link #execute()} is invoked. The referenced executions and tasks and their
+ * variables are fetched in bulk and all resulting inserts, updates and history events
+ * are written in one flush, which makes this considerably cheaper than calling
+ * {@link org.camunda.bpm.engine.RuntimeService#setVariables(String, Map)} or
+ * {@link org.camunda.bpm.engine.TaskService#setVariables(String, Map)} once per target.</p>
+ *
+ * <p>History events are still created for each variable update individually.
+ * Since all updates share one transaction, the batch either succeeds or fails as a whole.
+ * Very large numbers of targets should therefore be split into several batches.</p>
+ *
+ * @since 7.11
+ */
+public interface VariablesBatchBuilder {
+
+  /**
+   * <p>Set the given variables on the execution with the given id. Variables are
+   * propagated to the highest possible parent scope like in
+   * {@link org.camunda.bpm.engine.RuntimeService#setVariables(String, Map)}.</p>
+   *
+   * @param executionId the id of the execution to set the variables on
+   * @param variables the variables to set
+   * @return the builder
+   */
+  VariablesBatchBuilder executionVariables(String executionId, Map<String, ?> variables);
+
+  /**
+   * <p>Set the given variables locally on the execution with the given id.</p>
+   *
+   * @param executionId the id of the execution to set the variables on
+   * @param variables the variables to set
+   * @return the builder
+   */
+  VariablesBatchBuilder executionVariablesLocal(String executionId, Map<String, ?> variables);
+
+  /**
+   * <p>Set the given variables on the task with the given id. Variables are
+   * propagated to the highest possible parent scope like in
+   * {@link org.camunda.bpm.engine.TaskService#setVariables(String, Map)}.</p>
+   *
+   * @param taskId the id of the task to set the variables on
+   * @param variables the variables to set
+   * @return the builder
+   */
+  VariablesBatchBuilder taskVariables(String taskId, Map<String, ?> variables);
+
+  /**
+   * <p>Set the given variables locally on the task with the given id.</p>
+   *
+   * @param taskId the id of the task to set the variables on
+   * @param variables the variables to set
+   * @return the builder
+   */
+  VariablesBatchBuilder taskVariablesLocal(String taskId, Map<String, ?> variables);
+
+  /**
+   * <p>Applies all collected variable updates in one transaction.</p>
+   *
+   * @throws ProcessEngineException
+   *          if one of the executions or tasks does not exist. In that case
+   *          none of the variables are set.
+   * @throws AuthorizationException
+   *          if the user has no {@link Permissions#UPDATE} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#UPDATE_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}
+   *          for one of the executions, or no {@link Permissions#UPDATE} permission on
+   *          {@link Resources#TASK} for one of the tasks.
+   */
+  void execute();
+
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineConfiguration;
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.variable.type.ValueType;
 
@@ -962,4 +963,22 @@ public interface TaskQuery extends Query<TaskQuery, Task>{
    * this exception, {@link #or()} must be invoked first.
    * */
   TaskQuery endOr();
+
+  /**
+   * Executes the query and returns the tasks which follow the task with the given id
+   * according to the ordering of the query (keyset pagination). In contrast to
+   * {@link #listPage(int, int)}, the cost of fetching a page does not grow with the page depth.
+   *
+   * <p>The results are additionally ordered by id to make the order unique. The query may only
+   * be ordered by id, priority and create time, as these are set for every task.</p>
+   *
+   * @param afterId the id of the last task of the previous page or <code>null</code>
+   *   to fetch the first page. The task with this id must still exist.
+   * @param maxResults the maximum number of results to return
+   *
+   * @throws NotValidException if the query is ordered by another property
+   *
+   * @since 7.11
+   */
+  List<Task> listAfter(String afterId, int maxResults);
 }
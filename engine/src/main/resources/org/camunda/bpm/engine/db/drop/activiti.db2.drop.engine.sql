@@ -147,6 +147,7 @@ drop index ACT_IDX_EXT_TASK_TOPIC;
 drop index ACT_IDX_EXT_TASK_EXEC;
 
 drop index ACT_IDX_BYTEARRAY_NAME;
+drop index ACT_IDX_BYTEARRAY_HASH;
 drop index ACT_IDX_DEPLOYMENT_NAME;
 drop index ACT_IDX_JOBDEF_PROC_DEF_ID;
 drop index ACT_IDX_JOB_HANDLER_TYPE;
@@ -161,6 +162,7 @@ drop index ACT_IDX_JOBDEF_TENANT_ID;
 drop index ACT_IDX_JOB_TENANT_ID;
 drop index ACT_IDX_EVENT_SUBSCR_TENANT_ID;
 drop index ACT_IDX_VARIABLE_TENANT_ID;
+drop index ACT_IDX_VARIABLE_NAME;
 drop index ACT_IDX_TASK_TENANT_ID;
 drop index ACT_IDX_EXEC_TENANT_ID;
 drop index ACT_IDX_PROCDEF_TENANT_ID;
@@ -190,5 +192,7 @@ drop table ACT_RU_INCIDENT;
 drop table ACT_RU_AUTHORIZATION;
 drop table ACT_RU_FILTER;
 drop table ACT_RU_METER_LOG;
+drop table ACT_RU_ACT_STATS;
+drop table ACT_RU_VAR_LOOKUP;
 drop table ACT_RU_EXT_TASK;
 drop table ACT_RU_BATCH;
@@ -131,6 +131,7 @@ drop index ACT_IDX_AUTH_RESOURCE_ID on ACT_RU_AUTHORIZATION;
 drop index ACT_IDX_EXT_TASK_EXEC on ACT_RU_EXT_TASK;
 
 drop index ACT_IDX_BYTEARRAY_NAME on ACT_GE_BYTEARRAY;
+drop index ACT_IDX_BYTEARRAY_HASH on ACT_GE_BYTEARRAY;
 drop index ACT_IDX_DEPLOYMENT_NAME on ACT_RE_DEPLOYMENT;
 drop index ACT_IDX_JOBDEF_PROC_DEF_ID ON ACT_RU_JOBDEF;
 drop index ACT_IDX_JOB_HANDLER_TYPE ON ACT_RU_JOB;
@@ -145,6 +146,7 @@ drop index ACT_IDX_JOBDEF_TENANT_ID ON ACT_RU_JOBDEF;
 drop index ACT_IDX_JOB_TENANT_ID ON ACT_RU_JOB;
 drop index ACT_IDX_EVENT_SUBSCR_TENANT_ID on ACT_RU_EVENT_SUBSCR;
 drop index ACT_IDX_VARIABLE_TENANT_ID ON ACT_RU_VARIABLE;
+drop index ACT_IDX_VARIABLE_NAME ON ACT_RU_VARIABLE;
 drop index ACT_IDX_TASK_TENANT_ID ON ACT_RU_TASK;
 drop index ACT_IDX_EXEC_TENANT_ID ON ACT_RU_EXECUTION;
 drop index ACT_IDX_PROCDEF_TENANT_ID ON ACT_RE_PROCDEF;
@@ -175,5 +177,7 @@ drop table if exists ACT_RU_INCIDENT;
 drop table if exists ACT_RU_AUTHORIZATION;
 drop table if exists ACT_RU_FILTER;
 drop table if exists ACT_RU_METER_LOG;
+drop table if exists ACT_RU_ACT_STATS;
+drop table if exists ACT_RU_VAR_LOOKUP;
 drop table if exists ACT_RU_EXT_TASK;
 drop table if exists ACT_RU_BATCH;
@@ -68,6 +68,7 @@ drop index ACT_RU_EXT_TASK.ACT_IDX_EXT_TASK_EXEC;
 
 
 drop index ACT_GE_BYTEARRAY.ACT_IDX_BYTEARRAY_NAME;
+drop index ACT_GE_BYTEARRAY.ACT_IDX_BYTEARRAY_HASH;
 drop index ACT_RE_DEPLOYMENT.ACT_IDX_DEPLOYMENT_NAME;
 drop index ACT_RU_JOBDEF.ACT_IDX_JOBDEF_PROC_DEF_ID;
 drop index ACT_RU_JOB.ACT_IDX_JOB_HANDLER_TYPE;
@@ -82,6 +83,7 @@ drop index ACT_RU_JOBDEF.ACT_IDX_JOBDEF_TENANT_ID;
 drop index ACT_RU_JOB.ACT_IDX_JOB_TENANT_ID;
 drop index ACT_RU_EVENT_SUBSCR.ACT_IDX_EVENT_SUBSCR_TENANT_ID;
 drop index ACT_RU_VARIABLE.ACT_IDX_VARIABLE_TENANT_ID;
+drop index ACT_RU_VARIABLE.ACT_IDX_VARIABLE_NAME;
 drop index ACT_RU_TASK.ACT_IDX_TASK_TENANT_ID;
 drop index ACT_RU_EXECUTION.ACT_IDX_EXEC_TENANT_ID;
 drop index ACT_RE_PROCDEF.ACT_IDX_PROCDEF_TENANT_ID;
@@ -191,5 +193,7 @@ if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = '
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_AUTHORIZATION') drop table ACT_RU_AUTHORIZATION;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_FILTER') drop table ACT_RU_FILTER;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_METER_LOG') drop table ACT_RU_METER_LOG;
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_ACT_STATS') drop table ACT_RU_ACT_STATS;
+if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_VAR_LOOKUP') drop table ACT_RU_VAR_LOOKUP;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_EXT_TASK') drop table ACT_RU_EXT_TASK;
 if exists (select TABLE_NAME from INFORMATION_SCHEMA.TABLES where TABLE_NAME = 'ACT_RU_BATCH') drop table ACT_RU_BATCH;
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.container.impl.jmx.deployment.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.camunda.bpm.container.impl.deployment.scanning.ClassPathProcessApplicationScanner;
+import org.camunda.bpm.container.impl.deployment.scanning.ProcessApplicationResourceIndex;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassPathScannerResourceIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  protected ClassPathProcessApplicationScanner scanner;
+  protected File root;
+
+  @Before
+  public void setUp() throws IOException {
+    scanner = new ClassPathProcessApplicationScanner();
+
+    root = folder.newFolder("pa");
+    createFile("META-INF/processes.xml", "<process-application />");
+    createFile("directory/process.bpmn", "<definitions />");
+    createFile("directory/process.png", "png");
+    createFile("directory/other.bpmn", "<definitions />");
+    createFile("directory/readme.txt", "text");
+  }
+
+  @Test
+  public void testCollectDeployableResources() {
+    assertEquals(Arrays.asList("directory/other.bpmn", "directory/process.bpmn", "directory/process.png"),
+        ProcessApplicationResourceIndex.collect(root, null));
+  }
+
+  @Test
+  public void testScanDirectoryWithIndex() throws IOException {
+    // given
+    createFile(ProcessApplicationResourceIndex.LOCATION, "# generated\ndirectory/process.bpmn\n\ndirectory/process.png\n");
+
+    // when
+    Map<String, byte[]> scanResult = scan(root, "pa:directory/");
+
+    // then
+    assertEquals(2, scanResult.size());
+    assertTrue(scanResult.containsKey("directory/process.bpmn"));
+    assertTrue(scanResult.containsKey("directory/process.png"));
+  }
+
+  @Test
+  public void testScanDirectoryWithWrittenIndex() throws IOException {
+    // given
+    ProcessApplicationResourceIndex.write(root, null);
+
+    // when
+    Map<String, byte[]> scanResult = scan(root, null);
+
+    // then
+    assertEquals(3, scanResult.size());
+    assertEquals("<definitions />", new String(scanResult.get("directory/process.bpmn"), "UTF-8"));
+  }
+
+  @Test
+  public void testScanArchiveWithIndex() throws IOException {
+    // given
+    createFile(ProcessApplicationResourceIndex.LOCATION, "directory/process.bpmn\ndirectory/process.png\n");
+    File archive = createArchive();
+
+    // when
+    Map<String, byte[]> scanResult = scan(archive, "pa:directory/");
+
+    // then
+    assertEquals(2, scanResult.size());
+    assertTrue(scanResult.containsKey("process.bpmn"));
+    assertTrue(scanResult.containsKey("process.png"));
+  }
+
+  @Test
+  public void testScanFailsForMissingIndexEntry() throws IOException {
+    // given
+    createFile(ProcessApplicationResourceIndex.LOCATION, "directory/missing.bpmn\n");
+
+    // when
+    try {
+      scan(root, null);
+      fail("exception expected");
+    }
+    catch (ProcessEngineException e) {
+      // then
+      assertTrue(e.getMessage().contains("directory/missing.bpmn"));
+    }
+  }
+
+  protected Map<String, byte[]> scan(File archiveRoot, String paResourceRootPath) throws IOException {
+    URL rootUrl = archiveRoot.toURI().toURL();
+    URLClassLoader classLoader = new URLClassLoader(new URL[] { rootUrl });
+
+    // the process archive is the parent of the META-INF directory, see ClassPathScannerTest
+    URL metaFileUrl = new URL("file:" + archiveRoot.getAbsolutePath() + "/META-INF/processes.xml");
+
+    Map<String, byte[]> scanResult = new HashMap<String, byte[]>();
+    scanner.scanPaResourceRootPath(classLoader, metaFileUrl, paResourceRootPath, scanResult);
+    return scanResult;
+  }
+
+  protected void createFile(String path, String content) throws IOException {
+    File file = new File(root, path);
+    file.getParentFile().mkdirs();
+    FileOutputStream outputStream = new FileOutputStream(file);
+    try {
+      outputStream.write(content.getBytes("UTF-8"));
+    }
+    finally {
+      outputStream.close();
+    }
+  }
+
+  protected File createArchive() throws IOException {
+    File archive = new File(folder.getRoot(), "pa.jar");
+    ZipOutputStream outputStream = new ZipOutputStream(new FileOutputStream(archive));
+    try {
+      for (String path : Arrays.asList(ProcessApplicationResourceIndex.LOCATION, "META-INF/processes.xml",
+          "directory/process.bpmn", "directory/process.png", "directory/other.bpmn")) {
+        outputStream.putNextEntry(new ZipEntry(path));
+        outputStream.write(IoUtil.readInputStream(new FileInputStream(new File(root, path)), path));
+        outputStream.closeEntry();
+      }
+    }
+    finally {
+      outputStream.close();
+    }
+    return archive;
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class WeightedCacheTest {
+
+  protected static final CacheWeigher LENGTH_WEIGHER = new CacheWeigher() {
+    public int weigh(Object value) {
+      return ((String) value).length();
+    }
+  };
+
+  @Test
+  public void shouldNotExceedCapacity() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 100, LENGTH_WEIGHER);
+
+    for (int i = 0; i < 50; i++) {
+      cache.put("key" + i, "v");
+    }
+
+    assertThat(cache.size()).isEqualTo(10);
+    assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(40);
+  }
+
+  @Test
+  public void shouldNotExceedMaximumWeight() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(100, 10, LENGTH_WEIGHER);
+
+    cache.put("a", "aaaa");
+    cache.put("b", "bbbb");
+    cache.put("c", "cccc");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getStatistics().getWeight()).isEqualTo(8);
+    assertThat(cache.get("c")).isEqualTo("cccc");
+  }
+
+  @Test
+  public void shouldKeepFrequentlyUsedEntryOnScan() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 100, LENGTH_WEIGHER);
+    cache.put("hot", "v");
+    for (int i = 0; i < 20; i++) {
+      cache.get("hot");
+    }
+
+    // when many entries are used only once
+    for (int i = 0; i < 100; i++) {
+      cache.put("key" + i, "v");
+    }
+
+    // then
+    assertThat(cache.get("hot")).isEqualTo("v");
+    assertThat(cache.size()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldKeepLatestEntry() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 3, LENGTH_WEIGHER);
+
+    cache.put("a", "aa");
+    cache.put("b", "bbbbbbb");
+
+    assertThat(cache.get("b")).isEqualTo("bbbbbbb");
+  }
+
+  @Test
+  public void shouldUpdateWeightOnReplace() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 100, LENGTH_WEIGHER);
+
+    cache.put("a", "a");
+    cache.put("a", "aaa");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getStatistics().getWeight()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldNotWeighSameValueAgain() {
+    final AtomicInteger weighCount = new AtomicInteger();
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 100, new CacheWeigher() {
+      public int weigh(Object value) {
+        weighCount.incrementAndGet();
+        return ((String) value).length();
+      }
+    });
+    String value = "aaa";
+
+    cache.put("a", value);
+    cache.put("a", value);
+
+    assertThat(weighCount.get()).isEqualTo(1);
+    assertThat(cache.getStatistics().getWeight()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldRecordStatistics() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 100, LENGTH_WEIGHER);
+    cache.put("a", "a");
+
+    cache.get("a");
+    cache.get("a");
+    cache.get("b");
+
+    CacheStatistics statistics = cache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(2);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+    assertThat(statistics.getEvictionCount()).isEqualTo(0);
+    assertThat(statistics.getSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRemoveAndClear() {
+    WeightedCache<String, String> cache = new WeightedCache<String, String>(10, 100, LENGTH_WEIGHER);
+    cache.put("a", "a");
+    cache.put("b", "bb");
+
+    cache.remove("a");
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.keySet()).containsOnly("b");
+    assertThat(cache.getStatistics().getWeight()).isEqualTo(2);
+
+    cache.clear();
+    assertThat(cache.isEmpty()).isTrue();
+    assertThat(cache.getStatistics().getWeight()).isEqualTo(0);
+  }
+
+}
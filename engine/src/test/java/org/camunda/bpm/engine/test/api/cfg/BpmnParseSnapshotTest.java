@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.cfg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.bpm.engine.impl.util.xml.ElementSnapshot;
+import org.camunda.bpm.engine.repository.Deployment;
+import org.camunda.bpm.engine.repository.Resource;
+import org.camunda.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class BpmnParseSnapshotTest {
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setEnableBpmnParseSnapshots(true);
+      return configuration;
+    }
+  };
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RepositoryService repositoryService;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  @Before
+  public void initServices() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    repositoryService = engineRule.getRepositoryService();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+  }
+
+  @Test
+  public void testSnapshotIsStoredWithDeployment() {
+    // when
+    Deployment deployment = testRule.deploy(ProcessModels.ONE_TASK_PROCESS);
+
+    // then
+    ByteArrayEntity snapshot = findParseSnapshot(getResourceId(deployment));
+    assertNotNull(snapshot);
+
+    Element rootElement = ElementSnapshot.read(snapshot.getBytes());
+    assertEquals("definitions", rootElement.getTagName());
+
+    // and the snapshot is not a resource of the deployment
+    assertEquals(1, repositoryService.getDeploymentResources(deployment.getId()).size());
+  }
+
+  @Test
+  public void testStartProcessInstanceFromSnapshot() {
+    // given
+    testRule.deploy(ProcessModels.ONE_TASK_PROCESS);
+    processEngineConfiguration.getDeploymentCache().discardProcessDefinitionCache();
+
+    // when
+    runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY);
+
+    // then
+    assertEquals(ProcessModels.USER_TASK_ID, taskService.createTaskQuery().singleResult().getTaskDefinitionKey());
+  }
+
+  @Test
+  public void testFallBackToParsingForUnreadableSnapshot() {
+    // given
+    Deployment deployment = testRule.deploy(ProcessModels.ONE_TASK_PROCESS);
+    final String resourceId = getResourceId(deployment);
+
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        ByteArrayEntity snapshot = commandContext.getResourceManager().findParseSnapshotByResourceId(resourceId);
+        snapshot.setBytes("not a snapshot".getBytes());
+        return null;
+      }
+    });
+
+    processEngineConfiguration.getDeploymentCache().discardProcessDefinitionCache();
+
+    // when
+    runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY);
+
+    // then
+    assertEquals(ProcessModels.USER_TASK_ID, taskService.createTaskQuery().singleResult().getTaskDefinitionKey());
+  }
+
+  @Test
+  public void testSnapshotIsDeletedWithDeployment() {
+    // given
+    Deployment deployment = repositoryService.createDeployment()
+        .addModelInstance("process.bpmn", ProcessModels.ONE_TASK_PROCESS)
+        .deploy();
+    String resourceId = getResourceId(deployment);
+
+    // when
+    repositoryService.deleteDeployment(deployment.getId(), true);
+
+    // then
+    assertNull(findParseSnapshot(resourceId));
+  }
+
+  protected String getResourceId(Deployment deployment) {
+    Resource resource = repositoryService.getDeploymentResources(deployment.getId()).get(0);
+    return resource.getId();
+  }
+
+  protected ByteArrayEntity findParseSnapshot(final String resourceId) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<ByteArrayEntity>() {
+      public ByteArrayEntity execute(CommandContext commandContext) {
+        return commandContext.getResourceManager().findParseSnapshotByResourceId(resourceId);
+      }
+    });
+  }
+
+}
@@ -17,8 +17,11 @@ package org.camunda.bpm.engine.test.api.cfg;
 
 import org.camunda.bpm.engine.*;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.camunda.bpm.engine.repository.Deployment;
 import org.camunda.bpm.engine.repository.DeploymentBuilder;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
@@ -53,6 +56,7 @@ public class DeploymentCacheCfgTest {
       configuration.setCacheCapacity(2);
       configuration.setCacheFactory(new MyCacheFactory());
       configuration.setEnableFetchProcessDefinitionDescription(false);
+      configuration.setEnableLatestDefinitionIndex(true);
       return configuration;
     }
   };
@@ -279,6 +283,79 @@ public class DeploymentCacheCfgTest {
     repositoryService.deleteDeployment(deployment.getId(), true);
   }
 
+  @Test
+  public void testStartLatestVersionByKeyAfterRedeployment() {
+
+    // given a process definition that was already resolved by key
+    deploy(ProcessModels.oneTaskProcess(0));
+    runtimeService.startProcessInstanceByKey("Process0");
+
+    // when a new version is deployed
+    deploy(ProcessModels.oneTaskProcess(0));
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("Process0");
+
+    // then the new version is started
+    ProcessDefinition latestDefinition = repositoryService.createProcessDefinitionQuery()
+        .processDefinitionKey("Process0")
+        .latestVersion()
+        .singleResult();
+    assertEquals(2, latestDefinition.getVersion());
+    assertEquals(latestDefinition.getId(), processInstance.getProcessDefinitionId());
+  }
+
+  @Test
+  public void testStartLatestVersionByKeyAfterSuspension() {
+
+    // given a process definition that was already resolved by key
+    deploy(ProcessModels.oneTaskProcess(0));
+    runtimeService.startProcessInstanceByKey("Process0");
+
+    // when the process definition is suspended
+    repositoryService.suspendProcessDefinitionByKey("Process0");
+
+    // then it cannot be started by key anymore
+    try {
+      runtimeService.startProcessInstanceByKey("Process0");
+      fail("exception expected");
+    } catch (ProcessEngineException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testStartLatestVersionByKeyAfterRemoteSuspension() {
+
+    // given a process definition that was already resolved by key
+    deploy(ProcessModels.oneTaskProcess(0));
+    runtimeService.startProcessInstanceByKey("Process0");
+
+    // when the process definition is suspended without notifying this process engine
+    suspendProcessDefinitionInDatabase("Process0");
+
+    // then it cannot be started by key anymore
+    try {
+      runtimeService.startProcessInstanceByKey("Process0");
+      fail("exception expected");
+    } catch (ProcessEngineException e) {
+      // expected
+    }
+  }
+
+  protected void suspendProcessDefinitionInDatabase(final String processDefinitionKey) {
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        // as another process engine of the cluster would do it
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("processDefinitionKey", processDefinitionKey);
+        parameters.put("isTenantIdSet", false);
+        parameters.put("suspensionState", SuspensionState.SUSPENDED.getStateCode());
+        commandContext.getDbEntityManager()
+          .update(ProcessDefinitionEntity.class, "updateProcessDefinitionSuspensionStateByParameters", commandContext.getTenantManager().configureQuery(parameters));
+        return null;
+      }
+    });
+  }
+
   protected List<BpmnModelInstance> createSequentialCallActivityProcess() {
     List<BpmnModelInstance> modelInstances = new LinkedList<BpmnModelInstance>();
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.cfg;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.InterceptorChain;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.runtime.ActivityInstance;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class VariablePrefetchTest {
+
+  protected static final SelectRecorder SELECT_RECORDER = new SelectRecorder();
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setVariablePrefetchEnabled(true);
+      return configuration;
+    }
+  };
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  protected ProcessInstance processInstance;
+  protected String outerSubProcessExecutionId;
+  protected Task task;
+
+  @Before
+  public void startProcessInstance() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+
+    testRule.deploy(ProcessModels.DOUBLE_SUBPROCESS_PROCESS);
+    processInstance = runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY,
+        Variables.createVariables().putValue("processVar", "processValue"));
+
+    ActivityInstance tree = runtimeService.getActivityInstance(processInstance.getId());
+    outerSubProcessExecutionId = tree.getActivityInstances("outerSubProcess")[0].getExecutionIds()[0];
+    runtimeService.setVariableLocal(outerSubProcessExecutionId, "outerVar", "outerValue");
+
+    task = taskService.createTaskQuery().singleResult();
+    taskService.setVariableLocal(task.getId(), "taskVar", "taskValue");
+
+    getMyBatisConfiguration().addInterceptor(SELECT_RECORDER);
+    SELECT_RECORDER.reset();
+  }
+
+  @After
+  @SuppressWarnings("unchecked")
+  public void removeSelectRecorder() throws Exception {
+    // the interceptor chain of MyBatis offers no method to remove an interceptor
+    Field interceptorChainField = Configuration.class.getDeclaredField("interceptorChain");
+    interceptorChainField.setAccessible(true);
+    InterceptorChain interceptorChain = (InterceptorChain) interceptorChainField.get(getMyBatisConfiguration());
+
+    Field interceptorsField = InterceptorChain.class.getDeclaredField("interceptors");
+    interceptorsField.setAccessible(true);
+    ((List<Interceptor>) interceptorsField.get(interceptorChain)).remove(SELECT_RECORDER);
+  }
+
+  protected Configuration getMyBatisConfiguration() {
+    return engineRule.getProcessEngineConfiguration().getSqlSessionFactory().getConfiguration();
+  }
+
+  @Test
+  public void testFetchVariablesOfAllScopesWithSingleSelect() {
+    // when
+    taskService.getVariables(task.getId());
+
+    // then the task, the outer sub process and the process instance share one select
+    assertEquals(Collections.singletonList("selectVariablesByProcessInstanceId"), SELECT_RECORDER.getVariableSelects());
+  }
+
+  @Test
+  public void testFetchVariablesAgainInNextCommand() {
+    // given
+    taskService.getVariables(task.getId());
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "processVar", "updatedValue");
+    Map<String, Object> variables = taskService.getVariables(task.getId());
+
+    // then the prefetched variables are not reused across commands
+    assertEquals("updatedValue", variables.get("processVar"));
+    assertEquals(3, SELECT_RECORDER.getVariableSelects().size());
+  }
+
+  @Test
+  public void testResolveVariablesAlongScopeHierarchy() {
+    // when
+    Map<String, Object> variables = taskService.getVariables(task.getId());
+
+    // then
+    assertEquals(3, variables.size());
+    assertEquals("processValue", variables.get("processVar"));
+    assertEquals("outerValue", variables.get("outerVar"));
+    assertEquals("taskValue", variables.get("taskVar"));
+  }
+
+  @Test
+  public void testResolveLocalVariablesOfEachScope() {
+    assertEquals(1, runtimeService.getVariablesLocal(processInstance.getId()).size());
+    assertEquals("outerValue", runtimeService.getVariablesLocal(outerSubProcessExecutionId).get("outerVar"));
+    assertEquals(1, runtimeService.getVariablesLocal(outerSubProcessExecutionId).size());
+    assertEquals("taskValue", taskService.getVariableLocal(task.getId(), "taskVar"));
+  }
+
+  @Test
+  public void testResolveVariablesByName() {
+    // when
+    Map<String, Object> variables = runtimeService.getVariables(task.getExecutionId(), Arrays.asList("processVar", "outerVar"));
+
+    // then
+    assertEquals(2, variables.size());
+    assertEquals("processValue", variables.get("processVar"));
+    assertEquals("outerValue", variables.get("outerVar"));
+  }
+
+  @Test
+  public void testUpdateVariableOfAncestorScope() {
+    // when
+    taskService.setVariable(task.getId(), "processVar", "updatedValue");
+
+    // then
+    assertEquals("updatedValue", runtimeService.getVariableLocal(processInstance.getId(), "processVar"));
+    assertEquals(1, runtimeService.getVariablesLocal(processInstance.getId()).size());
+  }
+
+  /**
+   * Records the ids of the variable instance selects that are executed.
+   */
+  @Intercepts(@Signature(type = Executor.class, method = "query",
+      args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }))
+  public static class SelectRecorder implements Interceptor {
+
+    protected List<String> variableSelects = Collections.synchronizedList(new ArrayList<String>());
+
+    public Object intercept(Invocation invocation) throws Throwable {
+      String statementId = ((MappedStatement) invocation.getArgs()[0]).getId();
+      String statement = statementId.substring(statementId.lastIndexOf('.') + 1);
+      if (statement.startsWith("selectVariablesBy")) {
+        variableSelects.add(statement);
+      }
+      return invocation.proceed();
+    }
+
+    public Object plugin(Object target) {
+      return Plugin.wrap(target, this);
+    }
+
+    public void setProperties(Properties properties) {
+    }
+
+    public List<String> getVariableSelects() {
+      return new ArrayList<String>(variableSelects);
+    }
+
+    public void reset() {
+      variableSelects.clear();
+    }
+  }
+
+}
@@ -43,6 +43,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.AttachmentEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricJobLogEventEntity;
+import org.camunda.bpm.engine.impl.util.IoUtil;
 import org.camunda.bpm.engine.runtime.CaseInstance;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.task.Attachment;
@@ -62,6 +63,7 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -198,7 +200,14 @@ public class BulkHistoryDeleteTest {
 
     List<Attachment> taskAttachments = taskService.getProcessInstanceAttachments(processInstanceId);
     assertEquals(1, taskAttachments.size());
-    assertNotNull(taskService.getAttachmentContent(taskAttachments.get(0).getId()));
+
+    InputStream attachmentContent = taskService.getAttachmentContent(taskAttachments.get(0).getId());
+    try {
+      assertNotNull(attachmentContent);
+    }
+    finally {
+      IoUtil.closeSilently(attachmentContent);
+    }
   }
 
   private void createTaskAttachmentWithContent(String taskId) {
@@ -206,7 +215,14 @@ public class BulkHistoryDeleteTest {
 
     List<Attachment> taskAttachments = taskService.getTaskAttachments(taskId);
     assertEquals(1, taskAttachments.size());
-    assertNotNull(taskService.getAttachmentContent(taskAttachments.get(0).getId()));
+
+    InputStream attachmentContent = taskService.getAttachmentContent(taskAttachments.get(0).getId());
+    try {
+      assertNotNull(attachmentContent);
+    }
+    finally {
+      IoUtil.closeSilently(attachmentContent);
+    }
   }
 
   @Test
@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.history.removaltime;
+
+import static org.camunda.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_END;
+import static org.camunda.bpm.engine.ProcessEngineConfiguration.HISTORY_REMOVAL_TIME_STRATEGY_NONE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.batch.history.HistoricBatch;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.history.DefaultHistoryRemovalTimeProvider;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistoryRemovalTimeBackfillTest extends AbstractRemovalTimeTest {
+
+  protected final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+    .camundaHistoryTimeToLive(5)
+    .startEvent()
+    .endEvent().done();
+
+  protected final Date END_DATE = new Date(1363608000000L);
+
+  protected int defaultBatchJobsPerSeed;
+
+  @Before
+  public void setUp() {
+    defaultBatchJobsPerSeed = processEngineConfiguration.getBatchJobsPerSeed();
+
+    // history written without removal time
+    processEngineConfiguration
+      .setHistoryRemovalTimeStrategy(HISTORY_REMOVAL_TIME_STRATEGY_NONE)
+      .setHistoryRemovalTimeProvider(new DefaultHistoryRemovalTimeProvider())
+      .initHistoryRemovalTime();
+
+    testRule.deploy(PROCESS);
+
+    ClockUtil.setCurrentTime(END_DATE);
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    processEngineConfiguration
+      .setHistoryRemovalTimeStrategy(HISTORY_REMOVAL_TIME_STRATEGY_END)
+      .initHistoryRemovalTime();
+  }
+
+  @After
+  public void tearDown() {
+    processEngineConfiguration.setBatchJobsPerSeed(defaultBatchJobsPerSeed);
+
+    for (Batch batch : managementService.createBatchQuery().list()) {
+      managementService.deleteBatch(batch.getId(), true);
+    }
+
+    for (HistoricBatch historicBatch : historyService.createHistoricBatchQuery().list()) {
+      historyService.deleteHistoricBatch(historicBatch.getId());
+    }
+  }
+
+  @Test
+  public void shouldBackfillRemovalTime() {
+    // given
+    Batch batch = historyService.backfillRemovalTimeAsync();
+
+    // when
+    executeSeedJob(batch);
+    executeBatchJobs(batch);
+
+    // then
+    Date removalTime = addDays(END_DATE, 5);
+
+    List<HistoricProcessInstance> historicProcessInstances = historyService.createHistoricProcessInstanceQuery().list();
+    assertThat(historicProcessInstances.size(), is(2));
+    for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+      assertThat(historicProcessInstance.getRemovalTime(), is(removalTime));
+    }
+
+    for (HistoricActivityInstance historicActivityInstance : historyService.createHistoricActivityInstanceQuery().list()) {
+      assertThat(historicActivityInstance.getRemovalTime(), is(removalTime));
+    }
+  }
+
+  @Test
+  public void shouldCreateNextWindowWhenPreviousWindowIsExecuted() {
+    // given
+    processEngineConfiguration.setBatchJobsPerSeed(1);
+    Batch batch = historyService.backfillRemovalTimeAsync();
+
+    // when
+    executeSeedJob(batch);
+
+    // then
+    assertThat(getBatchJobs(batch).size(), is(1));
+    assertThat(getSeedJob(batch), notNullValue());
+
+    // when the seed job runs before the window is executed
+    executeSeedJob(batch);
+
+    // then no further jobs are created
+    assertThat(getBatchJobs(batch).size(), is(1));
+
+    // when
+    executeBatchJobs(batch);
+    executeSeedJob(batch);
+
+    // then the next window is created
+    assertThat(getBatchJobs(batch).size(), is(1));
+  }
+
+  @Test
+  public void shouldDelaySeedJob() {
+    // given
+    processEngineConfiguration.setBatchJobsPerSeed(1);
+    Batch batch = historyService.backfillRemovalTimeAsync();
+
+    // when
+    executeSeedJob(batch);
+
+    // then
+    Job seedJob = getSeedJob(batch);
+    assertThat(seedJob.getDuedate(), notNullValue());
+    assertThat(seedJob.getDuedate().after(ClockUtil.getCurrentTime()), is(true));
+  }
+
+  @Test
+  public void shouldFailWithoutRemovalTimeStrategy() {
+    // given
+    processEngineConfiguration
+      .setHistoryRemovalTimeStrategy(HISTORY_REMOVAL_TIME_STRATEGY_NONE)
+      .initHistoryRemovalTime();
+
+    // then
+    thrown.expect(BadUserRequestException.class);
+
+    // when
+    historyService.backfillRemovalTimeAsync();
+  }
+
+  @Test
+  public void shouldSkipProcessInstancesWithRemovalTime() {
+    // given
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().list().get(0);
+    assertThat(historicProcessInstance.getRemovalTime(), nullValue());
+
+    Batch batch = historyService.backfillRemovalTimeAsync();
+    executeSeedJob(batch);
+    executeBatchJobs(batch);
+
+    Batch secondBatch = historyService.backfillRemovalTimeAsync();
+
+    // when
+    executeSeedJob(secondBatch);
+
+    // then
+    assertThat(getBatchJobs(secondBatch).size(), is(0));
+  }
+
+  protected Job getSeedJob(Batch batch) {
+    return managementService.createJobQuery()
+      .jobDefinitionId(batch.getSeedJobDefinitionId())
+      .singleResult();
+  }
+
+  protected List<Job> getBatchJobs(Batch batch) {
+    return managementService.createJobQuery()
+      .jobDefinitionId(batch.getBatchJobDefinitionId())
+      .list();
+  }
+
+  protected void executeSeedJob(Batch batch) {
+    managementService.executeJob(getSeedJob(batch).getId());
+  }
+
+  protected void executeBatchJobs(Batch batch) {
+    for (Job job : getBatchJobs(batch)) {
+      managementService.executeJob(job.getId());
+    }
+  }
+
+}
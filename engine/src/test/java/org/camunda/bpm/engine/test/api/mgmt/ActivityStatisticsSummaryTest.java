@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.mgmt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ActivityStatisticsSummaryEntity;
+import org.camunda.bpm.engine.management.ActivityStatistics;
+import org.camunda.bpm.engine.management.IncidentStatistics;
+import org.camunda.bpm.engine.management.JobDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.runtime.Incident;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class ActivityStatisticsSummaryTest {
+
+  protected static final String FAILED_JOBS_PROCESS = "org/camunda/bpm/engine/test/api/mgmt/StatisticsTest.testStatisticsQueryWithFailedJobs.bpmn20.xml";
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setActivityStatisticsSummaryEnabled(true);
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected TaskService taskService;
+
+  protected ProcessDefinition processDefinition;
+
+  @Before
+  public void setUp() {
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    taskService = engineRule.getTaskService();
+
+    processDefinition = testRule.deploy(FAILED_JOBS_PROCESS).getDeployedProcessDefinitions().get(0);
+  }
+
+  @Test
+  public void shouldCountActivityInstances() {
+    // given
+    startInstance(false);
+    startInstance(false);
+    testRule.executeAvailableJobs();
+    startInstance(false);
+
+    // when
+    List<ActivityStatistics> statistics = managementService
+        .createActivityStatisticsQuery(processDefinition.getId())
+        .list();
+
+    // then
+    assertEquals(2, statistics.size());
+    assertStatistics(statistics.get(0), "theServiceTask", 1, 0);
+    assertStatistics(statistics.get(1), "theUserTask", 2, 0);
+    assertEquals(2, managementService.createActivityStatisticsQuery(processDefinition.getId()).count());
+    assertTrue(getSummaryRowCount() > 0);
+  }
+
+  @Test
+  public void shouldCountFailedJobsAndIncidents() {
+    // given
+    startInstance(true);
+    startInstance(true);
+    startInstance(false);
+    testRule.executeAvailableJobs();
+
+    // when
+    List<ActivityStatistics> statistics = managementService
+        .createActivityStatisticsQuery(processDefinition.getId())
+        .includeFailedJobs()
+        .includeIncidents()
+        .list();
+
+    // then
+    assertEquals(2, statistics.size());
+    ActivityStatistics serviceTaskStatistics = statistics.get(0);
+    assertStatistics(serviceTaskStatistics, "theServiceTask", 2, 2);
+
+    List<IncidentStatistics> incidentStatistics = serviceTaskStatistics.getIncidentStatistics();
+    assertEquals(1, incidentStatistics.size());
+    assertEquals(Incident.FAILED_JOB_HANDLER_TYPE, incidentStatistics.get(0).getIncidentType());
+    assertEquals(2, incidentStatistics.get(0).getIncidentCount());
+
+    assertStatistics(statistics.get(1), "theUserTask", 1, 0);
+  }
+
+  @Test
+  public void shouldDecrementCountersWhenInstancesEnd() {
+    // given
+    ProcessInstance failingInstance = startInstance(true);
+    startInstance(false);
+    testRule.executeAvailableJobs();
+
+    // when
+    runtimeService.deleteProcessInstance(failingInstance.getId(), null);
+    taskService.complete(taskService.createTaskQuery().singleResult().getId());
+
+    // then
+    List<ActivityStatistics> statistics = managementService
+        .createActivityStatisticsQuery(processDefinition.getId())
+        .includeFailedJobs()
+        .includeIncidents()
+        .list();
+
+    assertEquals(0, statistics.size());
+  }
+
+  @Test
+  public void shouldDeleteSummaryWithProcessDefinition() {
+    // given
+    startInstance(false);
+
+    // when
+    engineRule.getRepositoryService().deleteProcessDefinition(processDefinition.getId(), true);
+
+    // then
+    assertEquals(0L, getSummaryRowCount());
+  }
+
+  @Test
+  public void shouldDecrementFailedJobsWhenRetriesAreSetByJobDefinition() {
+    // given
+    startInstance(true);
+    startInstance(true);
+    testRule.executeAvailableJobs();
+
+    JobDefinition jobDefinition = managementService.createJobDefinitionQuery()
+        .processDefinitionId(processDefinition.getId())
+        .singleResult();
+
+    // when
+    managementService.setJobRetriesByJobDefinitionId(jobDefinition.getId(), 1);
+
+    // then
+    List<ActivityStatistics> statistics = managementService
+        .createActivityStatisticsQuery(processDefinition.getId())
+        .includeFailedJobs()
+        .list();
+
+    assertEquals(1, statistics.size());
+    assertStatistics(statistics.get(0), "theServiceTask", 2, 0);
+  }
+
+  @Test
+  public void shouldReconcileDriftedCounters() {
+    // given
+    startInstance(true);
+    startInstance(false);
+    testRule.executeAvailableJobs();
+    setStoredCount("theUserTask", ActivityStatisticsSummaryEntity.COUNTER_INSTANCES, 42);
+    setStoredCount("theServiceTask", ActivityStatisticsSummaryEntity.COUNTER_FAILED_JOBS, 0);
+
+    // when
+    managementService.reconcileActivityStatisticsSummary(processDefinition.getId());
+
+    // then
+    List<ActivityStatistics> statistics = managementService
+        .createActivityStatisticsQuery(processDefinition.getId())
+        .includeFailedJobs()
+        .includeIncidents()
+        .list();
+
+    assertEquals(2, statistics.size());
+    assertStatistics(statistics.get(0), "theServiceTask", 1, 1);
+    assertEquals(1, statistics.get(0).getIncidentStatistics().get(0).getIncidentCount());
+    assertStatistics(statistics.get(1), "theUserTask", 1, 0);
+  }
+
+  protected void setStoredCount(final String activityId, final String counter, final long count) {
+    engineRule.getProcessEngineConfiguration().getCommandExecutorTxRequired().execute(new Command<Void>() {
+      @SuppressWarnings("unchecked")
+      public Void execute(CommandContext commandContext) {
+        List<ActivityStatisticsSummaryEntity> counters = commandContext.getDbEntityManager()
+            .selectListWithRawParameter("selectActivityStatisticsSummaryByProcessDefinitionId", processDefinition.getId(), 0, Integer.MAX_VALUE);
+        for (ActivityStatisticsSummaryEntity storedCounter : counters) {
+          if (activityId.equals(storedCounter.getActivityId()) && counter.equals(storedCounter.getCounter())) {
+            storedCounter.setCount(count);
+            commandContext.getDbEntityManager().update(ActivityStatisticsSummaryEntity.class, "setActivityStatisticsSummaryCount", storedCounter);
+          }
+        }
+        return null;
+      }
+    });
+  }
+
+  protected ProcessInstance startInstance(boolean fail) {
+    return runtimeService.startProcessInstanceById(processDefinition.getId(), Variables.createVariables().putValue("fail", fail));
+  }
+
+  protected long getSummaryRowCount() {
+    String tablePrefix = engineRule.getProcessEngineConfiguration().getDatabaseTablePrefix();
+    return managementService.getTableCount().get(tablePrefix + "ACT_RU_ACT_STATS");
+  }
+
+  protected void assertStatistics(ActivityStatistics statistics, String activityId, int instances, int failedJobs) {
+    assertEquals(activityId, statistics.getId());
+    assertEquals(instances, statistics.getInstances());
+    assertEquals(failedJobs, statistics.getFailedJobs());
+  }
+
+}
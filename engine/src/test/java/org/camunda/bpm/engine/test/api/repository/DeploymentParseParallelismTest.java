@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.deploy.Deployer;
+import org.camunda.bpm.engine.impl.persistence.entity.DeploymentEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+import org.camunda.bpm.engine.impl.repository.DeploymentBuilderImpl;
+import org.camunda.bpm.engine.repository.DeploymentWithDefinitions;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class DeploymentParseParallelismTest {
+
+  protected static final String CMMN_RESOURCE = "org/camunda/bpm/engine/test/api/repository/three_.cmmn";
+  protected static final String DMN_RESOURCE = "org/camunda/bpm/engine/test/api/repository/drdXyz_.dmn11.xml";
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setDeploymentParseParallelism(4);
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RepositoryService repositoryService;
+  protected ManagementService managementService;
+
+  @Before
+  public void initServices() {
+    repositoryService = engineRule.getRepositoryService();
+    managementService = engineRule.getManagementService();
+  }
+
+  @Test
+  public void shouldDeployResourcesParsedInParallel() {
+    // when
+    DeploymentWithDefinitions deployment = testRule.deploy(repositoryService.createDeployment()
+        .addModelInstance("process1.bpmn", createProcess("process1"))
+        .addModelInstance("process2.bpmn", createProcess("process2"))
+        .addModelInstance("timerProcess.bpmn", createTimerStartProcess("timerProcess"))
+        .addClasspathResource(CMMN_RESOURCE)
+        .addClasspathResource(DMN_RESOURCE));
+
+    // then
+    assertEquals(3, deployment.getDeployedProcessDefinitions().size());
+    assertEquals(1, deployment.getDeployedCaseDefinitions().size());
+    assertEquals(1, deployment.getDeployedDecisionRequirementsDefinitions().size());
+    assertTrue(deployment.getDeployedDecisionDefinitions().size() > 0);
+
+    // the timer start event job was created from the job declarations of the parsed resource
+    assertNotNull(managementService.createJobQuery().processDefinitionKey("timerProcess").singleResult());
+  }
+
+  @Test
+  public void shouldParseOnlyChangedResources() {
+    // given
+    testRule.deploy(repositoryService.createDeployment()
+        .name("deployment")
+        .enableDuplicateFiltering(true)
+        .addModelInstance("process1.bpmn", createProcess("process1"))
+        .addModelInstance("process2.bpmn", createProcess("process2")));
+
+    // when
+    DeploymentWithDefinitions deployment = testRule.deploy(repositoryService.createDeployment()
+        .name("deployment")
+        .enableDuplicateFiltering(true)
+        .addModelInstance("process1.bpmn", createProcess("process1"))
+        .addModelInstance("process2.bpmn", Bpmn.createExecutableProcess("process2")
+            .startEvent()
+            .userTask()
+            .endEvent()
+            .done()));
+
+    // then
+    List<ProcessDefinition> processDefinitions = deployment.getDeployedProcessDefinitions();
+    assertEquals(1, processDefinitions.size());
+    assertEquals("process2", processDefinitions.get(0).getKey());
+    assertEquals(2, processDefinitions.get(0).getVersion());
+  }
+
+  @Test
+  public void shouldFailOnInvalidResource() {
+    try {
+      // when
+      repositoryService.createDeployment()
+        .addModelInstance("process1.bpmn", createProcess("process1"))
+        .addString("invalid.bpmn", "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"><process id=\"invalid\" isExecutable=\"true\"><startEvent id=\"start\"/><sequenceFlow id=\"flow\" sourceRef=\"start\" targetRef=\"missing\"/></process></definitions>")
+        .deploy();
+
+      fail("exception expected");
+    } catch (ProcessEngineException e) {
+      // then
+      assertEquals(0, repositoryService.createDeploymentQuery().count());
+    }
+  }
+
+  @Test
+  public void shouldReleasePreParsedResourcesOnFailedDeployment() {
+    // given two resources which are pre-parsed but define the same process key
+    DeploymentBuilderImpl deploymentBuilder = (DeploymentBuilderImpl) repositoryService.createDeployment()
+        .addModelInstance("process1.bpmn", createProcess("process"))
+        .addModelInstance("process2.bpmn", createProcess("process"));
+
+    try {
+      // when
+      deploymentBuilder.deploy();
+
+      fail("exception expected");
+    } catch (ProcessEngineException e) {
+      // then
+      DeploymentEntity deployment = deploymentBuilder.getDeployment();
+      for (Deployer deployer : engineRule.getProcessEngineConfiguration().getDeploymentCache().getDeployers()) {
+        for (ResourceEntity resource : deployment.getResources().values()) {
+          assertNull(deployment.getPreParsedResource(deployer, resource));
+        }
+      }
+    }
+  }
+
+  protected BpmnModelInstance createProcess(String key) {
+    return Bpmn.createExecutableProcess(key)
+        .startEvent()
+        .endEvent()
+        .done();
+  }
+
+  protected BpmnModelInstance createTimerStartProcess(String key) {
+    return Bpmn.createExecutableProcess(key)
+        .startEvent().timerWithCycle("R2/PT1H")
+        .endEvent()
+        .done();
+  }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.AbstractVariableQueryImpl;
+import org.camunda.bpm.engine.impl.QueryVariableValue;
+import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.BackfillVariableLookupCmd;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableLookupEntity;
+import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+import org.camunda.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class QueryableVariablesTest {
+
+  protected static final String LOOKUP_TABLE = "ACT_RU_VAR_LOOKUP";
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setQueryableVariableNames(new HashSet<String>(Arrays.asList("customer", "amount", "score")));
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected ManagementService managementService;
+
+  @Before
+  public void setUp() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    managementService = engineRule.getManagementService();
+
+    testRule.deploy(ProcessModels.ONE_TASK_PROCESS);
+    managementService.backfillVariableLookup();
+  }
+
+  @After
+  public void tearDown() {
+    managementService.deleteProperty(BackfillVariableLookupCmd.BACKFILL_PROPERTY_NAME);
+  }
+
+  @Test
+  public void shouldMirrorQueryableVariables() {
+    // when
+    runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY, Variables.createVariables()
+        .putValue("customer", "Acme")
+        .putValue("amount", 100L)
+        .putValue("score", 0.5)
+        .putValue("other", "notQueryable"));
+
+    // then
+    assertEquals(3L, getLookupEntryCount());
+  }
+
+  @Test
+  public void shouldQueryProcessInstancesByQueryableVariables() {
+    // given
+    ProcessInstance acme = startInstance("Acme", 100L);
+    ProcessInstance globex = startInstance("Globex", 250L);
+
+    // then
+    assertEquals(acme.getId(), runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", "Acme").singleResult().getId());
+    assertEquals(globex.getId(), runtimeService.createProcessInstanceQuery()
+        .variableValueGreaterThan("amount", 100L).singleResult().getId());
+    assertEquals(2, runtimeService.createProcessInstanceQuery()
+        .variableValueGreaterThanOrEqual("amount", 100L).count());
+    assertEquals(1, runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("amount", Variables.numberValue(100)).count());
+    assertEquals(0, runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", "Initech").count());
+
+    // operators which cannot be answered from the lookup table still work
+    assertEquals(globex.getId(), runtimeService.createProcessInstanceQuery()
+        .variableValueNotEquals("customer", "Acme").singleResult().getId());
+    assertEquals(acme.getId(), runtimeService.createProcessInstanceQuery()
+        .variableValueLike("customer", "Ac%").singleResult().getId());
+  }
+
+  @Test
+  public void shouldQueryTasksByQueryableVariables() {
+    // given
+    ProcessInstance acme = startInstance("Acme", 100L);
+    startInstance("Globex", 250L);
+
+    Task task = taskService.createTaskQuery().processInstanceId(acme.getId()).singleResult();
+    taskService.setVariableLocal(task.getId(), "score", 0.9);
+
+    // then
+    assertEquals(task.getId(), taskService.createTaskQuery()
+        .processVariableValueEquals("customer", "Acme").singleResult().getId());
+    assertEquals(task.getId(), taskService.createTaskQuery()
+        .processVariableValueLessThan("amount", 200L).singleResult().getId());
+    assertEquals(task.getId(), taskService.createTaskQuery()
+        .taskVariableValueGreaterThan("score", 0.5).singleResult().getId());
+  }
+
+  @Test
+  public void shouldAnswerEqualityAndRangeFiltersFromLookupTable() {
+    // given
+    startInstance("Acme", 100L);
+
+    // then
+    assertTrue(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", "Acme")));
+    assertTrue(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueGreaterThan("amount", 50L)));
+    assertTrue(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueLessThanOrEqual("amount", 100)));
+    assertTrue(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueGreaterThan("amount", Variables.numberValue(50))));
+    assertTrue(isAnsweredFromLookupTable(taskService.createTaskQuery()
+        .processVariableValueGreaterThanOrEqual("amount", 100L)));
+  }
+
+  @Test
+  public void shouldAnswerOtherFiltersFromVariableTable() {
+    // given
+    startInstance("Acme", 100L);
+
+    // then
+    assertFalse(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueNotEquals("customer", "Globex")));
+    assertFalse(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueLike("customer", "Ac%")));
+    assertFalse(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueGreaterThan("customer", "Ab")));
+    assertFalse(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", null)));
+    assertFalse(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("other", "Acme")));
+  }
+
+  @Test
+  public void shouldBackfillVariablesWithoutLookupEntry() {
+    // given a variable which was written without lookup entry
+    ProcessInstance processInstance = startInstance("Acme", 100L);
+    deleteLookupEntry(processInstance.getId(), "customer");
+    managementService.deleteProperty(BackfillVariableLookupCmd.BACKFILL_PROPERTY_NAME);
+    engineRule.getProcessEngineConfiguration().setVariableLookupBackfilled(false);
+
+    // then the query reads the variable table until the lookup table is backfilled
+    assertFalse(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", "Acme")));
+    assertEquals(1, runtimeService.createProcessInstanceQuery().variableValueEquals("customer", "Acme").count());
+
+    // when
+    managementService.backfillVariableLookup();
+
+    // then
+    assertEquals(2L, getLookupEntryCount());
+    assertTrue(isAnsweredFromLookupTable(runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", "Acme")));
+    assertEquals(1, runtimeService.createProcessInstanceQuery().variableValueEquals("customer", "Acme").count());
+  }
+
+  @Test
+  public void shouldNotBackfillAgainForSameVariableNames() {
+    // given a variable which was written without lookup entry after the backfill
+    ProcessInstance processInstance = startInstance("Acme", 100L);
+    deleteLookupEntry(processInstance.getId(), "customer");
+
+    // when
+    managementService.backfillVariableLookup();
+
+    // then the backfill is skipped
+    assertEquals(1L, getLookupEntryCount());
+  }
+
+  @Test
+  public void shouldUpdateLookupEntries() {
+    // given
+    ProcessInstance processInstance = startInstance("Acme", 100L);
+
+    // when
+    runtimeService.setVariable(processInstance.getId(), "customer", "Globex");
+    runtimeService.setVariable(processInstance.getId(), "amount", Variables.objectValue(new HashSet<String>()).create());
+
+    // then
+    assertEquals(0, runtimeService.createProcessInstanceQuery().variableValueEquals("customer", "Acme").count());
+    assertEquals(1, runtimeService.createProcessInstanceQuery().variableValueEquals("customer", "Globex").count());
+    assertEquals(1L, getLookupEntryCount());
+  }
+
+  @Test
+  public void shouldNotMirrorLongStrings() {
+    // given
+    char[] chars = new char[300];
+    Arrays.fill(chars, 'a');
+    String longString = new String(chars);
+
+    ProcessInstance processInstance = startInstance(longString, 100L);
+
+    // then
+    assertEquals(1L, getLookupEntryCount());
+    assertEquals(processInstance.getId(), runtimeService.createProcessInstanceQuery()
+        .variableValueEquals("customer", longString).singleResult().getId());
+  }
+
+  @Test
+  public void shouldRemoveLookupEntriesWithProcessInstance() {
+    // given
+    ProcessInstance processInstance = startInstance("Acme", 100L);
+
+    // when
+    runtimeService.deleteProcessInstance(processInstance.getId(), null);
+
+    // then
+    assertEquals(0L, getLookupEntryCount());
+  }
+
+  protected ProcessInstance startInstance(String customer, long amount) {
+    return runtimeService.startProcessInstanceByKey(ProcessModels.PROCESS_KEY, Variables.createVariables()
+        .putValue("customer", customer)
+        .putValue("amount", amount));
+  }
+
+  protected void deleteLookupEntry(final String executionId, final String variableName) {
+    engineRule.getProcessEngineConfiguration().getCommandExecutorTxRequired().execute(new Command<Void>() {
+      public Void execute(CommandContext commandContext) {
+        VariableInstanceEntity variable = commandContext.getVariableInstanceManager()
+          .findVariableInstancesByExecutionIdAndVariableNames(executionId, Arrays.asList(variableName)).get(0);
+
+        VariableLookupEntity lookupEntry = new VariableLookupEntity();
+        lookupEntry.setId(variable.getId());
+        commandContext.getDbEntityManager().delete(VariableLookupEntity.class, "deleteVariableLookup", lookupEntry);
+        return null;
+      }
+    });
+  }
+
+  protected boolean isAnsweredFromLookupTable(ProcessInstanceQuery query) {
+    query.list();
+    return isAnsweredFromLookupTable(((AbstractVariableQueryImpl<?, ?>) query).getQueryVariableValues());
+  }
+
+  protected boolean isAnsweredFromLookupTable(TaskQuery query) {
+    query.list();
+    return isAnsweredFromLookupTable(((TaskQueryImpl) query).getVariables());
+  }
+
+  protected boolean isAnsweredFromLookupTable(List<? extends QueryVariableValue> queryVariableValues) {
+    assertEquals(1, queryVariableValues.size());
+    return queryVariableValues.get(0).isVariableLookup();
+  }
+
+  protected long getLookupEntryCount() {
+    String tablePrefix = engineRule.getProcessEngineConfiguration().getDatabaseTablePrefix();
+    return managementService.getTableCount().get(tablePrefix + LOOKUP_TABLE);
+  }
+
+}
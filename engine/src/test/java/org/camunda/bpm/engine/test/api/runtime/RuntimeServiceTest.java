@@ -35,6 +35,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -71,6 +72,7 @@ import org.camunda.bpm.engine.impl.cfg.StandaloneProcessEngineConfiguration;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
+import org.camunda.bpm.engine.impl.util.IoUtil;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
 import org.camunda.bpm.engine.runtime.ActivityInstance;
 import org.camunda.bpm.engine.runtime.Execution;
@@ -95,6 +97,7 @@ import org.camunda.bpm.engine.test.util.TestExecutionListener;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.type.ValueType;
+import org.camunda.bpm.engine.variable.value.FileValue;
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.junit.Before;
@@ -2805,6 +2808,96 @@ public class RuntimeServiceTest {
     assertTrue(variables.isEmpty());
   }
 
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testGetVariableInstanceContent() {
+    // given
+    byte[] bytes = "some bytes".getBytes();
+    byte[] fileContent = "some file content".getBytes();
+    VariableMap variables = Variables.createVariables()
+      .putValue("bytesVar", bytes)
+      .putValue("fileVar", Variables.fileValue("file.txt").file(fileContent).create());
+    String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+
+    // when
+    VariableInstance bytesVariable = runtimeService.createVariableInstanceQuery().variableName("bytesVar").singleResult();
+    VariableInstance fileVariable = runtimeService.createVariableInstanceQuery().variableName("fileVar").singleResult();
+
+    // then
+    assertTrue(Arrays.equals(bytes, readVariableInstanceContent(bytesVariable.getId())));
+    assertTrue(Arrays.equals(fileContent, readVariableInstanceContent(fileVariable.getId())));
+
+    runtimeService.deleteProcessInstance(processInstanceId, null);
+  }
+
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testGetVariableInstanceContentOfNonBinaryVariable() {
+    // given
+    runtimeService.startProcessInstanceByKey("oneTaskProcess", Variables.createVariables().putValue("stringVar", "aString"));
+    VariableInstance variable = runtimeService.createVariableInstanceQuery().variableName("stringVar").singleResult();
+
+    // when/then
+    assertNull(runtimeService.getVariableInstanceContent(variable.getId()));
+    assertNull(runtimeService.getVariableInstanceContent("nonExistingId"));
+  }
+
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testGetVariableContent() {
+    // given
+    byte[] bytes = "some bytes".getBytes();
+    byte[] fileContent = "some file content".getBytes();
+    VariableMap variables = Variables.createVariables()
+      .putValue("bytesVar", bytes)
+      .putValue("fileVar", Variables.fileValue("file.txt").file(fileContent).create())
+      .putValue("stringVar", "aString");
+    String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+
+    // then
+    assertTrue(Arrays.equals(bytes, readContent(runtimeService.getVariableContent(processInstanceId, "bytesVar"))));
+    assertTrue(Arrays.equals(fileContent, readContent(runtimeService.getVariableLocalContent(processInstanceId, "fileVar"))));
+    assertNull(runtimeService.getVariableContent(processInstanceId, "stringVar"));
+    assertNull(runtimeService.getVariableLocalContent(processInstanceId, "nonExisting"));
+  }
+
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testGetVariableInstanceDoesNotLoadBinaryValue() {
+    // given
+    VariableMap variables = Variables.createVariables()
+      .putValue("fileVar", Variables.fileValue("file.txt").file("some file content".getBytes()).mimeType("text/plain").create())
+      .putValue("stringVar", "aString");
+    String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables).getId();
+
+    // when
+    VariableInstance fileVariable = runtimeService.getVariableInstance(processInstanceId, "fileVar");
+    VariableInstance stringVariable = runtimeService.getVariableInstanceLocal(processInstanceId, "stringVar");
+
+    // then
+    FileValue fileValue = (FileValue) fileVariable.getTypedValue();
+    assertEquals("file.txt", fileValue.getFilename());
+    assertEquals("text/plain", fileValue.getMimeType());
+    assertNull(fileValue.getValue());
+
+    assertEquals("aString", stringVariable.getValue());
+    assertNull(runtimeService.getVariableInstance(processInstanceId, "nonExisting"));
+  }
+
+  protected byte[] readContent(InputStream content) {
+    assertNotNull(content);
+    try {
+      return IoUtil.readInputStream(content, "variable content");
+    }
+    finally {
+      IoUtil.closeSilently(content);
+    }
+  }
+
+  protected byte[] readVariableInstanceContent(String variableInstanceId) {
+    return readContent(runtimeService.getVariableInstanceContent(variableInstanceId));
+  }
+
   private BpmnModelInstance prepareComplexProcess(String calledProcessA,String calledProcessB,String calledProcessC) {
     BpmnModelInstance calling =
         Bpmn.createExecutableProcess("calling")
@@ -23,9 +23,12 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.api.resources.GetByteArrayCommand;
 import org.camunda.bpm.engine.variable.Variables;
 import org.junit.Test;
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 
 /**
  *
@@ -59,4 +62,60 @@ public class VariableInTransactionTest extends PluggableProcessEngineTestCase {
     });
 
   }
+
+  @Test
+  public void testSetSameByteArrayContentDoesNotUpdateByteArray() {
+    Task task = taskService.newTask();
+    taskService.saveTask(task);
+
+    taskService.setVariable(task.getId(), "aVariable", "someContent".getBytes());
+    taskService.setVariable(task.getId(), "aVariable", "someContent".getBytes());
+
+    VariableInstanceEntity variable = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery().singleResult();
+    ByteArrayEntity byteArray = processEngineConfiguration.getCommandExecutorTxRequired()
+        .execute(new GetByteArrayCommand(variable.getByteArrayValueId()));
+
+    // the identical content has not been written a second time
+    assertEquals(1, byteArray.getRevision());
+
+    taskService.deleteTask(task.getId(), true);
+  }
+
+  @Test
+  public void testSetChangedByteArrayContentUpdatesByteArray() {
+    Task task = taskService.newTask();
+    taskService.saveTask(task);
+
+    taskService.setVariable(task.getId(), "aVariable", "someContent".getBytes());
+    taskService.setVariable(task.getId(), "aVariable", "otherContent".getBytes());
+
+    VariableInstanceEntity variable = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery().singleResult();
+    ByteArrayEntity byteArray = processEngineConfiguration.getCommandExecutorTxRequired()
+        .execute(new GetByteArrayCommand(variable.getByteArrayValueId()));
+
+    // the changed content has been written to the same row
+    assertEquals(2, byteArray.getRevision());
+    assertEquals("otherContent", new String(byteArray.getBytes()));
+
+    taskService.deleteTask(task.getId(), true);
+  }
+
+  @Test
+  public void testSetSameByteArrayContentOnTwoVariablesKeepsSeparateByteArrays() {
+    Task task = taskService.newTask();
+    taskService.saveTask(task);
+
+    taskService.setVariable(task.getId(), "aVariable", "someContent".getBytes());
+    taskService.setVariable(task.getId(), "anotherVariable", "someContent".getBytes());
+
+    VariableInstanceEntity variable = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery()
+        .variableName("aVariable").singleResult();
+    VariableInstanceEntity anotherVariable = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery()
+        .variableName("anotherVariable").singleResult();
+
+    // equal contents are not shared between variables
+    assertFalse(variable.getByteArrayValueId().equals(anotherVariable.getByteArrayValueId()));
+
+    taskService.deleteTask(task.getId(), true);
+  }
 }
@@ -16,6 +16,7 @@
 package org.camunda.bpm.engine.test.api.runtime;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +26,8 @@ import java.util.Set;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.query.VariableInstanceProjection;
+import org.camunda.bpm.engine.query.VariableInstanceProjectionHandler;
 import org.camunda.bpm.engine.runtime.ActivityInstance;
 import org.camunda.bpm.engine.runtime.CaseInstance;
 import org.camunda.bpm.engine.runtime.Execution;
@@ -2733,5 +2736,71 @@ public class VariableInstanceQueryTest extends PluggableProcessEngineTestCase {
     }
   }
 
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/runtime/oneTaskProcess.bpmn20.xml"})
+  public void testProject() {
+    // given
+    ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("longVar", 1L).putValue("bytesVar", "test".getBytes()));
+    ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("longVar", 2L));
+
+    // when
+    final List<VariableInstanceProjection> projections = new ArrayList<VariableInstanceProjection>();
+    runtimeService.createVariableInstanceQuery()
+      .variableName("longVar")
+      .project(new VariableInstanceProjectionHandler() {
+        public void handle(VariableInstanceProjection projection) {
+          projections.add(projection);
+        }
+      });
+
+    // then
+    assertEquals(2, projections.size());
+    for (VariableInstanceProjection projection : projections) {
+      assertEquals("longVar", projection.getName());
+      assertEquals(ValueType.LONG.getName(), projection.getSerializerName());
+      if (projection.getProcessInstanceId().equals(processInstance1.getId())) {
+        assertEquals(Long.valueOf(1L), projection.getLongValue());
+      }
+      else {
+        assertEquals(processInstance2.getId(), projection.getProcessInstanceId());
+        assertEquals(Long.valueOf(2L), projection.getLongValue());
+      }
+    }
+    assertEquals(3, countProjections(runtimeService.createVariableInstanceQuery()));
+  }
+
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/runtime/oneTaskProcess.bpmn20.xml"})
+  public void testProjectOrdered() {
+    // given
+    runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("b", 1L).putValue("c", 2L).putValue("a", 3L));
+
+    // when
+    final List<String> names = new ArrayList<String>();
+    runtimeService.createVariableInstanceQuery()
+      .orderByVariableName()
+      .desc()
+      .project(new VariableInstanceProjectionHandler() {
+        public void handle(VariableInstanceProjection projection) {
+          names.add(projection.getName());
+        }
+      });
+
+    // then
+    assertEquals(Arrays.asList("c", "b", "a"), names);
+  }
+
+  protected int countProjections(VariableInstanceQuery query) {
+    final int[] count = new int[1];
+    query.project(new VariableInstanceProjectionHandler() {
+      public void handle(VariableInstanceProjection projection) {
+        count[0]++;
+      }
+    });
+    return count[0];
+  }
 
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.runtime.VariablesBatchBuilder;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.Deployment;
+
+public class VariablesBatchTest extends PluggableProcessEngineTestCase {
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testSetVariablesOnExecutionsAndTasks() {
+    ProcessInstance firstInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    ProcessInstance secondInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    ProcessInstance thirdInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+    Task thirdTask = taskService.createTaskQuery().processInstanceId(thirdInstance.getId()).singleResult();
+
+    Map<String, Object> variables = new HashMap<String, Object>();
+    variables.put("aVariable", "aValue");
+    variables.put("anotherVariable", 42);
+
+    runtimeService.createVariablesBatch()
+      .executionVariables(firstInstance.getId(), variables)
+      .executionVariablesLocal(secondInstance.getId(), variables)
+      .taskVariables(thirdTask.getId(), variables)
+      .taskVariablesLocal(thirdTask.getId(), Collections.<String, Object>singletonMap("taskVariable", true))
+      .execute();
+
+    assertEquals(variables, runtimeService.getVariables(firstInstance.getId()));
+    assertEquals(variables, runtimeService.getVariablesLocal(secondInstance.getId()));
+    assertEquals(variables, runtimeService.getVariablesLocal(thirdInstance.getId()));
+    assertEquals(Collections.singletonMap("taskVariable", true), taskService.getVariablesLocal(thirdTask.getId()));
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testUpdateExistingVariables() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Collections.<String, Object>singletonMap("aVariable", "oldValue"));
+
+    runtimeService.createVariablesBatch()
+      .executionVariables(processInstance.getId(), Collections.singletonMap("aVariable", "newValue"))
+      .execute();
+
+    assertEquals("newValue", runtimeService.getVariable(processInstance.getId(), "aVariable"));
+    assertEquals(1, runtimeService.createVariableInstanceQuery().count());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testUpdateExistingTaskAndExecutionVariables() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Collections.<String, Object>singletonMap("aVariable", "oldValue"));
+    Task task = taskService.createTaskQuery().singleResult();
+    taskService.setVariableLocal(task.getId(), "taskVariable", "oldValue");
+
+    runtimeService.createVariablesBatch()
+      .taskVariables(task.getId(), Collections.singletonMap("aVariable", "newValue"))
+      .taskVariablesLocal(task.getId(), Collections.singletonMap("taskVariable", "newValue"))
+      .execute();
+
+    assertEquals("newValue", runtimeService.getVariableLocal(processInstance.getId(), "aVariable"));
+    assertEquals("newValue", taskService.getVariableLocal(task.getId(), "taskVariable"));
+    assertEquals(2, runtimeService.createVariableInstanceQuery().count());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testNonExistingExecutionFailsWholeBatch() {
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    VariablesBatchBuilder batch = runtimeService.createVariablesBatch()
+      .executionVariables(processInstance.getId(), Collections.singletonMap("aVariable", "aValue"))
+      .executionVariables("nonExisting", Collections.singletonMap("aVariable", "aValue"));
+
+    try {
+      batch.execute();
+      fail("exception expected");
+    }
+    catch (ProcessEngineException e) {
+      assertTextPresent("execution nonExisting doesn't exist", e.getMessage());
+    }
+
+    List<?> variables = runtimeService.createVariableInstanceQuery().list();
+    assertTrue(variables.isEmpty());
+  }
+
+  public void testEmptyBatch() {
+    runtimeService.createVariablesBatch().execute();
+  }
+
+}
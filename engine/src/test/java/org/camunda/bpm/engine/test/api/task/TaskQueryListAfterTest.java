@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.QueryOrderingProperty;
+import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.TaskQueryProperty;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TaskQueryListAfterTest {
+
+  @Rule
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  protected TaskService taskService;
+
+  @Before
+  public void init() {
+    taskService = engineRule.getTaskService();
+
+    // two tasks share each priority to cover ties in the ordering
+    for (int i = 0; i < 10; i++) {
+      Task task = taskService.newTask("task" + i);
+      task.setPriority(i / 2);
+      taskService.saveTask(task);
+    }
+  }
+
+  @After
+  public void tearDown() {
+    for (Task task : taskService.createTaskQuery().list()) {
+      taskService.deleteTask(task.getId(), true);
+    }
+  }
+
+  @Test
+  public void shouldPageThroughAllTasksOrderedById() {
+    // when
+    List<Task> tasks = listAllPages(taskService.createTaskQuery(), 3);
+
+    // then
+    assertEquals(10, tasks.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals("task" + i, tasks.get(i).getId());
+    }
+  }
+
+  @Test
+  public void shouldPageThroughAllTasksOrderedByPriority() {
+    // when
+    List<Task> tasks = listAllPages(taskService.createTaskQuery().orderByTaskPriority().desc(), 3);
+
+    // then
+    assertEquals(10, tasks.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(4 - i / 2, tasks.get(i).getPriority());
+    }
+    for (int i = 1; i < 10; i++) {
+      Task previous = tasks.get(i - 1);
+      Task current = tasks.get(i);
+      assertTrue(previous.getPriority() > current.getPriority()
+          || previous.getId().compareTo(current.getId()) < 0);
+    }
+  }
+
+  @Test
+  public void shouldNotRestrictCountAfterListAfter() {
+    // given
+    TaskQuery query = taskService.createTaskQuery();
+    query.listAfter("task4", 2);
+
+    // when
+    long count = query.count();
+
+    // then
+    assertEquals(10, count);
+  }
+
+  @Test
+  public void shouldFailForOrderingByFunction() {
+    // given
+    TaskQuery query = taskService.createTaskQuery().orderByTaskNameCaseInsensitive().asc();
+
+    // then
+    thrown.expect(NotValidException.class);
+
+    // when
+    query.listAfter(null, 5);
+  }
+
+  @Test
+  public void shouldFailForOrderingByNullableProperty() {
+    // given
+    TaskQuery query = taskService.createTaskQuery().orderByDueDate().asc();
+
+    // then
+    thrown.expect(NotValidException.class);
+
+    // when
+    query.listAfter(null, 5);
+  }
+
+  @Test
+  public void shouldNotModifyOrderingOfQuery() {
+    // given
+    TaskQuery query = taskService.createTaskQuery().orderByTaskPriority().desc();
+
+    // when
+    query.listAfter("task4", 2);
+
+    // then
+    List<QueryOrderingProperty> orderingProperties = ((TaskQueryImpl) query).getOrderingProperties();
+    assertEquals(1, orderingProperties.size());
+    assertEquals(TaskQueryProperty.PRIORITY, orderingProperties.get(0).getQueryProperty());
+  }
+
+  protected List<Task> listAllPages(TaskQuery query, int pageSize) {
+    List<Task> tasks = new ArrayList<Task>();
+
+    List<Task> page = query.listAfter(null, pageSize);
+    while (!page.isEmpty()) {
+      tasks.addAll(page);
+      page = query.listAfter(page.get(page.size() - 1).getId(), pageSize);
+    }
+
+    return tasks;
+  }
+
+}
@@ -45,6 +45,7 @@ import org.camunda.bpm.engine.identity.Group;
 import org.camunda.bpm.engine.identity.User;
 import org.camunda.bpm.engine.impl.TaskServiceImpl;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.util.ByteArrayContentBuffer;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.IoUtil;
@@ -66,6 +67,7 @@ import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
 import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.FileValue;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -1682,13 +1684,47 @@ public class TaskServiceTest {
       InputStream taskAttachmentContent = taskService.getTaskAttachmentContent(taskId, attachmentId);
       assertNotNull(taskAttachmentContent);
 
-      byte[] byteContent = IoUtil.readInputStream(taskAttachmentContent, "weatherforcast");
-      assertEquals("someContent", new String(byteContent));
+      try {
+        byte[] byteContent = IoUtil.readInputStream(taskAttachmentContent, "weatherforcast");
+        assertEquals("someContent", new String(byteContent));
+      }
+      finally {
+        IoUtil.closeSilently(taskAttachmentContent);
+      }
 
       taskService.deleteTask(taskId, true);
     }
   }
 
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_AUDIT)
+  @Test
+  public void testGetLargeTaskAttachmentContent() throws Exception {
+    // given an attachment larger than the content kept in memory
+    Task task = taskService.newTask();
+    taskService.saveTask(task);
+    String taskId = task.getId();
+
+    byte[] content = new byte[ByteArrayContentBuffer.DEFAULT_MEMORY_THRESHOLD * 3 + 7];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    Attachment attachment = taskService.createAttachment("binary", taskId, null, "large", null, new ByteArrayInputStream(content));
+
+    // when
+    InputStream taskAttachmentContent = taskService.getTaskAttachmentContent(taskId, attachment.getId());
+
+    // then the content is buffered in a temporary file
+    try {
+      assertTrue(taskAttachmentContent instanceof ByteArrayContentBuffer.TemporaryFileInputStream);
+      assertTrue(Arrays.equals(content, IoUtil.readInputStream(taskAttachmentContent, "large")));
+    }
+    finally {
+      IoUtil.closeSilently(taskAttachmentContent);
+    }
+
+    taskService.deleteTask(taskId, true);
+  }
+
   @Test
   public void testGetTaskAttachmentWithNullParameters() {
     int historyLevel = processEngineConfiguration.getHistoryLevel().getId();
@@ -2200,5 +2236,41 @@ public class TaskServiceTest {
     assertNotNull(variables);
     assertTrue(variables.isEmpty());
   }
+  @Test
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testGetVariableContent() {
+    // given
+    byte[] fileContent = "some file content".getBytes();
+    byte[] bytes = "some bytes".getBytes();
+    String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", Variables.createVariables()
+      .putValue("fileVar", Variables.fileValue("file.txt").file(fileContent).create())).getId();
+    String taskId = taskService.createTaskQuery()
+      .processInstanceId(processInstanceId)
+      .singleResult()
+      .getId();
+    taskService.setVariableLocal(taskId, "bytesVar", bytes);
+
+    // when
+    VariableInstance fileVariable = taskService.getVariableInstance(taskId, "fileVar");
+
+    // then
+    assertEquals("file.txt", ((FileValue) fileVariable.getTypedValue()).getFilename());
+    assertNull(((FileValue) fileVariable.getTypedValue()).getValue());
+
+    assertTrue(Arrays.equals(fileContent, readContent(taskService.getVariableContent(taskId, "fileVar"))));
+    assertTrue(Arrays.equals(bytes, readContent(taskService.getVariableLocalContent(taskId, "bytesVar"))));
+    assertNull(taskService.getVariableLocalContent(taskId, "fileVar"));
+    assertNull(taskService.getVariableInstanceLocal(taskId, "fileVar"));
+  }
+
+  protected byte[] readContent(InputStream content) {
+    assertNotNull(content);
+    try {
+      return IoUtil.readInputStream(content, "variable content");
+    }
+    finally {
+      IoUtil.closeSilently(content);
+    }
+  }
 
 }
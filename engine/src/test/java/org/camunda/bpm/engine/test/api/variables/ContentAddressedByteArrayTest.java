@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.variables;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.api.resources.GetByteArrayCommand;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class ContentAddressedByteArrayTest {
+
+  protected static final int MIN_SIZE = 1024;
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setEnableContentAddressedByteArrays(true);
+      configuration.setContentAddressedByteArrayMinSize(MIN_SIZE);
+      configuration.setHistoryCleanupStrategy(ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_END_TIME_BASED);
+      return configuration;
+    }
+  };
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected HistoryService historyService;
+
+  protected Task task;
+
+  @Before
+  public void setUp() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    historyService = engineRule.getHistoryService();
+
+    task = taskService.newTask();
+    taskService.saveTask(task);
+  }
+
+  @After
+  public void tearDown() {
+    taskService.deleteTask(task.getId(), true);
+  }
+
+  @Test
+  public void testShareEqualValues() {
+    // when
+    taskService.setVariable(task.getId(), "aVariable", payload('a', MIN_SIZE));
+    taskService.setVariable(task.getId(), "anotherVariable", payload('a', MIN_SIZE));
+
+    // then
+    String byteArrayId = getByteArrayId("aVariable");
+    assertEquals(byteArrayId, getByteArrayId("anotherVariable"));
+
+    ByteArrayEntity byteArray = getByteArray(byteArrayId);
+    assertNotNull(byteArray.getHash());
+    assertEquals(Integer.valueOf(2), byteArray.getReferenceCount());
+  }
+
+  @Test
+  public void testShareEqualValuesInSameCommand() {
+    // when
+    taskService.setVariables(task.getId(), Variables.createVariables()
+        .putValue("aVariable", payload('a', MIN_SIZE))
+        .putValue("anotherVariable", payload('a', MIN_SIZE)));
+
+    // then
+    String byteArrayId = getByteArrayId("aVariable");
+    assertEquals(byteArrayId, getByteArrayId("anotherVariable"));
+    assertEquals(Integer.valueOf(2), getByteArray(byteArrayId).getReferenceCount());
+  }
+
+  @Test
+  public void testReleaseSharedValue() {
+    // given
+    taskService.setVariable(task.getId(), "aVariable", payload('a', MIN_SIZE));
+    taskService.setVariable(task.getId(), "anotherVariable", payload('a', MIN_SIZE));
+    String byteArrayId = getByteArrayId("aVariable");
+
+    // when
+    taskService.removeVariable(task.getId(), "aVariable");
+
+    // then the row is kept for the remaining variable
+    assertEquals(Integer.valueOf(1), getByteArray(byteArrayId).getReferenceCount());
+
+    // when
+    taskService.removeVariable(task.getId(), "anotherVariable");
+
+    // then
+    assertNull(getByteArray(byteArrayId));
+  }
+
+  @Test
+  public void testUpdateSharedValue() {
+    // given
+    byte[] bytes = payload('a', MIN_SIZE);
+    taskService.setVariable(task.getId(), "aVariable", bytes);
+    taskService.setVariable(task.getId(), "anotherVariable", bytes);
+    String byteArrayId = getByteArrayId("aVariable");
+
+    // when
+    taskService.setVariable(task.getId(), "aVariable", payload('b', MIN_SIZE));
+
+    // then the variable references another row and the shared row is unchanged
+    assertNotEquals(byteArrayId, getByteArrayId("aVariable"));
+    assertEquals(byteArrayId, getByteArrayId("anotherVariable"));
+
+    ByteArrayEntity byteArray = getByteArray(byteArrayId);
+    assertEquals(Integer.valueOf(1), byteArray.getReferenceCount());
+    assertArrayEquals(bytes, byteArray.getBytes());
+    assertArrayEquals(bytes, (byte[]) taskService.getVariable(task.getId(), "anotherVariable"));
+  }
+
+  @Test
+  public void testDoNotShareSmallValues() {
+    // when
+    taskService.setVariable(task.getId(), "aVariable", payload('a', MIN_SIZE - 1));
+    taskService.setVariable(task.getId(), "anotherVariable", payload('a', MIN_SIZE - 1));
+
+    // then
+    String byteArrayId = getByteArrayId("aVariable");
+    assertNotEquals(byteArrayId, getByteArrayId("anotherVariable"));
+
+    ByteArrayEntity byteArray = getByteArray(byteArrayId);
+    assertNull(byteArray.getHash());
+    assertNull(byteArray.getReferenceCount());
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  public void testShareAndReleaseHistoricValues() {
+    // given
+    testRule.deploy(Bpmn.createExecutableProcess("process")
+        .startEvent()
+        .endEvent()
+        .done());
+
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process",
+        Variables.createVariables().putValue("aVariable", payload('a', MIN_SIZE)));
+    ProcessInstance anotherProcessInstance = runtimeService.startProcessInstanceByKey("process",
+        Variables.createVariables().putValue("aVariable", payload('a', MIN_SIZE)));
+
+    HistoricVariableInstanceEntity historicVariable = (HistoricVariableInstanceEntity) historyService
+        .createHistoricVariableInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .singleResult();
+    HistoricVariableInstanceEntity anotherHistoricVariable = (HistoricVariableInstanceEntity) historyService
+        .createHistoricVariableInstanceQuery()
+        .processInstanceId(anotherProcessInstance.getId())
+        .singleResult();
+    HistoricDetailVariableInstanceUpdateEntity historicDetail = (HistoricDetailVariableInstanceUpdateEntity) historyService
+        .createHistoricDetailQuery()
+        .processInstanceId(processInstance.getId())
+        .singleResult();
+
+    String byteArrayId = historicVariable.getByteArrayId();
+    assertEquals(byteArrayId, anotherHistoricVariable.getByteArrayId());
+    assertEquals(byteArrayId, historicDetail.getByteArrayValueId());
+    assertEquals(Integer.valueOf(4), getByteArray(byteArrayId).getReferenceCount());
+
+    // when
+    historyService.deleteHistoricProcessInstance(processInstance.getId());
+
+    // then
+    assertEquals(Integer.valueOf(2), getByteArray(byteArrayId).getReferenceCount());
+
+    // when
+    historyService.deleteHistoricProcessInstance(anotherProcessInstance.getId());
+
+    // then
+    assertNull(getByteArray(byteArrayId));
+  }
+
+  protected String getByteArrayId(String variableName) {
+    VariableInstanceEntity variable = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery()
+        .variableName(variableName)
+        .singleResult();
+    return variable.getByteArrayValueId();
+  }
+
+  protected ByteArrayEntity getByteArray(String byteArrayId) {
+    return engineRule.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequired()
+        .execute(new GetByteArrayCommand(byteArrayId));
+  }
+
+  protected byte[] payload(char content, int length) {
+    byte[] bytes = new byte[length];
+    Arrays.fill(bytes, (byte) content);
+    return bytes;
+  }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.variables;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.camunda.bpm.application.impl.EmbeddedProcessApplication;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.variable.serializer.DeserializedValueCache;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.Variables.SerializationDataFormats;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class DeserializedValueCacheTest {
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setJavaSerializationFormatEnabled(true);
+      configuration.setDeserializedValueCacheSize(64 * 1024);
+      configuration.setDeserializedValueCacheObjectTypes(Collections.singleton(JavaSerializable.class.getName()));
+      return configuration;
+    }
+  };
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule);
+
+  protected TaskService taskService;
+
+  protected Task task;
+
+  @Before
+  public void createTask() {
+    taskService = engineRule.getTaskService();
+
+    task = taskService.newTask();
+    taskService.saveTask(task);
+  }
+
+  @After
+  public void deleteTask() {
+    taskService.deleteTask(task.getId(), true);
+    engineRule.getProcessEngineConfiguration().getDeserializedValueCache().clear();
+  }
+
+  @Test
+  public void testShareDeserializedValueBetweenCommands() {
+    // given
+    setJavaVariable("aVariable", new JavaSerializable("someContent"));
+
+    // when
+    Object firstValue = taskService.getVariable(task.getId(), "aVariable");
+    Object secondValue = taskService.getVariable(task.getId(), "aVariable");
+
+    // then
+    assertEquals(new JavaSerializable("someContent"), firstValue);
+    assertSame(firstValue, secondValue);
+  }
+
+  @Test
+  public void testReadUpdatedValue() {
+    // given
+    setJavaVariable("aVariable", new JavaSerializable("someContent"));
+    taskService.getVariable(task.getId(), "aVariable");
+
+    // when
+    setJavaVariable("aVariable", new JavaSerializable("otherContent"));
+
+    // then
+    assertEquals(new JavaSerializable("otherContent"), taskService.getVariable(task.getId(), "aVariable"));
+  }
+
+  @Test
+  public void testDoNotShareValueOfNotConfiguredType() {
+    // given
+    ArrayList<String> list = new ArrayList<String>();
+    list.add("someContent");
+    setJavaVariable("aVariable", list);
+
+    // when
+    Object firstValue = taskService.getVariable(task.getId(), "aVariable");
+    Object secondValue = taskService.getVariable(task.getId(), "aVariable");
+
+    // then
+    assertEquals(list, firstValue);
+    assertNotSame(firstValue, secondValue);
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsedValues() {
+    // given
+    DeserializedValueCache cache = new DeserializedValueCache(4, Collections.singleton("aType"), 1);
+    byte[] first = new byte[] { 1, 2 };
+    byte[] second = new byte[] { 3, 4 };
+    cache.put("aFormat", "aType", first, "first");
+    cache.put("aFormat", "aType", second, "second");
+
+    // when
+    cache.get("aFormat", "aType", first);
+    cache.put("aFormat", "aType", new byte[] { 5, 6 }, "third");
+
+    // then
+    assertEquals(2, cache.size());
+    assertEquals(4, cache.getWeight());
+    assertEquals("first", cache.get("aFormat", "aType", new byte[] { 1, 2 }));
+    assertNull(cache.get("aFormat", "aType", second));
+  }
+
+  @Test
+  public void testReleaseValuesOfUnregisteredProcessApplication() {
+    // given
+    final ClassLoader processApplicationClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+    EmbeddedProcessApplication processApplication = new EmbeddedProcessApplication() {
+      public ClassLoader getProcessApplicationClassloader() {
+        return processApplicationClassLoader;
+      }
+    };
+
+    DeserializedValueCache cache = engineRule.getProcessEngineConfiguration().getDeserializedValueCache();
+    cache.put("aFormat", "aType", new byte[] { 1, 2 }, "engineValue");
+    putWithContextClassLoader(cache, processApplicationClassLoader, new byte[] { 3, 4 }, "processApplicationValue");
+
+    RepositoryService repositoryService = engineRule.getRepositoryService();
+    ManagementService managementService = engineRule.getManagementService();
+    String deploymentId = repositoryService.createDeployment()
+        .addModelInstance("process.bpmn", Bpmn.createExecutableProcess("process").startEvent().endEvent().done())
+        .deploy()
+        .getId();
+
+    try {
+      managementService.registerProcessApplication(deploymentId, processApplication.getReference());
+
+      // when
+      managementService.unregisterProcessApplication(deploymentId, true);
+
+      // then
+      assertEquals(1, cache.size());
+      assertEquals(2, cache.getWeight());
+      assertEquals("engineValue", cache.get("aFormat", "aType", new byte[] { 1, 2 }));
+    }
+    finally {
+      repositoryService.deleteDeployment(deploymentId, true);
+    }
+  }
+
+  protected void putWithContextClassLoader(DeserializedValueCache cache, ClassLoader classLoader, byte[] serializedValue, Object value) {
+    ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(classLoader);
+    try {
+      cache.put("aFormat", "aType", serializedValue, value);
+    }
+    finally {
+      Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  protected void setJavaVariable(String name, Object value) {
+    taskService.setVariable(task.getId(), name, Variables.objectValue(value)
+        .serializationDataFormat(SerializationDataFormats.JAVA)
+        .create());
+  }
+
+}
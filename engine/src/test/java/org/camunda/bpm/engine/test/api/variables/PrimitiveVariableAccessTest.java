@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.variables;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.PrimitiveVariableAccess;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.ValueType;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+public class PrimitiveVariableAccessTest extends PluggableProcessEngineTestCase {
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testSetAndGetLongVariable() {
+    final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    long value = executeOnExecution(processInstance.getId(), new ExecutionCallback<Long>() {
+      public Long execute(ExecutionEntity execution) {
+        execution.setLongVariable("counter", 41);
+        execution.setLongVariable("counter", execution.getLongVariable("counter") + 1);
+        return execution.getLongVariable("counter");
+      }
+    });
+
+    assertEquals(42, value);
+
+    TypedValue typedValue = runtimeService.getVariableTyped(processInstance.getId(), "counter");
+    assertEquals(ValueType.LONG, typedValue.getType());
+    assertEquals(42L, typedValue.getValue());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testSetAndGetDoubleVariable() {
+    final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+    double value = executeOnExecution(processInstance.getId(), new ExecutionCallback<Double>() {
+      public Double execute(ExecutionEntity execution) {
+        execution.setDoubleVariable("ratio", 0.5);
+        return execution.getDoubleVariable("ratio");
+      }
+    });
+
+    assertEquals(0.5, value, 0.0);
+    TypedValue typedValue = runtimeService.getVariableTyped(processInstance.getId(), "ratio");
+    assertEquals(ValueType.DOUBLE, typedValue.getType());
+    assertEquals(0.5, typedValue.getValue());
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testGetPrimitiveValueOfOtherNumericTypes() {
+    final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables()
+          .putValue("anInteger", 7)
+          .putValue("aShort", (short) 3)
+          .putValue("aDouble", 2.5));
+
+    executeOnExecution(processInstance.getId(), new ExecutionCallback<Void>() {
+      public Void execute(ExecutionEntity execution) {
+        assertEquals(7, execution.getLongVariable("anInteger"));
+        assertEquals(3, execution.getLongVariable("aShort"));
+        assertEquals(2, execution.getLongVariable("aDouble"));
+        assertEquals(7.0, execution.getDoubleVariable("anInteger"), 0.0);
+        return null;
+      }
+    });
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testGetNonNumericVariable() {
+    final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("aString", "foo"));
+
+    executeOnExecution(processInstance.getId(), new ExecutionCallback<Void>() {
+      public Void execute(ExecutionEntity execution) {
+        try {
+          execution.getLongVariable("aString");
+          fail("exception expected");
+        }
+        catch (ProcessEngineException e) {
+          assertTextPresent("Cannot read variable with name aString as a number", e.getMessage());
+        }
+
+        try {
+          execution.getDoubleVariable("nonExisting");
+          fail("exception expected");
+        }
+        catch (ProcessEngineException e) {
+          assertTextPresent("Cannot read variable with name nonExisting as a number", e.getMessage());
+        }
+        return null;
+      }
+    });
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml")
+  public void testDelegateExecutionProvidesPrimitiveVariableAccess() {
+    final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("anInteger", 7));
+
+    executeOnExecution(processInstance.getId(), new ExecutionCallback<Void>() {
+      public Void execute(ExecutionEntity execution) {
+        DelegateExecution delegateExecution = execution;
+        assertTrue(delegateExecution instanceof PrimitiveVariableAccess);
+        assertEquals(7, ((PrimitiveVariableAccess) delegateExecution).getLongVariable("anInteger"));
+        return null;
+      }
+    });
+  }
+
+  protected <T> T executeOnExecution(final String executionId, final ExecutionCallback<T> callback) {
+    return processEngineConfiguration.getCommandExecutorTxRequired().execute(new Command<T>() {
+      public T execute(CommandContext commandContext) {
+        ExecutionEntity execution = commandContext.getExecutionManager().findExecutionById(executionId);
+        return callback.execute(execution);
+      }
+    });
+  }
+
+  protected interface ExecutionCallback<T> {
+    T execute(ExecutionEntity execution);
+  }
+
+}
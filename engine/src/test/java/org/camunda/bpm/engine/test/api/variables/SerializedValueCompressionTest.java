@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.variables;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.digest._apacheCommonsCodec.Base64;
+import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.util.CompressionUtil;
+import org.camunda.bpm.engine.impl.util.StringUtil;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.api.resources.GetByteArrayCommand;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.ObjectValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class SerializedValueCompressionTest {
+
+  protected static final int COMPRESSION_THRESHOLD = 1024;
+
+  protected ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule() {
+    public ProcessEngineConfiguration configureEngine(ProcessEngineConfigurationImpl configuration) {
+      configuration.setJavaSerializationFormatEnabled(true);
+      configuration.setSerializedValueCompressionThreshold(COMPRESSION_THRESHOLD);
+      return configuration;
+    }
+  };
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(bootstrapRule).around(engineRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  protected Task task;
+
+  @Before
+  public void createTask() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+
+    task = taskService.newTask();
+    taskService.saveTask(task);
+  }
+
+  @After
+  public void deleteTask() {
+    taskService.deleteTask(task.getId(), true);
+  }
+
+  @Test
+  public void testCompressLargeSerializedValue() {
+    // given
+    JavaSerializable value = new JavaSerializable(repeat("someContent", 1000));
+
+    // when
+    taskService.setVariable(task.getId(), "aVariable", Variables.objectValue(value)
+        .serializationDataFormat(Variables.SerializationDataFormats.JAVA)
+        .create());
+
+    // then
+    byte[] storedBytes = getStoredBytes();
+    assertTrue(CompressionUtil.isCompressed(storedBytes));
+    assertTrue(storedBytes.length < COMPRESSION_THRESHOLD);
+
+    assertEquals(value, taskService.getVariable(task.getId(), "aVariable"));
+
+    ObjectValue serializedValue = taskService.getVariableTyped(task.getId(), "aVariable", false);
+    assertFalse(CompressionUtil.isCompressed(Base64.decodeBase64(StringUtil.toByteArray(serializedValue.getValueSerialized()))));
+  }
+
+  @Test
+  public void testDoNotCompressSmallSerializedValue() {
+    // given
+    JavaSerializable value = new JavaSerializable("someContent");
+
+    // when
+    taskService.setVariable(task.getId(), "aVariable", Variables.objectValue(value)
+        .serializationDataFormat(Variables.SerializationDataFormats.JAVA)
+        .create());
+
+    // then
+    assertFalse(CompressionUtil.isCompressed(getStoredBytes()));
+    assertEquals(value, taskService.getVariable(task.getId(), "aVariable"));
+  }
+
+  @Test
+  public void testDoNotDecompressUncompressedGzipValue() throws Exception {
+    // given a small serialized value which is gzip data by itself
+    byte[] gzipBytes = gzip("someContent".getBytes());
+
+    // when
+    taskService.setVariable(task.getId(), "aVariable", serializedJavaValue(gzipBytes));
+
+    // then it is stored and read as it is
+    assertArrayEquals(gzipBytes, getStoredBytes());
+    assertArrayEquals(gzipBytes, getSerializedBytes());
+  }
+
+  @Test
+  public void testCompressSmallValueStartingWithCompressionHeader() {
+    // given a small serialized value which starts with the header of compressed values
+    byte[] bytes = new byte[] { 0, 'c', 'z', 1, 'a', 'b', 'c' };
+
+    // when
+    taskService.setVariable(task.getId(), "aVariable", serializedJavaValue(bytes));
+
+    // then it is compressed, so that it is read as it was written
+    assertTrue(CompressionUtil.isCompressed(getStoredBytes()));
+    assertArrayEquals(bytes, getSerializedBytes());
+  }
+
+  protected ObjectValue serializedJavaValue(byte[] bytes) {
+    return Variables.serializedObjectValue(StringUtil.fromBytes(Base64.encodeBase64(bytes)))
+        .serializationDataFormat(Variables.SerializationDataFormats.JAVA)
+        .objectTypeName(JavaSerializable.class.getName())
+        .create();
+  }
+
+  protected byte[] getSerializedBytes() {
+    ObjectValue serializedValue = taskService.getVariableTyped(task.getId(), "aVariable", false);
+    return Base64.decodeBase64(StringUtil.toByteArray(serializedValue.getValueSerialized()));
+  }
+
+  protected byte[] gzip(byte[] bytes) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+    gzipOutputStream.write(bytes);
+    gzipOutputStream.close();
+    return outputStream.toByteArray();
+  }
+
+  protected byte[] getStoredBytes() {
+    VariableInstanceEntity variable = (VariableInstanceEntity) runtimeService.createVariableInstanceQuery().singleResult();
+    ByteArrayEntity byteArray = engineRule.getProcessEngineConfiguration()
+        .getCommandExecutorTxRequired()
+        .execute(new GetByteArrayCommand(variable.getByteArrayValueId()));
+    return byteArray.getBytes();
+  }
+
+  protected String repeat(String content, int times) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      builder.append(content);
+    }
+    return builder.toString();
+  }
+
+}
@@ -18,10 +18,17 @@ package org.camunda.bpm.engine.test.bpmn.el;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.camunda.bpm.engine.impl.el.CompiledValueExpression;
+import org.camunda.bpm.engine.impl.el.DateTimeFunctionMapper;
+import org.camunda.bpm.engine.impl.el.ExpressionManager;
+import org.camunda.bpm.engine.impl.javax.el.ELContext;
+import org.camunda.bpm.engine.impl.javax.el.PropertyNotFoundException;
+import org.camunda.bpm.engine.impl.javax.el.ValueExpression;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.api.runtime.util.TestVariableScope;
 
 /**
  * @author Frederik Heremans
@@ -84,4 +91,85 @@ public class ExpressionManagerTest extends PluggableProcessEngineTestCase {
     task = taskService.createTaskQuery().processInstanceId(secondInstance.getId()).singleResult();
     assertEquals("johnny", task.getAssignee());
   }
+
+  public void testSharesParsedValueExpressions() {
+    ExpressionManager expressionManager = new ExpressionManager();
+    expressionManager.setExpressionCacheSize(10);
+
+    ValueExpression expression = expressionManager.createValueExpression("${execution.getVariable('x')}");
+
+    assertSame(expression, expressionManager.createValueExpression("${execution.getVariable('x')}"));
+    assertNotSame(expression, expressionManager.createValueExpression("${execution.getVariable('x')}", String.class));
+    assertNotSame(expression, expressionManager.createValueExpression("${execution.getVariable('y')}"));
+  }
+
+  public void testAddingFunctionMapperInvalidatesSharedExpressions() {
+    ExpressionManager expressionManager = new ExpressionManager();
+    expressionManager.setExpressionCacheSize(10);
+    ValueExpression expression = expressionManager.createValueExpression("${x}");
+
+    expressionManager.addFunctionMapper(new DateTimeFunctionMapper());
+
+    assertNotSame(expression, expressionManager.createValueExpression("${x}"));
+  }
+
+  public void testParsedValueExpressionsAreNotSharedByDefault() {
+    ExpressionManager expressionManager = new ExpressionManager();
+
+    ValueExpression expression = expressionManager.createValueExpression("${x}");
+
+    assertNotSame(expression, expressionManager.createValueExpression("${x}"));
+  }
+
+  public void testCompiledExpressionEvaluatesLikeInterpretedExpression() {
+    ExpressionManager expressionManager = new ExpressionManager();
+    TestVariableScope variableScope = new TestVariableScope();
+    variableScope.setVariable("amount", 1500);
+    variableScope.setVariable("approved", false);
+    variableScope.setVariable("name", "");
+    ELContext elContext = expressionManager.getElContext(variableScope);
+
+    String[] expressions = new String[] {
+        "${amount > 1000 && !approved}",
+        "${amount * 2 - 1 == 2999}",
+        "${(amount % 7) ge 2 || approved}",
+        "${empty name}",
+        "${-amount < 0 and name != 'x'}"
+    };
+
+    for (String expression : expressions) {
+      ValueExpression interpreted = expressionManager.createValueExpression(expression);
+      ValueExpression compiled = expressionManager.compileValueExpression(interpreted, expression);
+
+      assertTrue(compiled instanceof CompiledValueExpression);
+      assertEquals(interpreted.getValue(elContext), compiled.getValue(elContext));
+    }
+  }
+
+  public void testCompiledExpressionFallsBackToInterpretedExpression() {
+    ExpressionManager expressionManager = new ExpressionManager();
+    TestVariableScope variableScope = new TestVariableScope();
+    ELContext elContext = expressionManager.getElContext(variableScope);
+
+    ValueExpression interpreted = expressionManager.createValueExpression("${amount > 1000}");
+    ValueExpression compiled = expressionManager.compileValueExpression(interpreted, "${amount > 1000}");
+
+    try {
+      compiled.getValue(elContext);
+      fail("exception expected");
+    } catch (PropertyNotFoundException e) {
+      // the missing variable is reported by the interpreted expression
+    }
+
+    variableScope.setVariable("amount", 1001);
+    assertEquals(Boolean.TRUE, compiled.getValue(elContext));
+  }
+
+  public void testExpressionsWithMethodInvocationsAreNotCompiled() {
+    ExpressionManager expressionManager = new ExpressionManager();
+
+    ValueExpression expression = expressionManager.createValueExpression("${execution.getVariable('x') > 1}");
+
+    assertSame(expression, expressionManager.compileValueExpression(expression, "${execution.getVariable('x') > 1}"));
+  }
 }
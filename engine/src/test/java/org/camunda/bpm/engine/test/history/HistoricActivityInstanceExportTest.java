@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.impl.history.export.HistoricActivityInstanceExportWriter;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+public class HistoricActivityInstanceExportTest {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance PROCESS_WITH_TTL = Bpmn.createExecutableProcess("processWithTtl")
+      .camundaHistoryTimeToLive(5)
+      .startEvent()
+      .endEvent()
+      .done();
+
+  public ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  public ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected HistoryService historyService;
+  protected RuntimeService runtimeService;
+  protected IdentityService identityService;
+
+  @Before
+  public void init() {
+    historyService = engineRule.getHistoryService();
+    runtimeService = engineRule.getRuntimeService();
+    identityService = engineRule.getIdentityService();
+  }
+
+  @Test
+  public void shouldExportAllActivityInstances() {
+    // given
+    testRule.deploy(PROCESS, PROCESS_WITH_TTL);
+
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+      runtimeService.startProcessInstanceByKey("processWithTtl");
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    long exportedRows = historyService.createHistoricActivityInstanceExport()
+      .batchSize(2)
+      .writeTo(Channels.newChannel(out));
+
+    // then
+    assertThat(exportedRows, is(12L));
+
+    Set<String> exportedIds = readIds(out.toByteArray());
+    assertThat(exportedIds.size(), is(12));
+
+    for (HistoricActivityInstance activityInstance : historyService.createHistoricActivityInstanceQuery().list()) {
+      assertThat(exportedIds.contains(activityInstance.getId()), is(true));
+    }
+  }
+
+  @Test
+  public void shouldExportActivityInstancesOfAuthenticatedTenantsOnly() {
+    // given
+    testRule.deployForTenant("tenant1", PROCESS);
+    testRule.deployForTenant("tenant2", PROCESS);
+
+    runtimeService.createProcessInstanceByKey("process").processDefinitionTenantId("tenant1").execute();
+    runtimeService.createProcessInstanceByKey("process").processDefinitionTenantId("tenant2").execute();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    identityService.setAuthentication("user", null, Arrays.asList("tenant1"));
+    long exportedRows;
+    try {
+      // when
+      exportedRows = historyService.createHistoricActivityInstanceExport()
+        .writeTo(Channels.newChannel(out));
+    }
+    finally {
+      identityService.clearAuthentication();
+    }
+
+    // then
+    assertThat(exportedRows, is(2L));
+
+    Set<String> exportedIds = readIds(out.toByteArray());
+    for (HistoricActivityInstance activityInstance : historyService.createHistoricActivityInstanceQuery().tenantIdIn("tenant1").list()) {
+      assertThat(exportedIds.contains(activityInstance.getId()), is(true));
+    }
+  }
+
+  @Test
+  public void shouldExportNothing() {
+    // given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    long exportedRows = historyService.createHistoricActivityInstanceExport()
+      .writeTo(Channels.newChannel(out));
+
+    // then
+    assertThat(exportedRows, is(0L));
+    assertThat(readIds(out.toByteArray()).isEmpty(), is(true));
+  }
+
+  @Test
+  public void shouldFailForRecordExceedingBuffer() {
+    // given
+    testRule.deploy(PROCESS);
+    runtimeService.startProcessInstanceByKey("process");
+
+    try {
+      // when
+      historyService.createHistoricActivityInstanceExport()
+        .bufferSize(16)
+        .writeTo(Channels.newChannel(new ByteArrayOutputStream()));
+
+      fail("exception expected");
+    }
+    catch (ProcessEngineException e) {
+      // then
+      assertThat(e.getMessage().contains("does not fit into export buffer of 16 bytes"), is(true));
+    }
+  }
+
+  protected Set<String> readIds(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    assertThat(buffer.getInt(), is(HistoricActivityInstanceExportWriter.MAGIC));
+    assertThat(buffer.get(), is(HistoricActivityInstanceExportWriter.FORMAT_VERSION));
+
+    Set<String> ids = new HashSet<String>();
+    while (buffer.hasRemaining()) {
+      int recordLength = buffer.getInt();
+      int recordEnd = buffer.position() + recordLength;
+
+      byte[] id = new byte[buffer.getShort()];
+      buffer.get(id);
+      ids.add(new String(id, Charset.forName("UTF-8")));
+
+      buffer.position(recordEnd);
+    }
+    return ids;
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+public class HistoricProcessInstanceQueryListAfterTest {
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  protected RuntimeService runtimeService;
+  protected HistoryService historyService;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    historyService = engineRule.getHistoryService();
+
+    testRule.deploy(Bpmn.createExecutableProcess("process").startEvent().endEvent().done());
+
+    // two instances share each start time to cover ties in the ordering
+    for (int i = 0; i < 7; i++) {
+      ClockUtil.setCurrentTime(new Date(1363608000000L + (i / 2) * 1000L));
+      runtimeService.startProcessInstanceByKey("process");
+    }
+  }
+
+  @After
+  public void resetClock() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldPageThroughAllInstancesOrderedById() {
+    // when
+    List<HistoricProcessInstance> instances = listAllPages(historyService.createHistoricProcessInstanceQuery(), 3);
+
+    // then
+    assertEquals(7, instances.size());
+    for (int i = 1; i < instances.size(); i++) {
+      assertTrue(instances.get(i - 1).getId().compareTo(instances.get(i).getId()) < 0);
+    }
+  }
+
+  @Test
+  public void shouldPageThroughAllInstancesOrderedByStartTime() {
+    // when
+    List<HistoricProcessInstance> instances = listAllPages(historyService.createHistoricProcessInstanceQuery()
+        .orderByProcessInstanceStartTime().asc(), 2);
+
+    // then
+    assertEquals(7, instances.size());
+    for (int i = 1; i < instances.size(); i++) {
+      HistoricProcessInstance previous = instances.get(i - 1);
+      HistoricProcessInstance current = instances.get(i);
+      int startTimeOrder = previous.getStartTime().compareTo(current.getStartTime());
+      assertTrue(startTimeOrder < 0 || (startTimeOrder == 0 && previous.getId().compareTo(current.getId()) < 0));
+    }
+  }
+
+  @Test
+  public void shouldFailForOrderingByEndTime() {
+    // given
+    HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery()
+        .orderByProcessInstanceEndTime().asc();
+
+    // then
+    thrown.expect(NotValidException.class);
+
+    // when
+    query.listAfter(null, 5);
+  }
+
+  @Test
+  public void shouldFailForOrderingByProcessDefinitionName() {
+    // given
+    HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery()
+        .orderByProcessDefinitionName().asc();
+
+    // then
+    thrown.expect(NotValidException.class);
+
+    // when
+    query.listAfter(null, 5);
+  }
+
+  protected List<HistoricProcessInstance> listAllPages(HistoricProcessInstanceQuery query, int pageSize) {
+    List<HistoricProcessInstance> instances = new ArrayList<HistoricProcessInstance>();
+
+    List<HistoricProcessInstance> page = query.listAfter(null, pageSize);
+    while (!page.isEmpty()) {
+      instances.addAll(page);
+      page = query.listAfter(page.get(page.size() - 1).getId(), pageSize);
+    }
+
+    return instances;
+  }
+
+}
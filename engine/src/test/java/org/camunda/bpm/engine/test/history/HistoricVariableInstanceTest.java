@@ -27,6 +27,9 @@ import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceEn
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.camunda.bpm.engine.query.VariableInstanceProjection;
+import org.camunda.bpm.engine.query.VariableInstanceProjectionHandler;
 import org.camunda.bpm.engine.runtime.*;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
@@ -43,6 +46,7 @@ import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
 import org.junit.Assert;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -2357,4 +2361,63 @@ public class HistoricVariableInstanceTest extends PluggableProcessEngineTestCase
     // clean up
     ClockUtil.setCurrentTime(new Date());
   }
+
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testProjectHistoricVariableInstances() {
+    // given
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables().putValue("stringVar", "test").putValue("bytesVar", "test".getBytes()));
+    runtimeService.deleteProcessInstance(processInstance.getId(), null);
+
+    // when
+    final List<VariableInstanceProjection> projections = new ArrayList<VariableInstanceProjection>();
+    historyService.createHistoricVariableInstanceQuery()
+      .processInstanceId(processInstance.getId())
+      .orderByVariableName()
+      .asc()
+      .project(new VariableInstanceProjectionHandler() {
+        public void handle(VariableInstanceProjection projection) {
+          projections.add(projection);
+        }
+      });
+
+    // then
+    assertEquals(2, projections.size());
+
+    VariableInstanceProjection bytesProjection = projections.get(0);
+    assertEquals("bytesVar", bytesProjection.getName());
+    assertEquals(ValueType.BYTES.getName(), bytesProjection.getSerializerName());
+    assertEquals(processInstance.getId(), bytesProjection.getProcessInstanceId());
+
+    VariableInstanceProjection stringProjection = projections.get(1);
+    assertEquals("stringVar", stringProjection.getName());
+    assertEquals(ValueType.STRING.getName(), stringProjection.getSerializerName());
+    assertEquals("test", stringProjection.getTextValue());
+  }
+
+  @Deployment(resources={"org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml"})
+  public void testGetHistoricVariableInstanceContent() throws Exception {
+    // given
+    byte[] fileContent = "some file content".getBytes();
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+        Variables.createVariables()
+          .putValue("fileVar", Variables.fileValue("file.txt").file(fileContent).create())
+          .putValue("stringVar", "test"));
+    runtimeService.deleteProcessInstance(processInstance.getId(), null);
+
+    HistoricVariableInstance fileVariable = historyService.createHistoricVariableInstanceQuery().variableName("fileVar").singleResult();
+    HistoricVariableInstance stringVariable = historyService.createHistoricVariableInstanceQuery().variableName("stringVar").singleResult();
+
+    // when
+    InputStream content = historyService.getHistoricVariableInstanceContent(fileVariable.getId());
+
+    // then
+    try {
+      assertTrue(Arrays.equals(fileContent, IoUtil.readInputStream(content, "file content")));
+    }
+    finally {
+      IoUtil.closeSilently(content);
+    }
+    assertNull(historyService.getHistoricVariableInstanceContent(stringVariable.getId()));
+  }
 }
@@ -120,6 +120,32 @@ public class DeploymentAwareJobExecutorTest extends PluggableProcessEngineTestCa
     repositoryService.deleteDeployment(otherDeploymentId, true);
   }
 
+  @Deployment(resources = "org/camunda/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+  public void testAcquisitionWithNumberOfRegisteredDeploymentsNotAPowerOfTwo() {
+    String secondDeploymentId = repositoryService.createDeployment()
+        .addClasspathResource("org/camunda/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+        .deploy()
+        .getId();
+    String thirdDeploymentId = repositoryService.createDeployment()
+        .addClasspathResource("org/camunda/bpm/engine/test/jobexecutor/simpleAsyncProcess.bpmn20.xml")
+        .deploy()
+        .getId();
+    Assert.assertEquals(3, managementService.getRegisteredDeployments().size());
+
+    for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+      runtimeService.startProcessInstanceById(processDefinition.getId());
+    }
+
+    AcquiredJobs acquiredJobs = getExecutableJobs(processEngineConfiguration.getJobExecutor());
+    Assert.assertEquals(3, acquiredJobs.size());
+    for (Job job : managementService.createJobQuery().list()) {
+      Assert.assertTrue(acquiredJobs.contains(job.getId()));
+    }
+
+    repositoryService.deleteDeployment(secondDeploymentId, true);
+    repositoryService.deleteDeployment(thirdDeploymentId, true);
+  }
+
   public void testRegistrationOfNonExistingDeployment() {
     String nonExistingDeploymentId = "some non-existing id";
 
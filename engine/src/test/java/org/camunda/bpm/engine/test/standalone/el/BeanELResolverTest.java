@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+
+import org.camunda.bpm.engine.impl.javax.el.BeanELResolver;
+import org.camunda.bpm.engine.impl.javax.el.ELContext;
+import org.camunda.bpm.engine.impl.javax.el.ExpressionFactory;
+import org.camunda.bpm.engine.impl.javax.el.MethodNotFoundException;
+import org.camunda.bpm.engine.impl.juel.ExpressionFactoryImpl;
+import org.camunda.bpm.engine.impl.juel.SimpleContext;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanELResolverTest {
+
+  protected BeanELResolver resolver;
+  protected ELContext context;
+
+  @Before
+  public void setUp() {
+    resolver = new BeanELResolver();
+    context = new SimpleContext(resolver);
+    context.putContext(ExpressionFactory.class, new ExpressionFactoryImpl());
+  }
+
+  @Test
+  public void testInvokeOverloadsByArity() {
+    GreetingBean bean = new GreetingBean();
+
+    // repeated invocations are served from the cache and still pick the overload by arity
+    for (int i = 0; i < 2; i++) {
+      assertEquals("hello", invoke(bean, "greet"));
+      assertEquals("hello anna", invoke(bean, "greet", "anna"));
+      assertEquals("hello anna and bob", invoke(bean, "greet", "anna", "bob"));
+    }
+  }
+
+  @Test
+  public void testInvokeVarArgs() {
+    GreetingBean bean = new GreetingBean();
+
+    assertEquals("", invoke(bean, "join"));
+    assertEquals("a", invoke(bean, "join", "a"));
+    assertEquals("a,b,c", invoke(bean, "join", "a", "b", "c"));
+  }
+
+  @Test
+  public void testInvokePrefersExactArityOverVarArgs() {
+    GreetingBean bean = new GreetingBean();
+
+    assertEquals("single a", invoke(bean, "concat", "a"));
+    assertEquals("varargs a,b", invoke(bean, "concat", "a", "b"));
+    assertEquals("single b", invoke(bean, "concat", "b"));
+  }
+
+  @Test
+  public void testInvokeMissingMethod() {
+    GreetingBean bean = new GreetingBean();
+
+    // the failed lookup is cached and fails the same way again
+    for (int i = 0; i < 2; i++) {
+      try {
+        invoke(bean, "missing");
+        fail("exception expected");
+      }
+      catch (MethodNotFoundException e) {
+        // expected
+      }
+    }
+
+    // a missing arity does not hide the other overloads
+    try {
+      invoke(bean, "greet", "a", "b", "c");
+      fail("exception expected");
+    }
+    catch (MethodNotFoundException e) {
+      // expected
+    }
+    assertEquals("hello anna", invoke(bean, "greet", "anna"));
+  }
+
+  @Test
+  public void testReleaseClassLoaderOfInvokedBean() throws Exception {
+    // given a bean class loaded by a separate class loader, e.g. of a process application
+    WeakReference<ClassLoader> loaderReference = invokeBeanOfSeparateClassLoader();
+
+    // when the class loader is not referenced anymore
+    for (int i = 0; i < 10 && loaderReference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(50);
+    }
+
+    // then the resolver does not keep it reachable
+    assertNull(loaderReference.get());
+  }
+
+  protected WeakReference<ClassLoader> invokeBeanOfSeparateClassLoader() throws Exception {
+    BeanClassLoader loader = new BeanClassLoader(getClass().getClassLoader());
+    Class<?> beanClass = loader.defineBeanClass(GreetingBean.class);
+    Object bean = beanClass.newInstance();
+
+    assertEquals("hello anna", invoke(bean, "greet", "anna"));
+    assertEquals("hello", resolver.getValue(context, bean, "greeting"));
+
+    return new WeakReference<ClassLoader>(loader);
+  }
+
+  protected Object invoke(Object bean, String method, Object... params) {
+    return resolver.invoke(context, bean, method, null, params);
+  }
+
+  public static class GreetingBean {
+
+    public String getGreeting() {
+      return "hello";
+    }
+
+    public String greet() {
+      return "hello";
+    }
+
+    public String greet(String name) {
+      return "hello " + name;
+    }
+
+    public String greet(String name, String otherName) {
+      return "hello " + name + " and " + otherName;
+    }
+
+    public String join(String... parts) {
+      StringBuilder builder = new StringBuilder();
+      for (String part : parts) {
+        if (builder.length() > 0) {
+          builder.append(',');
+        }
+        builder.append(part);
+      }
+      return builder.toString();
+    }
+
+    public String concat(String part) {
+      return "single " + part;
+    }
+
+    public String concat(String... parts) {
+      return "varargs " + join(parts);
+    }
+  }
+
+  protected static class BeanClassLoader extends ClassLoader {
+
+    public BeanClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    public Class<?> defineBeanClass(Class<?> beanClass) {
+      String resourceName = beanClass.getName().replace('.', '/') + ".class";
+      InputStream inputStream = getParent().getResourceAsStream(resourceName);
+      byte[] bytes = IoUtil.readInputStream(inputStream, resourceName);
+      return defineClass(beanClass.getName(), bytes, 0, bytes.length);
+    }
+  }
+
+}
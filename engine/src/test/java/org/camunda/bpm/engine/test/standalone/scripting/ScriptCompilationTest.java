@@ -20,6 +20,7 @@ import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.scripting.ExecutableScript;
 import org.camunda.bpm.engine.impl.scripting.ScriptFactory;
 import org.camunda.bpm.engine.impl.scripting.SourceExecutableScript;
+import org.camunda.bpm.engine.impl.scripting.engine.ScriptingEngines;
 import org.camunda.bpm.engine.impl.scripting.env.ScriptingEnvironment;
 import org.camunda.bpm.engine.impl.test.PluggableProcessEngineTestCase;
 
@@ -125,6 +126,44 @@ public class ScriptCompilationTest extends PluggableProcessEngineTestCase {
     assertNotNull(script.getCompiledScript());
   }
 
+  public void testCompiledScriptIsSharedBetweenScriptsWithSameSource() {
+    // given sharing of compiled scripts is enabled
+    processEngineConfiguration.getScriptingEngines().setCompiledScriptCacheSize(10);
+
+    try {
+      // and two scripts with the same source
+      SourceExecutableScript script = createScript(SCRIPT_LANGUAGE, EXAMPLE_SCRIPT);
+      SourceExecutableScript otherScript = createScript(SCRIPT_LANGUAGE, EXAMPLE_SCRIPT);
+
+      // when both are executed
+      executeScript(script);
+      executeScript(otherScript);
+
+      // then the script was compiled once
+      assertNotNull(script.getCompiledScript());
+      assertSame(script.getCompiledScript(), otherScript.getCompiledScript());
+    }
+    finally {
+      // restore the default
+      processEngineConfiguration.getScriptingEngines().setCompiledScriptCacheSize(ScriptingEngines.DEFAULT_COMPILED_SCRIPT_CACHE_SIZE);
+    }
+  }
+
+  public void testCompiledScriptsAreNotSharedByDefault() {
+    // given two scripts with the same source
+    SourceExecutableScript script = createScript(SCRIPT_LANGUAGE, EXAMPLE_SCRIPT);
+    SourceExecutableScript otherScript = createScript(SCRIPT_LANGUAGE, EXAMPLE_SCRIPT);
+
+    // when both are executed
+    executeScript(script);
+    executeScript(otherScript);
+
+    // then each script was compiled on its own
+    assertNotNull(script.getCompiledScript());
+    assertNotNull(otherScript.getCompiledScript());
+    assertNotSame(script.getCompiledScript(), otherScript.getCompiledScript());
+  }
+
   protected Object executeScript(final ExecutableScript script) {
     final ScriptingEnvironment scriptingEnvironment = processEngineConfiguration.getScriptingEnvironment();
     return processEngineConfiguration.getCommandExecutorTxRequired()
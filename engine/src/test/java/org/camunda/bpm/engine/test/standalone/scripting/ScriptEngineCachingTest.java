@@ -36,6 +36,7 @@ public class ScriptEngineCachingTest extends PluggableProcessEngineTestCase {
 
   protected static final String PROCESS_PATH = "org/camunda/bpm/engine/test/api/oneTaskProcess.bpmn20.xml";
   protected static final String SCRIPT_LANGUAGE = "groovy";
+  protected static final String NOT_THREAD_SAFE_SCRIPT_LANGUAGE = "javascript";
 
   public void testGlobalCachingOfScriptEngine() {
     // when
@@ -159,6 +160,65 @@ public class ScriptEngineCachingTest extends PluggableProcessEngineTestCase {
     processEngineConfiguration.setEnableFetchScriptEngineFromProcessApplication(true);
   }
 
+  public void testPoolingOfScriptEngineWhichIsNotThreadSafe() {
+    // given a script engine which is not cached
+    getScriptingEngines().setScriptEnginePoolSize(1);
+
+    try {
+      ScriptEngine engine = borrowScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE);
+      assertNotNull(engine);
+
+      // then it is not shared while in use
+      ScriptEngine otherEngine = borrowScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE);
+      assertNotSame(engine, otherEngine);
+
+      // but reused after it was released
+      getScriptingEngines().releaseScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE, engine);
+      assertSame(engine, borrowScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE));
+    }
+    finally {
+      getScriptingEngines().setScriptEnginePoolSize(0);
+    }
+  }
+
+  public void testPooledScriptEngineIsNotLentToCallersWhichDoNotReleaseIt() {
+    // given a released script engine which is not cached
+    getScriptingEngines().setScriptEnginePoolSize(1);
+
+    try {
+      ScriptEngine engine = borrowScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE);
+      getScriptingEngines().releaseScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE, engine);
+
+      // when an engine is requested without borrowing it, as the DMN engine does
+      ScriptEngine otherEngine = getScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE);
+
+      // then the pooled engine is not handed out
+      assertNotSame(engine, otherEngine);
+      assertSame(engine, borrowScriptEngine(NOT_THREAD_SAFE_SCRIPT_LANGUAGE));
+    }
+    finally {
+      getScriptingEngines().setScriptEnginePoolSize(0);
+    }
+  }
+
+  public void testReleaseOfCachedScriptEngine() {
+    // given
+    getScriptingEngines().setScriptEnginePoolSize(1);
+
+    try {
+      ScriptEngine engine = borrowScriptEngine(SCRIPT_LANGUAGE);
+
+      // when the cached engine is released
+      getScriptingEngines().releaseScriptEngine(SCRIPT_LANGUAGE, engine);
+
+      // then it is still the cached engine
+      assertSame(engine, borrowScriptEngine(SCRIPT_LANGUAGE));
+    }
+    finally {
+      getScriptingEngines().setScriptEnginePoolSize(0);
+    }
+  }
+
   protected ScriptingEngines getScriptingEngines() {
     return processEngineConfiguration.getScriptingEngines();
   }
@@ -173,6 +233,16 @@ public class ScriptEngineCachingTest extends PluggableProcessEngineTestCase {
       });
   }
 
+  protected ScriptEngine borrowScriptEngine(final String name) {
+    final ScriptingEngines scriptingEngines = getScriptingEngines();
+    return processEngineConfiguration.getCommandExecutorTxRequired()
+      .execute(new Command<ScriptEngine>() {
+        public ScriptEngine execute(CommandContext commandContext) {
+          return scriptingEngines.borrowScriptEngineForLanguage(name);
+        }
+      });
+  }
+
   protected ScriptEngine getScriptEngineFromPa(final String name, final ProcessApplicationInterface processApplication) {
     return processEngineConfiguration.getCommandExecutorTxRequired()
       .execute(new Command<ScriptEngine>() {
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.allocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestResults;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestStepResult;
+import org.camunda.bpm.qa.performance.engine.framework.aggregate.TabularResultAggregator;
+import org.camunda.bpm.qa.performance.engine.framework.aggregate.TabularResultSet;
+
+/**
+ * Aggregates the results recorded by the {@link AllocationPerfTestWatcher}
+ * into the allocated bytes per step and per executed activity instance.
+ */
+public class AllocationAggregator extends TabularResultAggregator {
+
+  public static final String TEST_NAME = "Test Name";
+  public static final String STEPS = "Steps";
+  public static final String ACTIVITY_INSTANCES = "Activity Instances";
+  public static final String BYTES_PER_STEP = "Bytes / Step";
+  public static final String BYTES_PER_ACTIVITY_INSTANCE = "Bytes / Activity Instance";
+
+  public AllocationAggregator(String resultsFolderPath) {
+    super(resultsFolderPath);
+  }
+
+  protected TabularResultSet createAggregatedResultsInstance() {
+    TabularResultSet tabularResultSet = new TabularResultSet();
+
+    List<String> resultColumnNames = tabularResultSet.getResultColumnNames();
+    resultColumnNames.add(TEST_NAME);
+    resultColumnNames.add(STEPS);
+    resultColumnNames.add(ACTIVITY_INSTANCES);
+    resultColumnNames.add(BYTES_PER_STEP);
+    resultColumnNames.add(BYTES_PER_ACTIVITY_INSTANCE);
+
+    return tabularResultSet;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void processResults(PerfTestResults results, TabularResultSet tabularResultSet) {
+    if(results.getPassResults().isEmpty()) {
+      return;
+    }
+
+    long steps = 0;
+    long allocatedBytes = 0;
+    long activityInstances = 0;
+
+    List<PerfTestStepResult> stepResults = results.getPassResults().get(0).getStepResults();
+    for (PerfTestStepResult stepResult : stepResults) {
+      Map<String, Number> allocation = (Map<String, Number>) stepResult.getResultData();
+      allocatedBytes += allocation.get(AllocationPerfTestWatcher.ALLOCATED_BYTES).longValue();
+      activityInstances += allocation.get(AllocationPerfTestWatcher.ACTIVITY_INSTANCES).longValue();
+      steps++;
+    }
+
+    if (steps == 0) {
+      return;
+    }
+
+    ArrayList<Object> row = new ArrayList<Object>();
+    row.add(results.getTestName());
+    row.add(steps);
+    row.add(activityInstances);
+    row.add(allocatedBytes / steps);
+    row.add(activityInstances > 0 ? allocatedBytes / activityInstances : 0);
+
+    tabularResultSet.addResultRow(row);
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTest;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestException;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestPass;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestRun;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestStep;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestWatcher;
+import org.camunda.bpm.qa.performance.engine.junit.PerfTestProcessEngine;
+import org.camunda.bpm.qa.performance.engine.steps.PerfTestConstants;
+
+/**
+ * {@link PerfTestWatcher} recording the number of bytes allocated by the thread
+ * executing a step, together with the number of activity instances the step executed.
+ *
+ * Requires a JVM which supports thread allocation measurement (e.g. HotSpot).
+ */
+public class AllocationPerfTestWatcher implements PerfTestWatcher {
+
+  public static final String ALLOCATED_BYTES = "allocatedBytes";
+  public static final String ACTIVITY_INSTANCES = "activityInstances";
+
+  protected static final String ACTIVITY_INSTANCE_COUNT_VARIABLE = "allocationWatcherActivityInstanceCount";
+
+  protected static ThreadLocal<Long> allocatedBytesBeforeStep = new ThreadLocal<Long>();
+
+  protected com.sun.management.ThreadMXBean threadMXBean;
+
+  public AllocationPerfTestWatcher() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      throw new PerfTestException("Thread allocation measurement is not supported by this JVM");
+    }
+    threadMXBean = (com.sun.management.ThreadMXBean) bean;
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  public void beforePass(PerfTestPass pass) {
+    // nothing to do
+  }
+
+  public void beforeRun(PerfTest test, PerfTestRun run) {
+    // nothing to do
+  }
+
+  public void beforeStep(PerfTestStep step, PerfTestRun run) {
+    allocatedBytesBeforeStep.set(getAllocatedBytes());
+  }
+
+  public void afterStep(PerfTestStep step, PerfTestRun run) {
+    long allocatedBytes = getAllocatedBytes() - allocatedBytesBeforeStep.get();
+    allocatedBytesBeforeStep.remove();
+
+    // counted after the measurement so that the query is not included
+    long activityInstances = countActivityInstances(run);
+
+    Map<String, Long> result = new LinkedHashMap<String, Long>();
+    result.put(ALLOCATED_BYTES, allocatedBytes);
+    result.put(ACTIVITY_INSTANCES, activityInstances);
+    run.logStepResult(result);
+  }
+
+  public void afterRun(PerfTest test, PerfTestRun run) {
+    // nothing to do
+  }
+
+  public void afterPass(PerfTestPass pass) {
+    // nothing to do
+  }
+
+  protected long getAllocatedBytes() {
+    return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * @return the number of activity instances created since the previous step of the run
+   */
+  protected long countActivityInstances(PerfTestRun run) {
+    String processInstanceId = run.getVariable(PerfTestConstants.PROCESS_INSTANCE_ID);
+    if (processInstanceId == null) {
+      return 0;
+    }
+
+    ProcessEngine processEngine = PerfTestProcessEngine.getInstance();
+    long count = processEngine.getHistoryService()
+      .createHistoricActivityInstanceQuery()
+      .processInstanceId(processInstanceId)
+      .count();
+
+    Long previousCount = run.getVariable(ACTIVITY_INSTANCE_COUNT_VARIABLE);
+    run.setVariable(ACTIVITY_INSTANCE_COUNT_VARIABLE, count);
+
+    return previousCount != null ? count - previousCount : count;
+  }
+
+}
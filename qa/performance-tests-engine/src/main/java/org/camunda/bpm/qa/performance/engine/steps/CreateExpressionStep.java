@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.steps;
+
+import static org.camunda.bpm.qa.performance.engine.steps.PerfTestConstants.RUN_ID;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.el.ExpressionManager;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestRunContext;
+
+/**
+ * Creates a value expression through the {@link ExpressionManager} of the engine. If the
+ * expression is unique per run, every run pays the full parse cost, otherwise the parsed
+ * expression is shared between runs.
+ */
+public class CreateExpressionStep extends ProcessEngineAwareStep {
+
+  protected String expression;
+  protected boolean uniquePerRun;
+
+  public CreateExpressionStep(ProcessEngine processEngine, String expression, boolean uniquePerRun) {
+    super(processEngine);
+    this.expression = expression;
+    this.uniquePerRun = uniquePerRun;
+  }
+
+  @Override
+  public void execute(PerfTestRunContext context) {
+    ExpressionManager expressionManager = ((ProcessEngineImpl) processEngine)
+      .getProcessEngineConfiguration()
+      .getExpressionManager();
+
+    String expressionText = expression;
+    if (uniquePerRun) {
+      // a distinct literal makes the text unique without changing the structure
+      expressionText = expression.replace("}", " && '" + context.getVariable(RUN_ID) + "' != null}");
+    }
+
+    expressionManager.createValueExpression(expressionText);
+  }
+
+}
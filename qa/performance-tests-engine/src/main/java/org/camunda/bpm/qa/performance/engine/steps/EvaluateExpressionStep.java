@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.steps;
+
+import java.util.Map;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.el.ExpressionManager;
+import org.camunda.bpm.engine.impl.javax.el.ELContext;
+import org.camunda.bpm.engine.impl.javax.el.ValueExpression;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.qa.performance.engine.framework.PerfTestRunContext;
+
+/**
+ * Evaluates a value expression against the given variables, without a process instance.
+ */
+public class EvaluateExpressionStep extends ProcessEngineAwareStep {
+
+  protected String expression;
+  protected Map<String, Object> variables;
+
+  public EvaluateExpressionStep(ProcessEngine processEngine, String expression, Map<String, Object> variables) {
+    super(processEngine);
+    this.expression = expression;
+    this.variables = variables;
+  }
+
+  @Override
+  public void execute(PerfTestRunContext context) {
+    ExpressionManager expressionManager = ((ProcessEngineImpl) processEngine)
+      .getProcessEngineConfiguration()
+      .getExpressionManager();
+
+    ValueExpression valueExpression = expressionManager.createValueExpression(expression);
+    ELContext elContext = expressionManager.createElContext(Variables.fromMap(variables).asVariableContext());
+    valueExpression.getValue(elContext);
+  }
+
+}
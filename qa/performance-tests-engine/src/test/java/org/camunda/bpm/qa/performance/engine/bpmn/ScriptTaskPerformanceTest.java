@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.bpmn;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.scripting.engine.ScriptingEngines;
+import org.camunda.bpm.engine.repository.Deployment;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.qa.performance.engine.junit.ProcessEnginePerformanceTestCase;
+import org.camunda.bpm.qa.performance.engine.steps.StartProcessInstanceStep;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Throughput of script tasks using a script engine which is not thread-safe.
+ * Run with <code>-DnumberOfThreads=64</code> to compare pooled engines with
+ * engines created per evaluation under concurrency.
+ */
+public class ScriptTaskPerformanceTest extends ProcessEnginePerformanceTestCase {
+
+  protected static final String SCRIPT = "var sum = amount * 2; execution.setVariable('sum', sum);";
+
+  @After
+  public void resetScriptEnginePool() {
+    getScriptingEngines().setScriptEnginePoolSize(0);
+  }
+
+  @Test
+  public void javascriptScriptTask() {
+    deployScriptTaskProcess();
+
+    performanceTest()
+      .step(new StartProcessInstanceStep(engine, "process", createVariables()))
+    .run();
+  }
+
+  @Test
+  public void javascriptScriptTaskWithPooledScriptEngines() {
+    getScriptingEngines().setScriptEnginePoolSize(64);
+    deployScriptTaskProcess();
+
+    performanceTest()
+      .step(new StartProcessInstanceStep(engine, "process", createVariables()))
+    .run();
+  }
+
+  protected void deployScriptTaskProcess() {
+    BpmnModelInstance process = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .scriptTask()
+        .scriptFormat("javascript")
+        .scriptText(SCRIPT)
+      .endEvent()
+      .done();
+
+    Deployment deployment = repositoryService.createDeployment()
+      .addModelInstance("process.bpmn", process)
+      .deploy();
+
+    processEngineRule.manageDeployment(deployment);
+  }
+
+  protected Map<String, Object> createVariables() {
+    Map<String, Object> variables = new HashMap<String, Object>();
+    variables.put("amount", 21);
+    return variables;
+  }
+
+  protected ScriptingEngines getScriptingEngines() {
+    return ((ProcessEngineImpl) engine).getProcessEngineConfiguration().getScriptingEngines();
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2013-2018 camunda services GmbH and various authors (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.el;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.camunda.bpm.qa.performance.engine.junit.ProcessEnginePerformanceTestCase;
+import org.camunda.bpm.qa.performance.engine.steps.CreateExpressionStep;
+import org.camunda.bpm.qa.performance.engine.steps.EvaluateExpressionStep;
+import org.junit.Test;
+
+/**
+ * Compares the cost of parsing an expression with the cost of reusing the parsed
+ * expression shared by the expression manager, and with evaluating it.
+ */
+public class ExpressionPerformanceTest extends ProcessEnginePerformanceTestCase {
+
+  protected static final String EXPRESSION = "${amount > 1000 && customer.rating == 'A' && region != 'EMEA'}";
+
+  @Test
+  public void parseExpression() {
+    performanceTest()
+      .step(new CreateExpressionStep(engine, EXPRESSION, true))
+    .run();
+  }
+
+  @Test
+  public void reuseParsedExpression() {
+    performanceTest()
+      .step(new CreateExpressionStep(engine, EXPRESSION, false))
+    .run();
+  }
+
+  @Test
+  public void evaluateExpression() {
+    Map<String, Object> customer = new HashMap<String, Object>();
+    customer.put("rating", "A");
+
+    Map<String, Object> variables = new HashMap<String, Object>();
+    variables.put("amount", 1500);
+    variables.put("customer", customer);
+    variables.put("region", "APAC");
+
+    performanceTest()
+      .step(new EvaluateExpressionStep(engine, EXPRESSION, variables))
+    .run();
+  }
+
+}